@@ -0,0 +1,58 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.benchmark.trace;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+// measures the application spans that the agent bridges to its own spans, the gc profiler that is
+// enabled for all benchmarks reports the allocations of the bridge
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SpanBenchmark {
+
+  private static final Tracer TRACER = GlobalOpenTelemetry.getTracer("benchmark");
+
+  private static final AttributeKey<String>[] STRING_KEYS = stringKeys(20);
+  private static final AttributeKey<Long> LONG_KEY = AttributeKey.longKey("benchmark.count");
+  private static final Attributes EVENT_ATTRIBUTES =
+      Attributes.of(AttributeKey.stringKey("event.name"), "value", LONG_KEY, 1L);
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static AttributeKey<String>[] stringKeys(int count) {
+    AttributeKey<String>[] keys = new AttributeKey[count];
+    for (int i = 0; i < count; i++) {
+      keys[i] = AttributeKey.stringKey("benchmark.attribute." + i);
+    }
+    return keys;
+  }
+
+  @Benchmark
+  public Span spanWithAttributes() {
+    Span span = TRACER.spanBuilder("benchmark").startSpan();
+    try (Scope ignored = span.makeCurrent()) {
+      Span current = Span.fromContext(Context.current());
+      for (AttributeKey<String> key : STRING_KEYS) {
+        current.setAttribute(key, "value");
+      }
+      current.setAttribute(LONG_KEY, 1L);
+      current.addEvent("event", EVENT_ATTRIBUTES);
+    } finally {
+      span.end();
+    }
+    return span;
+  }
+}
@@ -0,0 +1,42 @@
+import com.github.jengelman.gradle.plugins.shadow.tasks.ShadowJar
+
+plugins {
+  id("otel.java-conventions")
+}
+
+tasks {
+  withType<JavaCompile>().configureEach {
+    with(options) {
+      release.set(11)
+    }
+  }
+
+  register<JavaExec>("startupBenchmark") {
+    group = "benchmark"
+    description = "Measures agent startup on synthetic applications"
+
+    val shadowTask = project(":javaagent").tasks.named<ShadowJar>("shadowJar")
+    inputs.files(shadowTask)
+
+    // note: runs every scenario by default, to run a subset and more iterations try
+    //  -PstartupBenchmark.scenarios=many-jars,nested-jars
+    //  -PstartupBenchmark.iterations=10
+    val iterations = gradle.startParameter.projectProperties["startupBenchmark.iterations"] ?: "5"
+    val scenarios = gradle.startParameter.projectProperties["startupBenchmark.scenarios"] ?: ""
+
+    mainClass.set("io.opentelemetry.javaagent.benchmark.startup.StartupBenchmark")
+    classpath = sourceSets.main.get().runtimeClasspath
+    argumentProviders.add(
+      CommandLineArgumentProvider {
+        listOf(
+          shadowTask.get().archiveFile.get().asFile.absolutePath,
+          layout.buildDirectory.dir("startup-benchmark").get().asFile.absolutePath,
+          iterations,
+          scenarios,
+        )
+      },
+    )
+
+    outputs.upToDateWhen { false }
+  }
+}
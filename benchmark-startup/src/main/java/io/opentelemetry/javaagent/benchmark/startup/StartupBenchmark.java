@@ -0,0 +1,200 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.benchmark.startup;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the synthetic applications in forked JVMs with and without the agent and records the wall
+ * clock time, the time until main, the time spent loading the application classes and, when the
+ * agent is attached, the time spent in each agent phase (see {@code PhaseTimings} in the agent).
+ * Every measurement is appended to {@code results.csv} in the output directory, tagged with the
+ * current git revision so that runs on different commits can be compared.
+ *
+ * <p>Arguments: {@code <agent jar> <output dir> <iterations> [<scenario>,...]}
+ */
+@SuppressWarnings("SystemOut")
+public class StartupBenchmark {
+
+  private static final String RESULTS_HEADER =
+      "revision,timestamp,scenario,mode,iteration,metric,count,millis";
+  private static final String OUTPUT_PREFIX = "startup-benchmark ";
+  private static final long TIMEOUT_MINUTES = 5;
+
+  public static void main(String[] args) throws Exception {
+    if (args.length < 3) {
+      System.err.println(
+          "Usage: StartupBenchmark <agent jar> <output dir> <iterations> [<scenario>,...]");
+      System.exit(1);
+    }
+    Path agentJar = Paths.get(args[0]);
+    Path outputDir = Paths.get(args[1]);
+    int iterations = Integer.parseInt(args[2]);
+    List<String> scenarios =
+        args.length > 3 && !args[3].isEmpty()
+            ? Arrays.asList(args[3].split(","))
+            : SyntheticApps.SCENARIOS;
+
+    String revision = gitRevision();
+    String timestamp = Instant.now().toString();
+    Path resultsFile = outputDir.resolve("results.csv");
+    Files.createDirectories(outputDir);
+    if (!Files.exists(resultsFile)) {
+      Files.write(resultsFile, Collections.singletonList(RESULTS_HEADER), UTF_8);
+    }
+
+    for (String scenario : scenarios) {
+      SyntheticApps.App app = SyntheticApps.create(scenario, outputDir.resolve("apps"));
+      for (String mode : Arrays.asList("no-agent", "agent")) {
+        List<String> jvmArgs = new ArrayList<>();
+        if (mode.equals("agent")) {
+          jvmArgs.add("-javaagent:" + agentJar.toAbsolutePath());
+          jvmArgs.add("-Dotel.traces.exporter=none");
+          jvmArgs.add("-Dotel.metrics.exporter=none");
+          jvmArgs.add("-Dotel.logs.exporter=none");
+        }
+        // the first run warms up the file system cache and is not recorded
+        run(app, jvmArgs, outputDir);
+
+        Map<String, List<Double>> summary = new LinkedHashMap<>();
+        List<String> rows = new ArrayList<>();
+        for (int iteration = 1; iteration <= iterations; iteration++) {
+          for (Measurement measurement : run(app, jvmArgs, outputDir)) {
+            rows.add(
+                String.join(
+                    ",",
+                    revision,
+                    timestamp,
+                    scenario,
+                    mode,
+                    String.valueOf(iteration),
+                    measurement.metric,
+                    String.valueOf(measurement.count),
+                    String.format("%.3f", measurement.millis)));
+            summary
+                .computeIfAbsent(measurement.metric, k -> new ArrayList<>())
+                .add(measurement.millis);
+          }
+        }
+        Files.write(resultsFile, rows, UTF_8, StandardOpenOption.APPEND);
+        printSummary(scenario, mode, iterations, summary);
+      }
+    }
+    System.out.println("Results appended to " + resultsFile);
+  }
+
+  private static List<Measurement> run(SyntheticApps.App app, List<String> jvmArgs, Path outputDir)
+      throws IOException, InterruptedException {
+    Path timingsFile = outputDir.resolve("phase-timings.csv");
+    Files.deleteIfExists(timingsFile);
+
+    List<String> command = new ArrayList<>();
+    command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+    command.addAll(jvmArgs);
+    if (!jvmArgs.isEmpty()) {
+      command.add("-Dotel.javaagent.testing.phase-timings-file=" + timingsFile);
+    }
+    command.addAll(app.launchArguments);
+
+    long startNanos = System.nanoTime();
+    Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+    List<Measurement> measurements = new ArrayList<>();
+    try (BufferedReader reader =
+        new BufferedReader(new InputStreamReader(process.getInputStream(), UTF_8))) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.startsWith(OUTPUT_PREFIX)) {
+          // e.g. startup-benchmark time_to_main=123 class_loading=456 classes=4000
+          for (String part : line.substring(OUTPUT_PREFIX.length()).split(" ")) {
+            String[] keyValue = part.split("=");
+            if (!keyValue[0].equals("classes")) {
+              measurements.add(new Measurement(keyValue[0], 1, Double.parseDouble(keyValue[1])));
+            }
+          }
+        } else {
+          System.out.println("  [" + app.scenario + "] " + line);
+        }
+      }
+    }
+    if (!process.waitFor(TIMEOUT_MINUTES, TimeUnit.MINUTES) || process.exitValue() != 0) {
+      process.destroyForcibly();
+      throw new IllegalStateException("Benchmark application failed: " + command);
+    }
+    double wallTime = (System.nanoTime() - startNanos) / 1_000_000.0;
+    measurements.add(0, new Measurement("wall_time", 1, wallTime));
+
+    if (Files.exists(timingsFile)) {
+      List<String> lines = Files.readAllLines(timingsFile, UTF_8);
+      // skip the header, lines are phase,count,total_micros
+      for (String line : lines.subList(1, lines.size())) {
+        String[] columns = line.split(",");
+        measurements.add(
+            new Measurement(
+                columns[0], Long.parseLong(columns[1]), Long.parseLong(columns[2]) / 1000.0));
+      }
+    }
+    return measurements;
+  }
+
+  private static void printSummary(
+      String scenario, String mode, int iterations, Map<String, List<Double>> summary) {
+    System.out.println();
+    System.out.println(scenario + " (" + mode + "), median of " + iterations + " runs:");
+    for (Map.Entry<String, List<Double>> entry : summary.entrySet()) {
+      List<Double> values = new ArrayList<>(entry.getValue());
+      Collections.sort(values);
+      System.out.format("  %-25s %10.1f ms%n", entry.getKey(), values.get(values.size() / 2));
+    }
+  }
+
+  private static String gitRevision() {
+    try {
+      Process process = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").start();
+      try (BufferedReader reader =
+          new BufferedReader(new InputStreamReader(process.getInputStream(), UTF_8))) {
+        String revision = reader.readLine();
+        if (process.waitFor() == 0 && revision != null) {
+          return revision.trim();
+        }
+      }
+    } catch (IOException exception) {
+      // git is not available
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+    return "unknown";
+  }
+
+  private static final class Measurement {
+    private final String metric;
+    private final long count;
+    private final double millis;
+
+    private Measurement(String metric, long count, double millis) {
+      this.metric = metric;
+      this.count = count;
+      this.millis = millis;
+    }
+  }
+
+  private StartupBenchmark() {}
+}
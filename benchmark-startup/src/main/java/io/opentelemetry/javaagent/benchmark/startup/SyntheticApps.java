@@ -0,0 +1,350 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.benchmark.startup;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.annotation.Nullable;
+import javax.tools.JavaCompiler;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Generates the applications started by the benchmark. Every application loads and initializes
+ * all of its generated classes and then exits; classes are generated in packages of {@value
+ * #CLASSES_PER_PACKAGE} with short inheritance chains so that super type matchers have some work
+ * to do.
+ */
+final class SyntheticApps {
+
+  static final List<String> SCENARIOS = Arrays.asList("many-classes", "many-jars", "nested-jars");
+
+  private static final int CLASSES_PER_PACKAGE = 20;
+  private static final String CLASS_LIST = "bench-classes.txt";
+  private static final String MAIN_CLASS = "bench.BenchmarkMain";
+  private static final String LAUNCHER_CLASS = "launcher.Launcher";
+  private static final String NESTED_LIB = "BOOT-INF/lib/";
+
+  /** A generated application and the arguments used to launch it. */
+  static final class App {
+    final String scenario;
+    final List<String> launchArguments;
+
+    private App(String scenario, List<String> launchArguments) {
+      this.scenario = scenario;
+      this.launchArguments = launchArguments;
+    }
+  }
+
+  /** Returns the application for the scenario, generating it on first use. */
+  static App create(String scenario, Path appsDir) throws IOException {
+    Path dir = appsDir.resolve(scenario);
+    switch (scenario) {
+      case "many-classes":
+        // a single jar with all classes
+        return generate(dir, 200, 200, false);
+      case "many-jars":
+        // one jar per package on the class path
+        return generate(dir, 200, 1, false);
+      case "nested-jars":
+        // spring boot style executable jar: a launcher extracts nested jars and loads the
+        // application through its own class loader
+        return generate(dir, 200, 2, true);
+      default:
+        throw new IllegalArgumentException("Unknown scenario " + scenario);
+    }
+  }
+
+  private static App generate(Path dir, int packages, int packagesPerJar, boolean nested)
+      throws IOException {
+    Path jarsDir = dir.resolve("jars");
+    Path ready = dir.resolve("ready");
+    if (!Files.exists(ready)) {
+      deleteRecursively(dir);
+      Path classesDir = compile(dir, packages);
+      Files.createDirectories(jarsDir);
+
+      List<Path> libJars = new ArrayList<>();
+      for (int first = 0; first < packages; first += packagesPerJar) {
+        Map<String, byte[]> entries = new LinkedHashMap<>();
+        List<String> classNames = new ArrayList<>();
+        for (int p = first; p < Math.min(first + packagesPerJar, packages); p++) {
+          String packageName = packageName(p);
+          for (int c = 0; c < CLASSES_PER_PACKAGE; c++) {
+            String className = packageName + "." + className(c);
+            classNames.add(className);
+            addClass(entries, classesDir, className);
+          }
+        }
+        entries.put(CLASS_LIST, String.join("\n", classNames).getBytes(UTF_8));
+        Path libJar = jarsDir.resolve("lib-" + first + ".jar");
+        writeJar(libJar, entries, null);
+        libJars.add(libJar);
+      }
+
+      Map<String, byte[]> appEntries = new LinkedHashMap<>();
+      addClass(appEntries, classesDir, MAIN_CLASS);
+      if (nested) {
+        writeJar(jarsDir.resolve("app.jar"), appEntries, null);
+        libJars.add(jarsDir.resolve("app.jar"));
+
+        Map<String, byte[]> launcherEntries = new LinkedHashMap<>();
+        addClass(launcherEntries, classesDir, LAUNCHER_CLASS);
+        for (Path libJar : libJars) {
+          launcherEntries.put(NESTED_LIB + libJar.getFileName(), Files.readAllBytes(libJar));
+          Files.delete(libJar);
+        }
+        writeJar(jarsDir.resolve("launcher.jar"), launcherEntries, LAUNCHER_CLASS);
+      } else {
+        writeJar(jarsDir.resolve("app.jar"), appEntries, MAIN_CLASS);
+      }
+      deleteRecursively(classesDir);
+      Files.createFile(ready);
+    }
+
+    List<String> arguments = new ArrayList<>();
+    String scenario = dir.getFileName().toString();
+    if (nested) {
+      arguments.add("-jar");
+      arguments.add(jarsDir.resolve("launcher.jar").toString());
+    } else {
+      try (Stream<Path> jars = Files.list(jarsDir)) {
+        arguments.add("-cp");
+        arguments.add(
+            jars.map(Path::toString).sorted().collect(Collectors.joining(File.pathSeparator)));
+      }
+      arguments.add(MAIN_CLASS);
+    }
+    return new App(scenario, arguments);
+  }
+
+  private static Path compile(Path dir, int packages) throws IOException {
+    Path sourcesDir = dir.resolve("src");
+    List<File> sources = new ArrayList<>();
+    for (int p = 0; p < packages; p++) {
+      String packageName = packageName(p);
+      for (int c = 0; c < CLASSES_PER_PACKAGE; c++) {
+        sources.add(
+            writeSource(sourcesDir, packageName, className(c), classSource(packageName, c)));
+      }
+    }
+    sources.add(writeSource(sourcesDir, "bench", "BenchmarkMain", mainSource()));
+    sources.add(writeSource(sourcesDir, "launcher", "Launcher", launcherSource()));
+
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    if (compiler == null) {
+      throw new IllegalStateException("Generating the benchmark applications requires a JDK");
+    }
+    Path classesDir = dir.resolve("classes");
+    Files.createDirectories(classesDir);
+    try (StandardJavaFileManager fileManager =
+        compiler.getStandardFileManager(null, null, UTF_8)) {
+      boolean success =
+          compiler
+              .getTask(
+                  null,
+                  fileManager,
+                  null,
+                  Arrays.asList("--release", "8", "-d", classesDir.toString()),
+                  null,
+                  fileManager.getJavaFileObjectsFromFiles(sources))
+              .call();
+      if (!success) {
+        throw new IllegalStateException("Failed to compile the benchmark applications");
+      }
+    }
+    deleteRecursively(sourcesDir);
+    return classesDir;
+  }
+
+  private static String packageName(int p) {
+    return String.format("bench.p%03d", p);
+  }
+
+  private static String className(int c) {
+    return String.format("C%02d", c);
+  }
+
+  // every fifth class starts a new inheritance chain
+  private static String classSource(String packageName, int c) {
+    String className = className(c);
+    boolean root = c % 5 == 0;
+    return String.join(
+        "\n",
+        "package " + packageName + ";",
+        "",
+        "public class "
+            + className
+            + (root
+                ? " implements java.util.function.Supplier<String>, Runnable {"
+                : " extends " + className(c - 1) + " {"),
+        "  static final String ID = \"" + packageName + "." + className + "\";",
+        "  private final int value = ID.length();",
+        "",
+        "  @Override",
+        "  public String get() {",
+        "    return ID + value();",
+        "  }",
+        "",
+        "  protected int value() {",
+        "    return value;",
+        "  }",
+        "",
+        "  @Override",
+        "  public void run() {",
+        "    get();",
+        "  }",
+        "}",
+        "");
+  }
+
+  private static String mainSource() {
+    return String.join(
+        "\n",
+        "package bench;",
+        "",
+        "import static java.nio.charset.StandardCharsets.UTF_8;",
+        "",
+        "import java.io.BufferedReader;",
+        "import java.io.InputStreamReader;",
+        "import java.lang.management.ManagementFactory;",
+        "import java.net.URL;",
+        "import java.util.Enumeration;",
+        "",
+        "public class BenchmarkMain {",
+        "  public static void main(String[] args) throws Exception {",
+        "    long timeToMain = ManagementFactory.getRuntimeMXBean().getUptime();",
+        "    long start = System.nanoTime();",
+        "    ClassLoader loader = BenchmarkMain.class.getClassLoader();",
+        "    int classes = 0;",
+        "    Enumeration<URL> lists = loader.getResources(\"" + CLASS_LIST + "\");",
+        "    while (lists.hasMoreElements()) {",
+        "      URL list = lists.nextElement();",
+        "      try (BufferedReader reader =",
+        "          new BufferedReader(new InputStreamReader(list.openStream(), UTF_8))) {",
+        "        String line;",
+        "        while ((line = reader.readLine()) != null) {",
+        "          ((Runnable) Class.forName(line, true, loader).newInstance()).run();",
+        "          classes++;",
+        "        }",
+        "      }",
+        "    }",
+        "    long classLoading = (System.nanoTime() - start) / 1000000;",
+        "    System.out.println(\"startup-benchmark time_to_main=\" + timeToMain",
+        "        + \" class_loading=\" + classLoading + \" classes=\" + classes);",
+        "  }",
+        "}",
+        "");
+  }
+
+  private static String launcherSource() {
+    return String.join(
+        "\n",
+        "package launcher;",
+        "",
+        "import java.io.File;",
+        "import java.io.InputStream;",
+        "import java.net.URL;",
+        "import java.net.URLClassLoader;",
+        "import java.nio.file.Files;",
+        "import java.nio.file.Path;",
+        "import java.util.ArrayList;",
+        "import java.util.Collections;",
+        "import java.util.List;",
+        "import java.util.jar.JarEntry;",
+        "import java.util.jar.JarFile;",
+        "",
+        "public class Launcher {",
+        "  public static void main(String[] args) throws Exception {",
+        "    File self = new File(",
+        "        Launcher.class.getProtectionDomain().getCodeSource().getLocation().toURI());",
+        "    Path dir = Files.createTempDirectory(\"startup-benchmark\");",
+        "    dir.toFile().deleteOnExit();",
+        "    List<URL> urls = new ArrayList<>();",
+        "    try (JarFile jar = new JarFile(self)) {",
+        "      for (JarEntry entry : Collections.list(jar.entries())) {",
+        "        String name = entry.getName();",
+        "        if (name.startsWith(\"" + NESTED_LIB + "\") && name.endsWith(\".jar\")) {",
+        "          Path target = dir.resolve(name.substring(" + NESTED_LIB.length() + "));",
+        "          try (InputStream in = jar.getInputStream(entry)) {",
+        "            Files.copy(in, target);",
+        "          }",
+        "          target.toFile().deleteOnExit();",
+        "          urls.add(target.toUri().toURL());",
+        "        }",
+        "      }",
+        "    }",
+        "    URLClassLoader loader =",
+        "        new URLClassLoader(urls.toArray(new URL[0]), Launcher.class.getClassLoader());",
+        "    Thread.currentThread().setContextClassLoader(loader);",
+        "    loader.loadClass(\"" + MAIN_CLASS + "\")",
+        "        .getMethod(\"main\", String[].class)",
+        "        .invoke(null, (Object) args);",
+        "  }",
+        "}",
+        "");
+  }
+
+  private static File writeSource(Path sourcesDir, String packageName, String name, String source)
+      throws IOException {
+    Path file = sourcesDir.resolve(packageName.replace('.', '/')).resolve(name + ".java");
+    Files.createDirectories(file.getParent());
+    Files.write(file, source.getBytes(UTF_8));
+    return file.toFile();
+  }
+
+  private static void addClass(Map<String, byte[]> entries, Path classesDir, String className)
+      throws IOException {
+    String entryName = className.replace('.', '/') + ".class";
+    entries.put(entryName, Files.readAllBytes(classesDir.resolve(entryName)));
+  }
+
+  private static void writeJar(Path jar, Map<String, byte[]> entries, @Nullable String mainClass)
+      throws IOException {
+    Manifest manifest = new Manifest();
+    manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+    if (mainClass != null) {
+      manifest.getMainAttributes().put(Attributes.Name.MAIN_CLASS, mainClass);
+    }
+    try (OutputStream out = Files.newOutputStream(jar);
+        JarOutputStream jarOut = new JarOutputStream(out, manifest)) {
+      for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+        jarOut.putNextEntry(new JarEntry(entry.getKey()));
+        jarOut.write(entry.getValue());
+        jarOut.closeEntry();
+      }
+    }
+  }
+
+  private static void deleteRecursively(Path path) throws IOException {
+    if (!Files.exists(path)) {
+      return;
+    }
+    try (Stream<Path> paths = Files.walk(path)) {
+      for (Path file : paths.sorted((a, b) -> b.compareTo(a)).collect(Collectors.toList())) {
+        Files.delete(file);
+      }
+    }
+  }
+
+  private SyntheticApps() {}
+}
@@ -5,8 +5,6 @@
 
 package io.opentelemetry.instrumentation.api.instrumenter.http;
 
-import static io.opentelemetry.instrumentation.api.instrumenter.http.HttpCommonAttributesExtractor.firstHeaderValue;
-
 import io.opentelemetry.instrumentation.api.internal.ConfigPropertiesUtil;
 import java.util.Locale;
 import java.util.function.Function;
@@ -34,7 +32,7 @@ final class AlternateUrlSchemeProvider<REQUEST> implements Function<REQUEST, Str
     }
 
     // try Forwarded
-    String forwarded = firstHeaderValue(getter.getHttpRequestHeader(request, "forwarded"));
+    String forwarded = getter.getFirstHttpRequestHeader(request, "forwarded");
     if (forwarded != null) {
       forwarded = extractProtoFromForwardedHeader(forwarded);
       if (forwarded != null) {
@@ -43,7 +41,7 @@ final class AlternateUrlSchemeProvider<REQUEST> implements Function<REQUEST, Str
     }
 
     // try X-Forwarded-Proto
-    forwarded = firstHeaderValue(getter.getHttpRequestHeader(request, "x-forwarded-proto"));
+    forwarded = getter.getFirstHttpRequestHeader(request, "x-forwarded-proto");
     if (forwarded != null) {
       return extractProtoFromForwardedProtoHeader(forwarded);
     }
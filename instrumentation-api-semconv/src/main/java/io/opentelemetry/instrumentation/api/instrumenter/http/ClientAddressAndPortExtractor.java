@@ -7,7 +7,6 @@ package io.opentelemetry.instrumentation.api.instrumenter.http;
 
 import static io.opentelemetry.instrumentation.api.instrumenter.http.ForwardedHeaderParser.extractClientIpFromForwardedForHeader;
 import static io.opentelemetry.instrumentation.api.instrumenter.http.ForwardedHeaderParser.extractClientIpFromForwardedHeader;
-import static io.opentelemetry.instrumentation.api.instrumenter.http.HttpCommonAttributesExtractor.firstHeaderValue;
 
 import io.opentelemetry.instrumentation.api.instrumenter.network.internal.FallbackAddressPortExtractor;
 
@@ -23,7 +22,7 @@ final class ClientAddressAndPortExtractor<REQUEST>
   @Override
   public void extract(AddressPortSink sink, REQUEST request) {
     // try Forwarded
-    String forwarded = firstHeaderValue(getter.getHttpRequestHeader(request, "forwarded"));
+    String forwarded = getter.getFirstHttpRequestHeader(request, "forwarded");
     if (forwarded != null) {
       forwarded = extractClientIpFromForwardedHeader(forwarded);
       if (forwarded != null) {
@@ -33,7 +32,7 @@ final class ClientAddressAndPortExtractor<REQUEST>
     }
 
     // try X-Forwarded-For
-    forwarded = firstHeaderValue(getter.getHttpRequestHeader(request, "x-forwarded-for"));
+    forwarded = getter.getFirstHttpRequestHeader(request, "x-forwarded-for");
     if (forwarded != null) {
       sink.setAddress(extractClientIpFromForwardedForHeader(forwarded));
     }
@@ -5,19 +5,32 @@
 
 package io.opentelemetry.instrumentation.api.instrumenter.http;
 
+import io.opentelemetry.instrumentation.api.instrumenter.http.internal.HttpClientUrlComponentsGetter;
 import java.util.Locale;
 import java.util.function.BiPredicate;
+import javax.annotation.Nullable;
 
 final class ClientSideServerPortCondition<REQUEST> implements BiPredicate<Integer, REQUEST> {
 
   private final HttpClientAttributesGetter<REQUEST, ?> getter;
+  @Nullable private final HttpClientUrlComponentsGetter<REQUEST> urlComponentsGetter;
 
   ClientSideServerPortCondition(HttpClientAttributesGetter<REQUEST, ?> getter) {
     this.getter = getter;
+    this.urlComponentsGetter = HttpClientAttributesExtractor.getUrlComponentsGetter(getter);
   }
 
   @Override
   public boolean test(Integer port, REQUEST request) {
+    if (urlComponentsGetter != null) {
+      // no need to assemble the full url just for its scheme
+      String scheme = urlComponentsGetter.getUrlScheme(request);
+      if (scheme == null || port == null) {
+        return true;
+      }
+      return !(("http".equalsIgnoreCase(scheme) && port == 80)
+          || ("https".equalsIgnoreCase(scheme) && port == 443));
+    }
     String url = getter.getUrlFull(request);
     if (url == null || port == null) {
       return true;
@@ -5,7 +5,6 @@
 
 package io.opentelemetry.instrumentation.api.instrumenter.http;
 
-import static io.opentelemetry.instrumentation.api.instrumenter.http.HttpCommonAttributesExtractor.firstHeaderValue;
 import static java.util.logging.Level.FINE;
 
 import io.opentelemetry.instrumentation.api.instrumenter.network.internal.FallbackAddressPortExtractor;
@@ -23,7 +22,7 @@ final class HttpAddressPortExtractor<REQUEST> implements FallbackAddressPortExtr
 
   @Override
   public void extract(AddressPortSink sink, REQUEST request) {
-    String host = firstHeaderValue(getter.getHttpRequestHeader(request, "host"));
+    String host = getter.getFirstHttpRequestHeader(request, "host");
     if (host == null) {
       return;
     }
@@ -10,6 +10,7 @@ import static io.opentelemetry.instrumentation.api.internal.AttributesExtractorU
 import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
+import io.opentelemetry.instrumentation.api.instrumenter.http.internal.HttpClientUrlComponentsGetter;
 import io.opentelemetry.instrumentation.api.instrumenter.net.NetClientAttributesGetter;
 import io.opentelemetry.instrumentation.api.instrumenter.net.internal.InternalNetClientAttributesExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.network.internal.InternalNetworkAttributesExtractor;
@@ -84,6 +85,8 @@ public final class HttpClientAttributesExtractor<REQUEST, RESPONSE>
   private final InternalNetworkAttributesExtractor<REQUEST, RESPONSE> internalNetworkExtractor;
   private final InternalServerAttributesExtractor<REQUEST, RESPONSE> internalServerExtractor;
   private final ToIntFunction<Context> resendCountIncrementer;
+  private final HttpClientUrlBuilder urlBuilder = HttpClientUrlBuilder.get();
+  @Nullable private final HttpClientUrlComponentsGetter<REQUEST> urlComponentsGetter;
 
   HttpClientAttributesExtractor(HttpClientAttributesExtractorBuilder<REQUEST, RESPONSE> builder) {
     super(
@@ -95,6 +98,16 @@ public final class HttpClientAttributesExtractor<REQUEST, RESPONSE>
     internalNetworkExtractor = builder.buildNetworkExtractor();
     internalServerExtractor = builder.buildServerExtractor();
     resendCountIncrementer = builder.resendCountIncrementer;
+    urlComponentsGetter = getUrlComponentsGetter(builder.httpAttributesGetter);
+  }
+
+  @Nullable
+  @SuppressWarnings("unchecked") // the getter handles the requests it gets attributes of
+  static <REQUEST> HttpClientUrlComponentsGetter<REQUEST> getUrlComponentsGetter(
+      HttpClientAttributesGetter<REQUEST, ?> getter) {
+    return getter instanceof HttpClientUrlComponentsGetter
+        ? (HttpClientUrlComponentsGetter<REQUEST>) getter
+        : null;
   }
 
   @Override
@@ -103,7 +116,10 @@ public final class HttpClientAttributesExtractor<REQUEST, RESPONSE>
 
     internalServerExtractor.onStart(attributes, request);
 
-    String fullUrl = stripSensitiveData(getter.getUrlFull(request));
+    String fullUrl =
+        urlComponentsGetter != null
+            ? urlBuilder.build(urlComponentsGetter, request)
+            : urlBuilder.sanitize(getter.getUrlFull(request));
     if (SemconvStability.emitStableHttpSemconv()) {
       internalSet(attributes, UrlAttributes.URL_FULL, fullUrl);
     }
@@ -139,47 +155,4 @@ public final class HttpClientAttributesExtractor<REQUEST, RESPONSE>
   public SpanKey internalGetSpanKey() {
     return SpanKey.HTTP_CLIENT;
   }
-
-  @Nullable
-  private static String stripSensitiveData(@Nullable String url) {
-    if (url == null || url.isEmpty()) {
-      return url;
-    }
-
-    int schemeEndIndex = url.indexOf(':');
-
-    if (schemeEndIndex == -1) {
-      // not a valid url
-      return url;
-    }
-
-    int len = url.length();
-    if (len <= schemeEndIndex + 2
-        || url.charAt(schemeEndIndex + 1) != '/'
-        || url.charAt(schemeEndIndex + 2) != '/') {
-      // has no authority component
-      return url;
-    }
-
-    // look for the end of the authority component:
-    //   '/', '?', '#' ==> start of path
-    int index;
-    int atIndex = -1;
-    for (index = schemeEndIndex + 3; index < len; index++) {
-      char c = url.charAt(index);
-
-      if (c == '@') {
-        atIndex = index;
-      }
-
-      if (c == '/' || c == '?' || c == '#') {
-        break;
-      }
-    }
-
-    if (atIndex == -1 || atIndex == len - 1) {
-      return url;
-    }
-    return url.substring(0, schemeEndIndex + 3) + "REDACTED:REDACTED" + url.substring(atIndex);
-  }
 }
@@ -0,0 +1,240 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.http;
+
+import static java.util.Collections.emptyList;
+
+import io.opentelemetry.instrumentation.api.instrumenter.http.internal.HttpClientUrlComponentsGetter;
+import io.opentelemetry.instrumentation.api.internal.ConfigPropertiesUtil;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * Produces the {@code url.full} attribute of HTTP client requests, with the user info and the
+ * values of the configured query parameters redacted. URLs are scanned once; they are copied into
+ * a per-thread buffer only when something has to be redacted or they are assembled from their
+ * components, so that the only allocation is the resulting string.
+ */
+final class HttpClientUrlBuilder {
+
+  private static final HttpClientUrlBuilder INSTANCE =
+      new HttpClientUrlBuilder(
+          ConfigPropertiesUtil.getList(
+              "otel.instrumentation.http.client.experimental.redact-query-parameters",
+              emptyList()));
+
+  private static final String REDACTED = "REDACTED";
+  private static final String REDACTED_USER_INFO = REDACTED + ":" + REDACTED;
+  // larger buffers are not kept around after use
+  private static final int MAX_RETAINED_BUFFER_SIZE = 1024;
+
+  private static final ThreadLocal<StringBuilder> buffers =
+      ThreadLocal.withInitial(() -> new StringBuilder(128));
+
+  static HttpClientUrlBuilder get() {
+    return INSTANCE;
+  }
+
+  private final String[] redactedQueryParameters;
+
+  // visible for testing
+  HttpClientUrlBuilder(List<String> redactedQueryParameters) {
+    this.redactedQueryParameters = redactedQueryParameters.toArray(new String[0]);
+  }
+
+  /** Returns the URL, or a redacted copy of it if it contains sensitive data. */
+  @Nullable
+  String sanitize(@Nullable String url) {
+    if (url == null || url.isEmpty()) {
+      return url;
+    }
+
+    int len = url.length();
+    int authorityStart = -1;
+    int atIndex = -1;
+    int index = 0;
+
+    int schemeEndIndex = url.indexOf(':');
+    if (schemeEndIndex != -1
+        && len > schemeEndIndex + 2
+        && url.charAt(schemeEndIndex + 1) == '/'
+        && url.charAt(schemeEndIndex + 2) == '/') {
+      // look for the end of the authority component:
+      //   '/', '?', '#' ==> start of path
+      authorityStart = schemeEndIndex + 3;
+      for (index = authorityStart; index < len; index++) {
+        char c = url.charAt(index);
+        if (c == '@') {
+          atIndex = index;
+        }
+        if (c == '/' || c == '?' || c == '#') {
+          break;
+        }
+      }
+      if (atIndex == len - 1) {
+        atIndex = -1;
+      }
+    }
+
+    int queryStart = -1;
+    int queryEnd = len;
+    if (redactedQueryParameters.length > 0) {
+      queryStart = queryStart(url, index);
+      if (queryStart != -1) {
+        queryStart++;
+        int fragmentStart = url.indexOf('#', queryStart);
+        if (fragmentStart != -1) {
+          queryEnd = fragmentStart;
+        }
+        if (!hasRedactedQueryParameter(url, queryStart, queryEnd)) {
+          queryStart = -1;
+        }
+      }
+    }
+
+    if (atIndex == -1 && queryStart == -1) {
+      return url;
+    }
+
+    StringBuilder result = buffer();
+    if (atIndex == -1) {
+      result.append(url, 0, queryStart);
+    } else {
+      result.append(url, 0, authorityStart).append(REDACTED_USER_INFO);
+      result.append(url, atIndex, queryStart == -1 ? len : queryStart);
+    }
+    if (queryStart != -1) {
+      appendQuery(result, url, queryStart, queryEnd);
+      result.append(url, queryEnd, len);
+    }
+    return toString(result);
+  }
+
+  /** Assembles the URL from its components, redacting the sensitive data. */
+  @Nullable
+  <REQUEST> String build(HttpClientUrlComponentsGetter<REQUEST> getter, REQUEST request) {
+    StringBuilder result = buffer();
+
+    String host = getter.getUrlHost(request);
+    if (host != null) {
+      result.append(getter.getUrlScheme(request)).append("://");
+      String userInfo = getter.getUrlUserInfo(request);
+      if (userInfo != null && !userInfo.isEmpty()) {
+        result.append(REDACTED_USER_INFO).append('@');
+      }
+      result.append(host);
+      int port = getter.getUrlPort(request);
+      if (port >= 0) {
+        result.append(':').append(port);
+      }
+    }
+
+    String target = getter.getUrlTarget(request);
+    if (target != null && !target.isEmpty()) {
+      if (host != null && target.charAt(0) != '/') {
+        result.append('/');
+      }
+      appendTarget(result, target);
+    }
+
+    if (result.length() == 0) {
+      return null;
+    }
+    return toString(result);
+  }
+
+  private void appendTarget(StringBuilder result, String target) {
+    int queryStart = redactedQueryParameters.length == 0 ? -1 : queryStart(target, 0);
+    if (queryStart == -1) {
+      result.append(target);
+      return;
+    }
+    queryStart++;
+    int queryEnd = target.indexOf('#', queryStart);
+    if (queryEnd == -1) {
+      queryEnd = target.length();
+    }
+    result.append(target, 0, queryStart);
+    appendQuery(result, target, queryStart, queryEnd);
+    result.append(target, queryEnd, target.length());
+  }
+
+  // returns the index of the '?' that starts the query, a '?' in the fragment does not start one
+  private static int queryStart(String url, int start) {
+    for (int i = start; i < url.length(); i++) {
+      char c = url.charAt(i);
+      if (c == '?') {
+        return i;
+      }
+      if (c == '#') {
+        return -1;
+      }
+    }
+    return -1;
+  }
+
+  private boolean hasRedactedQueryParameter(String url, int start, int end) {
+    while (start < end) {
+      int paramEnd = indexOf(url, '&', start, end);
+      int valueStart = indexOf(url, '=', start, paramEnd);
+      if (valueStart < paramEnd && isRedacted(url, start, valueStart)) {
+        return true;
+      }
+      start = paramEnd + 1;
+    }
+    return false;
+  }
+
+  private void appendQuery(StringBuilder result, String url, int start, int end) {
+    while (start < end) {
+      int paramEnd = indexOf(url, '&', start, end);
+      int valueStart = indexOf(url, '=', start, paramEnd);
+      if (valueStart < paramEnd && isRedacted(url, start, valueStart)) {
+        result.append(url, start, valueStart + 1).append(REDACTED);
+      } else {
+        result.append(url, start, paramEnd);
+      }
+      if (paramEnd < end) {
+        result.append('&');
+      }
+      start = paramEnd + 1;
+    }
+  }
+
+  private boolean isRedacted(String url, int nameStart, int nameEnd) {
+    int nameLength = nameEnd - nameStart;
+    for (String name : redactedQueryParameters) {
+      if (name.length() == nameLength && url.regionMatches(nameStart, name, 0, nameLength)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static int indexOf(String url, char c, int start, int end) {
+    for (int i = start; i < end; i++) {
+      if (url.charAt(i) == c) {
+        return i;
+      }
+    }
+    return end;
+  }
+
+  private static StringBuilder buffer() {
+    StringBuilder buffer = buffers.get();
+    buffer.setLength(0);
+    return buffer;
+  }
+
+  private static String toString(StringBuilder buffer) {
+    String result = buffer.toString();
+    if (buffer.capacity() > MAX_RETAINED_BUFFER_SIZE) {
+      buffer.setLength(0);
+      buffer.trimToSize();
+    }
+    return result;
+  }
+}
@@ -33,6 +33,7 @@ abstract class HttpCommonAttributesExtractor<
 
   final GETTER getter;
   private final List<String> capturedRequestHeaders;
+  private final HttpHeaderNameTable capturedRequestHeaderTable;
   private final List<String> capturedResponseHeaders;
   private final Set<String> knownMethods;
 
@@ -43,6 +44,7 @@ abstract class HttpCommonAttributesExtractor<
       Set<String> knownMethods) {
     this.getter = getter;
     this.capturedRequestHeaders = lowercase(capturedRequestHeaders);
+    this.capturedRequestHeaderTable = new HttpHeaderNameTable(this.capturedRequestHeaders);
     this.capturedResponseHeaders = lowercase(capturedResponseHeaders);
     this.knownMethods = new HashSet<>(knownMethods);
   }
@@ -61,7 +63,27 @@ abstract class HttpCommonAttributesExtractor<
     if (SemconvStability.emitOldHttpSemconv()) {
       internalSet(attributes, SemanticAttributes.HTTP_METHOD, method);
     }
-    internalSet(attributes, SemanticAttributes.USER_AGENT_ORIGINAL, userAgent(request));
+    internalSet(
+        attributes,
+        SemanticAttributes.USER_AGENT_ORIGINAL,
+        getter.getFirstHttpRequestHeader(request, "user-agent"));
+
+    if (!capturedRequestHeaders.isEmpty()) {
+      captureRequestHeaders(attributes, request);
+    }
+  }
+
+  private void captureRequestHeaders(AttributesBuilder attributes, REQUEST request) {
+    HttpHeaderNameTable.Collector collector = capturedRequestHeaderTable.newCollector();
+    if (getter.visitHttpRequestHeaders(request, collector)) {
+      for (int i = 0; i < capturedRequestHeaderTable.size(); i++) {
+        List<String> values = collector.values(i);
+        if (values != null) {
+          internalSet(attributes, requestAttributeKey(capturedRequestHeaderTable.name(i)), values);
+        }
+      }
+      return;
+    }
 
     for (String name : capturedRequestHeaders) {
       List<String> values = getter.getHttpRequestHeader(request, name);
@@ -115,14 +137,9 @@ abstract class HttpCommonAttributesExtractor<
     }
   }
 
-  @Nullable
-  private String userAgent(REQUEST request) {
-    return firstHeaderValue(getter.getHttpRequestHeader(request, "user-agent"));
-  }
-
   @Nullable
   private Long requestBodySize(REQUEST request) {
-    return parseNumber(firstHeaderValue(getter.getHttpRequestHeader(request, "content-length")));
+    return parseNumber(getter.getFirstHttpRequestHeader(request, "content-length"));
   }
 
   @Nullable
@@ -132,7 +149,7 @@ abstract class HttpCommonAttributesExtractor<
   }
 
   @Nullable
-  static String firstHeaderValue(List<String> values) {
+  private static String firstHeaderValue(List<String> values) {
     return values.isEmpty() ? null : values.get(0);
   }
 
@@ -30,6 +30,41 @@ public interface HttpCommonAttributesGetter<REQUEST, RESPONSE> {
    */
   List<String> getHttpRequestHeader(REQUEST request, String name);
 
+  /**
+   * Returns the first value of header named {@code name} from the request, or {@code null} if there
+   * was none.
+   *
+   * <p>The default implementation returns the first element of {@link
+   * #getHttpRequestHeader(Object, String)}. Implementations should override this method when the
+   * request provides direct access to the first value of a header, so that looking up a header that
+   * is not present does not allocate.
+   */
+  @Nullable
+  default String getFirstHttpRequestHeader(REQUEST request, String name) {
+    List<String> values = getHttpRequestHeader(request, name);
+    return values.isEmpty() ? null : values.get(0);
+  }
+
+  /**
+   * Visits all headers of the request in a single pass. For every header, {@link
+   * HttpHeaderVisitor#isInterested(String)} is called with the header name, and if it returns
+   * {@code true} {@link HttpHeaderVisitor#visit(String, String)} is called with every value of the
+   * header. Instead of calling {@link HttpHeaderVisitor#isInterested(String)}, implementations may
+   * compare the header names against {@link HttpHeaderVisitor#headerNames()} before converting them
+   * to strings.
+   *
+   * <p>This is used to capture several request headers at once, which is cheaper than looking up
+   * every header separately when the request stores its headers in a list. The default
+   * implementation does not visit the headers and returns {@code false}, in which case {@link
+   * #getHttpRequestHeader(Object, String)} is called for every header instead.
+   *
+   * @return {@code true} if the headers were visited, {@code false} if visiting the headers is not
+   *     supported.
+   */
+  default boolean visitHttpRequestHeaders(REQUEST request, HttpHeaderVisitor visitor) {
+    return false;
+  }
+
   /**
    * Returns the <a href="https://tools.ietf.org/html/rfc7231#section-6">HTTP response status
    * code</a>.
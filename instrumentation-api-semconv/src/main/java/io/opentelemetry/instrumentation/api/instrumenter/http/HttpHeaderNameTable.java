@@ -0,0 +1,131 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.http;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import javax.annotation.Nullable;
+
+/**
+ * An immutable table of lowercase header names that can be looked up ignoring case without
+ * allocating, used to pick the captured headers while visiting all headers of a request once.
+ */
+final class HttpHeaderNameTable {
+
+  private final String[] names;
+  private final List<String> nameList;
+  // open addressing hash table, contains the index of the name + 1, or 0 if the slot is empty
+  private final int[] slots;
+  private final int mask;
+
+  HttpHeaderNameTable(List<String> lowercaseNames) {
+    names = new LinkedHashSet<>(lowercaseNames).toArray(new String[0]);
+    nameList = Collections.unmodifiableList(Arrays.asList(names));
+    // keep the table at most half full
+    int capacity = Integer.highestOneBit(Math.max(names.length, 1) * 4 - 1);
+    slots = new int[capacity];
+    mask = capacity - 1;
+    for (int i = 0; i < names.length; i++) {
+      int slot = hash(names[i]) & mask;
+      while (slots[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      slots[slot] = i + 1;
+    }
+  }
+
+  int size() {
+    return names.length;
+  }
+
+  String name(int index) {
+    return names[index];
+  }
+
+  /** Returns the index of the header named {@code name}, ignoring case, or -1 if there is none. */
+  int indexOf(String name) {
+    int slot = hash(name) & mask;
+    while (true) {
+      int entry = slots[slot];
+      if (entry == 0) {
+        return -1;
+      }
+      String candidate = names[entry - 1];
+      if (candidate.length() == name.length()
+          && candidate.regionMatches(true, 0, name, 0, name.length())) {
+        return entry - 1;
+      }
+      slot = (slot + 1) & mask;
+    }
+  }
+
+  Collector newCollector() {
+    return new Collector();
+  }
+
+  // header names are ASCII tokens, hash them as if they were lowercase
+  private static int hash(String name) {
+    int hash = 0;
+    for (int i = 0; i < name.length(); i++) {
+      char c = name.charAt(i);
+      if (c >= 'A' && c <= 'Z') {
+        c = (char) (c + ('a' - 'A'));
+      }
+      hash = 31 * hash + c;
+    }
+    return hash ^ (hash >>> 16);
+  }
+
+  /** Collects the values of the headers in the table, allocates only for headers that are found. */
+  final class Collector implements HttpHeaderVisitor {
+
+    @Nullable private List<String>[] values;
+    @Nullable private String lastName;
+    private int lastIndex = -1;
+
+    private Collector() {}
+
+    @Override
+    public List<String> headerNames() {
+      return nameList;
+    }
+
+    @Override
+    public boolean isInterested(String name) {
+      lastName = name;
+      lastIndex = indexOf(name);
+      return lastIndex >= 0;
+    }
+
+    @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void visit(String name, String value) {
+      // isInterested() is normally called with the same name right before
+      int index = name == lastName ? lastIndex : indexOf(name);
+      if (index < 0) {
+        return;
+      }
+      if (values == null) {
+        values = new List[names.length];
+      }
+      List<String> headerValues = values[index];
+      if (headerValues == null) {
+        headerValues = new ArrayList<>(1);
+        values[index] = headerValues;
+      }
+      headerValues.add(value);
+    }
+
+    /** Returns the values of the header at {@code index}, or {@code null} if it was not found. */
+    @Nullable
+    List<String> values(int index) {
+      return values == null ? null : values[index];
+    }
+  }
+}
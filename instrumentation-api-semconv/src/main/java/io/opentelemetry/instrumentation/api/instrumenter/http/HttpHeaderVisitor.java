@@ -0,0 +1,31 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.http;
+
+import java.util.List;
+
+/**
+ * Receives the headers of an HTTP request, see {@link
+ * HttpCommonAttributesGetter#visitHttpRequestHeaders(Object, HttpHeaderVisitor)}.
+ */
+public interface HttpHeaderVisitor {
+
+  /**
+   * Returns the lowercase names of the headers this visitor is interested in. Getters whose header
+   * names are costly to convert to strings can compare them against these names first, and call
+   * {@link #visit(String, String)} directly with the matching name.
+   */
+  List<String> headerNames();
+
+  /**
+   * Returns whether the values of the header named {@code name} are needed. Header names are
+   * compared ignoring case, {@code name} may be passed as it was received.
+   */
+  boolean isInterested(String name);
+
+  /** Receives a value of a header for which {@link #isInterested(String)} returned {@code true}. */
+  void visit(String name, String value);
+}
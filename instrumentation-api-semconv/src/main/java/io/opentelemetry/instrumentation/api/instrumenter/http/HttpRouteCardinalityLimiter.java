@@ -0,0 +1,51 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.http;
+
+import io.opentelemetry.instrumentation.api.internal.ConfigPropertiesUtil;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+
+/**
+ * Caps the number of distinct {@code http.route} values recorded by the HTTP server metrics.
+ * Routes seen after the limit was reached are replaced by {@link #OTHER}, so that a framework that
+ * reports e.g. raw paths as routes can't create unbounded metric cardinality; the span attributes
+ * keep the actual route. The limit is approximate, concurrent first occurrences of routes may
+ * exceed it slightly.
+ */
+final class HttpRouteCardinalityLimiter {
+
+  static final String OTHER = "_OTHER";
+
+  private static final int LIMIT =
+      ConfigPropertiesUtil.getInt(
+          "otel.instrumentation.http.server.experimental.route-cardinality-limit", 1000);
+
+  static HttpRouteCardinalityLimiter fromConfig() {
+    return new HttpRouteCardinalityLimiter(LIMIT);
+  }
+
+  private final int limit;
+  private final Set<String> routes = ConcurrentHashMap.newKeySet();
+
+  // visible for testing
+  HttpRouteCardinalityLimiter(int limit) {
+    this.limit = limit;
+  }
+
+  @Nullable
+  String apply(@Nullable String route) {
+    if (route == null || routes.contains(route)) {
+      return route;
+    }
+    if (routes.size() >= limit) {
+      return OTHER;
+    }
+    routes.add(route);
+    return route;
+  }
+}
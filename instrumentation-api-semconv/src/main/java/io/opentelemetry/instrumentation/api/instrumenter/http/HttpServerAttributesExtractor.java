@@ -15,6 +15,8 @@ import io.opentelemetry.instrumentation.api.instrumenter.network.internal.Intern
 import io.opentelemetry.instrumentation.api.instrumenter.network.internal.InternalNetworkAttributesExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.network.internal.InternalServerAttributesExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.url.internal.InternalUrlAttributesExtractor;
+import io.opentelemetry.instrumentation.api.internal.RequestFilter;
+import io.opentelemetry.instrumentation.api.internal.RequestFilterProvider;
 import io.opentelemetry.instrumentation.api.internal.SpanKey;
 import io.opentelemetry.instrumentation.api.internal.SpanKeyProvider;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
@@ -33,7 +35,7 @@ import javax.annotation.Nullable;
 public final class HttpServerAttributesExtractor<REQUEST, RESPONSE>
     extends HttpCommonAttributesExtractor<
         REQUEST, RESPONSE, HttpServerAttributesGetter<REQUEST, RESPONSE>>
-    implements SpanKeyProvider {
+    implements SpanKeyProvider, RequestFilterProvider<REQUEST> {
 
   /** Creates the HTTP server attributes extractor with default configuration. */
   public static <REQUEST, RESPONSE> AttributesExtractor<REQUEST, RESPONSE> create(
@@ -89,6 +91,7 @@ public final class HttpServerAttributesExtractor<REQUEST, RESPONSE>
   private final InternalServerAttributesExtractor<REQUEST, RESPONSE> internalServerExtractor;
   private final InternalClientAttributesExtractor<REQUEST, RESPONSE> internalClientExtractor;
   private final Function<Context, String> httpRouteGetter;
+  @Nullable private final RequestFilter<REQUEST> requestFilter;
 
   HttpServerAttributesExtractor(HttpServerAttributesExtractorBuilder<REQUEST, RESPONSE> builder) {
     super(
@@ -102,6 +105,7 @@ public final class HttpServerAttributesExtractor<REQUEST, RESPONSE>
     internalServerExtractor = builder.buildServerExtractor();
     internalClientExtractor = builder.buildClientExtractor();
     httpRouteGetter = builder.httpRouteGetter;
+    requestFilter = HttpServerRequestFilter.fromConfig(builder.httpAttributesGetter);
   }
 
   @Override
@@ -141,4 +145,14 @@ public final class HttpServerAttributesExtractor<REQUEST, RESPONSE>
   public SpanKey internalGetSpanKey() {
     return SpanKey.HTTP_SERVER;
   }
+
+  /**
+   * This method is internal and is hence not for public use. Its API is unstable and can change at
+   * any time.
+   */
+  @Nullable
+  @Override
+  public RequestFilter<REQUEST> internalGetRequestFilter() {
+    return requestFilter;
+  }
 }
@@ -23,6 +23,7 @@ import io.opentelemetry.context.Context;
 import io.opentelemetry.context.ContextKey;
 import io.opentelemetry.instrumentation.api.instrumenter.OperationListener;
 import io.opentelemetry.instrumentation.api.instrumenter.OperationMetrics;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
 import java.util.logging.Logger;
 
 /**
@@ -50,8 +51,15 @@ public final class HttpServerMetrics implements OperationListener {
   private final DoubleHistogram duration;
   private final LongHistogram requestSize;
   private final LongHistogram responseSize;
+  private final HttpRouteCardinalityLimiter routeCardinalityLimiter;
 
   private HttpServerMetrics(Meter meter) {
+    this(meter, HttpRouteCardinalityLimiter.fromConfig());
+  }
+
+  // visible for testing
+  HttpServerMetrics(Meter meter, HttpRouteCardinalityLimiter routeCardinalityLimiter) {
+    this.routeCardinalityLimiter = routeCardinalityLimiter;
     activeRequests =
         meter
             .upDownCounterBuilder("http.server.active_requests")
@@ -105,7 +113,8 @@ public final class HttpServerMetrics implements OperationListener {
     activeRequests.add(-1, applyActiveRequestsView(state.startAttributes()), context);
 
     Attributes durationAndSizeAttributes =
-        applyServerDurationAndSizeView(state.startAttributes(), endAttributes);
+        limitRouteCardinality(
+            applyServerDurationAndSizeView(state.startAttributes(), endAttributes));
     duration.record(
         nanosToUnit(endNanos - state.startTimeNanos()), durationAndSizeAttributes, context);
 
@@ -120,6 +129,15 @@ public final class HttpServerMetrics implements OperationListener {
     }
   }
 
+  private Attributes limitRouteCardinality(Attributes attributes) {
+    String route = attributes.get(SemanticAttributes.HTTP_ROUTE);
+    String limitedRoute = routeCardinalityLimiter.apply(route);
+    if (limitedRoute == null || limitedRoute.equals(route)) {
+      return attributes;
+    }
+    return attributes.toBuilder().put(SemanticAttributes.HTTP_ROUTE, limitedRoute).build();
+  }
+
   @AutoValue
   abstract static class State {
 
@@ -0,0 +1,107 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.http;
+
+import static java.util.Collections.emptyList;
+
+import io.opentelemetry.instrumentation.api.internal.ConfigPropertiesUtil;
+import io.opentelemetry.instrumentation.api.internal.RequestFilter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * Excludes the HTTP server requests that match the configured paths or methods, e.g. health
+ * checks, from tracing, and unless configured otherwise from the metrics. A path ending with {@code
+ * *} matches all the paths that start with it, any other path only matches itself. Methods are
+ * matched case-insensitively.
+ */
+final class HttpServerRequestFilter<REQUEST> implements RequestFilter<REQUEST> {
+
+  private static final List<String> EXCLUDED_PATHS =
+      ConfigPropertiesUtil.getList(
+          "otel.instrumentation.http.server.experimental.excluded-paths", emptyList());
+  private static final List<String> EXCLUDED_METHODS =
+      ConfigPropertiesUtil.getList(
+          "otel.instrumentation.http.server.experimental.excluded-methods", emptyList());
+  // if set to true, the excluded requests are still recorded by the HTTP server metrics
+  private static final boolean RECORD_METRICS_OF_EXCLUDED_REQUESTS =
+      ConfigPropertiesUtil.getBoolean(
+          "otel.instrumentation.http.server.experimental.excluded-requests-metrics.enabled",
+          false);
+
+  @Nullable
+  static <REQUEST> RequestFilter<REQUEST> fromConfig(
+      HttpServerAttributesGetter<REQUEST, ?> getter) {
+    return create(getter, EXCLUDED_PATHS, EXCLUDED_METHODS, RECORD_METRICS_OF_EXCLUDED_REQUESTS);
+  }
+
+  // visible for testing
+  @Nullable
+  static <REQUEST> RequestFilter<REQUEST> create(
+      HttpServerAttributesGetter<REQUEST, ?> getter,
+      List<String> excludedPaths,
+      List<String> excludedMethods,
+      boolean recordMetrics) {
+    if (excludedPaths.isEmpty() && excludedMethods.isEmpty()) {
+      return null;
+    }
+    return new HttpServerRequestFilter<>(getter, excludedPaths, excludedMethods, recordMetrics);
+  }
+
+  private final HttpServerAttributesGetter<REQUEST, ?> getter;
+  private final Set<String> exactPaths = new HashSet<>();
+  private final String[] pathPrefixes;
+  private final Set<String> methods = new HashSet<>();
+  private final Decision excludedDecision;
+
+  private HttpServerRequestFilter(
+      HttpServerAttributesGetter<REQUEST, ?> getter,
+      List<String> excludedPaths,
+      List<String> excludedMethods,
+      boolean recordMetrics) {
+    this.getter = getter;
+    List<String> prefixes = new ArrayList<>();
+    for (String path : excludedPaths) {
+      if (path.endsWith("*")) {
+        prefixes.add(path.substring(0, path.length() - 1));
+      } else {
+        exactPaths.add(path);
+      }
+    }
+    pathPrefixes = prefixes.toArray(new String[0]);
+    for (String method : excludedMethods) {
+      methods.add(method.toUpperCase(Locale.ROOT));
+    }
+    excludedDecision = recordMetrics ? Decision.RECORD_METRICS_ONLY : Decision.DROP;
+  }
+
+  @Override
+  public Decision filter(REQUEST request) {
+    if (!methods.isEmpty()) {
+      String method = getter.getHttpRequestMethod(request);
+      if (method != null && methods.contains(method.toUpperCase(Locale.ROOT))) {
+        return excludedDecision;
+      }
+    }
+    String path = getter.getUrlPath(request);
+    if (path == null) {
+      return Decision.RECORD;
+    }
+    if (exactPaths.contains(path)) {
+      return excludedDecision;
+    }
+    for (String prefix : pathPrefixes) {
+      if (path.startsWith(prefix)) {
+        return excludedDecision;
+      }
+    }
+    return Decision.RECORD;
+  }
+}
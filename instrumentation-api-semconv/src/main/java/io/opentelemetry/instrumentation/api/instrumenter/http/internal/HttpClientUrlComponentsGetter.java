@@ -0,0 +1,44 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.http.internal;
+
+import io.opentelemetry.instrumentation.api.instrumenter.http.HttpClientAttributesGetter;
+import javax.annotation.Nullable;
+
+/**
+ * Can be implemented by an {@link HttpClientAttributesGetter} of a library that keeps the URL of a
+ * request as separate components. The {@code url.full} attribute is then assembled directly from
+ * the components, and {@link HttpClientAttributesGetter#getUrlFull(Object)} is not called.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public interface HttpClientUrlComponentsGetter<REQUEST> {
+
+  /** Returns the URI scheme, e.g. {@code https}; must not be null if the host is not null. */
+  @Nullable
+  String getUrlScheme(REQUEST request);
+
+  /** Returns the user info of the URI authority. It is never recorded, only redacted. */
+  @Nullable
+  default String getUrlUserInfo(REQUEST request) {
+    return null;
+  }
+
+  /** Returns the host of the URI authority, or {@code null} for a relative URL. */
+  @Nullable
+  String getUrlHost(REQUEST request);
+
+  /** Returns the port of the URI authority, or a negative value if the URL has no port. */
+  int getUrlPort(REQUEST request);
+
+  /**
+   * Returns the path, query and fragment of the URL, e.g. {@code /search?q=OpenTelemetry}; the
+   * raw request target of most libraries.
+   */
+  @Nullable
+  String getUrlTarget(REQUEST request);
+}
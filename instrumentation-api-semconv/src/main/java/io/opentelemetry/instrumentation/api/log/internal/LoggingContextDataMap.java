@@ -0,0 +1,159 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.log.internal;
+
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.SPAN_ID;
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_FLAGS;
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_ID;
+
+import io.opentelemetry.api.baggage.Baggage;
+import io.opentelemetry.api.trace.SpanContext;
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import javax.annotation.Nullable;
+
+/**
+ * An immutable, lazily evaluated view of the trace context (and optionally baggage) that logging
+ * instrumentations inject into the Mapped Diagnostic Context. Values are read from the {@link
+ * SpanContext} and {@link Baggage} on access, so no intermediate map is built unless the entries
+ * are iterated.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class LoggingContextDataMap extends AbstractMap<String, String>
+    implements Serializable {
+  private static final long serialVersionUID = 1L;
+
+  private static final String BAGGAGE_PREFIX = "baggage.";
+
+  private final transient SpanContext spanContext;
+  @Nullable private final transient Baggage baggage;
+  @Nullable private transient Set<Entry<String, String>> entrySet;
+
+  /**
+   * Creates a new map exposing the trace id, span id and trace flags of the given {@link
+   * SpanContext} (if valid) and, when {@code baggage} is not null, all baggage entries prefixed
+   * with {@code baggage.}.
+   */
+  public LoggingContextDataMap(SpanContext spanContext, @Nullable Baggage baggage) {
+    this.spanContext = spanContext;
+    this.baggage = baggage == null || baggage.isEmpty() ? null : baggage;
+  }
+
+  @Override
+  public int size() {
+    int size = spanContext.isValid() ? 3 : 0;
+    if (baggage != null) {
+      size += baggage.size();
+    }
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return !spanContext.isValid() && baggage == null;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  @Nullable
+  public String get(Object key) {
+    if (!(key instanceof String)) {
+      return null;
+    }
+    String name = (String) key;
+    if (spanContext.isValid()) {
+      switch (name) {
+        case TRACE_ID:
+          return spanContext.getTraceId();
+        case SPAN_ID:
+          return spanContext.getSpanId();
+        case TRACE_FLAGS:
+          return spanContext.getTraceFlags().asHex();
+        default:
+          break;
+      }
+    }
+    if (baggage != null && name.startsWith(BAGGAGE_PREFIX)) {
+      return baggage.getEntryValue(name.substring(BAGGAGE_PREFIX.length()));
+    }
+    return null;
+  }
+
+  @Override
+  public String put(String key, String value) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public String remove(Object key) {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public void clear() {
+    throw new UnsupportedOperationException();
+  }
+
+  @Override
+  public Set<Entry<String, String>> entrySet() {
+    if (entrySet != null) {
+      return entrySet;
+    }
+
+    List<Entry<String, String>> entries = new ArrayList<>(size());
+    if (spanContext.isValid()) {
+      entries.add(new SimpleImmutableEntry<>(TRACE_ID, spanContext.getTraceId()));
+      entries.add(new SimpleImmutableEntry<>(SPAN_ID, spanContext.getSpanId()));
+      entries.add(new SimpleImmutableEntry<>(TRACE_FLAGS, spanContext.getTraceFlags().asHex()));
+    }
+    if (baggage != null) {
+      baggage.forEach(
+          (key, value) ->
+              // prefix all baggage values to avoid clashes with existing context
+              entries.add(new SimpleImmutableEntry<>(BAGGAGE_PREFIX + key, value.getValue())));
+    }
+    return entrySet = new ListBackedSet<>(Collections.unmodifiableList(entries));
+  }
+
+  private Object writeReplace() {
+    // serialize this object as HashMap
+    return new HashMap<>(this);
+  }
+
+  // Entries must be deduped by caller.
+  private static final class ListBackedSet<T> extends AbstractSet<T> {
+
+    private final List<T> entries;
+
+    ListBackedSet(List<T> entries) {
+      this.entries = entries;
+    }
+
+    @Override
+    public int size() {
+      return entries.size();
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+      return entries.iterator();
+    }
+  }
+}
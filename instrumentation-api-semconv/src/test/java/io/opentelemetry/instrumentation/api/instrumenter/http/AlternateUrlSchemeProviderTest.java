@@ -21,6 +21,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -30,7 +31,9 @@ class AlternateUrlSchemeProviderTest {
 
   private static final String REQUEST = "request";
 
-  @Mock HttpServerAttributesGetter<String, String> getter;
+  // calls the default getFirstHttpRequestHeader(), which falls back to getHttpRequestHeader()
+  @Mock(answer = Answers.CALLS_REAL_METHODS)
+  HttpServerAttributesGetter<String, String> getter;
 
   @InjectMocks AlternateUrlSchemeProvider<String> underTest;
 
@@ -15,6 +15,7 @@ import static org.mockito.Mockito.when;
 import io.opentelemetry.instrumentation.api.instrumenter.network.internal.FallbackAddressPortExtractor;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -24,7 +25,9 @@ class HttpAddressPortExtractorTest {
 
   private static final String REQUEST = "request";
 
-  @Mock HttpCommonAttributesGetter<String, String> getter;
+  // calls the default getFirstHttpRequestHeader(), which falls back to getHttpRequestHeader()
+  @Mock(answer = Answers.CALLS_REAL_METHODS)
+  HttpCommonAttributesGetter<String, String> getter;
   @Mock FallbackAddressPortExtractor.AddressPortSink sink;
 
   @InjectMocks HttpAddressPortExtractor<String> underTest;
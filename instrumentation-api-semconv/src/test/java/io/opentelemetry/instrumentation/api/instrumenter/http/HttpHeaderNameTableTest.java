@@ -0,0 +1,57 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.http;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class HttpHeaderNameTableTest {
+
+  @Test
+  void shouldLookUpNamesIgnoringCase() {
+    HttpHeaderNameTable table =
+        new HttpHeaderNameTable(asList("x-first", "x-second", "x-first", "content-type"));
+
+    assertThat(table.size()).isEqualTo(3);
+    assertThat(table.indexOf("x-first")).isEqualTo(0);
+    assertThat(table.indexOf("X-Second")).isEqualTo(1);
+    assertThat(table.indexOf("CONTENT-TYPE")).isEqualTo(2);
+    assertThat(table.indexOf("x-third")).isEqualTo(-1);
+    assertThat(table.indexOf("")).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldHandleEmptyTable() {
+    HttpHeaderNameTable table = new HttpHeaderNameTable(emptyList());
+
+    assertThat(table.size()).isEqualTo(0);
+    assertThat(table.indexOf("x-first")).isEqualTo(-1);
+  }
+
+  @Test
+  void shouldCollectValuesOfInterestingHeaders() {
+    HttpHeaderNameTable table = new HttpHeaderNameTable(asList("x-first", "x-second", "x-third"));
+    HttpHeaderNameTable.Collector collector = table.newCollector();
+
+    visit(collector, "X-First", "1");
+    visit(collector, "x-other", "2");
+    visit(collector, "x-second", "3");
+    visit(collector, "x-first", "4");
+
+    assertThat(collector.values(0)).containsExactly("1", "4");
+    assertThat(collector.values(1)).containsExactly("3");
+    assertThat(collector.values(2)).isNull();
+  }
+
+  private static void visit(HttpHeaderVisitor visitor, String name, String value) {
+    if (visitor.isInterested(name)) {
+      visitor.visit(name, value);
+    }
+  }
+}
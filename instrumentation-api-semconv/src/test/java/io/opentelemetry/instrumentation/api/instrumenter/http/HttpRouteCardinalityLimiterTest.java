@@ -0,0 +1,24 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class HttpRouteCardinalityLimiterTest {
+
+  @Test
+  void collapsesRoutesOverLimit() {
+    HttpRouteCardinalityLimiter limiter = new HttpRouteCardinalityLimiter(2);
+
+    assertThat(limiter.apply("/users")).isEqualTo("/users");
+    assertThat(limiter.apply("/users/{id}")).isEqualTo("/users/{id}");
+    assertThat(limiter.apply("/orders")).isEqualTo(HttpRouteCardinalityLimiter.OTHER);
+    assertThat(limiter.apply("/users")).isEqualTo("/users");
+    assertThat(limiter.apply(null)).isNull();
+  }
+}
@@ -10,10 +10,15 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.Mockito.when;
 
+import io.opentelemetry.api.common.AttributesBuilder;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.AttributesExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import io.opentelemetry.instrumentation.api.internal.RequestFilter;
+import io.opentelemetry.instrumentation.api.internal.RequestFilterProvider;
 import io.opentelemetry.sdk.testing.junit5.OpenTelemetryExtension;
+import javax.annotation.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -171,4 +176,41 @@ class HttpRouteHolderTest {
     assertEquals("/get/:id", HttpRouteHolder.getRoute(context));
     assertThat(testing.getSpans()).satisfiesExactly(span -> assertThat(span).hasName("test"));
   }
+
+  @Test
+  void shouldSetRouteOfMetricsOnlyRequest() {
+    when(getter.getHttpRequestMethod("test")).thenReturn("GET");
+    Instrumenter<String, Void> metricsOnlyInstrumenter =
+        Instrumenter.<String, Void>builder(testing.getOpenTelemetry(), "test", s -> s)
+            .addAttributesExtractor(new MetricsOnlyAttributesExtractor())
+            .addContextCustomizer(HttpRouteHolder.create(getter))
+            .buildInstrumenter();
+
+    Context context = metricsOnlyInstrumenter.start(Context.root(), "test");
+    HttpRouteHolder.updateHttpRoute(context, HttpRouteSource.SERVLET, "/get/:id");
+    metricsOnlyInstrumenter.end(context, "test", null, null);
+
+    assertEquals("/get/:id", HttpRouteHolder.getRoute(context));
+    assertThat(testing.getSpans()).isEmpty();
+  }
+
+  private static class MetricsOnlyAttributesExtractor
+      implements AttributesExtractor<String, Void>, RequestFilterProvider<String> {
+
+    @Override
+    public void onStart(AttributesBuilder attributes, Context parentContext, String request) {}
+
+    @Override
+    public void onEnd(
+        AttributesBuilder attributes,
+        Context context,
+        String request,
+        @Nullable Void response,
+        @Nullable Throwable error) {}
+
+    @Override
+    public RequestFilter<String> internalGetRequestFilter() {
+      return request -> RequestFilter.Decision.RECORD_METRICS_ONLY;
+    }
+  }
 }
@@ -187,6 +187,52 @@ class HttpServerAttributesExtractorTest {
                 asList("654", "321")));
   }
 
+  static class VisitingTestHttpServerAttributesGetter extends TestHttpServerAttributesGetter {
+
+    // headers are only available through visiting
+    @Override
+    public boolean visitHttpRequestHeaders(Map<String, Object> request, HttpHeaderVisitor visitor) {
+      for (Map.Entry<String, Object> entry : request.entrySet()) {
+        if (!entry.getKey().startsWith("visitedHeader.")) {
+          continue;
+        }
+        String name = entry.getKey().substring("visitedHeader.".length());
+        if (visitor.isInterested(name)) {
+          for (String value : ((String) entry.getValue()).split(",")) {
+            visitor.visit(name, value);
+          }
+        }
+      }
+      return true;
+    }
+  }
+
+  @Test
+  void capturesVisitedRequestHeaders() {
+    Map<String, Object> request = new HashMap<>();
+    request.put("visitedHeader.Custom-Request-Header", "123,456");
+    request.put("visitedHeader.Other-Header", "789");
+
+    AttributesExtractor<Map<String, Object>, Map<String, Object>> extractor =
+        HttpServerAttributesExtractor.builder(new VisitingTestHttpServerAttributesGetter())
+            .setCapturedRequestHeaders(asList("custom-request-header", "Missing-Header"))
+            .setCapturedResponseHeaders(emptyList())
+            .build();
+
+    AttributesBuilder startAttributes = Attributes.builder();
+    extractor.onStart(startAttributes, Context.root(), request);
+
+    Attributes attributes = startAttributes.build();
+    assertThat(attributes)
+        .containsEntry(
+            AttributeKey.stringArrayKey("http.request.header.custom_request_header"),
+            asList("123", "456"));
+    assertThat(attributes.get(AttributeKey.stringArrayKey("http.request.header.missing_header")))
+        .isNull();
+    assertThat(attributes.get(AttributeKey.stringArrayKey("http.request.header.other_header")))
+        .isNull();
+  }
+
   @Test
   void extractClientIpFromX_Forwarded_For() {
     Map<String, Object> request = new HashMap<>();
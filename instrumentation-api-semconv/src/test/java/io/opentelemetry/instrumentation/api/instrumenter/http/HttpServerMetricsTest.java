@@ -324,6 +324,43 @@ class HttpServerMetricsTest {
                                                 SemanticAttributes.HTTP_ROUTE, "/test/{id}")))));
   }
 
+  @Test
+  void limitsHttpRouteCardinality() {
+    InMemoryMetricReader metricReader = InMemoryMetricReader.create();
+    SdkMeterProvider meterProvider =
+        SdkMeterProvider.builder().registerMetricReader(metricReader).build();
+
+    OperationListener listener =
+        new HttpServerMetrics(meterProvider.get("test"), new HttpRouteCardinalityLimiter(1));
+
+    Attributes requestAttributes = Attributes.builder().put("http.scheme", "https").build();
+    for (String route : new String[] {"/test/{id}", "/other/{id}", "/test/{id}"}) {
+      Context context = listener.onStart(Context.root(), requestAttributes, nanos(100));
+      listener.onEnd(context, Attributes.builder().put("http.route", route).build(), nanos(200));
+    }
+
+    assertThat(metricReader.collectAllMetrics())
+        .anySatisfy(
+            metric ->
+                assertThat(metric)
+                    .hasName("http.server.duration")
+                    .hasHistogramSatisfying(
+                        histogram ->
+                            histogram.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasCount(2)
+                                        .hasAttributesSatisfying(
+                                            equalTo(SemanticAttributes.HTTP_ROUTE, "/test/{id}")),
+                                point ->
+                                    point
+                                        .hasCount(1)
+                                        .hasAttributesSatisfying(
+                                            equalTo(
+                                                SemanticAttributes.HTTP_ROUTE,
+                                                HttpRouteCardinalityLimiter.OTHER)))));
+  }
+
   private static long nanos(int millis) {
     return TimeUnit.MILLISECONDS.toNanos(millis);
   }
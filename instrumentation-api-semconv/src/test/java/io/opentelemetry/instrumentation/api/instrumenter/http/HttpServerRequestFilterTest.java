@@ -0,0 +1,85 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.instrumenter.http;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+
+import io.opentelemetry.instrumentation.api.internal.RequestFilter;
+import io.opentelemetry.instrumentation.api.internal.RequestFilter.Decision;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class HttpServerRequestFilterTest {
+
+  private static final String REQUEST = "request";
+
+  @Mock HttpServerAttributesGetter<String, String> getter;
+
+  @Test
+  void nothingExcluded() {
+    assertThat(HttpServerRequestFilter.create(getter, emptyList(), emptyList(), false)).isNull();
+  }
+
+  @ParameterizedTest
+  @CsvSource({
+    "/health, DROP",
+    "/health/live, RECORD",
+    "/actuator, DROP",
+    "/actuator/prometheus, DROP",
+    "/api/actuator, RECORD",
+    "/, RECORD"
+  })
+  void excludedPaths(String path, Decision expected) {
+    RequestFilter<String> filter =
+        HttpServerRequestFilter.create(getter, asList("/health", "/actuator*"), emptyList(), false);
+    doReturn(path).when(getter).getUrlPath(REQUEST);
+
+    assertThat(filter.filter(REQUEST)).isEqualTo(expected);
+  }
+
+  @Test
+  void excludedMethods() {
+    RequestFilter<String> filter =
+        HttpServerRequestFilter.create(getter, emptyList(), singletonList("options"), false);
+
+    doReturn("OPTIONS").when(getter).getHttpRequestMethod(REQUEST);
+    assertThat(filter.filter(REQUEST)).isEqualTo(Decision.DROP);
+
+    doReturn("Options").when(getter).getHttpRequestMethod(REQUEST);
+    assertThat(filter.filter(REQUEST)).isEqualTo(Decision.DROP);
+
+    doReturn("GET").when(getter).getHttpRequestMethod(REQUEST);
+    doReturn("/").when(getter).getUrlPath(REQUEST);
+    assertThat(filter.filter(REQUEST)).isEqualTo(Decision.RECORD);
+  }
+
+  @Test
+  void unknownPath() {
+    RequestFilter<String> filter =
+        HttpServerRequestFilter.create(getter, singletonList("*"), emptyList(), false);
+    doReturn(null).when(getter).getUrlPath(REQUEST);
+
+    assertThat(filter.filter(REQUEST)).isEqualTo(Decision.RECORD);
+  }
+
+  @Test
+  void recordMetricsOfExcludedRequests() {
+    RequestFilter<String> filter =
+        HttpServerRequestFilter.create(getter, singletonList("/health"), emptyList(), true);
+    doReturn("/health").when(getter).getUrlPath(REQUEST);
+
+    assertThat(filter.filter(REQUEST)).isEqualTo(Decision.RECORD_METRICS_ONLY);
+  }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.log.internal;
+
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.SPAN_ID;
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_FLAGS;
+import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import io.opentelemetry.api.baggage.Baggage;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import org.junit.jupiter.api.Test;
+
+class LoggingContextDataMapTest {
+
+  private static final SpanContext SPAN_CONTEXT =
+      SpanContext.create(
+          "ff01020304050600ff0a0b0c0d0e0f00",
+          "090a0b0c0d0e0f00",
+          TraceFlags.getSampled(),
+          TraceState.getDefault());
+
+  @Test
+  void invalidSpanContext() {
+    LoggingContextDataMap map = new LoggingContextDataMap(SpanContext.getInvalid(), null);
+
+    assertThat(map).isEmpty();
+    assertThat(map.get(TRACE_ID)).isNull();
+  }
+
+  @Test
+  void spanContext() {
+    LoggingContextDataMap map = new LoggingContextDataMap(SPAN_CONTEXT, Baggage.empty());
+
+    assertThat(map)
+        .hasSize(3)
+        .containsExactly(
+            entry(TRACE_ID, "ff01020304050600ff0a0b0c0d0e0f00"),
+            entry(SPAN_ID, "090a0b0c0d0e0f00"),
+            entry(TRACE_FLAGS, "01"));
+    assertThat(map.get("baggage.key")).isNull();
+  }
+
+  @Test
+  void baggage() {
+    Baggage baggage = Baggage.builder().put("key1", "value1").put("key2", "value2").build();
+    LoggingContextDataMap map = new LoggingContextDataMap(SpanContext.getInvalid(), baggage);
+
+    assertThat(map)
+        .hasSize(2)
+        .containsOnly(entry("baggage.key1", "value1"), entry("baggage.key2", "value2"));
+    assertThat(map.get("key1")).isNull();
+    assertThat(map.get(TRACE_ID)).isNull();
+  }
+}
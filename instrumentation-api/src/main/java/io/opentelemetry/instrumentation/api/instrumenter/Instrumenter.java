@@ -5,19 +5,29 @@
 
 package io.opentelemetry.instrumentation.api.instrumenter;
 
+import static io.opentelemetry.instrumentation.api.internal.SupportabilityMetrics.CounterNames.FILTERED_REQUESTS;
+
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.trace.Span;
 import io.opentelemetry.api.trace.SpanBuilder;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanId;
 import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceId;
+import io.opentelemetry.api.trace.TraceState;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.context.ContextKey;
 import io.opentelemetry.instrumentation.api.internal.InstrumenterAccess;
 import io.opentelemetry.instrumentation.api.internal.InstrumenterUtil;
+import io.opentelemetry.instrumentation.api.internal.RequestFilter;
 import io.opentelemetry.instrumentation.api.internal.SupportabilityMetrics;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import javax.annotation.Nullable;
 
@@ -66,6 +76,10 @@ public class Instrumenter<REQUEST, RESPONSE> {
 
   private static final SupportabilityMetrics supportability = SupportabilityMetrics.instance();
 
+  // marks the span of a request that the request filter dropped entirely
+  private static final ContextKey<Span> DROPPED_REQUEST_SPAN =
+      ContextKey.named("opentelemetry-instrumenter-dropped-request-span");
+
   private final String instrumentationName;
   private final Tracer tracer;
   private final SpanNameExtractor<? super REQUEST> spanNameExtractor;
@@ -79,6 +93,7 @@ public class Instrumenter<REQUEST, RESPONSE> {
   private final ErrorCauseExtractor errorCauseExtractor;
   private final boolean enabled;
   private final SpanSuppressor spanSuppressor;
+  @Nullable private final RequestFilter<? super REQUEST> requestFilter;
 
   Instrumenter(InstrumenterBuilder<REQUEST, RESPONSE> builder) {
     this.instrumentationName = builder.instrumentationName;
@@ -93,6 +108,7 @@ public class Instrumenter<REQUEST, RESPONSE> {
     this.errorCauseExtractor = builder.errorCauseExtractor;
     this.enabled = builder.enabled;
     this.spanSuppressor = builder.buildSpanSuppressor();
+    this.requestFilter = builder.buildRequestFilter();
   }
 
   /**
@@ -160,6 +176,14 @@ public class Instrumenter<REQUEST, RESPONSE> {
   }
 
   private Context doStart(Context parentContext, REQUEST request, @Nullable Instant startTime) {
+    if (requestFilter != null) {
+      RequestFilter.Decision decision = requestFilter.filter(request);
+      if (decision != RequestFilter.Decision.RECORD) {
+        supportability.incrementCounter(FILTERED_REQUESTS);
+        return doStartWithoutSpan(parentContext, request, startTime, decision);
+      }
+    }
+
     SpanKind spanKind = spanKindExtractor.extract(request);
     SpanBuilder spanBuilder =
         tracer.spanBuilder(spanNameExtractor.extract(request)).setSpanKind(spanKind);
@@ -208,6 +232,78 @@ public class Instrumenter<REQUEST, RESPONSE> {
     return spanSuppressor.storeInContext(context, spanKind, span);
   }
 
+  // the filtered request gets a span that is not sampled, so that spans created below it are dropped
+  // too instead of becoming the roots of new traces; requests that are not dropped are still
+  // recorded by the operation listeners
+  private Context doStartWithoutSpan(
+      Context parentContext,
+      REQUEST request,
+      @Nullable Instant startTime,
+      RequestFilter.Decision decision) {
+    SpanKind spanKind = spanKindExtractor.extract(request);
+    Context context = parentContext;
+    boolean localRoot = LocalRootSpan.isLocalRoot(context);
+    Span span = Span.wrap(unsampledSpanContext(parentContext));
+
+    if (decision == RequestFilter.Decision.DROP) {
+      context = context.with(span).with(DROPPED_REQUEST_SPAN, span);
+    } else {
+      UnsafeAttributes attributes = new UnsafeAttributes();
+      for (AttributesExtractor<? super REQUEST, ? super RESPONSE> extractor :
+          attributesExtractors) {
+        extractor.onStart(attributes, parentContext, request);
+      }
+
+      for (ContextCustomizer<? super REQUEST> contextCustomizer : contextCustomizers) {
+        context = contextCustomizer.onStart(context, request, attributes);
+      }
+      context = context.with(span);
+
+      if (!operationListeners.isEmpty()) {
+        long startNanos = getNanos(startTime);
+        for (OperationListener operationListener : operationListeners) {
+          context = operationListener.onStart(context, attributes, startNanos);
+        }
+      }
+    }
+
+    // e.g. the http.route of metrics only requests is updated through the local root span
+    if (localRoot) {
+      context = LocalRootSpan.store(context, span);
+    }
+
+    // nested instrumentations of the same kind are suppressed, as they would be by a real span
+    return spanSuppressor.storeInContext(context, spanKind, span);
+  }
+
+  // continues the trace of the parent, if there is one, so that it is still propagated downstream
+  private static SpanContext unsampledSpanContext(Context parentContext) {
+    SpanContext parentSpanContext = Span.fromContext(parentContext).getSpanContext();
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    long spanId;
+    do {
+      spanId = random.nextLong();
+    } while (spanId == 0);
+    if (parentSpanContext.isValid()) {
+      return SpanContext.create(
+          parentSpanContext.getTraceId(),
+          SpanId.fromLong(spanId),
+          TraceFlags.getDefault(),
+          parentSpanContext.getTraceState());
+    }
+    long traceIdHigh;
+    long traceIdLow;
+    do {
+      traceIdHigh = random.nextLong();
+      traceIdLow = random.nextLong();
+    } while (traceIdHigh == 0 && traceIdLow == 0);
+    return SpanContext.create(
+        TraceId.fromLongs(traceIdHigh, traceIdLow),
+        SpanId.fromLong(spanId),
+        TraceFlags.getDefault(),
+        TraceState.getDefault());
+  }
+
   private void doEnd(
       Context context,
       REQUEST request,
@@ -215,6 +311,10 @@ public class Instrumenter<REQUEST, RESPONSE> {
       @Nullable Throwable error,
       @Nullable Instant endTime) {
     Span span = Span.fromContext(context);
+    if (requestFilter != null && context.get(DROPPED_REQUEST_SPAN) == span) {
+      // nothing was recorded when the request started
+      return;
+    }
 
     if (error != null) {
       error = errorCauseExtractor.extract(error);
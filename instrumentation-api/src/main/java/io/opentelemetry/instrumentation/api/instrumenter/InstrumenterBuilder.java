@@ -23,6 +23,8 @@ import io.opentelemetry.instrumentation.api.internal.ConfigPropertiesUtil;
 import io.opentelemetry.instrumentation.api.internal.EmbeddedInstrumentationProperties;
 import io.opentelemetry.instrumentation.api.internal.InstrumenterBuilderAccess;
 import io.opentelemetry.instrumentation.api.internal.InstrumenterUtil;
+import io.opentelemetry.instrumentation.api.internal.RequestFilter;
+import io.opentelemetry.instrumentation.api.internal.RequestFilterProvider;
 import io.opentelemetry.instrumentation.api.internal.SchemaUrlProvider;
 import io.opentelemetry.instrumentation.api.internal.SpanKey;
 import io.opentelemetry.instrumentation.api.internal.SpanKeyProvider;
@@ -357,6 +359,39 @@ public final class InstrumenterBuilder<REQUEST, RESPONSE> {
     return spanSuppressionStrategy.create(getSpanKeysFromAttributesExtractors());
   }
 
+  @Nullable
+  @SuppressWarnings("unchecked") // the filter handles the requests of its attributes extractor
+  RequestFilter<? super REQUEST> buildRequestFilter() {
+    List<RequestFilter<? super REQUEST>> filters = new ArrayList<>();
+    for (AttributesExtractor<? super REQUEST, ? super RESPONSE> extractor : attributesExtractors) {
+      if (extractor instanceof RequestFilterProvider) {
+        RequestFilter<? super REQUEST> filter =
+            ((RequestFilterProvider<? super REQUEST>) extractor).internalGetRequestFilter();
+        if (filter != null) {
+          filters.add(filter);
+        }
+      }
+    }
+    switch (filters.size()) {
+      case 0:
+        return null;
+      case 1:
+        return filters.get(0);
+      default:
+        // the most restrictive decision wins
+        return request -> {
+          RequestFilter.Decision result = RequestFilter.Decision.RECORD;
+          for (RequestFilter<? super REQUEST> filter : filters) {
+            RequestFilter.Decision decision = filter.filter(request);
+            if (decision.compareTo(result) > 0) {
+              result = decision;
+            }
+          }
+          return result;
+        };
+    }
+  }
+
   private Set<SpanKey> getSpanKeysFromAttributesExtractors() {
     return attributesExtractors.stream()
         .filter(SpanKeyProvider.class::isInstance)
@@ -0,0 +1,197 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.internal;
+
+import static java.util.logging.Level.WARNING;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * Hands events over from any number of producer threads to a single background thread through a
+ * bounded, lock-free ring buffer. Producers never block: when the buffer is full the event is
+ * either dropped or handled on the calling thread, depending on the configured {@link
+ * OverflowPolicy}.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class AsyncEventProcessor<T> {
+
+  private static final Logger logger = Logger.getLogger(AsyncEventProcessor.class.getName());
+
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+  /** What to do with an event that is submitted while the buffer is full. */
+  public enum OverflowPolicy {
+    /** Discard the event and increment the dropped event counter. */
+    DROP,
+    /** Handle the event synchronously on the thread that submitted it. */
+    CALLER_RUNS
+  }
+
+  private final RingBuffer<T> buffer;
+  private final OverflowPolicy overflowPolicy;
+  private final Consumer<T> handler;
+  private final Thread thread;
+  private final AtomicLong droppedCount = new AtomicLong();
+
+  private volatile boolean running = true;
+  private volatile boolean consumerWaiting;
+
+  /**
+   * Creates and starts a new processor.
+   *
+   * @param threadName name of the daemon thread that handles the events
+   * @param capacity maximum number of queued events, rounded up to the next power of two
+   * @param overflowPolicy what to do with events submitted while the buffer is full
+   * @param handler invoked on the background thread for every event
+   */
+  public static <T> AsyncEventProcessor<T> start(
+      String threadName, int capacity, OverflowPolicy overflowPolicy, Consumer<T> handler) {
+    AsyncEventProcessor<T> processor =
+        new AsyncEventProcessor<>(threadName, capacity, overflowPolicy, handler);
+    processor.thread.start();
+    return processor;
+  }
+
+  private AsyncEventProcessor(
+      String threadName, int capacity, OverflowPolicy overflowPolicy, Consumer<T> handler) {
+    this.buffer = new RingBuffer<>(capacity);
+    this.overflowPolicy = overflowPolicy;
+    this.handler = handler;
+    this.thread = new Thread(this::run, threadName);
+    this.thread.setDaemon(true);
+    this.thread.setContextClassLoader(null);
+  }
+
+  /** Queues the event, applying the {@link OverflowPolicy} if the buffer is full. */
+  public void submit(T event) {
+    if (running && buffer.offer(event)) {
+      if (consumerWaiting) {
+        LockSupport.unpark(thread);
+      }
+      return;
+    }
+
+    if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+      handle(event);
+    } else {
+      droppedCount.incrementAndGet();
+    }
+  }
+
+  /** Returns the number of events that were dropped because the buffer was full. */
+  public long getDroppedCount() {
+    return droppedCount.get();
+  }
+
+  /**
+   * Stops accepting new events and waits up to the given timeout for the already queued events to
+   * be handled.
+   */
+  public void shutdown(long timeout, TimeUnit unit) {
+    running = false;
+    LockSupport.unpark(thread);
+    try {
+      thread.join(unit.toMillis(timeout));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void run() {
+    while (true) {
+      T event = buffer.poll();
+      if (event != null) {
+        handle(event);
+        continue;
+      }
+      if (!running) {
+        return;
+      }
+
+      // announce that we're about to park before checking the buffer one last time, producers
+      // read this flag after publishing so an event can't get stuck until the next timeout
+      consumerWaiting = true;
+      event = buffer.poll();
+      if (event == null && running) {
+        LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+      }
+      consumerWaiting = false;
+      if (event != null) {
+        handle(event);
+      }
+    }
+  }
+
+  private void handle(T event) {
+    try {
+      handler.accept(event);
+    } catch (Throwable t) {
+      logger.log(WARNING, "Failed to process event", t);
+    }
+  }
+
+  // multi-producer single-consumer bounded array queue, producers claim a slot by advancing the
+  // producer index and then publish the element into it; the consumer spins briefly if it sees a
+  // claimed but not yet published slot
+  private static final class RingBuffer<T> {
+
+    private final int mask;
+    private final AtomicReferenceArray<T> elements;
+    private final AtomicLong producerIndex = new AtomicLong();
+    private final AtomicLong consumerIndex = new AtomicLong();
+
+    RingBuffer(int capacity) {
+      int size = 1;
+      while (size < capacity) {
+        size <<= 1;
+      }
+      this.mask = size - 1;
+      this.elements = new AtomicReferenceArray<>(size);
+    }
+
+    boolean offer(T element) {
+      long capacity = mask + 1L;
+      while (true) {
+        long index = producerIndex.get();
+        if (index - consumerIndex.get() >= capacity) {
+          return false;
+        }
+        if (producerIndex.compareAndSet(index, index + 1)) {
+          elements.lazySet((int) (index & mask), element);
+          return true;
+        }
+      }
+    }
+
+    // must only be called from the consumer thread
+    @Nullable
+    T poll() {
+      long index = consumerIndex.get();
+      int offset = (int) (index & mask);
+      T element = elements.get(offset);
+      if (element == null) {
+        if (index == producerIndex.get()) {
+          return null;
+        }
+        // slot was claimed, wait for the producer to publish it
+        do {
+          element = elements.get(offset);
+        } while (element == null);
+      }
+      elements.lazySet(offset, null);
+      consumerIndex.lazySet(index + 1);
+      return element;
+    }
+  }
+}
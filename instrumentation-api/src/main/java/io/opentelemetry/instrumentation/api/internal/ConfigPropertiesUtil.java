@@ -5,6 +5,8 @@
 
 package io.opentelemetry.instrumentation.api.internal;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import javax.annotation.Nullable;
 
@@ -31,6 +33,21 @@ public final class ConfigPropertiesUtil {
     }
   }
 
+  public static List<String> getList(String propertyName, List<String> defaultValue) {
+    String strValue = getString(propertyName);
+    if (strValue == null) {
+      return defaultValue;
+    }
+    List<String> result = new ArrayList<>();
+    for (String item : strValue.split(",")) {
+      item = item.trim();
+      if (!item.isEmpty()) {
+        result.add(item);
+      }
+    }
+    return result;
+  }
+
   @Nullable
   public static String getString(String propertyName) {
     String value = System.getProperty(propertyName);
@@ -0,0 +1,241 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.internal;
+
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Nullable;
+
+/**
+ * Renders exception stack traces in the same format as {@link Throwable#printStackTrace()}, caching
+ * the rendered frames per stack trace fingerprint so that repeatedly thrown exceptions (same types
+ * and frames) are only formatted once. Exception messages are not part of the fingerprint, so
+ * exceptions carrying unique messages still share a cache entry. Optionally limits the number of
+ * frames rendered per throwable and the depth of rendered causes and suppressed exceptions.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class ExceptionEncoder {
+
+  private static final String LINE_SEPARATOR = System.lineSeparator();
+  private static final String CAUSE_CAPTION = "Caused by: ";
+  private static final String SUPPRESSED_CAPTION = "Suppressed: ";
+
+  private static final ExceptionEncoder INSTANCE =
+      new ExceptionEncoder(
+          ConfigPropertiesUtil.getInt(
+              "otel.instrumentation.common.exception.stacktrace-cache-size", 256),
+          ConfigPropertiesUtil.getInt(
+              "otel.instrumentation.common.exception.max-stack-frames", Integer.MAX_VALUE),
+          ConfigPropertiesUtil.getInt(
+              "otel.instrumentation.common.exception.max-cause-depth", Integer.MAX_VALUE));
+
+  public static ExceptionEncoder get() {
+    return INSTANCE;
+  }
+
+  @Nullable private final Cache<List<Node>, String[]> cache;
+  private final int maxFrames;
+  private final int maxCauseDepth;
+  // number of times the frames were rendered instead of being taken from the cache
+  private final AtomicInteger renderCount = new AtomicInteger();
+
+  // visible for testing
+  ExceptionEncoder(int cacheSize, int maxFrames, int maxCauseDepth) {
+    this.cache = cacheSize > 0 ? Cache.bounded(cacheSize) : null;
+    this.maxFrames = Math.max(maxFrames, 0);
+    this.maxCauseDepth = Math.max(maxCauseDepth, 0);
+  }
+
+  /** Returns the stack trace of the given throwable, including its causes. */
+  public String renderStackTrace(Throwable throwable) {
+    List<Node> fingerprint = new ArrayList<>();
+    List<String> headers = new ArrayList<>();
+    fingerprint(throwable, fingerprint, headers);
+    String[] frames =
+        cache == null
+            ? renderFrames(fingerprint)
+            : cache.computeIfAbsent(fingerprint, this::renderFrames);
+
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < fingerprint.size(); i++) {
+      Node node = fingerprint.get(i);
+      sb.append(node.prefix).append(node.caption);
+      if (node.circular) {
+        sb.append("[CIRCULAR REFERENCE: ").append(headers.get(i)).append(']');
+      } else {
+        sb.append(headers.get(i));
+      }
+      sb.append(LINE_SEPARATOR).append(frames[i]);
+    }
+    return sb.toString();
+  }
+
+  // walks the throwable graph in the same order as Throwable.printStackTrace(), collecting
+  // everything that affects the rendered frames into nodes, and the header line of each throwable
+  // (which contains its message) into headers
+  private void fingerprint(Throwable throwable, List<Node> nodes, List<String> headers) {
+    Set<Throwable> dejaVu = Collections.newSetFromMap(new IdentityHashMap<>());
+    dejaVu.add(throwable);
+
+    StackTraceElement[] trace = throwable.getStackTrace();
+    nodes.add(new Node("", "", throwable.getClass().getName(), trace, 0, false));
+    headers.add(throwable.toString());
+    addEnclosed(nodes, headers, throwable, trace, "", 0, dejaVu);
+  }
+
+  private void addEnclosed(
+      List<Node> nodes,
+      List<String> headers,
+      Throwable throwable,
+      StackTraceElement[] trace,
+      String prefix,
+      int depth,
+      Set<Throwable> dejaVu) {
+    if (depth >= maxCauseDepth) {
+      return;
+    }
+    for (Throwable suppressed : throwable.getSuppressed()) {
+      add(
+          nodes,
+          headers,
+          suppressed,
+          trace,
+          SUPPRESSED_CAPTION,
+          prefix + "\t",
+          depth + 1,
+          dejaVu);
+    }
+    Throwable cause = throwable.getCause();
+    if (cause != null) {
+      add(nodes, headers, cause, trace, CAUSE_CAPTION, prefix, depth + 1, dejaVu);
+    }
+  }
+
+  private void add(
+      List<Node> nodes,
+      List<String> headers,
+      Throwable throwable,
+      StackTraceElement[] enclosingTrace,
+      String caption,
+      String prefix,
+      int depth,
+      Set<Throwable> dejaVu) {
+    String type = throwable.getClass().getName();
+    headers.add(throwable.toString());
+    if (!dejaVu.add(throwable)) {
+      nodes.add(new Node(prefix, caption, type, new StackTraceElement[0], 0, true));
+      return;
+    }
+
+    // compute number of frames in common between this and enclosing trace
+    StackTraceElement[] trace = throwable.getStackTrace();
+    int m = trace.length - 1;
+    int n = enclosingTrace.length - 1;
+    while (m >= 0 && n >= 0 && trace[m].equals(enclosingTrace[n])) {
+      m--;
+      n--;
+    }
+    int framesInCommon = trace.length - 1 - m;
+
+    nodes.add(new Node(prefix, caption, type, trace, framesInCommon, false));
+    addEnclosed(nodes, headers, throwable, trace, prefix, depth, dejaVu);
+  }
+
+  // visible for testing
+  int getRenderCount() {
+    return renderCount.get();
+  }
+
+  // renders the frames following the header line of each node
+  private String[] renderFrames(List<Node> nodes) {
+    renderCount.incrementAndGet();
+    String[] frames = new String[nodes.size()];
+    StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < frames.length; i++) {
+      Node node = nodes.get(i);
+      if (node.circular) {
+        frames[i] = "";
+        continue;
+      }
+
+      sb.setLength(0);
+      int rendered = Math.min(node.trace.length - node.framesInCommon, maxFrames);
+      for (int j = 0; j < rendered; j++) {
+        sb.append(node.prefix).append("\tat ").append(node.trace[j]).append(LINE_SEPARATOR);
+      }
+      int omitted = node.trace.length - rendered;
+      if (omitted != 0) {
+        sb.append(node.prefix)
+            .append("\t... ")
+            .append(omitted)
+            .append(" more")
+            .append(LINE_SEPARATOR);
+      }
+      frames[i] = sb.toString();
+    }
+    return frames;
+  }
+
+  private static final class Node {
+    private final String prefix;
+    private final String caption;
+    private final String type;
+    private final StackTraceElement[] trace;
+    private final int framesInCommon;
+    private final boolean circular;
+    private final int hashCode;
+
+    Node(
+        String prefix,
+        String caption,
+        String type,
+        StackTraceElement[] trace,
+        int framesInCommon,
+        boolean circular) {
+      this.prefix = prefix;
+      this.caption = caption;
+      this.type = type;
+      this.trace = trace;
+      this.framesInCommon = framesInCommon;
+      this.circular = circular;
+      this.hashCode =
+          31 * Objects.hash(prefix, caption, type, framesInCommon, circular)
+              + Arrays.hashCode(trace);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Node)) {
+        return false;
+      }
+      Node other = (Node) obj;
+      return hashCode == other.hashCode
+          && framesInCommon == other.framesInCommon
+          && circular == other.circular
+          && prefix.equals(other.prefix)
+          && caption.equals(other.caption)
+          && type.equals(other.type)
+          && Arrays.equals(trace, other.trace);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+  }
+}
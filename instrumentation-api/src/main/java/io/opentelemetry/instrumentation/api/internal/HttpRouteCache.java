@@ -0,0 +1,53 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.internal;
+
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import java.util.function.BiFunction;
+
+/**
+ * Interns the {@code http.route} values that routing framework instrumentations assemble from
+ * several parts, e.g. a context path and a route template, so that the route string of a given
+ * pair of parts is built once instead of on every request. Every instrumentation creates its own
+ * cache, keyed by the parts of the route.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class HttpRouteCache<T, U> {
+
+  // the number of distinct first parts, e.g. context paths, is typically small
+  private static final int MAX_FIRST_PARTS = 64;
+  private static final int MAX_ROUTES_PER_FIRST_PART = 1024;
+
+  /**
+   * Returns a new cache of the routes built by the given function, which must be a pure function of
+   * its arguments.
+   */
+  public static <T, U> HttpRouteCache<T, U> create(BiFunction<T, U, String> routeBuilder) {
+    return new HttpRouteCache<>(routeBuilder);
+  }
+
+  private final BiFunction<T, U, String> routeBuilder;
+  private final Cache<T, Cache<U, String>> routes = Cache.bounded(MAX_FIRST_PARTS);
+
+  private HttpRouteCache(BiFunction<T, U, String> routeBuilder) {
+    this.routeBuilder = routeBuilder;
+  }
+
+  /** Returns the route built from the given parts. */
+  public String get(T first, U second) {
+    Cache<U, String> firstPartRoutes =
+        routes.computeIfAbsent(first, unused -> Cache.bounded(MAX_ROUTES_PER_FIRST_PART));
+    // not using computeIfAbsent(), which would need a new lambda capturing the parts on every call
+    String route = firstPartRoutes.get(second);
+    if (route == null) {
+      route = routeBuilder.apply(first, second);
+      firstPartRoutes.put(second, route);
+    }
+    return route;
+  }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.internal;
+
+import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+
+/**
+ * Decides, before any span or context is created, how much telemetry an {@link Instrumenter}
+ * records for a request. Implementations are called once for every started request and must be
+ * cheap.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+@FunctionalInterface
+public interface RequestFilter<REQUEST> {
+
+  Decision filter(REQUEST request);
+
+  /**
+   * The decisions, from the least to the most restrictive.
+   *
+   * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+   * at any time.
+   */
+  enum Decision {
+    /** The request is instrumented as usual. */
+    RECORD,
+    /**
+     * The span of the request and the spans below it are not sampled, but the request is still
+     * recorded by the operation listeners.
+     */
+    RECORD_METRICS_ONLY,
+    /** The span of the request and the spans below it are not sampled, nothing is recorded. */
+    DROP
+  }
+}
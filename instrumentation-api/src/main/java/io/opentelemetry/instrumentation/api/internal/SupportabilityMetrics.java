@@ -26,6 +26,7 @@ public final class SupportabilityMetrics {
 
   private final ConcurrentMap<String, KindCounters> suppressionCounters = new ConcurrentHashMap<>();
   private final ConcurrentMap<String, AtomicLong> counters = new ConcurrentHashMap<>();
+  private final ConcurrentMap<String, AtomicLong> durations = new ConcurrentHashMap<>();
 
   private static final SupportabilityMetrics INSTANCE =
       new SupportabilityMetrics(
@@ -60,6 +61,18 @@ public final class SupportabilityMetrics {
     counters.computeIfAbsent(counterName, k -> new AtomicLong()).incrementAndGet();
   }
 
+  /**
+   * Adds the given duration to the named total. Durations are accumulated in nanoseconds, so that
+   * many short durations add up, and are reported in microseconds.
+   */
+  public void recordDuration(String durationName, long nanos) {
+    if (!agentDebugEnabled) {
+      return;
+    }
+
+    durations.computeIfAbsent(durationName, k -> new AtomicLong()).addAndGet(nanos);
+  }
+
   // visible for testing
   void report() {
     suppressionCounters.forEach(
@@ -79,6 +92,18 @@ public final class SupportabilityMetrics {
             reporter.accept("Counter '" + counterName + "' : " + value);
           }
         });
+    durations.forEach(
+        (durationName, duration) -> {
+          long nanos = duration.getAndSet(0);
+          if (nanos > 0) {
+            reporter.accept(
+                "Duration '"
+                    + durationName
+                    + "' : "
+                    + TimeUnit.NANOSECONDS.toMicros(nanos)
+                    + " us");
+          }
+        });
   }
 
   // this private method is designed for assignment of the return value
@@ -114,6 +139,7 @@ public final class SupportabilityMetrics {
   public static final class CounterNames {
     public static final String SQL_STATEMENT_SANITIZER_CACHE_MISS =
         "SqlStatementSanitizer cache miss";
+    public static final String FILTERED_REQUESTS = "Filtered requests";
 
     private CounterNames() {}
   }
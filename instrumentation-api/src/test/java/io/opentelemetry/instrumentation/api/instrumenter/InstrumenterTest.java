@@ -25,6 +25,8 @@ import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.ContextKey;
 import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.instrumentation.api.internal.RequestFilter;
+import io.opentelemetry.instrumentation.api.internal.RequestFilterProvider;
 import io.opentelemetry.instrumentation.api.internal.SchemaUrlProvider;
 import io.opentelemetry.instrumentation.api.internal.SpanKey;
 import io.opentelemetry.instrumentation.api.internal.SpanKeyProvider;
@@ -114,6 +116,47 @@ class InstrumenterTest {
     }
   }
 
+  static class FilteringAttributesExtractor
+      implements AttributesExtractor<Map<String, String>, Map<String, String>>,
+          SpanKeyProvider,
+          RequestFilterProvider<Map<String, String>> {
+
+    @Nullable private final String droppedReq1;
+
+    FilteringAttributesExtractor(@Nullable String droppedReq1) {
+      this.droppedReq1 = droppedReq1;
+    }
+
+    @Override
+    public void onStart(
+        AttributesBuilder attributes, Context parentContext, Map<String, String> request) {}
+
+    @Override
+    public void onEnd(
+        AttributesBuilder attributes,
+        Context context,
+        Map<String, String> request,
+        @Nullable Map<String, String> response,
+        @Nullable Throwable error) {}
+
+    @Override
+    public SpanKey internalGetSpanKey() {
+      return SpanKey.HTTP_SERVER;
+    }
+
+    @Nullable
+    @Override
+    public RequestFilter<Map<String, String>> internalGetRequestFilter() {
+      if (droppedReq1 == null) {
+        return null;
+      }
+      return request ->
+          droppedReq1.equals(request.get("req1"))
+              ? RequestFilter.Decision.DROP
+              : RequestFilter.Decision.RECORD;
+    }
+  }
+
   static class AttributesExtractorWithSchemaUrl
       implements AttributesExtractor<Map<String, String>, Map<String, String>>, SchemaUrlProvider {
 
@@ -703,6 +746,116 @@ class InstrumenterTest {
     assertThatSpanKeyWasStored(SpanKey.HTTP_CLIENT, context);
   }
 
+  @Test
+  void shouldDropFilteredRequests() {
+    AtomicReference<Attributes> startAttributes = new AtomicReference<>();
+    Instrumenter<Map<String, String>, Map<String, String>> instrumenter =
+        Instrumenter.<Map<String, String>, Map<String, String>>builder(
+                otelTesting.getOpenTelemetry(), "test", unused -> "span")
+            .addAttributesExtractor(new FilteringAttributesExtractor("req1_value"))
+            .addAttributesExtractor(new FilteringAttributesExtractor(null))
+            .addOperationListener(
+                new OperationListener() {
+                  @Override
+                  public Context onStart(Context context, Attributes attributes, long startNanos) {
+                    startAttributes.set(attributes);
+                    return context;
+                  }
+
+                  @Override
+                  public void onEnd(Context context, Attributes attributes, long endNanos) {}
+                })
+            .buildServerInstrumenter(new MapGetter());
+
+    assertThat(instrumenter.shouldStart(Context.root(), REQUEST)).isTrue();
+    Context context = instrumenter.start(Context.root(), REQUEST);
+    SpanContext spanContext = Span.fromContext(context).getSpanContext();
+    assertThat(spanContext.isValid()).isTrue();
+    assertThat(spanContext.isSampled()).isFalse();
+    assertThat(instrumenter.shouldStart(context, REQUEST)).isFalse();
+    instrumenter.end(context, REQUEST, RESPONSE, null);
+
+    assertThat(startAttributes.get()).isNull();
+    assertThat(otelTesting.getSpans()).isEmpty();
+  }
+
+  @Test
+  void shouldNotSampleSpansNestedInFilteredRequests() {
+    Instrumenter<Map<String, String>, Map<String, String>> instrumenter =
+        Instrumenter.<Map<String, String>, Map<String, String>>builder(
+                otelTesting.getOpenTelemetry(), "test", unused -> "span")
+            .addAttributesExtractor(new FilteringAttributesExtractor("req1_value"))
+            .buildServerInstrumenter(new MapGetter());
+    Instrumenter<Map<String, String>, Map<String, String>> nestedInstrumenter =
+        Instrumenter.<Map<String, String>, Map<String, String>>builder(
+                otelTesting.getOpenTelemetry(), "test", unused -> "nested")
+            .buildInstrumenter();
+
+    Map<String, String> request = new HashMap<>(REQUEST);
+    request.put("traceparent", "00-ff01020304050600ff0a0b0c0d0e0f00-090a0b0c0d0e0f00-01");
+
+    Context context = instrumenter.start(Context.root(), request);
+    SpanContext spanContext = Span.fromContext(context).getSpanContext();
+    assertThat(spanContext.getTraceId()).isEqualTo("ff01020304050600ff0a0b0c0d0e0f00");
+    assertThat(spanContext.isSampled()).isFalse();
+    assertThat(LocalRootSpan.fromContextOrNull(context)).isSameAs(Span.fromContext(context));
+
+    Context nestedContext = nestedInstrumenter.start(context, emptyMap());
+    SpanContext nestedSpanContext = Span.fromContext(nestedContext).getSpanContext();
+    assertThat(nestedSpanContext.getTraceId()).isEqualTo(spanContext.getTraceId());
+    assertThat(nestedSpanContext.isSampled()).isFalse();
+    assertThat(LocalRootSpan.fromContext(nestedContext)).isSameAs(Span.fromContext(context));
+    nestedInstrumenter.end(nestedContext, emptyMap(), emptyMap(), null);
+    instrumenter.end(context, request, RESPONSE, null);
+
+    assertThat(otelTesting.getSpans()).isEmpty();
+  }
+
+  @Test
+  void shouldOnlyRecordMetricsOfFilteredRequests() {
+    AtomicReference<Attributes> startAttributes = new AtomicReference<>();
+    AtomicReference<Attributes> endAttributes = new AtomicReference<>();
+
+    OperationListener operationListener =
+        new OperationListener() {
+          @Override
+          public Context onStart(Context context, Attributes attributes, long startNanos) {
+            startAttributes.set(attributes);
+            return context;
+          }
+
+          @Override
+          public void onEnd(Context context, Attributes attributes, long endNanos) {
+            endAttributes.set(attributes);
+          }
+        };
+
+    Instrumenter<Map<String, String>, Map<String, String>> instrumenter =
+        Instrumenter.<Map<String, String>, Map<String, String>>builder(
+                otelTesting.getOpenTelemetry(), "test", unused -> "span")
+            .addAttributesExtractor(new AttributesExtractor1())
+            .addAttributesExtractor(
+                new FilteringAttributesExtractor(null) {
+                  @Override
+                  public RequestFilter<Map<String, String>> internalGetRequestFilter() {
+                    return request -> RequestFilter.Decision.RECORD_METRICS_ONLY;
+                  }
+                })
+            .addOperationListener(operationListener)
+            .buildServerInstrumenter(new MapGetter());
+
+    assertThat(instrumenter.shouldStart(Context.root(), REQUEST)).isTrue();
+    Context context = instrumenter.start(Context.root(), REQUEST);
+    assertThat(Span.fromContext(context).getSpanContext().isSampled()).isFalse();
+    assertThat(LocalRootSpan.fromContextOrNull(context)).isSameAs(Span.fromContext(context));
+    assertThat(instrumenter.shouldStart(context, REQUEST)).isFalse();
+    instrumenter.end(context, REQUEST, RESPONSE, null);
+
+    assertThat(startAttributes.get()).containsEntry("req1", "req1_value");
+    assertThat(endAttributes.get()).containsEntry("resp1", "resp1_value");
+    assertThat(otelTesting.getSpans()).isEmpty();
+  }
+
   private static void assertThatSpanKeyWasStored(SpanKey spanKey, Context context) {
     Span span = Span.fromContext(context);
     assertThat(span).isNotNull();
@@ -0,0 +1,127 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.instrumentation.api.internal.AsyncEventProcessor.OverflowPolicy;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class AsyncEventProcessorTest {
+
+  @Test
+  void handlesEventsOnBackgroundThread() throws InterruptedException {
+    List<String> threads = new CopyOnWriteArrayList<>();
+    List<Integer> events = new CopyOnWriteArrayList<>();
+    AsyncEventProcessor<Integer> processor =
+        AsyncEventProcessor.start(
+            "test-processor",
+            16,
+            OverflowPolicy.DROP,
+            event -> {
+              threads.add(Thread.currentThread().getName());
+              events.add(event);
+            });
+
+    Thread[] producers = new Thread[4];
+    for (int i = 0; i < producers.length; i++) {
+      int offset = i * 1000;
+      producers[i] =
+          new Thread(
+              () -> {
+                for (int j = 0; j < 1000; j++) {
+                  processor.submit(offset + j);
+                  if (j % 10 == 0) {
+                    Thread.yield();
+                  }
+                }
+              });
+      producers[i].start();
+    }
+    for (Thread producer : producers) {
+      producer.join();
+    }
+    processor.shutdown(10, TimeUnit.SECONDS);
+
+    assertThat(threads).containsOnly("test-processor");
+    assertThat(events.size() + processor.getDroppedCount()).isEqualTo(4000);
+    assertThat(events).doesNotHaveDuplicates();
+  }
+
+  @Test
+  void dropsEventsWhenFull() throws InterruptedException {
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<Integer> events = new CopyOnWriteArrayList<>();
+    AsyncEventProcessor<Integer> processor =
+        AsyncEventProcessor.start(
+            "test-processor",
+            4,
+            OverflowPolicy.DROP,
+            event -> {
+              if (event == 0) {
+                blocked.countDown();
+                awaitUninterruptibly(release);
+              }
+              events.add(event);
+            });
+
+    processor.submit(0);
+    blocked.await();
+    for (int i = 1; i <= 10; i++) {
+      processor.submit(i);
+    }
+    release.countDown();
+    processor.shutdown(10, TimeUnit.SECONDS);
+
+    assertThat(events).containsExactly(0, 1, 2, 3, 4);
+    assertThat(processor.getDroppedCount()).isEqualTo(6);
+  }
+
+  @Test
+  void callerRunsWhenFull() throws InterruptedException {
+    CountDownLatch blocked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<String> threads = new CopyOnWriteArrayList<>();
+    AsyncEventProcessor<Integer> processor =
+        AsyncEventProcessor.start(
+            "test-processor",
+            1,
+            OverflowPolicy.CALLER_RUNS,
+            event -> {
+              if (event == 0) {
+                blocked.countDown();
+                awaitUninterruptibly(release);
+              }
+              threads.add(Thread.currentThread().getName());
+            });
+
+    processor.submit(0);
+    blocked.await();
+    IntStream.rangeClosed(1, 3).forEach(processor::submit);
+    release.countDown();
+    processor.shutdown(10, TimeUnit.SECONDS);
+
+    String caller = Thread.currentThread().getName();
+    assertThat(threads.stream().filter(caller::equals).collect(Collectors.toList())).hasSize(2);
+    assertThat(threads).hasSize(4);
+    assertThat(processor.getDroppedCount()).isZero();
+  }
+
+  private static void awaitUninterruptibly(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
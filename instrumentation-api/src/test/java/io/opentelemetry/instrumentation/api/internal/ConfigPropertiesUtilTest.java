@@ -5,6 +5,7 @@
 
 package io.opentelemetry.instrumentation.api.internal;
 
+import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.junit.jupiter.api.Test;
@@ -72,4 +73,24 @@ class ConfigPropertiesUtilTest {
   void getBoolean_none() {
     assertThat(ConfigPropertiesUtil.getBoolean("test.property.boolean", false)).isFalse();
   }
+
+  @SetEnvironmentVariable(key = "TEST_PROPERTY_LIST", value = "c")
+  @SetSystemProperty(key = "test.property.list", value = "a, ,b ")
+  @Test
+  void getList_systemProperty() {
+    assertThat(ConfigPropertiesUtil.getList("test.property.list", emptyList()))
+        .containsExactly("a", "b");
+  }
+
+  @SetEnvironmentVariable(key = "TEST_PROPERTY_LIST", value = "c")
+  @Test
+  void getList_environmentVariable() {
+    assertThat(ConfigPropertiesUtil.getList("test.property.list", emptyList()))
+        .containsExactly("c");
+  }
+
+  @Test
+  void getList_none() {
+    assertThat(ConfigPropertiesUtil.getList("test.property.list", emptyList())).isEmpty();
+  }
 }
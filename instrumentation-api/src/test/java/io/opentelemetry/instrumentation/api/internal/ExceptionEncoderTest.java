@@ -0,0 +1,107 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import org.junit.jupiter.api.Test;
+
+class ExceptionEncoderTest {
+
+  @Test
+  void rendersSameAsPrintStackTrace() {
+    Exception exception = nested(3);
+    exception.addSuppressed(new IOException("suppressed", new IllegalStateException("inner")));
+    Exception circular = new Exception("circular");
+    circular.initCause(new Exception("cause", circular));
+    exception.addSuppressed(circular);
+
+    ExceptionEncoder encoder = new ExceptionEncoder(0, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+    assertThat(encoder.renderStackTrace(exception)).isEqualTo(printStackTrace(exception));
+  }
+
+  @Test
+  void cachesRenderedStackTrace() {
+    ExceptionEncoder encoder = new ExceptionEncoder(10, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+    Exception first = nested(2);
+    String rendered = encoder.renderStackTrace(first);
+
+    assertThat(rendered).isEqualTo(printStackTrace(first));
+    assertThat(encoder.getRenderCount()).isEqualTo(1);
+    assertThat(encoder.renderStackTrace(first)).isEqualTo(rendered);
+    assertThat(encoder.getRenderCount()).isEqualTo(1);
+
+    assertThat(encoder.renderStackTrace(new IllegalStateException("other")))
+        .startsWith("java.lang.IllegalStateException: other");
+    assertThat(encoder.getRenderCount()).isEqualTo(2);
+  }
+
+  @Test
+  void messageIsNotPartOfFingerprint() {
+    ExceptionEncoder encoder = new ExceptionEncoder(10, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+    // same type and frames, different messages
+    for (int i = 0; i < 3; i++) {
+      Exception exception = withMessage("message " + i);
+      assertThat(encoder.renderStackTrace(exception)).isEqualTo(printStackTrace(exception));
+    }
+    assertThat(encoder.getRenderCount()).isEqualTo(1);
+  }
+
+  @Test
+  void rendersEveryTimeWithoutCache() {
+    ExceptionEncoder encoder = new ExceptionEncoder(0, Integer.MAX_VALUE, Integer.MAX_VALUE);
+
+    Exception exception = nested(1);
+    encoder.renderStackTrace(exception);
+    encoder.renderStackTrace(exception);
+
+    assertThat(encoder.getRenderCount()).isEqualTo(2);
+  }
+
+  @Test
+  void limitsFramesAndCauses() {
+    Exception exception = nested(3);
+    ExceptionEncoder encoder = new ExceptionEncoder(0, 1, 1);
+
+    String rendered = encoder.renderStackTrace(exception);
+
+    String[] lines = rendered.split(System.lineSeparator());
+    assertThat(lines).hasSize(6);
+    assertThat(lines[0]).isEqualTo("java.lang.RuntimeException: level 3");
+    assertThat(lines[1]).startsWith("\tat ");
+    assertThat(lines[2]).matches("\t\\.\\.\\. \\d+ more");
+    assertThat(lines[3]).isEqualTo("Caused by: java.lang.RuntimeException: level 2");
+    assertThat(lines[4]).startsWith("\tat ");
+    assertThat(lines[5]).matches("\t\\.\\.\\. \\d+ more");
+  }
+
+  private static Exception nested(int depth) {
+    if (depth == 0) {
+      return new IllegalStateException("root");
+    }
+    try {
+      throw nested(depth - 1);
+    } catch (Exception e) {
+      return new RuntimeException("level " + depth, e);
+    }
+  }
+
+  private static Exception withMessage(String message) {
+    return new IllegalStateException(message);
+  }
+
+  private static String printStackTrace(Throwable throwable) {
+    StringWriter writer = new StringWriter();
+    throwable.printStackTrace(new PrintWriter(writer));
+    return writer.toString();
+  }
+}
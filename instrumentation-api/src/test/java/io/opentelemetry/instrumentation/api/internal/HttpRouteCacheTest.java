@@ -0,0 +1,32 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.api.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class HttpRouteCacheTest {
+
+  @Test
+  void buildsRouteOnce() {
+    AtomicInteger builds = new AtomicInteger();
+    HttpRouteCache<String, String> cache =
+        HttpRouteCache.create(
+            (prefix, template) -> {
+              builds.incrementAndGet();
+              return prefix + template;
+            });
+
+    String route = cache.get("/context", "/users/{id}");
+
+    assertThat(route).isEqualTo("/context/users/{id}");
+    assertThat(cache.get("/context", "/users/{id}")).isSameAs(route);
+    assertThat(cache.get("/other", "/users/{id}")).isEqualTo("/other/users/{id}");
+    assertThat(builds).hasValue(2);
+  }
+}
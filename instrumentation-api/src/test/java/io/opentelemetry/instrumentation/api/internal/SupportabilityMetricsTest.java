@@ -43,6 +43,10 @@ class SupportabilityMetricsTest {
     metrics.incrementCounter("some counter");
     metrics.incrementCounter("another counter");
     metrics.incrementCounter("some counter");
+    // sub-microsecond durations add up
+    for (int i = 0; i < 4; i++) {
+      metrics.recordDuration("some duration", 500);
+    }
 
     metrics.report();
 
@@ -52,7 +56,8 @@ class SupportabilityMetricsTest {
             "Suppressed Spans by 'favoriteInstrumentation' (SERVER) : 1",
             "Suppressed Spans by 'otherInstrumentation' (INTERNAL) : 1",
             "Counter 'some counter' : 2",
-            "Counter 'another counter' : 1");
+            "Counter 'another counter' : 1",
+            "Duration 'some duration' : 2 us");
   }
 
   @Test
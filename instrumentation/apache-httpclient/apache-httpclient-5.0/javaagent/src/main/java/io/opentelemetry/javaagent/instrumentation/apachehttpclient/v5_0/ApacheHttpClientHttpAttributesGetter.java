@@ -6,6 +6,7 @@
 package io.opentelemetry.javaagent.instrumentation.apachehttpclient.v5_0;
 
 import io.opentelemetry.instrumentation.api.instrumenter.http.HttpClientAttributesGetter;
+import io.opentelemetry.instrumentation.api.instrumenter.http.internal.HttpClientUrlComponentsGetter;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -18,7 +19,8 @@ import org.apache.hc.core5.http.ProtocolVersion;
 import org.apache.hc.core5.net.URIAuthority;
 
 final class ApacheHttpClientHttpAttributesGetter
-    implements HttpClientAttributesGetter<HttpRequest, HttpResponse> {
+    implements HttpClientAttributesGetter<HttpRequest, HttpResponse>,
+        HttpClientUrlComponentsGetter<HttpRequest> {
 
   @Override
   public String getHttpRequestMethod(HttpRequest request) {
@@ -58,6 +60,33 @@ final class ApacheHttpClientHttpAttributesGetter
     return url.toString();
   }
 
+  // the url.full attribute is assembled from these components, getUrlFull() is not called
+
+  @Override
+  public String getUrlScheme(HttpRequest request) {
+    String scheme = request.getScheme();
+    return scheme != null ? scheme : "http";
+  }
+
+  @Nullable
+  @Override
+  public String getUrlHost(HttpRequest request) {
+    URIAuthority authority = request.getAuthority();
+    return authority != null ? authority.getHostName() : null;
+  }
+
+  @Override
+  public int getUrlPort(HttpRequest request) {
+    URIAuthority authority = request.getAuthority();
+    return authority != null ? authority.getPort() : -1;
+  }
+
+  @Override
+  public String getUrlTarget(HttpRequest request) {
+    String path = request.getPath();
+    return path != null ? path : "/";
+  }
+
   @Override
   public List<String> getHttpRequestHeader(HttpRequest request, String name) {
     return getHeader(request, name);
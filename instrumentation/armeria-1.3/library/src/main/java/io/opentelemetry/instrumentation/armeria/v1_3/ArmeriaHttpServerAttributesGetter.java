@@ -11,10 +11,13 @@ import com.linecorp.armeria.common.RequestContext;
 import com.linecorp.armeria.common.SessionProtocol;
 import com.linecorp.armeria.common.logging.RequestLog;
 import com.linecorp.armeria.server.ServiceRequestContext;
+import io.netty.util.AsciiString;
+import io.opentelemetry.instrumentation.api.instrumenter.http.HttpHeaderVisitor;
 import io.opentelemetry.instrumentation.api.instrumenter.http.HttpServerAttributesGetter;
 import io.opentelemetry.instrumentation.armeria.v1_3.internal.RequestContextAccess;
 import java.net.InetSocketAddress;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Nullable;
 
 enum ArmeriaHttpServerAttributesGetter
@@ -52,6 +55,24 @@ enum ArmeriaHttpServerAttributesGetter
     return request(ctx).headers().getAll(name);
   }
 
+  @Override
+  @Nullable
+  public String getFirstHttpRequestHeader(RequestContext ctx, String name) {
+    return request(ctx).headers().get(name);
+  }
+
+  @Override
+  public boolean visitHttpRequestHeaders(RequestContext ctx, HttpHeaderVisitor visitor) {
+    for (Map.Entry<AsciiString, String> header : request(ctx).headers()) {
+      // AsciiString caches the result of toString()
+      String name = header.getKey().toString();
+      if (visitor.isInterested(name)) {
+        visitor.visit(name, header.getValue());
+      }
+    }
+    return true;
+  }
+
   @Override
   @Nullable
   public Integer getHttpResponseStatusCode(
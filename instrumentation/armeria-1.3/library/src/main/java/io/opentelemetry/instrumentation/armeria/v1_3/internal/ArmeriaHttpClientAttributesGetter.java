@@ -10,9 +10,12 @@ import com.linecorp.armeria.common.HttpStatus;
 import com.linecorp.armeria.common.RequestContext;
 import com.linecorp.armeria.common.SessionProtocol;
 import com.linecorp.armeria.common.logging.RequestLog;
+import io.netty.util.AsciiString;
 import io.opentelemetry.instrumentation.api.instrumenter.http.HttpClientAttributesGetter;
+import io.opentelemetry.instrumentation.api.instrumenter.http.HttpHeaderVisitor;
 import java.net.InetSocketAddress;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Nullable;
 
 /**
@@ -49,6 +52,24 @@ public enum ArmeriaHttpClientAttributesGetter
     return request(ctx).headers().getAll(name);
   }
 
+  @Override
+  @Nullable
+  public String getFirstHttpRequestHeader(RequestContext ctx, String name) {
+    return request(ctx).headers().get(name);
+  }
+
+  @Override
+  public boolean visitHttpRequestHeaders(RequestContext ctx, HttpHeaderVisitor visitor) {
+    for (Map.Entry<AsciiString, String> header : request(ctx).headers()) {
+      // AsciiString caches the result of toString()
+      String name = header.getKey().toString();
+      if (visitor.isInterested(name)) {
+        visitor.visit(name, header.getValue());
+      }
+    }
+    return true;
+  }
+
   @Override
   @Nullable
   public Integer getHttpResponseStatusCode(
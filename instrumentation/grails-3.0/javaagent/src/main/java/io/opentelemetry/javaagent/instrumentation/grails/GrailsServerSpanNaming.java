@@ -6,11 +6,15 @@
 package io.opentelemetry.javaagent.instrumentation.grails;
 
 import io.opentelemetry.instrumentation.api.instrumenter.http.HttpRouteGetter;
+import io.opentelemetry.instrumentation.api.internal.HttpRouteCache;
 import io.opentelemetry.javaagent.bootstrap.servlet.ServletContextPath;
 import org.grails.web.mapping.mvc.GrailsControllerUrlMappingInfo;
 
 public class GrailsServerSpanNaming {
 
+  private static final HttpRouteCache<String, String> routes =
+      HttpRouteCache.create((controller, action) -> "/" + controller + "/" + action);
+
   public static final HttpRouteGetter<GrailsControllerUrlMappingInfo> SERVER_SPAN_NAME =
       (context, info) -> {
         String action =
@@ -18,7 +22,12 @@ public class GrailsServerSpanNaming {
                 ? info.getActionName()
                 : info.getControllerClass().getDefaultAction();
         // this is not the actual route/mapping, but it's the best thing that we have access to
-        return ServletContextPath.prepend(context, "/" + info.getControllerName() + "/" + action);
+        String controller = info.getControllerName();
+        String route =
+            controller != null && action != null
+                ? routes.get(controller, action)
+                : "/" + controller + "/" + action;
+        return ServletContextPath.prepend(context, route);
       };
 
   private GrailsServerSpanNaming() {}
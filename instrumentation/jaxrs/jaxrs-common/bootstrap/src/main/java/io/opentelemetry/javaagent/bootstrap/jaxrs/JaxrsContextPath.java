@@ -7,6 +7,7 @@ package io.opentelemetry.javaagent.bootstrap.jaxrs;
 
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.instrumentation.api.internal.HttpRouteCache;
 import javax.annotation.Nullable;
 
 /**
@@ -20,6 +21,9 @@ public final class JaxrsContextPath {
   private static final ContextKey<String> CONTEXT_KEY =
       ContextKey.named("opentelemetry-jaxrs-context-path-key");
 
+  private static final HttpRouteCache<String, String> routes =
+      HttpRouteCache.create(String::concat);
+
   private JaxrsContextPath() {}
 
   @Nullable
@@ -41,7 +45,7 @@ public final class JaxrsContextPath {
     String value = context.get(CONTEXT_KEY);
     // checking isEmpty just to avoid unnecessary string concat / allocation
     if (value != null && !value.isEmpty()) {
-      return value + spanName;
+      return spanName != null ? routes.get(value, spanName) : value + spanName;
     } else {
       return spanName;
     }
@@ -6,10 +6,12 @@
 package io.opentelemetry.instrumentation.jetty.httpclient.v9_2.internal;
 
 import io.opentelemetry.instrumentation.api.instrumenter.http.HttpClientAttributesGetter;
+import io.opentelemetry.instrumentation.api.instrumenter.http.HttpHeaderVisitor;
 import java.util.List;
 import javax.annotation.Nullable;
 import org.eclipse.jetty.client.api.Request;
 import org.eclipse.jetty.client.api.Response;
+import org.eclipse.jetty.http.HttpField;
 import org.eclipse.jetty.http.HttpVersion;
 
 /**
@@ -37,6 +39,22 @@ public enum JettyClientHttpAttributesGetter
     return request.getHeaders().getValuesList(name);
   }
 
+  @Override
+  @Nullable
+  public String getFirstHttpRequestHeader(Request request, String name) {
+    return request.getHeaders().get(name);
+  }
+
+  @Override
+  public boolean visitHttpRequestHeaders(Request request, HttpHeaderVisitor visitor) {
+    for (HttpField field : request.getHeaders()) {
+      if (visitor.isInterested(field.getName())) {
+        visitor.visit(field.getName(), field.getValue());
+      }
+    }
+    return true;
+  }
+
   @Override
   public Integer getHttpResponseStatusCode(
       Request request, Response response, @Nullable Throwable error) {
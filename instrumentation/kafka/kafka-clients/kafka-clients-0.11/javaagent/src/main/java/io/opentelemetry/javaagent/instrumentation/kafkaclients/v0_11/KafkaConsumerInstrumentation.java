@@ -8,6 +8,7 @@ package io.opentelemetry.javaagent.instrumentation.kafkaclients.v0_11;
 import static io.opentelemetry.javaagent.bootstrap.Java8BytecodeBridge.currentContext;
 import static io.opentelemetry.javaagent.instrumentation.kafkaclients.v0_11.KafkaSingletons.consumerReceiveInstrumenter;
 import static io.opentelemetry.javaagent.instrumentation.kafkaclients.v0_11.KafkaSingletons.enhanceConfig;
+import static io.opentelemetry.javaagent.instrumentation.kafkaclients.v0_11.KafkaSingletons.recordConsumerLatency;
 import static net.bytebuddy.matcher.ElementMatchers.isConstructor;
 import static net.bytebuddy.matcher.ElementMatchers.isPublic;
 import static net.bytebuddy.matcher.ElementMatchers.named;
@@ -124,6 +125,7 @@ public class KafkaConsumerInstrumentation implements TypeInstrumentation {
         for (ConsumerRecord<?, ?> record : records) {
           KafkaConsumerContextUtil.set(record, context, consumer);
         }
+        recordConsumerLatency(records);
       } finally {
         KafkaClientsConsumerProcessTracing.setEnabled(previousValue);
       }
@@ -7,6 +7,7 @@ package io.opentelemetry.javaagent.instrumentation.kafkaclients.v0_11;
 
 import io.opentelemetry.api.GlobalOpenTelemetry;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import io.opentelemetry.instrumentation.kafka.internal.KafkaConsumerLatencyRecorder;
 import io.opentelemetry.instrumentation.kafka.internal.KafkaInstrumenterFactory;
 import io.opentelemetry.instrumentation.kafka.internal.KafkaProcessRequest;
 import io.opentelemetry.instrumentation.kafka.internal.KafkaProducerRequest;
@@ -19,7 +20,9 @@ import io.opentelemetry.javaagent.bootstrap.internal.InstrumentationConfig;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import javax.annotation.Nullable;
 import org.apache.kafka.clients.CommonClientConfigs;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
 import org.apache.kafka.clients.producer.RecordMetadata;
 
 public final class KafkaSingletons {
@@ -31,6 +34,17 @@ public final class KafkaSingletons {
           "otel.instrumentation.kafka.client-propagation.enabled",
           "otel.instrumentation.kafka.producer-propagation.enabled",
           true);
+  private static final boolean CONSUMER_BATCH_TELEMETRY_ENABLED =
+      InstrumentationConfig.get()
+          .getBoolean(
+              "otel.instrumentation.kafka.experimental.consumer-batch-telemetry.enabled", false);
+  private static final int CONSUMER_BATCH_MAX_LINKS =
+      Math.max(
+          0,
+          InstrumentationConfig.get()
+              .getInt(
+                  "otel.instrumentation.kafka.experimental.consumer-batch-telemetry.max-links",
+                  KafkaInstrumenterFactory.DEFAULT_MAX_BATCH_SPAN_LINKS));
   private static final boolean METRICS_ENABLED =
       InstrumentationConfig.get()
           .getBoolean("otel.instrumentation.kafka.metric-reporter.enabled", true);
@@ -38,6 +52,7 @@ public final class KafkaSingletons {
   private static final Instrumenter<KafkaProducerRequest, RecordMetadata> PRODUCER_INSTRUMENTER;
   private static final Instrumenter<KafkaReceiveRequest, Void> CONSUMER_RECEIVE_INSTRUMENTER;
   private static final Instrumenter<KafkaProcessRequest, Void> CONSUMER_PROCESS_INSTRUMENTER;
+  @Nullable private static final KafkaConsumerLatencyRecorder CONSUMER_LATENCY_RECORDER;
 
   static {
     KafkaInstrumenterFactory instrumenterFactory =
@@ -47,16 +62,34 @@ public final class KafkaSingletons {
                 InstrumentationConfig.get()
                     .getBoolean("otel.instrumentation.kafka.experimental-span-attributes", false))
             .setMessagingReceiveInstrumentationEnabled(
-                ExperimentalConfig.get().messagingReceiveInstrumentationEnabled());
+                ExperimentalConfig.get().messagingReceiveInstrumentationEnabled())
+            .setMaxBatchSpanLinks(CONSUMER_BATCH_MAX_LINKS);
     PRODUCER_INSTRUMENTER = instrumenterFactory.createProducerInstrumenter();
-    CONSUMER_RECEIVE_INSTRUMENTER = instrumenterFactory.createConsumerReceiveInstrumenter();
     CONSUMER_PROCESS_INSTRUMENTER = instrumenterFactory.createConsumerProcessInstrumenter();
+    if (CONSUMER_BATCH_TELEMETRY_ENABLED) {
+      // a single receive span per poll() replaces the process spans of the individual records
+      CONSUMER_RECEIVE_INSTRUMENTER = instrumenterFactory.createConsumerBatchReceiveInstrumenter();
+      CONSUMER_LATENCY_RECORDER = instrumenterFactory.createConsumerLatencyRecorder();
+    } else {
+      CONSUMER_RECEIVE_INSTRUMENTER = instrumenterFactory.createConsumerReceiveInstrumenter();
+      CONSUMER_LATENCY_RECORDER = null;
+    }
   }
 
   public static boolean isProducerPropagationEnabled() {
     return PRODUCER_PROPAGATION_ENABLED;
   }
 
+  public static boolean isConsumerBatchTelemetryEnabled() {
+    return CONSUMER_BATCH_TELEMETRY_ENABLED;
+  }
+
+  public static void recordConsumerLatency(ConsumerRecords<?, ?> records) {
+    if (CONSUMER_LATENCY_RECORDER != null) {
+      CONSUMER_LATENCY_RECORDER.record(records);
+    }
+  }
+
   public static Instrumenter<KafkaProducerRequest, RecordMetadata> producerInstrumenter() {
     return PRODUCER_INSTRUMENTER;
   }
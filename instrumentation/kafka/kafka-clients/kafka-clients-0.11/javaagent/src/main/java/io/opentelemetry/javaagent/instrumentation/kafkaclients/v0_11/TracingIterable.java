@@ -23,7 +23,8 @@ public class TracingIterable<K, V> implements Iterable<ConsumerRecord<K, V>> {
 
   public static <K, V> Iterable<ConsumerRecord<K, V>> wrap(
       Iterable<ConsumerRecord<K, V>> delegate, KafkaConsumerContext consumerContext) {
-    if (KafkaClientsConsumerProcessTracing.wrappingEnabled()) {
+    if (!KafkaSingletons.isConsumerBatchTelemetryEnabled()
+        && KafkaClientsConsumerProcessTracing.wrappingEnabled()) {
       return new TracingIterable<>(delegate, consumerContext);
     }
     return delegate;
@@ -42,7 +42,9 @@ public class TracingIterator<K, V> implements Iterator<ConsumerRecord<K, V>> {
 
   public static <K, V> Iterator<ConsumerRecord<K, V>> wrap(
       Iterator<ConsumerRecord<K, V>> delegateIterator, KafkaConsumerContext consumerContext) {
-    if (KafkaClientsConsumerProcessTracing.wrappingEnabled()) {
+    // with batch telemetry the records are covered by the receive span of the whole batch
+    if (!KafkaSingletons.isConsumerBatchTelemetryEnabled()
+        && KafkaClientsConsumerProcessTracing.wrappingEnabled()) {
       return new TracingIterator<>(delegateIterator, consumerContext);
     }
     return delegateIterator;
@@ -22,7 +22,8 @@ public class TracingList<K, V> extends TracingIterable<K, V> implements List<Con
 
   public static <K, V> List<ConsumerRecord<K, V>> wrap(
       List<ConsumerRecord<K, V>> delegate, KafkaConsumerContext consumerContext) {
-    if (KafkaClientsConsumerProcessTracing.wrappingEnabled()) {
+    if (!KafkaSingletons.isConsumerBatchTelemetryEnabled()
+        && KafkaClientsConsumerProcessTracing.wrappingEnabled()) {
       return new TracingList<>(delegate, consumerContext);
     }
     return delegate;
@@ -13,9 +13,11 @@ import io.opentelemetry.context.Scope;
 import io.opentelemetry.context.propagation.TextMapPropagator;
 import io.opentelemetry.context.propagation.TextMapSetter;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import io.opentelemetry.instrumentation.kafka.internal.KafkaConsumerLatencyRecorder;
 import io.opentelemetry.instrumentation.kafka.internal.KafkaHeadersSetter;
 import io.opentelemetry.instrumentation.kafka.internal.KafkaProcessRequest;
 import io.opentelemetry.instrumentation.kafka.internal.KafkaProducerRequest;
+import io.opentelemetry.instrumentation.kafka.internal.KafkaReceiveRequest;
 import io.opentelemetry.instrumentation.kafka.internal.KafkaUtil;
 import io.opentelemetry.instrumentation.kafka.internal.OpenTelemetryMetricsReporter;
 import io.opentelemetry.instrumentation.kafka.internal.OpenTelemetrySupplier;
@@ -27,6 +29,7 @@ import java.util.Map;
 import java.util.concurrent.Future;
 import java.util.function.BiFunction;
 import java.util.logging.Logger;
+import javax.annotation.Nullable;
 import org.apache.kafka.clients.CommonClientConfigs;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -48,16 +51,23 @@ public final class KafkaTelemetry {
   private final OpenTelemetry openTelemetry;
   private final Instrumenter<KafkaProducerRequest, RecordMetadata> producerInstrumenter;
   private final Instrumenter<KafkaProcessRequest, Void> consumerProcessInstrumenter;
+  // only set when consumer batch telemetry is enabled
+  @Nullable private final Instrumenter<KafkaReceiveRequest, Void> consumerBatchInstrumenter;
+  @Nullable private final KafkaConsumerLatencyRecorder consumerLatencyRecorder;
   private final boolean producerPropagationEnabled;
 
   KafkaTelemetry(
       OpenTelemetry openTelemetry,
       Instrumenter<KafkaProducerRequest, RecordMetadata> producerInstrumenter,
       Instrumenter<KafkaProcessRequest, Void> consumerProcessInstrumenter,
+      @Nullable Instrumenter<KafkaReceiveRequest, Void> consumerBatchInstrumenter,
+      @Nullable KafkaConsumerLatencyRecorder consumerLatencyRecorder,
       boolean producerPropagationEnabled) {
     this.openTelemetry = openTelemetry;
     this.producerInstrumenter = producerInstrumenter;
     this.consumerProcessInstrumenter = consumerProcessInstrumenter;
+    this.consumerBatchInstrumenter = consumerBatchInstrumenter;
+    this.consumerLatencyRecorder = consumerLatencyRecorder;
     this.producerPropagationEnabled = producerPropagationEnabled;
   }
 
@@ -228,6 +238,11 @@ public final class KafkaTelemetry {
 
   <K, V> void buildAndFinishSpan(
       ConsumerRecords<K, V> records, String consumerGroup, String clientId) {
+    if (consumerBatchInstrumenter != null) {
+      buildAndFinishBatchSpan(records, consumerGroup, clientId, consumerBatchInstrumenter);
+      return;
+    }
+
     Context parentContext = Context.current();
     for (ConsumerRecord<K, V> record : records) {
       KafkaProcessRequest request = KafkaProcessRequest.create(record, consumerGroup, clientId);
@@ -240,6 +255,25 @@ public final class KafkaTelemetry {
     }
   }
 
+  private <K, V> void buildAndFinishBatchSpan(
+      ConsumerRecords<K, V> records,
+      String consumerGroup,
+      String clientId,
+      Instrumenter<KafkaReceiveRequest, Void> batchInstrumenter) {
+    if (records.isEmpty()) {
+      return;
+    }
+    Context parentContext = Context.current();
+    KafkaReceiveRequest request = KafkaReceiveRequest.create(records, consumerGroup, clientId);
+    if (batchInstrumenter.shouldStart(parentContext, request)) {
+      Context context = batchInstrumenter.start(parentContext, request);
+      batchInstrumenter.end(context, request, null, null);
+    }
+    if (consumerLatencyRecorder != null) {
+      consumerLatencyRecorder.record(records);
+    }
+  }
+
   private class ProducerCallback implements Callback {
     private final Callback callback;
     private final Context parentContext;
@@ -30,6 +30,8 @@ public final class KafkaTelemetryBuilder {
   private List<String> capturedHeaders = emptyList();
   private boolean captureExperimentalSpanAttributes = false;
   private boolean propagationEnabled = true;
+  private boolean consumerBatchTelemetryEnabled = false;
+  private int maxBatchSpanLinks = KafkaInstrumenterFactory.DEFAULT_MAX_BATCH_SPAN_LINKS;
 
   KafkaTelemetryBuilder(OpenTelemetry openTelemetry) {
     this.openTelemetry = Objects.requireNonNull(openTelemetry);
@@ -85,17 +87,52 @@ public final class KafkaTelemetryBuilder {
     return this;
   }
 
+  /**
+   * Sets whether consumers record telemetry per polled batch instead of per record. Disabled by
+   * default.
+   *
+   * <p>When enabled, a single receive span is created for every batch of records returned by {@code
+   * poll()}, linked to the distinct contexts propagated in the records (see {@link
+   * #setMaxBatchSpanLinks(int)}), and the latency of every record is recorded in the {@code
+   * messaging.kafka.consumer.record.latency} histogram. This is much cheaper than a span per record
+   * for consumers that poll large batches.
+   */
+  @CanIgnoreReturnValue
+  public KafkaTelemetryBuilder setConsumerBatchTelemetryEnabled(
+      boolean consumerBatchTelemetryEnabled) {
+    this.consumerBatchTelemetryEnabled = consumerBatchTelemetryEnabled;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of links added to a batch receive span, 128 by default. Only used when
+   * {@linkplain #setConsumerBatchTelemetryEnabled(boolean) batch telemetry} is enabled.
+   */
+  @CanIgnoreReturnValue
+  public KafkaTelemetryBuilder setMaxBatchSpanLinks(int maxBatchSpanLinks) {
+    if (maxBatchSpanLinks < 0) {
+      throw new IllegalArgumentException("maxBatchSpanLinks must not be negative");
+    }
+    this.maxBatchSpanLinks = maxBatchSpanLinks;
+    return this;
+  }
+
   public KafkaTelemetry build() {
     KafkaInstrumenterFactory instrumenterFactory =
         new KafkaInstrumenterFactory(openTelemetry, INSTRUMENTATION_NAME)
             .setCapturedHeaders(capturedHeaders)
-            .setCaptureExperimentalSpanAttributes(captureExperimentalSpanAttributes);
+            .setCaptureExperimentalSpanAttributes(captureExperimentalSpanAttributes)
+            .setMaxBatchSpanLinks(maxBatchSpanLinks);
 
     return new KafkaTelemetry(
         openTelemetry,
         instrumenterFactory.createProducerInstrumenter(producerAttributesExtractors),
         instrumenterFactory.createConsumerOperationInstrumenter(
             MessageOperation.RECEIVE, consumerAttributesExtractors),
+        consumerBatchTelemetryEnabled
+            ? instrumenterFactory.createConsumerBatchReceiveInstrumenter()
+            : null,
+        consumerBatchTelemetryEnabled ? instrumenterFactory.createConsumerLatencyRecorder() : null,
         propagationEnabled);
   }
 }
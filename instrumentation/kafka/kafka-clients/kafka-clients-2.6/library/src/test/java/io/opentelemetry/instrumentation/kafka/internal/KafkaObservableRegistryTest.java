@@ -0,0 +1,168 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.kafka.internal;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.metrics.KafkaMetric;
+import org.apache.kafka.common.metrics.Measurable;
+import org.apache.kafka.common.metrics.MetricConfig;
+import org.apache.kafka.common.utils.Time;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class KafkaObservableRegistryTest {
+
+  private static final String GROUP = "consumer-fetch-manager-metrics";
+  private static final String INSTRUMENT_NAME = "kafka.consumer.records_lag";
+
+  private InMemoryMetricReader metricReader;
+  private SdkMeterProvider meterProvider;
+  private OpenTelemetryMetricsReporter client1;
+  private OpenTelemetryMetricsReporter client2;
+
+  @BeforeEach
+  void setUp() {
+    metricReader = InMemoryMetricReader.create();
+    meterProvider = SdkMeterProvider.builder().registerMetricReader(metricReader).build();
+    OpenTelemetrySdk openTelemetry =
+        OpenTelemetrySdk.builder().setMeterProvider(meterProvider).build();
+
+    Map<String, Object> config = new HashMap<>();
+    config.put(
+        OpenTelemetryMetricsReporter.CONFIG_KEY_OPENTELEMETRY_SUPPLIER,
+        new OpenTelemetrySupplier(openTelemetry));
+    config.put(
+        OpenTelemetryMetricsReporter.CONFIG_KEY_OPENTELEMETRY_INSTRUMENTATION_NAME,
+        "io.opentelemetry.kafka-clients-2.6");
+    client1 = new OpenTelemetryMetricsReporter();
+    client1.configure(config);
+    client2 = new OpenTelemetryMetricsReporter();
+    client2.configure(config);
+  }
+
+  @AfterEach
+  void tearDown() {
+    OpenTelemetryMetricsReporter.resetForTest();
+    meterProvider.close();
+  }
+
+  @Test
+  void higherDimensionMetricReplacesMetric() {
+    client1.metricChange(metric(1, "client-id", "client-1"));
+    client1.metricChange(metric(2, "client-id", "client-1", "topic", "topic-1"));
+
+    assertThat(metricReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasName(INSTRUMENT_NAME)
+                    .hasDoubleGaugeSatisfying(
+                        gauge ->
+                            gauge.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasValue(2)
+                                        .hasAttributes(
+                                            Attributes.of(
+                                                stringKey("client-id"),
+                                                "client-1",
+                                                stringKey("topic"),
+                                                "topic-1")))));
+    assertThat(OpenTelemetryMetricsReporter.getRegisteredObservables()).hasSize(1);
+  }
+
+  @Test
+  void instrumentClosedWhenLastMetricRemoved() {
+    KafkaMetric topic1 = metric(1, "client-id", "client-1", "topic", "topic-1");
+    KafkaMetric topic2 = metric(2, "client-id", "client-1", "topic", "topic-2");
+    client1.metricChange(topic1);
+    client1.metricChange(topic2);
+
+    client1.metricRemoval(topic1);
+    assertThat(metricReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasName(INSTRUMENT_NAME)
+                    .hasDoubleGaugeSatisfying(
+                        gauge ->
+                            gauge.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasValue(2)
+                                        .hasAttributes(
+                                            Attributes.of(
+                                                stringKey("client-id"),
+                                                "client-1",
+                                                stringKey("topic"),
+                                                "topic-2")))));
+
+    // the instrument is closed, so it isn't observed anymore
+    client1.metricRemoval(topic2);
+    assertThat(metricReader.collectAllMetrics()).isEmpty();
+    assertThat(OpenTelemetryMetricsReporter.getRegisteredObservables()).isEmpty();
+
+    // a new metric of the same instrument creates a new instrument
+    client1.metricChange(topic1);
+    assertThat(metricReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasName(INSTRUMENT_NAME)
+                    .hasDoubleGaugeSatisfying(
+                        gauge -> gauge.hasPointsSatisfying(point -> point.hasValue(1))));
+  }
+
+  @Test
+  void closeRemovesOnlyMetricsOfClient() {
+    client1.metricChange(metric(1, "client-id", "client-1"));
+    client2.metricChange(metric(2, "client-id", "client-2"));
+
+    client1.close();
+
+    assertThat(metricReader.collectAllMetrics())
+        .satisfiesExactly(
+            metric ->
+                assertThat(metric)
+                    .hasName(INSTRUMENT_NAME)
+                    .hasDoubleGaugeSatisfying(
+                        gauge ->
+                            gauge.hasPointsSatisfying(
+                                point ->
+                                    point
+                                        .hasValue(2)
+                                        .hasAttributes(
+                                            Attributes.of(stringKey("client-id"), "client-2")))));
+    assertThat(OpenTelemetryMetricsReporter.getRegisteredObservables())
+        .satisfiesExactly(
+            observable ->
+                assertThat(observable.getAttributes())
+                    .isEqualTo(Attributes.of(stringKey("client-id"), "client-2")));
+
+    client2.close();
+    assertThat(metricReader.collectAllMetrics()).isEmpty();
+  }
+
+  private static KafkaMetric metric(double value, String... tags) {
+    Map<String, String> tagMap = new HashMap<>();
+    for (int i = 0; i < tags.length; i += 2) {
+      tagMap.put(tags[i], tags[i + 1]);
+    }
+    MetricName metricName = new MetricName("records-lag", GROUP, "The latest lag", tagMap);
+    Measurable measurable = (config, now) -> value;
+    return new KafkaMetric(new Object(), metricName, measurable, new MetricConfig(), Time.SYSTEM);
+  }
+}
@@ -5,33 +5,53 @@
 
 package io.opentelemetry.instrumentation.kafka.internal;
 
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.propagation.TextMapPropagator;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanLinksBuilder;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanLinksExtractor;
-import io.opentelemetry.instrumentation.api.internal.PropagatorBasedSpanLinksExtractor;
+import java.util.HashSet;
+import java.util.Set;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 
 final class KafkaBatchProcessSpanLinksExtractor implements SpanLinksExtractor<KafkaReceiveRequest> {
 
-  private final SpanLinksExtractor<KafkaProcessRequest> singleRecordLinkExtractor;
+  private final TextMapPropagator propagator;
+  private final String[] fields;
+  private final int maxLinks;
 
-  KafkaBatchProcessSpanLinksExtractor(TextMapPropagator propagator) {
-    this.singleRecordLinkExtractor =
-        new PropagatorBasedSpanLinksExtractor<>(propagator, KafkaConsumerRecordGetter.INSTANCE);
+  KafkaBatchProcessSpanLinksExtractor(TextMapPropagator propagator, int maxLinks) {
+    this.propagator = propagator;
+    this.fields = propagator.fields().toArray(new String[0]);
+    this.maxLinks = maxLinks;
   }
 
   @Override
   public void extract(
       SpanLinksBuilder spanLinks, Context parentContext, KafkaReceiveRequest request) {
 
+    // records that carry the same propagation headers are linked once, and the headers of each
+    // distinct context are decoded only once per batch
+    Set<KafkaPropagationHeaders> seen = new HashSet<>();
+    int links = 0;
     for (ConsumerRecord<?, ?> record : request.getRecords()) {
+      if (links >= maxLinks) {
+        return;
+      }
+      KafkaPropagationHeaders headers = KafkaPropagationHeaders.read(record, fields);
+      if (headers == null || !seen.add(headers)) {
+        continue;
+      }
       // explicitly passing root to avoid situation where context propagation is turned off and the
       // parent (CONSUMER receive) span is linked
-      singleRecordLinkExtractor.extract(
-          spanLinks,
-          Context.root(),
-          KafkaProcessRequest.create(record, request.getConsumerGroup(), request.getClientId()));
+      Context context =
+          propagator.extract(Context.root(), headers, KafkaPropagationHeaders.Getter.INSTANCE);
+      SpanContext spanContext = Span.fromContext(context).getSpanContext();
+      if (spanContext.isValid()) {
+        spanLinks.addLink(spanContext);
+        links++;
+      }
     }
   }
 }
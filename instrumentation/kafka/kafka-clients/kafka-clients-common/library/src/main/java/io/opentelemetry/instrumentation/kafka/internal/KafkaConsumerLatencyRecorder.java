@@ -0,0 +1,50 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.kafka.internal;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * Records the time between the timestamp of every received record and the moment it was received
+ * by the consumer.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class KafkaConsumerLatencyRecorder {
+
+  private final DoubleHistogram latency;
+
+  KafkaConsumerLatencyRecorder(Meter meter) {
+    latency =
+        meter
+            .histogramBuilder("messaging.kafka.consumer.record.latency")
+            .setUnit("ms")
+            .setDescription("The time from the record timestamp until the record was received")
+            .build();
+  }
+
+  public void record(ConsumerRecords<?, ?> records) {
+    long now = System.currentTimeMillis();
+    for (TopicPartition partition : records.partitions()) {
+      // all records of a partition share the same attributes
+      Attributes attributes =
+          Attributes.of(SemanticAttributes.MESSAGING_DESTINATION_NAME, partition.topic());
+      for (ConsumerRecord<?, ?> record : records.records(partition)) {
+        // records without a timestamp have a negative one
+        if (record.timestamp() >= 0) {
+          latency.record(Math.max(0, now - record.timestamp()), attributes);
+        }
+      }
+    }
+  }
+}
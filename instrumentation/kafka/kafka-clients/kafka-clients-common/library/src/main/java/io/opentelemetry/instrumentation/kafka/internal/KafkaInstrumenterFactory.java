@@ -14,6 +14,7 @@ import io.opentelemetry.instrumentation.api.instrumenter.ErrorCauseExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.api.instrumenter.InstrumenterBuilder;
 import io.opentelemetry.instrumentation.api.instrumenter.SpanKindExtractor;
+import io.opentelemetry.instrumentation.api.instrumenter.SpanLinksExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.messaging.MessageOperation;
 import io.opentelemetry.instrumentation.api.instrumenter.messaging.MessagingAttributesExtractor;
 import io.opentelemetry.instrumentation.api.instrumenter.messaging.MessagingAttributesGetter;
@@ -29,12 +30,15 @@ import org.apache.kafka.clients.producer.RecordMetadata;
  */
 public final class KafkaInstrumenterFactory {
 
+  public static final int DEFAULT_MAX_BATCH_SPAN_LINKS = 128;
+
   private final OpenTelemetry openTelemetry;
   private final String instrumentationName;
   private ErrorCauseExtractor errorCauseExtractor = ErrorCauseExtractor.getDefault();
   private List<String> capturedHeaders = emptyList();
   private boolean captureExperimentalSpanAttributes = false;
   private boolean messagingReceiveInstrumentationEnabled = false;
+  private int maxBatchSpanLinks = Integer.MAX_VALUE;
 
   public KafkaInstrumenterFactory(OpenTelemetry openTelemetry, String instrumentationName) {
     this.openTelemetry = openTelemetry;
@@ -78,6 +82,16 @@ public final class KafkaInstrumenterFactory {
     return this;
   }
 
+  /** Sets the maximum number of record contexts that a batch span is linked to. */
+  @CanIgnoreReturnValue
+  public KafkaInstrumenterFactory setMaxBatchSpanLinks(int maxBatchSpanLinks) {
+    if (maxBatchSpanLinks < 0) {
+      throw new IllegalArgumentException("maxBatchSpanLinks must not be negative");
+    }
+    this.maxBatchSpanLinks = maxBatchSpanLinks;
+    return this;
+  }
+
   public Instrumenter<KafkaProducerRequest, RecordMetadata> createProducerInstrumenter() {
     return createProducerInstrumenter(Collections.emptyList());
   }
@@ -124,6 +138,39 @@ public final class KafkaInstrumenterFactory {
       MessageOperation operation,
       Iterable<AttributesExtractor<KafkaProcessRequest, Void>> extractors) {
 
+    InstrumenterBuilder<KafkaProcessRequest, Void> builder =
+        consumerOperationInstrumenterBuilder(operation, extractors);
+    if (messagingReceiveInstrumentationEnabled) {
+      builder.addSpanLinksExtractor(
+          new PropagatorBasedSpanLinksExtractor<>(
+              openTelemetry.getPropagators().getTextMapPropagator(),
+              KafkaConsumerRecordGetter.INSTANCE));
+      return builder.buildInstrumenter(SpanKindExtractor.alwaysConsumer());
+    } else {
+      return builder.buildConsumerInstrumenter(KafkaConsumerRecordGetter.INSTANCE);
+    }
+  }
+
+  /**
+   * Returns a process instrumenter for callers that already extracted the upstream context of the
+   * record, which is not extracted from the record headers again. The callers pass that context as
+   * the parent context, or, when receive telemetry is enabled, link it with {@code
+   * upstreamLinksExtractor}.
+   */
+  public Instrumenter<KafkaProcessRequest, Void> createConsumerProcessInstrumenter(
+      SpanLinksExtractor<KafkaProcessRequest> upstreamLinksExtractor) {
+    InstrumenterBuilder<KafkaProcessRequest, Void> builder =
+        consumerOperationInstrumenterBuilder(MessageOperation.PROCESS, Collections.emptyList());
+    if (messagingReceiveInstrumentationEnabled) {
+      builder.addSpanLinksExtractor(upstreamLinksExtractor);
+    }
+    return builder.buildInstrumenter(SpanKindExtractor.alwaysConsumer());
+  }
+
+  private InstrumenterBuilder<KafkaProcessRequest, Void> consumerOperationInstrumenterBuilder(
+      MessageOperation operation,
+      Iterable<AttributesExtractor<KafkaProcessRequest, Void>> extractors) {
+
     KafkaConsumerAttributesGetter getter = KafkaConsumerAttributesGetter.INSTANCE;
 
     InstrumenterBuilder<KafkaProcessRequest, Void> builder =
@@ -139,21 +186,25 @@ public final class KafkaInstrumenterFactory {
     if (captureExperimentalSpanAttributes) {
       builder.addAttributesExtractor(new KafkaConsumerExperimentalAttributesExtractor());
     }
-
-    if (messagingReceiveInstrumentationEnabled) {
-      builder.addSpanLinksExtractor(
-          new PropagatorBasedSpanLinksExtractor<>(
-              openTelemetry.getPropagators().getTextMapPropagator(),
-              KafkaConsumerRecordGetter.INSTANCE));
-      return builder.buildInstrumenter(SpanKindExtractor.alwaysConsumer());
-    } else {
-      return builder.buildConsumerInstrumenter(KafkaConsumerRecordGetter.INSTANCE);
-    }
+    return builder;
   }
 
   public Instrumenter<KafkaReceiveRequest, Void> createBatchProcessInstrumenter() {
+    return createBatchInstrumenter(MessageOperation.PROCESS);
+  }
+
+  /**
+   * Returns an instrumenter that creates a single receive span for a whole batch of records, linked
+   * to the contexts propagated in the records. Unlike {@link #createConsumerReceiveInstrumenter()}
+   * it does not depend on the receive telemetry setting, since it replaces the per record spans.
+   */
+  public Instrumenter<KafkaReceiveRequest, Void> createConsumerBatchReceiveInstrumenter() {
+    return createBatchInstrumenter(MessageOperation.RECEIVE);
+  }
+
+  private Instrumenter<KafkaReceiveRequest, Void> createBatchInstrumenter(
+      MessageOperation operation) {
     KafkaReceiveAttributesGetter getter = KafkaReceiveAttributesGetter.INSTANCE;
-    MessageOperation operation = MessageOperation.PROCESS;
 
     return Instrumenter.<KafkaReceiveRequest, Void>builder(
             openTelemetry,
@@ -164,11 +215,16 @@ public final class KafkaInstrumenterFactory {
         .addAttributesExtractor(KafkaReceiveAttributesExtractor.INSTANCE)
         .addSpanLinksExtractor(
             new KafkaBatchProcessSpanLinksExtractor(
-                openTelemetry.getPropagators().getTextMapPropagator()))
+                openTelemetry.getPropagators().getTextMapPropagator(), maxBatchSpanLinks))
         .setErrorCauseExtractor(errorCauseExtractor)
         .buildInstrumenter(SpanKindExtractor.alwaysConsumer());
   }
 
+  public KafkaConsumerLatencyRecorder createConsumerLatencyRecorder() {
+    return new KafkaConsumerLatencyRecorder(
+        openTelemetry.getMeterProvider().meterBuilder(instrumentationName).build());
+  }
+
   private static <REQUEST, RESPONSE>
       AttributesExtractor<REQUEST, RESPONSE> buildMessagingAttributesExtractor(
           MessagingAttributesGetter<REQUEST, RESPONSE> getter,
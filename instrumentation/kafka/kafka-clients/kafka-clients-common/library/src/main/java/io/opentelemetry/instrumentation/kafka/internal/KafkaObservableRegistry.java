@@ -0,0 +1,217 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.kafka.internal;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.metrics.ObservableDoubleMeasurement;
+import io.opentelemetry.instrumentation.api.internal.GuardedBy;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+import org.apache.kafka.common.MetricName;
+
+/**
+ * The kafka metrics that are reported through OpenTelemetry instruments.
+ *
+ * <p>Kafka clients register a large number of metrics, and applications may create hundreds of
+ * clients, so registering and removing a metric is done in constant time: metrics are indexed by
+ * their name, and the metrics of an instrument are grouped by their attribute keys. Every
+ * instrument has a single callback that reads the values of all of its metrics, instead of one
+ * callback per metric. Changes to an instrument are synchronized on the instrument; kafka
+ * serializes the changes to a metric of a client.
+ */
+final class KafkaObservableRegistry {
+
+  private static final Logger logger = Logger.getLogger(KafkaObservableRegistry.class.getName());
+
+  private final Map<MetricName, Registration> registrations = new ConcurrentHashMap<>();
+  private final Map<Meter, Map<InstrumentDescriptor, Instrument>> instruments =
+      new ConcurrentHashMap<>();
+
+  /**
+   * Registers a metric, replacing the metric with the same name and the lower dimension versions of
+   * the metric. Returns the registration, which is needed to {@link #unregister(Registration)} it.
+   */
+  Registration register(Meter meter, RegisteredObservable observable) {
+    Registration registration = new Registration(observable);
+    Registration previous = registrations.put(observable.getKafkaMetricName(), registration);
+    if (previous != null) {
+      logger.log(Level.FINEST, "Replacing instrument: {0}", previous.observable);
+      previous.remove();
+    }
+
+    Map<InstrumentDescriptor, Instrument> meterInstruments =
+        instruments.computeIfAbsent(meter, m -> new ConcurrentHashMap<>());
+    while (true) {
+      Instrument instrument =
+          meterInstruments.computeIfAbsent(
+              observable.getInstrumentDescriptor(),
+              descriptor -> new Instrument(meter, descriptor, meterInstruments));
+      // false if the instrument was closed concurrently, retry with a new instrument
+      if (instrument.add(registration)) {
+        return registration;
+      }
+    }
+  }
+
+  /** Removes the metric with the given name. */
+  void unregister(MetricName metricName) {
+    Registration registration = registrations.remove(metricName);
+    if (registration != null) {
+      registration.remove();
+    }
+  }
+
+  /** Removes the metric if it was not replaced by a later registration of the same name. */
+  void unregister(Registration registration) {
+    if (registrations.remove(registration.observable.getKafkaMetricName(), registration)) {
+      registration.remove();
+    }
+  }
+
+  void clear() {
+    for (Iterator<Registration> it = registrations.values().iterator(); it.hasNext(); ) {
+      Registration registration = it.next();
+      it.remove();
+      registration.remove();
+    }
+  }
+
+  List<RegisteredObservable> getRegisteredObservables() {
+    List<RegisteredObservable> result = new ArrayList<>(registrations.size());
+    for (Registration registration : registrations.values()) {
+      result.add(registration.observable);
+    }
+    return result;
+  }
+
+  static final class Registration {
+
+    private final RegisteredObservable observable;
+    private final Set<AttributeKey<?>> attributeKeys;
+    @Nullable private volatile Instrument instrument;
+
+    private Registration(RegisteredObservable observable) {
+      this.observable = observable;
+      this.attributeKeys = observable.getAttributes().asMap().keySet();
+    }
+
+    private void remove() {
+      Instrument current = instrument;
+      if (current != null) {
+        current.remove(this);
+      }
+    }
+  }
+
+  private final class Instrument {
+
+    private final Meter meter;
+    private final InstrumentDescriptor descriptor;
+    private final Map<InstrumentDescriptor, Instrument> meterInstruments;
+    // the metrics of this instrument grouped by their attribute keys
+    private final Map<Set<AttributeKey<?>>, Map<MetricName, Registration>> groups =
+        new ConcurrentHashMap<>();
+
+    @GuardedBy("this")
+    @Nullable
+    private AutoCloseable observable;
+
+    @GuardedBy("this")
+    private boolean closed;
+
+    private Instrument(
+        Meter meter,
+        InstrumentDescriptor descriptor,
+        Map<InstrumentDescriptor, Instrument> meterInstruments) {
+      this.meter = meter;
+      this.descriptor = descriptor;
+      this.meterInstruments = meterInstruments;
+    }
+
+    private synchronized boolean add(Registration registration) {
+      if (closed) {
+        return false;
+      }
+      // a metric that has a superset of the attribute keys of other metrics of the same instrument
+      // replaces them, e.g. a per topic metric replaces the per client version of the metric
+      Set<AttributeKey<?>> attributeKeys = registration.attributeKeys;
+      for (Iterator<Map.Entry<Set<AttributeKey<?>>, Map<MetricName, Registration>>> it =
+              groups.entrySet().iterator();
+          it.hasNext(); ) {
+        Map.Entry<Set<AttributeKey<?>>, Map<MetricName, Registration>> group = it.next();
+        Set<AttributeKey<?>> groupKeys = group.getKey();
+        if (attributeKeys.size() > groupKeys.size() && attributeKeys.containsAll(groupKeys)) {
+          for (Registration replaced : group.getValue().values()) {
+            logger.log(
+                Level.FINEST,
+                "Replacing instrument with higher dimension version: {0}",
+                replaced.observable);
+            registrations.remove(replaced.observable.getKafkaMetricName(), replaced);
+            replaced.instrument = null;
+          }
+          it.remove();
+        }
+      }
+
+      groups
+          .computeIfAbsent(attributeKeys, keys -> new ConcurrentHashMap<>())
+          .put(registration.observable.getKafkaMetricName(), registration);
+      registration.instrument = this;
+      if (observable == null) {
+        observable = KafkaMetricRegistry.createObservable(meter, descriptor, this::observe);
+      }
+      return true;
+    }
+
+    private synchronized void remove(Registration registration) {
+      Map<MetricName, Registration> group = groups.get(registration.attributeKeys);
+      if (group == null
+          || !group.remove(registration.observable.getKafkaMetricName(), registration)) {
+        return;
+      }
+      registration.instrument = null;
+      if (group.isEmpty()) {
+        groups.remove(registration.attributeKeys);
+      }
+      if (groups.isEmpty()) {
+        closed = true;
+        meterInstruments.remove(descriptor, this);
+        if (observable != null) {
+          closeInstrument(observable);
+          observable = null;
+        }
+      }
+    }
+
+    private void observe(ObservableDoubleMeasurement measurement) {
+      long now = System.currentTimeMillis();
+      for (Map<MetricName, Registration> group : groups.values()) {
+        for (Registration registration : group.values()) {
+          RegisteredObservable registered = registration.observable;
+          measurement.record(
+              KafkaMetricRegistry.value(registered.getKafkaMetric(), now),
+              registered.getAttributes());
+        }
+      }
+    }
+  }
+
+  private static void closeInstrument(AutoCloseable observable) {
+    try {
+      observable.close();
+    } catch (Exception e) {
+      throw new IllegalStateException("Error occurred closing instrument", e);
+    }
+  }
+}
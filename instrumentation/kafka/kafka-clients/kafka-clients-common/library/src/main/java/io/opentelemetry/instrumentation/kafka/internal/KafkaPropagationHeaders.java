@@ -0,0 +1,108 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.kafka.internal;
+
+import io.opentelemetry.context.propagation.TextMapGetter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import javax.annotation.Nullable;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+/**
+ * The raw values of the propagation headers of a record. Instances are compared by the bytes of the
+ * propagator's fields, which allows finding records that carry the same context without decoding
+ * the headers. Other headers of the record, e.g. baggage entries with prefixed keys, stay readable
+ * through {@link Getter}.
+ */
+final class KafkaPropagationHeaders {
+
+  private final Headers headers;
+  private final String[] fields;
+  private final byte[][] values;
+  private final int hashCode;
+
+  /**
+   * Returns the values of the headers named {@code fields}, or {@code null} if the record has none
+   * of them.
+   */
+  @Nullable
+  static KafkaPropagationHeaders read(ConsumerRecord<?, ?> record, String[] fields) {
+    Headers headers = record.headers();
+    byte[][] values = null;
+    for (int i = 0; i < fields.length; i++) {
+      Header header = headers.lastHeader(fields[i]);
+      if (header == null || header.value() == null) {
+        continue;
+      }
+      if (values == null) {
+        values = new byte[fields.length][];
+      }
+      values[i] = header.value();
+    }
+    return values == null ? null : new KafkaPropagationHeaders(headers, fields, values);
+  }
+
+  private KafkaPropagationHeaders(Headers headers, String[] fields, byte[][] values) {
+    this.headers = headers;
+    this.fields = fields;
+    this.values = values;
+    this.hashCode = Arrays.deepHashCode(values);
+  }
+
+  @Override
+  public boolean equals(@Nullable Object obj) {
+    if (this == obj) {
+      return true;
+    }
+    if (!(obj instanceof KafkaPropagationHeaders)) {
+      return false;
+    }
+    KafkaPropagationHeaders other = (KafkaPropagationHeaders) obj;
+    return hashCode == other.hashCode && Arrays.deepEquals(values, other.values);
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  enum Getter implements TextMapGetter<KafkaPropagationHeaders> {
+    INSTANCE;
+
+    @Override
+    public Iterable<String> keys(KafkaPropagationHeaders carrier) {
+      List<String> keys = new ArrayList<>();
+      for (Header header : carrier.headers) {
+        keys.add(header.key());
+      }
+      return keys;
+    }
+
+    @Nullable
+    @Override
+    public String get(@Nullable KafkaPropagationHeaders carrier, String key) {
+      if (carrier == null) {
+        return null;
+      }
+      for (int i = 0; i < carrier.fields.length; i++) {
+        if (carrier.fields[i].equals(key)) {
+          return decode(carrier.values[i]);
+        }
+      }
+      Header header = carrier.headers.lastHeader(key);
+      return header == null ? null : decode(header.value());
+    }
+
+    @Nullable
+    private static String decode(@Nullable byte[] value) {
+      return value == null ? null : new String(value, StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -6,18 +6,15 @@
 package io.opentelemetry.instrumentation.kafka.internal;
 
 import io.opentelemetry.api.OpenTelemetry;
-import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.metrics.Meter;
 import io.opentelemetry.api.metrics.MeterBuilder;
 import io.opentelemetry.instrumentation.api.internal.EmbeddedInstrumentationProperties;
-import io.opentelemetry.instrumentation.api.internal.GuardedBy;
-import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
+import org.apache.kafka.common.MetricName;
 import org.apache.kafka.common.metrics.KafkaMetric;
 import org.apache.kafka.common.metrics.MetricsReporter;
 
@@ -43,24 +40,23 @@ public final class OpenTelemetryMetricsReporter implements MetricsReporter {
       Logger.getLogger(OpenTelemetryMetricsReporter.class.getName());
   private volatile Meter meter;
 
-  private static final Object lock = new Object();
+  private static final KafkaObservableRegistry registry = new KafkaObservableRegistry();
 
-  @GuardedBy("lock")
-  private static final List<RegisteredObservable> registeredObservables = new ArrayList<>();
+  // the metrics registered by this reporter, removed when the kafka client is closed
+  private final Map<MetricName, KafkaObservableRegistry.Registration> registrations =
+      new ConcurrentHashMap<>();
 
   /**
    * Reset for test by resetting the {@link #meter} to {@code null} and closing all registered
    * instruments.
    */
   static void resetForTest() {
-    closeAllInstruments();
+    registry.clear();
   }
 
   // Visible for test
   static List<RegisteredObservable> getRegisteredObservables() {
-    synchronized (lock) {
-      return new ArrayList<>(registeredObservables);
-    }
+    return registry.getRegisteredObservables();
   }
 
   @Override
@@ -76,76 +72,30 @@ public final class OpenTelemetryMetricsReporter implements MetricsReporter {
       return;
     }
 
-    RegisteredObservable registeredObservable =
-        KafkaMetricRegistry.getRegisteredObservable(currentMeter, metric);
+    RegisteredObservable registeredObservable = KafkaMetricRegistry.getRegisteredObservable(metric);
     if (registeredObservable == null) {
       logger.log(
           Level.FINEST, "Metric changed but cannot map to instrument: {0}", metric.metricName());
       return;
     }
 
-    Set<AttributeKey<?>> attributeKeys = registeredObservable.getAttributes().asMap().keySet();
-    synchronized (lock) {
-      for (Iterator<RegisteredObservable> it = registeredObservables.iterator(); it.hasNext(); ) {
-        RegisteredObservable curRegisteredObservable = it.next();
-        Set<AttributeKey<?>> curAttributeKeys =
-            curRegisteredObservable.getAttributes().asMap().keySet();
-        if (curRegisteredObservable.getKafkaMetricName().equals(metric.metricName())) {
-          logger.log(Level.FINEST, "Replacing instrument: {0}", curRegisteredObservable);
-          closeInstrument(curRegisteredObservable.getObservable());
-          it.remove();
-        } else if (curRegisteredObservable
-                .getInstrumentDescriptor()
-                .equals(registeredObservable.getInstrumentDescriptor())
-            && attributeKeys.size() > curAttributeKeys.size()
-            && attributeKeys.containsAll(curAttributeKeys)) {
-          logger.log(
-              Level.FINEST,
-              "Replacing instrument with higher dimension version: {0}",
-              curRegisteredObservable);
-          closeInstrument(curRegisteredObservable.getObservable());
-          it.remove();
-        }
-      }
-
-      registeredObservables.add(registeredObservable);
-    }
+    registrations.put(metric.metricName(), registry.register(currentMeter, registeredObservable));
   }
 
   @Override
   public void metricRemoval(KafkaMetric metric) {
     logger.log(Level.FINEST, "Metric removed: {0}", metric.metricName());
-    synchronized (lock) {
-      for (Iterator<RegisteredObservable> it = registeredObservables.iterator(); it.hasNext(); ) {
-        RegisteredObservable current = it.next();
-        if (current.getKafkaMetricName().equals(metric.metricName())) {
-          closeInstrument(current.getObservable());
-          it.remove();
-        }
-      }
-    }
+    registrations.remove(metric.metricName());
+    registry.unregister(metric.metricName());
   }
 
   @Override
   public void close() {
-    closeAllInstruments();
-  }
-
-  private static void closeAllInstruments() {
-    synchronized (lock) {
-      for (Iterator<RegisteredObservable> it = registeredObservables.iterator(); it.hasNext(); ) {
-        closeInstrument(it.next().getObservable());
-        it.remove();
-      }
-    }
-  }
-
-  private static void closeInstrument(AutoCloseable observable) {
-    try {
-      observable.close();
-    } catch (Exception e) {
-      throw new IllegalStateException("Error occurred closing instrument", e);
+    // only remove the metrics of this client, other clients may still be running
+    for (KafkaObservableRegistry.Registration registration : registrations.values()) {
+      registry.unregister(registration);
     }
+    registrations.clear();
   }
 
   @Override
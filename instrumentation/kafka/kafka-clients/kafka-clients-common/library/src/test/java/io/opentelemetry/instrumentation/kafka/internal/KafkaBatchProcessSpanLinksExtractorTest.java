@@ -0,0 +1,105 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.kafka.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.SpanLinksBuilder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.annotation.Nullable;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.Test;
+
+class KafkaBatchProcessSpanLinksExtractorTest {
+
+  private static final String TRACE_ID = "0af7651916cd43dd8448eb211c80319c";
+  private static final String FIRST_PARENT = "00-" + TRACE_ID + "-b7ad6b7169203331-01";
+  private static final String SECOND_PARENT = "00-" + TRACE_ID + "-00f067aa0ba902b7-01";
+
+  @Test
+  void shouldLinkDistinctContextsOnce() {
+    KafkaReceiveRequest request =
+        request(
+            record(0, FIRST_PARENT),
+            record(1, null),
+            record(2, FIRST_PARENT),
+            record(3, SECOND_PARENT));
+
+    List<SpanContext> links = extractLinks(Integer.MAX_VALUE, request);
+
+    assertThat(links)
+        .extracting(SpanContext::getSpanId)
+        .containsExactly("b7ad6b7169203331", "00f067aa0ba902b7");
+  }
+
+  @Test
+  void shouldLimitNumberOfLinks() {
+    KafkaReceiveRequest request = request(record(0, FIRST_PARENT), record(1, SECOND_PARENT));
+
+    List<SpanContext> links = extractLinks(1, request);
+
+    assertThat(links).extracting(SpanContext::getSpanId).containsExactly("b7ad6b7169203331");
+  }
+
+  private static List<SpanContext> extractLinks(int maxLinks, KafkaReceiveRequest request) {
+    List<SpanContext> links = new ArrayList<>();
+    SpanLinksBuilder spanLinks =
+        new SpanLinksBuilder() {
+          @Override
+          public SpanLinksBuilder addLink(SpanContext spanContext) {
+            links.add(spanContext);
+            return this;
+          }
+
+          @Override
+          public SpanLinksBuilder addLink(SpanContext spanContext, Attributes attributes) {
+            return addLink(spanContext);
+          }
+        };
+    new KafkaBatchProcessSpanLinksExtractor(W3CTraceContextPropagator.getInstance(), maxLinks)
+        .extract(spanLinks, Context.root(), request);
+    return links;
+  }
+
+  @SafeVarargs
+  private static KafkaReceiveRequest request(ConsumerRecord<String, String>... records) {
+    ConsumerRecords<String, String> consumerRecords =
+        new ConsumerRecords<>(
+            Collections.singletonMap(new TopicPartition("topic", 0), Arrays.asList(records)));
+    return KafkaReceiveRequest.create(consumerRecords, "group", "client");
+  }
+
+  private static ConsumerRecord<String, String> record(long offset, @Nullable String traceparent) {
+    RecordHeaders headers = new RecordHeaders();
+    if (traceparent != null) {
+      headers.add("traceparent", traceparent.getBytes(StandardCharsets.UTF_8));
+    }
+    return new ConsumerRecord<>(
+        "topic",
+        0,
+        offset,
+        0,
+        TimestampType.CREATE_TIME,
+        0L,
+        0,
+        0,
+        "key",
+        "value",
+        headers);
+  }
+}
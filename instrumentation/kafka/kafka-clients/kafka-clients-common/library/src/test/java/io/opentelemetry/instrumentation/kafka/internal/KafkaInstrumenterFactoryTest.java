@@ -0,0 +1,147 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.kafka.internal;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import io.opentelemetry.instrumentation.testing.junit.InstrumentationExtension;
+import io.opentelemetry.instrumentation.testing.junit.LibraryInstrumentationExtension;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import javax.annotation.Nullable;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class KafkaInstrumenterFactoryTest {
+
+  private static final String INSTRUMENTATION_NAME = "test";
+  private static final String TRACE_ID = "0af7651916cd43dd8448eb211c80319c";
+  private static final String FIRST_SPAN_ID = "b7ad6b7169203331";
+  private static final String SECOND_SPAN_ID = "00f067aa0ba902b7";
+
+  @RegisterExtension
+  static final InstrumentationExtension testing = LibraryInstrumentationExtension.create();
+
+  @Test
+  void batchReceiveSpanLinksRecordContexts() {
+    Instrumenter<KafkaReceiveRequest, Void> instrumenter =
+        new KafkaInstrumenterFactory(testing.getOpenTelemetry(), INSTRUMENTATION_NAME)
+            .setMaxBatchSpanLinks(1)
+            .createConsumerBatchReceiveInstrumenter();
+    KafkaReceiveRequest request =
+        KafkaReceiveRequest.create(
+            records(record(0, FIRST_SPAN_ID, 0), record(1, SECOND_SPAN_ID, 0)),
+            "group",
+            "client");
+
+    Context context = instrumenter.start(Context.root(), request);
+    instrumenter.end(context, request, null, null);
+
+    testing.waitAndAssertTraces(
+        trace ->
+            trace.hasSpansSatisfyingExactly(
+                span ->
+                    span.hasName("topic receive")
+                        .hasKind(SpanKind.CONSUMER)
+                        .hasNoParent()
+                        .hasLinks(LinkData.create(remoteContext(FIRST_SPAN_ID)))
+                        .hasAttributesSatisfying(
+                            equalTo(SemanticAttributes.MESSAGING_OPERATION, "receive"))));
+  }
+
+  @Test
+  void rejectsNegativeMaxBatchSpanLinks() {
+    KafkaInstrumenterFactory factory =
+        new KafkaInstrumenterFactory(testing.getOpenTelemetry(), INSTRUMENTATION_NAME);
+
+    assertThatThrownBy(() -> factory.setMaxBatchSpanLinks(-1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void recordsConsumerLatency() {
+    KafkaConsumerLatencyRecorder recorder =
+        new KafkaInstrumenterFactory(testing.getOpenTelemetry(), INSTRUMENTATION_NAME)
+            .createConsumerLatencyRecorder();
+
+    // the record without a timestamp is not recorded
+    recorder.record(
+        records(record(0, null, System.currentTimeMillis() - 1000), record(1, null, -1)));
+
+    testing.waitAndAssertMetrics(
+        INSTRUMENTATION_NAME,
+        "messaging.kafka.consumer.record.latency",
+        metrics ->
+            metrics.anySatisfy(
+                metric ->
+                    assertThat(metric)
+                        .hasUnit("ms")
+                        .hasHistogramSatisfying(
+                            histogram ->
+                                histogram.hasPointsSatisfying(
+                                    point ->
+                                        point
+                                            .hasCount(1)
+                                            .satisfies(
+                                                data ->
+                                                    assertThat(data.getSum())
+                                                        .isGreaterThanOrEqualTo(1000))
+                                            .hasAttributesSatisfyingExactly(
+                                                equalTo(
+                                                    SemanticAttributes.MESSAGING_DESTINATION_NAME,
+                                                    "topic"))))));
+  }
+
+  private static SpanContext remoteContext(String spanId) {
+    return SpanContext.createFromRemoteParent(
+        TRACE_ID, spanId, TraceFlags.getSampled(), TraceState.getDefault());
+  }
+
+  @SafeVarargs
+  private static ConsumerRecords<String, String> records(
+      ConsumerRecord<String, String>... records) {
+    return new ConsumerRecords<>(
+        Collections.singletonMap(new TopicPartition("topic", 0), Arrays.asList(records)));
+  }
+
+  private static ConsumerRecord<String, String> record(
+      long offset, @Nullable String parentSpanId, long timestamp) {
+    RecordHeaders headers = new RecordHeaders();
+    if (parentSpanId != null) {
+      headers.add(
+          "traceparent",
+          ("00-" + TRACE_ID + "-" + parentSpanId + "-01").getBytes(StandardCharsets.UTF_8));
+    }
+    return new ConsumerRecord<>(
+        "topic",
+        0,
+        offset,
+        timestamp,
+        TimestampType.CREATE_TIME,
+        0L,
+        0,
+        0,
+        "key",
+        "value",
+        headers);
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.kafka.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.Test;
+
+class KafkaPropagationHeadersTest {
+
+  private static final String[] FIELDS = {"traceparent", "tracestate"};
+  private static final String TRACEPARENT =
+      "00-0af7651916cd43dd8448eb211c80319c-b7ad6b7169203331-01";
+
+  @Test
+  void exposesAllRecordHeaders() {
+    RecordHeaders headers = new RecordHeaders();
+    headers.add("traceparent", TRACEPARENT.getBytes(StandardCharsets.UTF_8));
+    headers.add("baggage", "key=value".getBytes(StandardCharsets.UTF_8));
+    headers.add("uberctx-key", "value".getBytes(StandardCharsets.UTF_8));
+
+    KafkaPropagationHeaders carrier = KafkaPropagationHeaders.read(record(headers), FIELDS);
+
+    assertThat(carrier).isNotNull();
+    KafkaPropagationHeaders.Getter getter = KafkaPropagationHeaders.Getter.INSTANCE;
+    assertThat(getter.keys(carrier)).containsExactly("traceparent", "baggage", "uberctx-key");
+    assertThat(getter.get(carrier, "traceparent")).isEqualTo(TRACEPARENT);
+    assertThat(getter.get(carrier, "baggage")).isEqualTo("key=value");
+    assertThat(getter.get(carrier, "uberctx-key")).isEqualTo("value");
+    assertThat(getter.get(carrier, "tracestate")).isNull();
+  }
+
+  @Test
+  void comparesOnlyPropagatorFields() {
+    RecordHeaders first = new RecordHeaders();
+    first.add("traceparent", TRACEPARENT.getBytes(StandardCharsets.UTF_8));
+    first.add("other", "1".getBytes(StandardCharsets.UTF_8));
+    RecordHeaders second = new RecordHeaders();
+    second.add("traceparent", TRACEPARENT.getBytes(StandardCharsets.UTF_8));
+    second.add("other", "2".getBytes(StandardCharsets.UTF_8));
+
+    assertThat(KafkaPropagationHeaders.read(record(first), FIELDS))
+        .isEqualTo(KafkaPropagationHeaders.read(record(second), FIELDS));
+  }
+
+  @Test
+  void returnsNullWithoutPropagationHeaders() {
+    RecordHeaders headers = new RecordHeaders();
+    headers.add("other", "1".getBytes(StandardCharsets.UTF_8));
+
+    assertThat(KafkaPropagationHeaders.read(record(headers), FIELDS)).isNull();
+  }
+
+  private static ConsumerRecord<String, String> record(RecordHeaders headers) {
+    return new ConsumerRecord<>(
+        "topic", 0, 0, 0, TimestampType.CREATE_TIME, 0L, 0, 0, "key", "value", headers);
+  }
+}
@@ -16,19 +16,61 @@ public final class KafkaStreamsSingletons {
 
   private static final String INSTRUMENTATION_NAME = "io.opentelemetry.kafka-streams-0.11";
 
+  private static final boolean AGGREGATED_TELEMETRY_ENABLED =
+      InstrumentationConfig.get()
+          .getBoolean(
+              "otel.instrumentation.kafka.experimental.streams-aggregated-telemetry.enabled",
+              false);
+
   private static final Instrumenter<KafkaProcessRequest, Void> INSTRUMENTER =
-      new KafkaInstrumenterFactory(GlobalOpenTelemetry.get(), INSTRUMENTATION_NAME)
-          .setCapturedHeaders(ExperimentalConfig.get().getMessagingHeaders())
-          .setCaptureExperimentalSpanAttributes(
-              InstrumentationConfig.get()
-                  .getBoolean("otel.instrumentation.kafka.experimental-span-attributes", false))
-          .setMessagingReceiveInstrumentationEnabled(
-              ExperimentalConfig.get().messagingReceiveInstrumentationEnabled())
-          .createConsumerProcessInstrumenter();
+      instrumenterFactory().createConsumerProcessInstrumenter();
+
+  private static KafkaInstrumenterFactory instrumenterFactory() {
+    return new KafkaInstrumenterFactory(GlobalOpenTelemetry.get(), INSTRUMENTATION_NAME)
+        .setCapturedHeaders(ExperimentalConfig.get().getMessagingHeaders())
+        .setCaptureExperimentalSpanAttributes(
+            InstrumentationConfig.get()
+                .getBoolean("otel.instrumentation.kafka.experimental-span-attributes", false))
+        .setMessagingReceiveInstrumentationEnabled(
+            ExperimentalConfig.get().messagingReceiveInstrumentationEnabled());
+  }
 
   public static Instrumenter<KafkaProcessRequest, Void> instrumenter() {
     return INSTRUMENTER;
   }
 
+  /**
+   * Returns whether every stream task records its processing metrics, and process spans are only
+   * created for records whose upstream trace is sampled.
+   */
+  public static boolean isAggregatedTelemetryEnabled() {
+    return AGGREGATED_TELEMETRY_ENABLED;
+  }
+
+  /**
+   * Returns the process instrumenter of the aggregated telemetry mode, which takes the upstream
+   * context already extracted by {@link #taskTelemetry()} from the {@link StateHolder}.
+   */
+  public static Instrumenter<KafkaProcessRequest, Void> aggregatedInstrumenter() {
+    return AggregatedTelemetryHolder.INSTRUMENTER;
+  }
+
+  public static KafkaStreamsTaskTelemetry taskTelemetry() {
+    return AggregatedTelemetryHolder.TASK_TELEMETRY;
+  }
+
+  // initialized on first use, so that no instruments are created unless the mode is enabled
+  private static final class AggregatedTelemetryHolder {
+
+    static final Instrumenter<KafkaProcessRequest, Void> INSTRUMENTER =
+        instrumenterFactory()
+            .createConsumerProcessInstrumenter(UpstreamSpanLinksExtractor.INSTANCE);
+
+    static final KafkaStreamsTaskTelemetry TASK_TELEMETRY =
+        new KafkaStreamsTaskTelemetry(GlobalOpenTelemetry.get(), INSTRUMENTATION_NAME);
+
+    private AggregatedTelemetryHolder() {}
+  }
+
   private KafkaStreamsSingletons() {}
 }
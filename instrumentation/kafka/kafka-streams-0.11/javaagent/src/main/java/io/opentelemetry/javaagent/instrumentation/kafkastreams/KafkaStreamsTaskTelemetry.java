@@ -0,0 +1,132 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.kafkastreams;
+
+import static io.opentelemetry.api.common.AttributeKey.stringKey;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.propagation.TextMapGetter;
+import io.opentelemetry.context.propagation.TextMapPropagator;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.Nullable;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.streams.processor.TaskId;
+
+/**
+ * Records the processing duration and the number of records processed by every stream task, and
+ * decides which records get a process span in the aggregated telemetry mode.
+ */
+public final class KafkaStreamsTaskTelemetry {
+
+  private static final AttributeKey<String> TASK_ID = stringKey("kafka.streams.task.id");
+  private static final double NANOS_PER_MS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final TextMapPropagator propagator;
+  private final String[] fields;
+  private final DoubleHistogram duration;
+  private final LongCounter processedRecords;
+
+  KafkaStreamsTaskTelemetry(OpenTelemetry openTelemetry, String instrumentationName) {
+    propagator = openTelemetry.getPropagators().getTextMapPropagator();
+    fields = propagator.fields().toArray(new String[0]);
+    Meter meter = openTelemetry.getMeterProvider().meterBuilder(instrumentationName).build();
+    duration =
+        meter
+            .histogramBuilder("kafka.streams.task.process.duration")
+            .setUnit("ms")
+            .setDescription("The time a stream task took to process a record")
+            .build();
+    processedRecords =
+        meter
+            .counterBuilder("kafka.streams.task.processed.records")
+            .setUnit("{records}")
+            .setDescription("The number of records processed by a stream task")
+            .build();
+  }
+
+  /**
+   * Returns the upstream context extracted from the record onto {@code parentContext} if it belongs
+   * to a sampled trace, or {@code null}. The headers of records that carry none of the propagation
+   * fields are not decoded.
+   */
+  @Nullable
+  public Context extractSampledContext(Context parentContext, ConsumerRecord<?, ?> record) {
+    if (!hasPropagationHeader(record)) {
+      return null;
+    }
+    Context context = propagator.extract(parentContext, record, ConsumerRecordGetter.INSTANCE);
+    return Span.fromContext(context).getSpanContext().isSampled() ? context : null;
+  }
+
+  private boolean hasPropagationHeader(ConsumerRecord<?, ?> record) {
+    for (String field : fields) {
+      if (record.headers().lastHeader(field) != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Records the processing of the record set on the holder. Called while the process span, if
+   * any, is still current, so that it becomes the exemplar of the measurements.
+   */
+  public void record(TaskId taskId, StateHolder holder) {
+    ConsumerRecord<?, ?> record = holder.getRecord();
+    if (record == null) {
+      // the task had no record to process
+      return;
+    }
+    String topic = record.topic();
+    Attributes attributes = holder.getAttributes(taskId, topic);
+    if (attributes == null) {
+      attributes =
+          Attributes.of(
+              TASK_ID, taskId.toString(), SemanticAttributes.MESSAGING_DESTINATION_NAME, topic);
+      holder.setAttributes(taskId, topic, attributes);
+    }
+    duration.record((System.nanoTime() - holder.getStartNanos()) / NANOS_PER_MS, attributes);
+    processedRecords.add(1, attributes);
+  }
+
+  private enum ConsumerRecordGetter implements TextMapGetter<ConsumerRecord<?, ?>> {
+    INSTANCE;
+
+    @Override
+    public Iterable<String> keys(ConsumerRecord<?, ?> carrier) {
+      List<String> keys = new ArrayList<>();
+      for (Header header : carrier.headers()) {
+        keys.add(header.key());
+      }
+      return keys;
+    }
+
+    @Nullable
+    @Override
+    public String get(@Nullable ConsumerRecord<?, ?> carrier, String key) {
+      if (carrier == null) {
+        return null;
+      }
+      Header header = carrier.headers().lastHeader(key);
+      if (header == null || header.value() == null) {
+        return null;
+      }
+      return new String(header.value(), StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -6,7 +6,10 @@
 package io.opentelemetry.javaagent.instrumentation.kafkastreams;
 
 import static io.opentelemetry.javaagent.bootstrap.Java8BytecodeBridge.currentContext;
+import static io.opentelemetry.javaagent.instrumentation.kafkastreams.KafkaStreamsSingletons.aggregatedInstrumenter;
 import static io.opentelemetry.javaagent.instrumentation.kafkastreams.KafkaStreamsSingletons.instrumenter;
+import static io.opentelemetry.javaagent.instrumentation.kafkastreams.KafkaStreamsSingletons.isAggregatedTelemetryEnabled;
+import static io.opentelemetry.javaagent.instrumentation.kafkastreams.KafkaStreamsSingletons.taskTelemetry;
 import static io.opentelemetry.javaagent.instrumentation.kafkastreams.StateHolder.HOLDER;
 import static net.bytebuddy.matcher.ElementMatchers.isMethod;
 import static net.bytebuddy.matcher.ElementMatchers.isPackagePrivate;
@@ -14,6 +17,7 @@ import static net.bytebuddy.matcher.ElementMatchers.named;
 import static net.bytebuddy.matcher.ElementMatchers.returns;
 
 import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
 import io.opentelemetry.instrumentation.kafka.internal.KafkaConsumerContext;
 import io.opentelemetry.instrumentation.kafka.internal.KafkaConsumerContextUtil;
 import io.opentelemetry.instrumentation.kafka.internal.KafkaProcessRequest;
@@ -52,22 +56,39 @@ public class PartitionGroupInstrumentation implements TypeInstrumentation {
       }
 
       StateHolder holder = HOLDER.get();
-      if (holder == null) {
+      if (holder == null || !holder.isProcessing()) {
         // somehow nextRecord() was called outside of process()
         return;
       }
 
+      Instrumenter<KafkaProcessRequest, Void> instrumenter = instrumenter();
+      Context upstreamContext = null;
+      if (isAggregatedTelemetryEnabled()) {
+        holder.setRecord(record.value);
+        // skip all context work for records that are not part of a sampled trace
+        upstreamContext = taskTelemetry().extractSampledContext(currentContext(), record.value);
+        if (upstreamContext == null) {
+          return;
+        }
+        // the aggregated instrumenter does not extract the upstream context a second time
+        holder.setUpstreamContext(upstreamContext);
+        instrumenter = aggregatedInstrumenter();
+      }
+
       KafkaConsumerContext consumerContext = KafkaConsumerContextUtil.get(record.value);
       Context receiveContext = consumerContext.getContext();
 
       // use the receive CONSUMER span as parent if it's available
-      Context parentContext = receiveContext != null ? receiveContext : currentContext();
+      Context parentContext = receiveContext;
+      if (parentContext == null) {
+        parentContext = upstreamContext != null ? upstreamContext : currentContext();
+      }
       KafkaProcessRequest request = KafkaProcessRequest.create(consumerContext, record.value);
 
-      if (!instrumenter().shouldStart(parentContext, request)) {
+      if (!instrumenter.shouldStart(parentContext, request)) {
         return;
       }
-      Context context = instrumenter().start(parentContext, request);
+      Context context = instrumenter.start(parentContext, request);
       holder.set(request, context, context.makeCurrent());
     }
   }
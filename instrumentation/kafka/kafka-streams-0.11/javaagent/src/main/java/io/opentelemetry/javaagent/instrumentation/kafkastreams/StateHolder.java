@@ -5,9 +5,12 @@
 
 package io.opentelemetry.javaagent.instrumentation.kafkastreams;
 
+import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.Scope;
 import io.opentelemetry.instrumentation.kafka.internal.KafkaProcessRequest;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.streams.processor.TaskId;
 
 public final class StateHolder {
   public static final ThreadLocal<StateHolder> HOLDER = new ThreadLocal<>();
@@ -16,6 +19,50 @@ public final class StateHolder {
   private Context context;
   private Scope scope;
 
+  // used by the aggregated telemetry mode, where a stream thread reuses its holder for every record
+  private boolean processing = true;
+  private long startNanos;
+  private ConsumerRecord<?, ?> record;
+  private Context upstreamContext;
+  private TaskId attributesTaskId;
+  private String attributesTopic;
+  private Attributes attributes;
+
+  /**
+   * Returns the holder of the current thread, creating it on first use, after clearing the state of
+   * the previously processed record.
+   */
+  public static StateHolder reuse() {
+    StateHolder holder = HOLDER.get();
+    if (holder == null) {
+      holder = new StateHolder();
+      HOLDER.set(holder);
+    } else {
+      // in case the previous process() call did not reach its exit advice
+      holder.release();
+    }
+    holder.processing = true;
+    holder.startNanos = System.nanoTime();
+    return holder;
+  }
+
+  /**
+   * Marks the end of {@code StreamTask.process()} for a holder that stays attached to a thread, and
+   * drops the references to the processed record so that they are not retained until the next one.
+   */
+  public void release() {
+    processing = false;
+    request = null;
+    context = null;
+    scope = null;
+    record = null;
+    upstreamContext = null;
+  }
+
+  public boolean isProcessing() {
+    return processing;
+  }
+
   public void closeScope() {
     scope.close();
   }
@@ -33,4 +80,38 @@ public final class StateHolder {
     this.context = context;
     this.scope = scope;
   }
+
+  long getStartNanos() {
+    return startNanos;
+  }
+
+  ConsumerRecord<?, ?> getRecord() {
+    return record;
+  }
+
+  public void setRecord(ConsumerRecord<?, ?> record) {
+    this.record = record;
+  }
+
+  Context getUpstreamContext() {
+    return upstreamContext;
+  }
+
+  public void setUpstreamContext(Context upstreamContext) {
+    this.upstreamContext = upstreamContext;
+  }
+
+  /**
+   * Returns the metric attributes last used for the given task and topic, or {@code null}. A stream
+   * thread processes runs of records of the same task and partition, so a single entry is enough.
+   */
+  Attributes getAttributes(TaskId taskId, String topic) {
+    return taskId.equals(attributesTaskId) && topic.equals(attributesTopic) ? attributes : null;
+  }
+
+  void setAttributes(TaskId taskId, String topic, Attributes attributes) {
+    this.attributesTaskId = taskId;
+    this.attributesTopic = topic;
+    this.attributes = attributes;
+  }
 }
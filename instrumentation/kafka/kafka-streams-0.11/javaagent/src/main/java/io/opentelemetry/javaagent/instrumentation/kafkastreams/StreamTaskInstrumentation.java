@@ -5,17 +5,23 @@
 
 package io.opentelemetry.javaagent.instrumentation.kafkastreams;
 
+import static io.opentelemetry.javaagent.instrumentation.kafkastreams.KafkaStreamsSingletons.aggregatedInstrumenter;
 import static io.opentelemetry.javaagent.instrumentation.kafkastreams.KafkaStreamsSingletons.instrumenter;
+import static io.opentelemetry.javaagent.instrumentation.kafkastreams.KafkaStreamsSingletons.isAggregatedTelemetryEnabled;
+import static io.opentelemetry.javaagent.instrumentation.kafkastreams.KafkaStreamsSingletons.taskTelemetry;
 import static io.opentelemetry.javaagent.instrumentation.kafkastreams.StateHolder.HOLDER;
 import static net.bytebuddy.matcher.ElementMatchers.isPublic;
 import static net.bytebuddy.matcher.ElementMatchers.named;
 
 import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.Instrumenter;
+import io.opentelemetry.instrumentation.kafka.internal.KafkaProcessRequest;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
 import net.bytebuddy.asm.Advice;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.matcher.ElementMatcher;
+import org.apache.kafka.streams.processor.internals.StreamTask;
 
 public class StreamTaskInstrumentation implements TypeInstrumentation {
 
@@ -38,6 +44,9 @@ public class StreamTaskInstrumentation implements TypeInstrumentation {
 
     @Advice.OnMethodEnter
     public static StateHolder onEnter() {
+      if (isAggregatedTelemetryEnabled()) {
+        return StateHolder.reuse();
+      }
       StateHolder holder = new StateHolder();
       HOLDER.set(holder);
       return holder;
@@ -45,13 +54,26 @@ public class StreamTaskInstrumentation implements TypeInstrumentation {
 
     @Advice.OnMethodExit(onThrowable = Throwable.class, suppress = Throwable.class)
     public static void stopSpan(
-        @Advice.Enter StateHolder holder, @Advice.Thrown Throwable throwable) {
-      HOLDER.remove();
+        @Advice.This StreamTask task,
+        @Advice.Enter StateHolder holder,
+        @Advice.Thrown Throwable throwable) {
+      boolean aggregated = isAggregatedTelemetryEnabled();
+      if (aggregated) {
+        // recorded while the process span is still current
+        taskTelemetry().record(task.id(), holder);
+      } else {
+        HOLDER.remove();
+      }
 
       Context context = holder.getContext();
       if (context != null) {
         holder.closeScope();
-        instrumenter().end(context, holder.getRequest(), null, throwable);
+        Instrumenter<KafkaProcessRequest, Void> instrumenter =
+            aggregated ? aggregatedInstrumenter() : instrumenter();
+        instrumenter.end(context, holder.getRequest(), null, throwable);
+      }
+      if (aggregated) {
+        holder.release();
       }
     }
   }
@@ -0,0 +1,32 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.kafkastreams;
+
+import static io.opentelemetry.javaagent.instrumentation.kafkastreams.StateHolder.HOLDER;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.instrumenter.SpanLinksBuilder;
+import io.opentelemetry.instrumentation.api.instrumenter.SpanLinksExtractor;
+import io.opentelemetry.instrumentation.kafka.internal.KafkaProcessRequest;
+
+/**
+ * Links the process span to the upstream context that the aggregated telemetry mode extracted
+ * before deciding to start the span.
+ */
+enum UpstreamSpanLinksExtractor implements SpanLinksExtractor<KafkaProcessRequest> {
+  INSTANCE;
+
+  @Override
+  public void extract(
+      SpanLinksBuilder spanLinks, Context parentContext, KafkaProcessRequest request) {
+    StateHolder holder = HOLDER.get();
+    Context upstreamContext = holder == null ? null : holder.getUpstreamContext();
+    if (upstreamContext != null) {
+      spanLinks.addLink(Span.fromContext(upstreamContext).getSpanContext());
+    }
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.kafkastreams;
+
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.assertThat;
+import static io.opentelemetry.sdk.testing.assertj.OpenTelemetryAssertions.equalTo;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.testing.junit.AgentInstrumentationExtension;
+import io.opentelemetry.instrumentation.testing.junit.InstrumentationExtension;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import java.nio.charset.StandardCharsets;
+import javax.annotation.Nullable;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.apache.kafka.streams.processor.TaskId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class KafkaStreamsTaskTelemetryTest {
+
+  private static final String INSTRUMENTATION_NAME = "test";
+  private static final String TRACE_ID = "0af7651916cd43dd8448eb211c80319c";
+  private static final String SPAN_ID = "b7ad6b7169203331";
+
+  @RegisterExtension
+  static final InstrumentationExtension testing = AgentInstrumentationExtension.create();
+
+  private final KafkaStreamsTaskTelemetry telemetry =
+      new KafkaStreamsTaskTelemetry(testing.getOpenTelemetry(), INSTRUMENTATION_NAME);
+
+  @AfterEach
+  void removeHolder() {
+    StateHolder.HOLDER.remove();
+  }
+
+  @Test
+  void extractsContextOfSampledRecords() {
+    Context context =
+        telemetry.extractSampledContext(
+            Context.root(), record("00-" + TRACE_ID + "-" + SPAN_ID + "-01"));
+
+    assertThat(context).isNotNull();
+    assertThat(Span.fromContext(context).getSpanContext().getSpanId()).isEqualTo(SPAN_ID);
+  }
+
+  @Test
+  void skipsUnsampledRecords() {
+    assertThat(
+            telemetry.extractSampledContext(
+                Context.root(), record("00-" + TRACE_ID + "-" + SPAN_ID + "-00")))
+        .isNull();
+  }
+
+  @Test
+  void skipsRecordsWithoutPropagationHeaders() {
+    assertThat(telemetry.extractSampledContext(Context.root(), record(null))).isNull();
+  }
+
+  @Test
+  void recordsProcessedRecords() {
+    TaskId taskId = new TaskId(0, 1);
+
+    for (int i = 0; i < 2; i++) {
+      StateHolder holder = StateHolder.reuse();
+      holder.setRecord(record(null));
+      telemetry.record(taskId, holder);
+      holder.release();
+    }
+    // a process() call without a record is not recorded
+    StateHolder holder = StateHolder.reuse();
+    telemetry.record(taskId, holder);
+    holder.release();
+
+    testing.waitAndAssertMetrics(
+        INSTRUMENTATION_NAME,
+        "kafka.streams.task.processed.records",
+        metrics ->
+            metrics.anySatisfy(
+                metric ->
+                    assertThat(metric)
+                        .hasLongSumSatisfying(
+                            sum ->
+                                sum.hasPointsSatisfying(
+                                    point ->
+                                        point
+                                            .hasValue(2)
+                                            .hasAttributesSatisfyingExactly(
+                                                equalTo(
+                                                    AttributeKey.stringKey(
+                                                        "kafka.streams.task.id"),
+                                                    "0_1"),
+                                                equalTo(
+                                                    SemanticAttributes.MESSAGING_DESTINATION_NAME,
+                                                    "topic"))))));
+    testing.waitAndAssertMetrics(
+        INSTRUMENTATION_NAME,
+        "kafka.streams.task.process.duration",
+        metrics ->
+            metrics.anySatisfy(
+                metric ->
+                    assertThat(metric)
+                        .hasUnit("ms")
+                        .hasHistogramSatisfying(
+                            histogram ->
+                                histogram.hasPointsSatisfying(point -> point.hasCount(2)))));
+  }
+
+  private static ConsumerRecord<String, String> record(@Nullable String traceparent) {
+    RecordHeaders headers = new RecordHeaders();
+    if (traceparent != null) {
+      headers.add("traceparent", traceparent.getBytes(StandardCharsets.UTF_8));
+    }
+    return new ConsumerRecord<>(
+        "topic", 0, 0, 0, TimestampType.CREATE_TIME, 0L, 0, 0, "key", "value", headers);
+  }
+}
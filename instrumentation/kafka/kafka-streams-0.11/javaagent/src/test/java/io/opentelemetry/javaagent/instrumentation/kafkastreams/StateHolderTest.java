@@ -0,0 +1,72 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.kafkastreams;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.streams.processor.TaskId;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class StateHolderTest {
+
+  @AfterEach
+  void removeHolder() {
+    StateHolder.HOLDER.remove();
+  }
+
+  @Test
+  void reusesHolderOfThread() {
+    StateHolder holder = StateHolder.reuse();
+
+    assertThat(StateHolder.HOLDER.get()).isSameAs(holder);
+    assertThat(holder.isProcessing()).isTrue();
+    holder.release();
+    assertThat(StateHolder.reuse()).isSameAs(holder);
+  }
+
+  @Test
+  void releaseDropsProcessedRecord() {
+    StateHolder holder = StateHolder.reuse();
+    Context context = Context.root();
+    Scope scope = context.makeCurrent();
+    holder.set(null, context, scope);
+    holder.setRecord(new ConsumerRecord<>("topic", 0, 0, "key", "value"));
+    holder.setUpstreamContext(context);
+    scope.close();
+
+    holder.release();
+
+    assertThat(holder.isProcessing()).isFalse();
+    assertThat(holder.getRequest()).isNull();
+    assertThat(holder.getContext()).isNull();
+    assertThat(holder.getRecord()).isNull();
+    assertThat(holder.getUpstreamContext()).isNull();
+  }
+
+  @Test
+  void reuseClearsRecordOfUnreleasedHolder() {
+    StateHolder holder = StateHolder.reuse();
+    holder.setRecord(new ConsumerRecord<>("topic", 0, 0, "key", "value"));
+
+    assertThat(StateHolder.reuse().getRecord()).isNull();
+  }
+
+  @Test
+  void cachesAttributesOfLastTask() {
+    StateHolder holder = StateHolder.reuse();
+    Attributes attributes = Attributes.empty();
+    holder.setAttributes(new TaskId(0, 1), "topic", attributes);
+
+    assertThat(holder.getAttributes(new TaskId(0, 1), "topic")).isSameAs(attributes);
+    assertThat(holder.getAttributes(new TaskId(0, 2), "topic")).isNull();
+    assertThat(holder.getAttributes(new TaskId(0, 1), "other")).isNull();
+  }
+}
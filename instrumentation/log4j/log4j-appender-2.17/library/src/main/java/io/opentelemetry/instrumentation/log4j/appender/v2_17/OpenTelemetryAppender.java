@@ -10,11 +10,15 @@ import static java.util.Collections.emptyList;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.api.logs.LogRecordBuilder;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.internal.AsyncEventProcessor;
+import io.opentelemetry.instrumentation.api.internal.AsyncEventProcessor.OverflowPolicy;
 import io.opentelemetry.instrumentation.log4j.appender.v2_17.internal.ContextDataAccessor;
 import io.opentelemetry.instrumentation.log4j.appender.v2_17.internal.LogEventMapper;
 import java.io.Serializable;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
@@ -46,7 +50,11 @@ public class OpenTelemetryAppender extends AbstractAppender {
   static final String PLUGIN_NAME = "OpenTelemetry";
 
   private final LogEventMapper<ReadOnlyStringMap> mapper;
+  private final boolean async;
+  private final int asyncQueueSize;
+  private final OverflowPolicy asyncOverflowPolicy;
   private OpenTelemetry openTelemetry;
+  @Nullable private volatile AsyncEventProcessor<DeferredEvent> asyncProcessor;
 
   /**
    * Installs the {@code openTelemetry} instance on any {@link OpenTelemetryAppender}s identified in
@@ -82,6 +90,9 @@ public class OpenTelemetryAppender extends AbstractAppender {
     @PluginBuilderAttribute private boolean captureMapMessageAttributes;
     @PluginBuilderAttribute private boolean captureMarkerAttribute;
     @PluginBuilderAttribute private String captureContextDataAttributes;
+    @PluginBuilderAttribute private boolean async;
+    @PluginBuilderAttribute private int asyncQueueSize = 2048;
+    @PluginBuilderAttribute private String asyncOverflowPolicy = "drop";
 
     @Nullable private OpenTelemetry openTelemetry;
 
@@ -121,6 +132,35 @@ public class OpenTelemetryAppender extends AbstractAppender {
       return asBuilder();
     }
 
+    /**
+     * Sets whether log events should be mapped and emitted on a dedicated background thread. When
+     * enabled, the logging thread only captures an immutable copy of the event and its context and
+     * hands them off through a bounded queue.
+     */
+    @CanIgnoreReturnValue
+    public B setAsync(boolean async) {
+      this.async = async;
+      return asBuilder();
+    }
+
+    /** Sets the maximum number of log events queued in async mode. Defaults to 2048. */
+    @CanIgnoreReturnValue
+    public B setAsyncQueueSize(int asyncQueueSize) {
+      this.asyncQueueSize = asyncQueueSize;
+      return asBuilder();
+    }
+
+    /**
+     * Sets what happens to log events appended in async mode while the queue is full: {@code drop}
+     * (the default) discards the event and counts it in {@link #getDroppedLogCount()}, {@code
+     * caller_runs} emits the event synchronously on the logging thread.
+     */
+    @CanIgnoreReturnValue
+    public B setAsyncOverflowPolicy(String asyncOverflowPolicy) {
+      this.asyncOverflowPolicy = asyncOverflowPolicy;
+      return asBuilder();
+    }
+
     /** Configures the {@link OpenTelemetry} used to append logs. */
     @CanIgnoreReturnValue
     public B setOpenTelemetry(OpenTelemetry openTelemetry) {
@@ -144,6 +184,9 @@ public class OpenTelemetryAppender extends AbstractAppender {
           captureMapMessageAttributes,
           captureMarkerAttribute,
           captureContextDataAttributes,
+          async,
+          asyncQueueSize,
+          OverflowPolicy.valueOf(asyncOverflowPolicy.trim().toUpperCase(Locale.ROOT)),
           openTelemetry);
     }
   }
@@ -158,6 +201,9 @@ public class OpenTelemetryAppender extends AbstractAppender {
       boolean captureMapMessageAttributes,
       boolean captureMarkerAttribute,
       String captureContextDataAttributes,
+      boolean async,
+      int asyncQueueSize,
+      OverflowPolicy asyncOverflowPolicy,
       OpenTelemetry openTelemetry) {
 
     super(name, filter, layout, ignoreExceptions, properties);
@@ -168,6 +214,9 @@ public class OpenTelemetryAppender extends AbstractAppender {
             captureMapMessageAttributes,
             captureMarkerAttribute,
             splitAndFilterBlanksAndNulls(captureContextDataAttributes));
+    this.async = async;
+    this.asyncQueueSize = asyncQueueSize;
+    this.asyncOverflowPolicy = asyncOverflowPolicy;
     this.openTelemetry = openTelemetry;
   }
 
@@ -189,8 +238,69 @@ public class OpenTelemetryAppender extends AbstractAppender {
     this.openTelemetry = openTelemetry;
   }
 
+  @Override
+  public void start() {
+    if (async) {
+      asyncProcessor =
+          AsyncEventProcessor.start(
+              "otel-log4j-appender-" + getName(),
+              asyncQueueSize,
+              asyncOverflowPolicy,
+              deferred ->
+                  emit(deferred.event, deferred.context, deferred.threadName, deferred.threadId));
+    }
+    super.start();
+  }
+
+  @Override
+  public boolean stop(long timeout, TimeUnit timeUnit) {
+    setStopping();
+    boolean stopped = super.stop(timeout, timeUnit, false);
+    AsyncEventProcessor<DeferredEvent> processor = asyncProcessor;
+    if (processor != null) {
+      processor.shutdown(timeout, timeUnit);
+      long dropped = processor.getDroppedCount();
+      if (dropped > 0) {
+        LOGGER.warn(
+            "Appender {} dropped {} log events because the async queue was full",
+            getName(),
+            dropped);
+      }
+      asyncProcessor = null;
+    }
+    setStopped();
+    return stopped;
+  }
+
+  /**
+   * Returns the number of log events that were dropped because the async queue was full. Always
+   * zero when async mode is not enabled.
+   */
+  public long getDroppedLogCount() {
+    AsyncEventProcessor<DeferredEvent> processor = asyncProcessor;
+    return processor != null ? processor.getDroppedCount() : 0;
+  }
+
   @Override
   public void append(LogEvent event) {
+    Thread currentThread = Thread.currentThread();
+    AsyncEventProcessor<DeferredEvent> processor = asyncProcessor;
+    if (processor != null) {
+      // the event may be reused by log4j once this method returns, so hand off an immutable copy;
+      // the thread is captured here because the immutable copy may read it lazily on the worker
+      processor.submit(
+          new DeferredEvent(
+              event.toImmutable(),
+              Context.current(),
+              currentThread.getName(),
+              currentThread.getId()));
+      return;
+    }
+
+    emit(event, Context.current(), currentThread.getName(), currentThread.getId());
+  }
+
+  private void emit(LogEvent event, Context context, String threadName, long threadId) {
     String instrumentationName = event.getLoggerName();
     if (instrumentationName == null || instrumentationName.isEmpty()) {
       instrumentationName = "ROOT";
@@ -209,7 +319,10 @@ public class OpenTelemetryAppender extends AbstractAppender {
         event.getLevel(),
         event.getMarker(),
         event.getThrown(),
-        contextData);
+        contextData,
+        context,
+        threadName,
+        threadId);
 
     Instant timestamp = event.getInstant();
     if (timestamp != null) {
@@ -221,6 +334,20 @@ public class OpenTelemetryAppender extends AbstractAppender {
     builder.emit();
   }
 
+  private static final class DeferredEvent {
+    private final LogEvent event;
+    private final Context context;
+    private final String threadName;
+    private final long threadId;
+
+    private DeferredEvent(LogEvent event, Context context, String threadName, long threadId) {
+      this.event = event;
+      this.context = context;
+      this.threadName = threadName;
+      this.threadId = threadId;
+    }
+  }
+
   private enum ContextDataAccessorImpl implements ContextDataAccessor<ReadOnlyStringMap> {
     INSTANCE;
 
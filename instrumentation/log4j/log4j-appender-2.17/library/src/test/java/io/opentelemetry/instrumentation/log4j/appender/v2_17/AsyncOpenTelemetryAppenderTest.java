@@ -0,0 +1,136 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.log4j.appender.v2_17;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.logs.LogRecordProcessor;
+import io.opentelemetry.sdk.logs.SdkLoggerProvider;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.export.SimpleLogRecordProcessor;
+import io.opentelemetry.sdk.testing.exporter.InMemoryLogRecordExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.logging.log4j.Level;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.impl.Log4jLogEvent;
+import org.apache.logging.log4j.message.SimpleMessage;
+import org.junit.jupiter.api.Test;
+
+class AsyncOpenTelemetryAppenderTest {
+
+  @Test
+  void logWithSpan() {
+    InMemoryLogRecordExporter logRecordExporter = InMemoryLogRecordExporter.create();
+    OpenTelemetrySdk openTelemetrySdk =
+        OpenTelemetrySdk.builder()
+            .setLoggerProvider(
+                SdkLoggerProvider.builder()
+                    .addLogRecordProcessor(SimpleLogRecordProcessor.create(logRecordExporter))
+                    .build())
+            .build();
+
+    OpenTelemetryAppender appender =
+        OpenTelemetryAppender.builder()
+            .setName("AsyncOpenTelemetryAppender")
+            .setCaptureExperimentalAttributes(true)
+            .setAsync(true)
+            .setAsyncOverflowPolicy("caller_runs")
+            .setOpenTelemetry(openTelemetrySdk)
+            .build();
+    appender.start();
+
+    Span span = SdkTracerProvider.builder().build().get("tracer").spanBuilder("span").startSpan();
+    try (Scope ignored = span.makeCurrent()) {
+      appender.append(newEvent("log message 1"));
+    } finally {
+      span.end();
+    }
+    appender.append(newEvent("log message 2"));
+    // the processor is released on stop, so the dropped count is only available before
+    assertThat(appender.getDroppedLogCount()).isZero();
+
+    // stopping the appender waits for queued events to be emitted
+    appender.stop(10, TimeUnit.SECONDS);
+
+    List<LogRecordData> logDataList = logRecordExporter.getFinishedLogRecordItems();
+    assertThat(logDataList).hasSize(2);
+    assertThat(logDataList.get(0).getBody().asString()).isEqualTo("log message 1");
+    assertThat(logDataList.get(0).getSpanContext()).isEqualTo(span.getSpanContext());
+    assertThat(logDataList.get(1).getBody().asString()).isEqualTo("log message 2");
+    assertThat(logDataList.get(1).getSpanContext().isValid()).isFalse();
+    // the thread attributes are those of the logging thread, not of the async worker
+    Thread currentThread = Thread.currentThread();
+    assertThat(logDataList.get(0).getAttributes().get(SemanticAttributes.THREAD_NAME))
+        .isEqualTo(currentThread.getName());
+    assertThat(logDataList.get(0).getAttributes().get(SemanticAttributes.THREAD_ID))
+        .isEqualTo(currentThread.getId());
+  }
+
+  @Test
+  void fullQueueDropsEvents() throws InterruptedException {
+    CountDownLatch emitting = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    OpenTelemetrySdk openTelemetrySdk =
+        OpenTelemetrySdk.builder()
+            .setLoggerProvider(
+                SdkLoggerProvider.builder()
+                    .addLogRecordProcessor(blockingProcessor(emitting, release))
+                    .build())
+            .build();
+
+    OpenTelemetryAppender appender =
+        OpenTelemetryAppender.builder()
+            .setName("AsyncOpenTelemetryAppender")
+            .setAsync(true)
+            .setAsyncQueueSize(2)
+            .setAsyncOverflowPolicy("drop")
+            .setOpenTelemetry(openTelemetrySdk)
+            .build();
+    appender.start();
+
+    try {
+      appender.append(newEvent("log message 1"));
+      // the worker is now blocked emitting the first event
+      assertThat(emitting.await(10, TimeUnit.SECONDS)).isTrue();
+      for (int i = 2; i <= 6; i++) {
+        appender.append(newEvent("log message " + i));
+      }
+
+      // two events fit in the queue, the others are dropped
+      assertThat(appender.getDroppedLogCount()).isEqualTo(3);
+    } finally {
+      release.countDown();
+      appender.stop(10, TimeUnit.SECONDS);
+    }
+  }
+
+  private static LogRecordProcessor blockingProcessor(
+      CountDownLatch emitting, CountDownLatch release) {
+    return (context, logRecord) -> {
+      emitting.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    };
+  }
+
+  private static LogEvent newEvent(String message) {
+    return Log4jLogEvent.newBuilder()
+        .setLoggerName("TestLogger")
+        .setLevel(Level.INFO)
+        .setMessage(new SimpleMessage(message))
+        .build();
+  }
+}
@@ -11,10 +11,16 @@ import ch.qos.logback.classic.LoggerContext;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.core.UnsynchronizedAppenderBase;
 import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.internal.AsyncEventProcessor;
+import io.opentelemetry.instrumentation.api.internal.AsyncEventProcessor.OverflowPolicy;
 import io.opentelemetry.instrumentation.logback.appender.v1_0.internal.LoggingEventMapper;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
 import org.slf4j.ILoggerFactory;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
@@ -26,9 +32,14 @@ public class OpenTelemetryAppender extends UnsynchronizedAppenderBase<ILoggingEv
   private boolean captureMarkerAttribute = false;
   private boolean captureKeyValuePairAttributes = false;
   private List<String> captureMdcAttributes = emptyList();
+  private boolean async = false;
+  private int asyncQueueSize = 2048;
+  private OverflowPolicy asyncOverflowPolicy = OverflowPolicy.DROP;
+  private long asyncShutdownTimeoutMillis = 1000;
 
   private OpenTelemetry openTelemetry;
   private LoggingEventMapper mapper;
+  @Nullable private volatile AsyncEventProcessor<DeferredEvent> asyncProcessor;
 
   public OpenTelemetryAppender() {}
 
@@ -66,12 +77,64 @@ public class OpenTelemetryAppender extends UnsynchronizedAppenderBase<ILoggingEv
     if (openTelemetry == null) {
       openTelemetry = OpenTelemetry.noop();
     }
+    if (async) {
+      asyncProcessor =
+          AsyncEventProcessor.start(
+              "otel-logback-appender-" + getName(),
+              asyncQueueSize,
+              asyncOverflowPolicy,
+              this::emitDeferred);
+    }
     super.start();
   }
 
+  @Override
+  public void stop() {
+    super.stop();
+    AsyncEventProcessor<DeferredEvent> processor = asyncProcessor;
+    if (processor != null) {
+      processor.shutdown(asyncShutdownTimeoutMillis, TimeUnit.MILLISECONDS);
+      long dropped = processor.getDroppedCount();
+      if (dropped > 0) {
+        addWarn("Dropped " + dropped + " log events because the async queue was full");
+      }
+      asyncProcessor = null;
+    }
+  }
+
   @Override
   protected void append(ILoggingEvent event) {
-    mapper.emit(openTelemetry.getLogsBridge(), event);
+    AsyncEventProcessor<DeferredEvent> processor = asyncProcessor;
+    if (processor == null) {
+      mapper.emit(openTelemetry.getLogsBridge(), event);
+      return;
+    }
+
+    // capture everything that depends on the calling thread, mapping happens on the async thread
+    event.prepareForDeferredProcessing();
+    if (captureCodeAttributes) {
+      event.getCallerData();
+    }
+    processor.submit(
+        new DeferredEvent(event, Context.current(), Thread.currentThread().getId()));
+  }
+
+  private void emitDeferred(DeferredEvent deferred) {
+    mapper.emit(
+        openTelemetry.getLogsBridge(),
+        deferred.event,
+        deferred.context,
+        deferred.event.getThreadName(),
+        deferred.threadId);
+  }
+
+  /**
+   * Returns the number of log events that were dropped because the async queue was full. Always
+   * zero when async mode is not enabled.
+   */
+  public long getDroppedLogCount() {
+    AsyncEventProcessor<DeferredEvent> processor = asyncProcessor;
+    return processor != null ? processor.getDroppedCount() : 0;
   }
 
   /**
@@ -122,6 +185,46 @@ public class OpenTelemetryAppender extends UnsynchronizedAppenderBase<ILoggingEv
     }
   }
 
+  /**
+   * Sets whether log events should be mapped and emitted on a dedicated background thread. When
+   * enabled, the logging thread only captures the event, its context and thread information and
+   * hands them off through a bounded queue.
+   *
+   * @param async To enable or disable async mode
+   */
+  public void setAsync(boolean async) {
+    this.async = async;
+  }
+
+  /**
+   * Sets the maximum number of log events queued in async mode. Defaults to 2048.
+   *
+   * @param asyncQueueSize The queue size, rounded up to the next power of two
+   */
+  public void setAsyncQueueSize(int asyncQueueSize) {
+    this.asyncQueueSize = asyncQueueSize;
+  }
+
+  /**
+   * Sets what happens to log events appended in async mode while the queue is full: {@code drop}
+   * (the default) discards the event and counts it in {@link #getDroppedLogCount()}, {@code
+   * caller_runs} emits the event synchronously on the logging thread.
+   *
+   * @param asyncOverflowPolicy Either {@code drop} or {@code caller_runs}
+   */
+  public void setAsyncOverflowPolicy(String asyncOverflowPolicy) {
+    this.asyncOverflowPolicy =
+        OverflowPolicy.valueOf(asyncOverflowPolicy.trim().toUpperCase(Locale.ROOT));
+  }
+
+  /**
+   * Sets how long {@link #stop()} waits for queued log events to be emitted in async mode. Defaults
+   * to 1000 milliseconds.
+   */
+  public void setAsyncShutdownTimeoutMillis(long asyncShutdownTimeoutMillis) {
+    this.asyncShutdownTimeoutMillis = asyncShutdownTimeoutMillis;
+  }
+
   /**
    * Configures the {@link OpenTelemetry} used to append logs. This MUST be called for the appender
    * to function. See {@link #install(OpenTelemetry)} for simple installation option.
@@ -130,6 +233,18 @@ public class OpenTelemetryAppender extends UnsynchronizedAppenderBase<ILoggingEv
     this.openTelemetry = openTelemetry;
   }
 
+  private static final class DeferredEvent {
+    private final ILoggingEvent event;
+    private final Context context;
+    private final long threadId;
+
+    private DeferredEvent(ILoggingEvent event, Context context, long threadId) {
+      this.event = event;
+      this.context = context;
+      this.threadId = threadId;
+    }
+  }
+
   // copied from SDK's DefaultConfigProperties
   private static List<String> filterBlanksAndNulls(String[] values) {
     return Arrays.stream(values)
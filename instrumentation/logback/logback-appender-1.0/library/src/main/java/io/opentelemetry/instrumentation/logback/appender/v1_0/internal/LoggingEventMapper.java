@@ -15,11 +15,10 @@ import io.opentelemetry.api.logs.LogRecordBuilder;
 import io.opentelemetry.api.logs.LoggerProvider;
 import io.opentelemetry.api.logs.Severity;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.internal.ExceptionEncoder;
 import io.opentelemetry.instrumentation.api.internal.cache.Cache;
 import io.opentelemetry.javaagent.tooling.muzzle.NoMuzzle;
 import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
-import java.io.PrintWriter;
-import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -63,13 +62,27 @@ public final class LoggingEventMapper {
   }
 
   public void emit(LoggerProvider loggerProvider, ILoggingEvent event) {
+    Thread currentThread = Thread.currentThread();
+    emit(loggerProvider, event, Context.current(), currentThread.getName(), currentThread.getId());
+  }
+
+  /**
+   * Emits the event using the given context and thread information instead of reading them from
+   * the current thread, so that events can be mapped after being handed off to another thread.
+   */
+  public void emit(
+      LoggerProvider loggerProvider,
+      ILoggingEvent event,
+      Context context,
+      String threadName,
+      long threadId) {
     String instrumentationName = event.getLoggerName();
     if (instrumentationName == null || instrumentationName.isEmpty()) {
       instrumentationName = "ROOT";
     }
     LogRecordBuilder builder =
         loggerProvider.loggerBuilder(instrumentationName).build().logRecordBuilder();
-    mapLoggingEvent(builder, event);
+    mapLoggingEvent(builder, event, context, threadName, threadId);
     builder.emit();
   }
 
@@ -83,7 +96,12 @@ public final class LoggingEventMapper {
    *   <li>Mapped diagnostic context - {@link ILoggingEvent#getMDCPropertyMap()}
    * </ul>
    */
-  private void mapLoggingEvent(LogRecordBuilder builder, ILoggingEvent loggingEvent) {
+  private void mapLoggingEvent(
+      LogRecordBuilder builder,
+      ILoggingEvent loggingEvent,
+      Context context,
+      String threadName,
+      long threadId) {
     // message
     String message = loggingEvent.getFormattedMessage();
     if (message != null) {
@@ -118,9 +136,8 @@ public final class LoggingEventMapper {
     captureMdcAttributes(attributes, loggingEvent.getMDCPropertyMap());
 
     if (captureExperimentalAttributes) {
-      Thread currentThread = Thread.currentThread();
-      attributes.put(SemanticAttributes.THREAD_NAME, currentThread.getName());
-      attributes.put(SemanticAttributes.THREAD_ID, currentThread.getId());
+      attributes.put(SemanticAttributes.THREAD_NAME, threadName);
+      attributes.put(SemanticAttributes.THREAD_ID, threadId);
     }
 
     if (captureCodeAttributes) {
@@ -151,7 +168,7 @@ public final class LoggingEventMapper {
     builder.setAllAttributes(attributes.build());
 
     // span context
-    builder.setContext(Context.current());
+    builder.setContext(context);
   }
 
   // visible for testing
@@ -181,9 +198,9 @@ public final class LoggingEventMapper {
     // io.opentelemetry:opentelemetry-api
     attributes.put(SemanticAttributes.EXCEPTION_TYPE, throwable.getClass().getName());
     attributes.put(SemanticAttributes.EXCEPTION_MESSAGE, throwable.getMessage());
-    StringWriter writer = new StringWriter();
-    throwable.printStackTrace(new PrintWriter(writer));
-    attributes.put(SemanticAttributes.EXCEPTION_STACKTRACE, writer.toString());
+    attributes.put(
+        SemanticAttributes.EXCEPTION_STACKTRACE,
+        ExceptionEncoder.get().renderStackTrace(throwable));
   }
 
   private static Severity levelToSeverity(Level level) {
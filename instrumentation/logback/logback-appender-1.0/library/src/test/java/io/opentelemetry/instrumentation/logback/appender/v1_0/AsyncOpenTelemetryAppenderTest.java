@@ -0,0 +1,146 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.logback.appender.v1_0;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.logs.LogRecordProcessor;
+import io.opentelemetry.sdk.logs.SdkLoggerProvider;
+import io.opentelemetry.sdk.logs.data.LogRecordData;
+import io.opentelemetry.sdk.logs.export.SimpleLogRecordProcessor;
+import io.opentelemetry.sdk.testing.exporter.InMemoryLogRecordExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+class AsyncOpenTelemetryAppenderTest {
+
+  private InMemoryLogRecordExporter logRecordExporter;
+  private OpenTelemetryAppender appender;
+  private Logger logger;
+
+  @BeforeEach
+  void setup() {
+    logRecordExporter = InMemoryLogRecordExporter.create();
+    OpenTelemetrySdk openTelemetrySdk =
+        OpenTelemetrySdk.builder()
+            .setLoggerProvider(
+                SdkLoggerProvider.builder()
+                    .addLogRecordProcessor(SimpleLogRecordProcessor.create(logRecordExporter))
+                    .build())
+            .build();
+
+    LoggerContext loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+    appender = new OpenTelemetryAppender();
+    appender.setContext(loggerContext);
+    appender.setName("AsyncOpenTelemetry");
+    appender.setAsync(true);
+    appender.setCaptureExperimentalAttributes(true);
+    appender.setOpenTelemetry(openTelemetrySdk);
+    appender.start();
+
+    logger = loggerContext.getLogger("AsyncTestLogger");
+    logger.setAdditive(false);
+    logger.addAppender(appender);
+  }
+
+  @AfterEach
+  void cleanup() {
+    logger.detachAppender(appender);
+    appender.stop();
+  }
+
+  @Test
+  void logWithSpan() {
+    Span span = SdkTracerProvider.builder().build().get("tracer").spanBuilder("span").startSpan();
+    try (Scope ignored = span.makeCurrent()) {
+      logger.info("log message 1");
+    } finally {
+      span.end();
+    }
+    logger.warn("log message 2", new IllegalStateException("Error!"));
+    // the processor is released on stop, so the dropped count is only available before
+    assertThat(appender.getDroppedLogCount()).isZero();
+
+    // stopping the appender waits for queued events to be emitted
+    appender.stop();
+
+    List<LogRecordData> logDataList = logRecordExporter.getFinishedLogRecordItems();
+    assertThat(logDataList).hasSize(2);
+    assertThat(logDataList.get(0).getBody().asString()).isEqualTo("log message 1");
+    assertThat(logDataList.get(0).getSpanContext()).isEqualTo(span.getSpanContext());
+    assertThat(logDataList.get(0).getAttributes().get(SemanticAttributes.THREAD_NAME))
+        .isEqualTo(Thread.currentThread().getName());
+    assertThat(logDataList.get(0).getAttributes().get(SemanticAttributes.THREAD_ID))
+        .isEqualTo(Thread.currentThread().getId());
+    assertThat(logDataList.get(1).getBody().asString()).isEqualTo("log message 2");
+    assertThat(logDataList.get(1).getAttributes().get(SemanticAttributes.EXCEPTION_TYPE))
+        .isEqualTo(IllegalStateException.class.getName());
+  }
+
+  @Test
+  void fullQueueDropsEvents() throws InterruptedException {
+    CountDownLatch emitting = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    OpenTelemetrySdk openTelemetrySdk =
+        OpenTelemetrySdk.builder()
+            .setLoggerProvider(
+                SdkLoggerProvider.builder()
+                    .addLogRecordProcessor(blockingProcessor(emitting, release))
+                    .build())
+            .build();
+
+    // replace the appender created in setup with one that has a small queue
+    logger.detachAppender(appender);
+    appender.stop();
+    appender = new OpenTelemetryAppender();
+    appender.setContext(logger.getLoggerContext());
+    appender.setName("AsyncOpenTelemetry");
+    appender.setAsync(true);
+    appender.setAsyncQueueSize(2);
+    appender.setAsyncOverflowPolicy("drop");
+    appender.setOpenTelemetry(openTelemetrySdk);
+    appender.start();
+    logger.addAppender(appender);
+
+    try {
+      logger.info("log message 1");
+      // the worker is now blocked emitting the first event
+      assertThat(emitting.await(10, TimeUnit.SECONDS)).isTrue();
+      for (int i = 2; i <= 6; i++) {
+        logger.info("log message " + i);
+      }
+
+      // two events fit in the queue, the others are dropped
+      assertThat(appender.getDroppedLogCount()).isEqualTo(3);
+    } finally {
+      release.countDown();
+    }
+  }
+
+  private static LogRecordProcessor blockingProcessor(
+      CountDownLatch emitting, CountDownLatch release) {
+    return (context, logRecord) -> {
+      emitting.countDown();
+      try {
+        release.await();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    };
+  }
+}
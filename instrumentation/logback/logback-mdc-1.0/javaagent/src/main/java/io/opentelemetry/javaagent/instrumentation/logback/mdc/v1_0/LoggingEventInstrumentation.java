@@ -5,8 +5,6 @@
 
 package io.opentelemetry.javaagent.instrumentation.logback.mdc.v1_0;
 
-import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.SPAN_ID;
-import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_FLAGS;
 import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_ID;
 import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.hasClassesNamed;
 import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.implementsInterface;
@@ -17,16 +15,10 @@ import static net.bytebuddy.matcher.ElementMatchers.namedOneOf;
 import static net.bytebuddy.matcher.ElementMatchers.takesArguments;
 
 import ch.qos.logback.classic.spi.ILoggingEvent;
-import io.opentelemetry.api.baggage.Baggage;
-import io.opentelemetry.api.baggage.BaggageEntry;
-import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.context.Context;
 import io.opentelemetry.instrumentation.api.util.VirtualField;
-import io.opentelemetry.instrumentation.logback.mdc.v1_0.internal.UnionMap;
-import io.opentelemetry.javaagent.bootstrap.Java8BytecodeBridge;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
 import io.opentelemetry.javaagent.extension.instrumentation.TypeTransformer;
-import java.util.HashMap;
 import java.util.Map;
 import net.bytebuddy.asm.Advice;
 import net.bytebuddy.description.type.TypeDescription;
@@ -66,38 +58,26 @@ public class LoggingEventInstrumentation implements TypeInstrumentation {
         return;
       }
 
+      VirtualField<ILoggingEvent, MdcPropertyMapHolder> holderField =
+          VirtualField.find(ILoggingEvent.class, MdcPropertyMapHolder.class);
+      MdcPropertyMapHolder holder = holderField.get(event);
+      if (holder != null) {
+        Map<String, String> cached = holder.get(contextData);
+        if (cached != null) {
+          contextData = cached;
+          return;
+        }
+      }
+
       Context context = VirtualField.find(ILoggingEvent.class, Context.class).get(event);
       if (context == null) {
         return;
       }
 
-      Map<String, String> spanContextData = new HashMap<>();
-
-      SpanContext spanContext = Java8BytecodeBridge.spanFromContext(context).getSpanContext();
-
-      if (spanContext.isValid()) {
-        spanContextData.put(TRACE_ID, spanContext.getTraceId());
-        spanContextData.put(SPAN_ID, spanContext.getSpanId());
-        spanContextData.put(TRACE_FLAGS, spanContext.getTraceFlags().asHex());
-      }
-
-      if (LogbackSingletons.addBaggage()) {
-        Baggage baggage = Java8BytecodeBridge.baggageFromContext(context);
-
-        // using a lambda here does not play nicely with instrumentation bytecode process
-        // (Java 6 related errors are observed) so relying on for loop instead
-        for (Map.Entry<String, BaggageEntry> entry : baggage.asMap().entrySet()) {
-          spanContextData.put(
-              // prefix all baggage values to avoid clashes with existing context
-              "baggage." + entry.getKey(), entry.getValue().getValue());
-        }
-      }
-
-      if (contextData == null) {
-        contextData = spanContextData;
-      } else {
-        contextData = new UnionMap<>(contextData, spanContextData);
-      }
+      // computed once per event, trace context values are only read when accessed
+      holder = MdcPropertyMapHolder.create(contextData, context);
+      holderField.set(event, holder);
+      contextData = holder.getPropertyMap();
     }
   }
 }
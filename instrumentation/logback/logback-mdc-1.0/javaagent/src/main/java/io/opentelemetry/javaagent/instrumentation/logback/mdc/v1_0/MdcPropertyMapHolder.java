@@ -0,0 +1,54 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.instrumentation.logback.mdc.v1_0;
+
+import io.opentelemetry.api.baggage.Baggage;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.log.internal.LoggingContextDataMap;
+import io.opentelemetry.instrumentation.logback.mdc.v1_0.internal.UnionMap;
+import java.util.Map;
+import javax.annotation.Nullable;
+
+/**
+ * Holds the MDC property map computed for a single logging event, so that repeated {@code
+ * getMDCPropertyMap()} calls (one per encoder/layout) don't rebuild it.
+ */
+public final class MdcPropertyMapHolder {
+
+  @Nullable private final Map<String, String> original;
+  private final Map<String, String> propertyMap;
+
+  public static MdcPropertyMapHolder create(
+      @Nullable Map<String, String> original, Context context) {
+    Map<String, String> spanContextData =
+        new LoggingContextDataMap(
+            Span.fromContext(context).getSpanContext(),
+            LogbackSingletons.addBaggage() ? Baggage.fromContext(context) : null);
+    Map<String, String> propertyMap =
+        original == null ? spanContextData : new UnionMap<>(original, spanContextData);
+    return new MdcPropertyMapHolder(original, propertyMap);
+  }
+
+  private MdcPropertyMapHolder(
+      @Nullable Map<String, String> original, Map<String, String> propertyMap) {
+    this.original = original;
+    this.propertyMap = propertyMap;
+  }
+
+  /**
+   * Returns the cached property map if it was computed from the given {@code original} map, null
+   * otherwise.
+   */
+  @Nullable
+  public Map<String, String> get(@Nullable Map<String, String> original) {
+    return this.original == original ? propertyMap : null;
+  }
+
+  public Map<String, String> getPropertyMap() {
+    return propertyMap;
+  }
+}
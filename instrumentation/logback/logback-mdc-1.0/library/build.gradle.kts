@@ -1,5 +1,8 @@
+import net.ltgt.gradle.errorprone.errorprone
+
 plugins {
   id("otel.library-instrumentation")
+  id("otel.jmh-conventions")
 }
 
 testing {
@@ -51,10 +54,19 @@ dependencies {
       strictly("1.6.4")
     }
   }
+
+  // JsonEncoder was added in 1.3.8
+  jmhImplementation("ch.qos.logback:logback-classic")
 }
 
 tasks {
   named("check") {
     dependsOn(testing.suites)
   }
+
+  named<JavaCompile>("jmhCompileGeneratedClasses") {
+    options.errorprone {
+      isEnabled.set(false)
+    }
+  }
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.logback.mdc.v1_0;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.JsonEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import io.opentelemetry.api.baggage.Baggage;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.context.Scope;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the cost of injecting trace context into the MDC of events that are then serialized
+ * with logback's {@link JsonEncoder}. Each event is encoded twice, as it would be with two
+ * appenders configured, so that repeated {@code getMDCPropertyMap()} calls are accounted for.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(org.openjdk.jmh.annotations.Scope.Thread)
+public class OpenTelemetryAppenderBenchmark {
+
+  private static final String FQCN = OpenTelemetryAppenderBenchmark.class.getName();
+
+  private Logger logger;
+  private JsonEncoder encoder;
+  private OpenTelemetryAppender appender;
+  private Scope scope;
+
+  @Setup
+  public void setUp() {
+    LoggerContext loggerContext = new LoggerContext();
+    logger = loggerContext.getLogger("benchmark");
+
+    encoder = new JsonEncoder();
+    encoder.setContext(loggerContext);
+    encoder.start();
+
+    appender = new OpenTelemetryAppender();
+    appender.setContext(loggerContext);
+    appender.setAddBaggage(true);
+    appender.start();
+
+    Span span =
+        Span.wrap(
+            SpanContext.create(
+                "ff01020304050600ff0a0b0c0d0e0f00",
+                "090a0b0c0d0e0f00",
+                TraceFlags.getSampled(),
+                TraceState.getDefault()));
+    Baggage baggage = Baggage.builder().put("tenant", "benchmark").build();
+    scope = Context.root().with(span).with(baggage).makeCurrent();
+  }
+
+  @TearDown
+  public void tearDown() {
+    scope.close();
+    appender.stop();
+    encoder.stop();
+  }
+
+  @Benchmark
+  public void encodeEvent(Blackhole blackhole) {
+    ILoggingEvent event = newEvent();
+    blackhole.consume(encoder.encode(event));
+    blackhole.consume(encoder.encode(event));
+  }
+
+  @Benchmark
+  public void encodeWrappedEvent(Blackhole blackhole) {
+    ILoggingEvent event = appender.wrapEvent(newEvent());
+    blackhole.consume(encoder.encode(event));
+    blackhole.consume(encoder.encode(event));
+  }
+
+  private LoggingEvent newEvent() {
+    return new LoggingEvent(
+        FQCN, logger, Level.INFO, "processed request {}", null, new Object[] {"benchmark"});
+  }
+}
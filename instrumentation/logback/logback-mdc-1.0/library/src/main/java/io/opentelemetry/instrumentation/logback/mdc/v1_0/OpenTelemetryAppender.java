@@ -5,8 +5,6 @@
 
 package io.opentelemetry.instrumentation.logback.mdc.v1_0;
 
-import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.SPAN_ID;
-import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_FLAGS;
 import static io.opentelemetry.instrumentation.api.log.LoggingContextConstants.TRACE_ID;
 
 import ch.qos.logback.classic.spi.ILoggingEvent;
@@ -18,12 +16,11 @@ import ch.qos.logback.core.spi.AppenderAttachable;
 import ch.qos.logback.core.spi.AppenderAttachableImpl;
 import io.opentelemetry.api.baggage.Baggage;
 import io.opentelemetry.api.trace.Span;
-import io.opentelemetry.api.trace.SpanContext;
 import io.opentelemetry.context.Context;
+import io.opentelemetry.instrumentation.api.log.internal.LoggingContextDataMap;
 import io.opentelemetry.instrumentation.logback.mdc.v1_0.internal.UnionMap;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Proxy;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 
@@ -51,25 +48,11 @@ public class OpenTelemetryAppender extends UnsynchronizedAppenderBase<ILoggingEv
       return event;
     }
 
-    Map<String, String> contextData = new HashMap<>();
     Context context = Context.current();
-    Span currentSpan = Span.fromContext(context);
-
-    if (currentSpan.getSpanContext().isValid()) {
-      SpanContext spanContext = currentSpan.getSpanContext();
-      contextData.put(TRACE_ID, spanContext.getTraceId());
-      contextData.put(SPAN_ID, spanContext.getSpanId());
-      contextData.put(TRACE_FLAGS, spanContext.getTraceFlags().asHex());
-    }
-
-    if (addBaggage) {
-      Baggage baggage = Baggage.fromContext(context);
-      baggage.forEach(
-          (key, value) ->
-              contextData.put(
-                  // prefix all baggage values to avoid clashes with existing context
-                  "baggage." + key, value.getValue()));
-    }
+    Map<String, String> contextData =
+        new LoggingContextDataMap(
+            Span.fromContext(context).getSpanContext(),
+            addBaggage ? Baggage.fromContext(context) : null);
 
     if (eventContext == null) {
       eventContext = contextData;
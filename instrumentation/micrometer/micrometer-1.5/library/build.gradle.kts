@@ -1,5 +1,8 @@
+import net.ltgt.gradle.errorprone.errorprone
+
 plugins {
   id("otel.library-instrumentation")
+  id("otel.jmh-conventions")
 }
 
 dependencies {
@@ -8,4 +11,15 @@ dependencies {
   library("io.micrometer:micrometer-core:1.5.0")
 
   testImplementation(project(":instrumentation:micrometer:micrometer-1.5:testing"))
+
+  jmhImplementation("io.micrometer:micrometer-core:1.5.0")
+  jmhImplementation("io.opentelemetry:opentelemetry-sdk-testing")
+}
+
+tasks {
+  named<JavaCompile>("jmhCompileGeneratedClasses") {
+    options.errorprone {
+      isEnabled.set(false)
+    }
+  }
 }
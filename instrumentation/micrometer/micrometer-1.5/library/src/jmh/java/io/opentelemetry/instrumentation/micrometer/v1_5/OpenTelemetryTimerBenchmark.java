@@ -0,0 +1,72 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.micrometer.v1_5;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.metrics.SdkMeterProvider;
+import io.opentelemetry.sdk.testing.exporter.InMemoryMetricReader;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures recording to bridged timers and distribution summaries from many threads, as done by
+ * instrumented web servers and clients under load.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(32)
+@State(Scope.Benchmark)
+public class OpenTelemetryTimerBenchmark {
+
+  private SdkMeterProvider meterProvider;
+  private Timer timer;
+  private DistributionSummary distributionSummary;
+
+  @Setup
+  public void setUp() {
+    meterProvider =
+        SdkMeterProvider.builder().registerMetricReader(InMemoryMetricReader.create()).build();
+    MeterRegistry registry =
+        OpenTelemetryMeterRegistry.create(
+            OpenTelemetrySdk.builder().setMeterProvider(meterProvider).build());
+    timer = Timer.builder("benchmark.timer").tags("method", "GET").register(registry);
+    distributionSummary =
+        DistributionSummary.builder("benchmark.summary").tags("method", "GET").register(registry);
+  }
+
+  @TearDown
+  public void tearDown() {
+    meterProvider.close();
+  }
+
+  @Benchmark
+  public void timerRecord() {
+    timer.record(ThreadLocalRandom.current().nextInt(1_000_000), TimeUnit.NANOSECONDS);
+  }
+
+  @Benchmark
+  public void distributionSummaryRecord() {
+    distributionSummary.record(ThreadLocalRandom.current().nextInt(1_000_000));
+  }
+}
@@ -16,7 +16,6 @@ import io.micrometer.core.instrument.Measurement;
 import io.micrometer.core.instrument.config.NamingConvention;
 import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
 import io.micrometer.core.instrument.distribution.NoopHistogram;
-import io.micrometer.core.instrument.distribution.TimeWindowMax;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.DoubleHistogram;
 import io.opentelemetry.api.metrics.DoubleHistogramBuilder;
@@ -30,7 +29,7 @@ final class OpenTelemetryDistributionSummary extends AbstractDistributionSummary
     implements RemovableMeter {
 
   private final Measurements measurements;
-  private final TimeWindowMax max;
+  private final StripedTimeWindowMax max;
   // TODO: use bound instruments when they're available
   private final DoubleHistogram otelHistogram;
   private final Attributes attributes;
@@ -53,7 +52,7 @@ final class OpenTelemetryDistributionSummary extends AbstractDistributionSummary
     } else {
       measurements = NoopMeasurements.INSTANCE;
     }
-    max = new TimeWindowMax(clock, distributionStatisticConfig);
+    max = new StripedTimeWindowMax(clock, distributionStatisticConfig);
 
     this.attributes = tagsAsAttributes(id, namingConvention);
 
@@ -71,7 +70,7 @@ final class OpenTelemetryDistributionSummary extends AbstractDistributionSummary
             .setDescription(Bridging.description(id))
             .setUnit(baseUnit(id))
             .buildWithCallback(
-                new DoubleMeasurementRecorder<>(max, TimeWindowMax::poll, attributes));
+                new DoubleMeasurementRecorder<>(max, StripedTimeWindowMax::poll, attributes));
   }
 
   boolean isUsingMicrometerHistograms() {
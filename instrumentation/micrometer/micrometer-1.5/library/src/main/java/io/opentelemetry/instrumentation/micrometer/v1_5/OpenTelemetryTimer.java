@@ -15,7 +15,6 @@ import io.micrometer.core.instrument.Measurement;
 import io.micrometer.core.instrument.config.NamingConvention;
 import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
 import io.micrometer.core.instrument.distribution.NoopHistogram;
-import io.micrometer.core.instrument.distribution.TimeWindowMax;
 import io.micrometer.core.instrument.distribution.pause.PauseDetector;
 import io.micrometer.core.instrument.util.TimeUtils;
 import io.opentelemetry.api.common.Attributes;
@@ -31,7 +30,8 @@ import java.util.concurrent.atomic.LongAdder;
 final class OpenTelemetryTimer extends AbstractTimer implements RemovableMeter {
 
   private final Measurements measurements;
-  private final TimeWindowMax max;
+  // maximum of the recorded nanoseconds
+  private final StripedTimeWindowMax max;
   private final TimeUnit baseTimeUnit;
   // TODO: use bound instruments when they're available
   private final DoubleHistogram otelHistogram;
@@ -62,7 +62,7 @@ final class OpenTelemetryTimer extends AbstractTimer implements RemovableMeter {
     } else {
       measurements = NoopMeasurements.INSTANCE;
     }
-    max = new TimeWindowMax(clock, distributionStatisticConfig);
+    max = new StripedTimeWindowMax(clock, distributionStatisticConfig);
 
     this.baseTimeUnit = baseTimeUnit;
     this.attributes = tagsAsAttributes(id, namingConvention);
@@ -81,7 +81,8 @@ final class OpenTelemetryTimer extends AbstractTimer implements RemovableMeter {
             .setDescription(Bridging.description(id))
             .setUnit(TimeUnitHelper.getUnitString(baseTimeUnit))
             .buildWithCallback(
-                new DoubleMeasurementRecorder<>(max, m -> m.poll(baseTimeUnit), attributes));
+                new DoubleMeasurementRecorder<>(
+                    max, m -> TimeUtils.nanosToUnit(m.poll(), baseTimeUnit), attributes));
   }
 
   boolean isUsingMicrometerHistograms() {
@@ -95,7 +96,7 @@ final class OpenTelemetryTimer extends AbstractTimer implements RemovableMeter {
       double time = TimeUtils.nanosToUnit(nanos, baseTimeUnit);
       otelHistogram.record(time, attributes);
       measurements.record(nanos);
-      max.record(nanos, TimeUnit.NANOSECONDS);
+      max.record(nanos);
     }
   }
 
@@ -111,7 +112,7 @@ final class OpenTelemetryTimer extends AbstractTimer implements RemovableMeter {
 
   @Override
   public double max(TimeUnit unit) {
-    return max.poll(unit);
+    return TimeUtils.nanosToUnit(max.poll(), unit);
   }
 
   @Override
@@ -0,0 +1,94 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.micrometer.v1_5;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.distribution.TimeWindowMax;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A time window maximum with the same semantics as {@link TimeWindowMax}, that can be updated by
+ * many threads without contention. {@link TimeWindowMax#record(double)} updates every slot of the
+ * time window on each call; this class instead records values into a few striped rings of slots,
+ * each slot holding the maximum of one rotation interval of the time window. A slot is only written
+ * when a value exceeds its current maximum or when a new rotation interval starts, and the interval
+ * is captured when the value is recorded, so values expire the same way as in {@link
+ * TimeWindowMax} regardless of when the maximum is read.
+ */
+final class StripedTimeWindowMax {
+
+  private static final int STRIPE_COUNT =
+      Integer.highestOneBit(Math.min(Runtime.getRuntime().availableProcessors(), 16) * 2 - 1);
+
+  private final Clock clock;
+  private final long durationBetweenRotationsMillis;
+  private final int bufferLength;
+  private final AtomicReferenceArray<Slot>[] stripes;
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  StripedTimeWindowMax(Clock clock, DistributionStatisticConfig config) {
+    this.clock = clock;
+    this.bufferLength = Math.max(config.getBufferLength(), 1);
+    this.durationBetweenRotationsMillis =
+        Math.max(config.getExpiry().toMillis() / bufferLength, 1);
+    this.stripes = new AtomicReferenceArray[STRIPE_COUNT];
+    for (int i = 0; i < STRIPE_COUNT; i++) {
+      stripes[i] = new AtomicReferenceArray<>(bufferLength);
+    }
+  }
+
+  /** Records a non-negative value. */
+  void record(double value) {
+    long interval = currentInterval();
+    long bits = Double.doubleToRawLongBits(value);
+    AtomicReferenceArray<Slot> stripe =
+        stripes[(int) Thread.currentThread().getId() & (STRIPE_COUNT - 1)];
+    int index = (int) (interval % bufferLength);
+    while (true) {
+      Slot current = stripe.get(index);
+      if (current != null
+          && (current.interval > interval
+              || (current.interval == interval && current.maxBits >= bits))) {
+        return;
+      }
+      if (stripe.compareAndSet(index, current, new Slot(interval, bits))) {
+        return;
+      }
+    }
+  }
+
+  /** Returns the maximum value recorded in the time window. */
+  double poll() {
+    long interval = currentInterval();
+    // non-negative doubles compare the same way as their bits
+    long bits = 0;
+    for (AtomicReferenceArray<Slot> stripe : stripes) {
+      for (int i = 0; i < bufferLength; i++) {
+        Slot slot = stripe.get(i);
+        if (slot != null && interval - slot.interval < bufferLength) {
+          bits = Math.max(bits, slot.maxBits);
+        }
+      }
+    }
+    return Double.longBitsToDouble(bits);
+  }
+
+  private long currentInterval() {
+    return clock.wallTime() / durationBetweenRotationsMillis;
+  }
+
+  private static final class Slot {
+    private final long interval;
+    // bits of the non-negative maximum
+    private final long maxBits;
+
+    private Slot(long interval, long maxBits) {
+      this.interval = interval;
+      this.maxBits = maxBits;
+    }
+  }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.micrometer.v1_5;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.MockClock;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class StripedTimeWindowMaxTest {
+
+  private static final DistributionStatisticConfig config =
+      DistributionStatisticConfig.builder()
+          .expiry(Duration.ofMinutes(1))
+          .bufferLength(2)
+          .build()
+          .merge(DistributionStatisticConfig.DEFAULT);
+
+  @Test
+  void keepsMaxForTimeWindow() {
+    MockClock clock = new MockClock();
+    StripedTimeWindowMax max = new StripedTimeWindowMax(clock, config);
+    assertThat(max.poll()).isEqualTo(0);
+
+    max.record(4.5);
+    max.record(12);
+    max.record(0);
+    assertThat(max.poll()).isEqualTo(12);
+    // the maximum is kept after it has been read
+    assertThat(max.poll()).isEqualTo(12);
+
+    clock.add(Duration.ofSeconds(40));
+    max.record(3);
+    assertThat(max.poll()).isEqualTo(12);
+
+    // all values expire once the whole time window has passed
+    clock.add(Duration.ofMinutes(3));
+    assertThat(max.poll()).isEqualTo(0);
+  }
+
+  @Test
+  void expiresValuesByRecordingTime() {
+    MockClock clock = new MockClock();
+    StripedTimeWindowMax max = new StripedTimeWindowMax(clock, config);
+
+    max.record(12);
+    // first read late in the time window, the value is still there
+    clock.add(Duration.ofSeconds(45));
+    assertThat(max.poll()).isEqualTo(12);
+
+    // first read after the time window of the recorded value has passed
+    StripedTimeWindowMax unread = new StripedTimeWindowMax(clock, config);
+    unread.record(7);
+    clock.add(Duration.ofSeconds(119));
+    assertThat(unread.poll()).isEqualTo(0);
+  }
+
+  @Test
+  void recordsFromManyThreads() throws InterruptedException {
+    StripedTimeWindowMax max = new StripedTimeWindowMax(new MockClock(), config);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    for (int i = 0; i < 8; i++) {
+      int thread = i;
+      executor.execute(
+          () -> {
+            for (int value = 0; value < 10_000; value++) {
+              max.record(value * 8 + thread);
+            }
+          });
+    }
+    executor.shutdown();
+    assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(max.poll()).isEqualTo(9_999 * 8 + 7);
+  }
+}
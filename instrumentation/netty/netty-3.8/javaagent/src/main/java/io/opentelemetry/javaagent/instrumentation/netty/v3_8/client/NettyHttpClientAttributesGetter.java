@@ -10,6 +10,7 @@ import static io.opentelemetry.semconv.trace.attributes.SemanticAttributes.NetTr
 import static io.opentelemetry.semconv.trace.attributes.SemanticAttributes.NetTransportValues.IP_UDP;
 
 import io.opentelemetry.instrumentation.api.instrumenter.http.HttpClientAttributesGetter;
+import io.opentelemetry.instrumentation.api.instrumenter.http.internal.HttpClientUrlComponentsGetter;
 import io.opentelemetry.javaagent.instrumentation.netty.v3_8.HttpRequestAndChannel;
 import io.opentelemetry.javaagent.instrumentation.netty.v3_8.util.ChannelUtil;
 import java.net.InetSocketAddress;
@@ -23,7 +24,8 @@ import org.jboss.netty.handler.codec.http.HttpResponse;
 import org.jboss.netty.handler.codec.http.HttpVersion;
 
 final class NettyHttpClientAttributesGetter
-    implements HttpClientAttributesGetter<HttpRequestAndChannel, HttpResponse> {
+    implements HttpClientAttributesGetter<HttpRequestAndChannel, HttpResponse>,
+        HttpClientUrlComponentsGetter<HttpRequestAndChannel> {
 
   @Override
   @Nullable
@@ -46,6 +48,32 @@ final class NettyHttpClientAttributesGetter
     return values.isEmpty() ? null : values.get(0);
   }
 
+  // the url.full attribute is assembled from these components, getUrlFull() is not called
+
+  @Override
+  public String getUrlScheme(HttpRequestAndChannel requestAndChannel) {
+    return getScheme(requestAndChannel);
+  }
+
+  @Nullable
+  @Override
+  public String getUrlHost(HttpRequestAndChannel requestAndChannel) {
+    // the host header, which may include the port, is only needed when the request target is a path
+    String target = requestAndChannel.request().getUri();
+    return target.startsWith("/") ? getHost(requestAndChannel) : null;
+  }
+
+  @Override
+  public int getUrlPort(HttpRequestAndChannel requestAndChannel) {
+    // part of the host header
+    return -1;
+  }
+
+  @Override
+  public String getUrlTarget(HttpRequestAndChannel requestAndChannel) {
+    return requestAndChannel.request().getUri();
+  }
+
   @Override
   public String getHttpRequestMethod(HttpRequestAndChannel requestAndChannel) {
     return requestAndChannel.request().getMethod().getName();
@@ -13,6 +13,8 @@ import io.netty.channel.socket.DatagramChannel;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpVersion;
 import io.opentelemetry.instrumentation.api.instrumenter.http.HttpClientAttributesGetter;
+import io.opentelemetry.instrumentation.api.instrumenter.http.internal.HttpClientUrlComponentsGetter;
+import io.opentelemetry.instrumentation.api.instrumenter.http.HttpHeaderVisitor;
 import io.opentelemetry.instrumentation.netty.v4.common.HttpRequestAndChannel;
 import io.opentelemetry.instrumentation.netty.v4.common.internal.ChannelUtil;
 import java.net.InetSocketAddress;
@@ -20,10 +22,12 @@ import java.net.SocketAddress;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Nullable;
 
 final class NettyHttpClientAttributesGetter
-    implements HttpClientAttributesGetter<HttpRequestAndChannel, HttpResponse> {
+    implements HttpClientAttributesGetter<HttpRequestAndChannel, HttpResponse>,
+        HttpClientUrlComponentsGetter<HttpRequestAndChannel> {
 
   @Override
   @Nullable
@@ -42,8 +46,33 @@ final class NettyHttpClientAttributesGetter
   }
 
   private String getHost(HttpRequestAndChannel requestAndChannel) {
-    List<String> values = getHttpRequestHeader(requestAndChannel, "host");
-    return values.isEmpty() ? null : values.get(0);
+    return getFirstHttpRequestHeader(requestAndChannel, "host");
+  }
+
+  // the url.full attribute is assembled from these components, getUrlFull() is not called
+
+  @Override
+  public String getUrlScheme(HttpRequestAndChannel requestAndChannel) {
+    return getScheme(requestAndChannel);
+  }
+
+  @Nullable
+  @Override
+  public String getUrlHost(HttpRequestAndChannel requestAndChannel) {
+    // the host header, which may include the port, is only needed when the request target is a path
+    String target = requestAndChannel.request().getUri();
+    return target.startsWith("/") ? getHost(requestAndChannel) : null;
+  }
+
+  @Override
+  public int getUrlPort(HttpRequestAndChannel requestAndChannel) {
+    // part of the host header
+    return -1;
+  }
+
+  @Override
+  public String getUrlTarget(HttpRequestAndChannel requestAndChannel) {
+    return requestAndChannel.request().getUri();
   }
 
   @Override
@@ -56,6 +85,23 @@ final class NettyHttpClientAttributesGetter
     return requestAndChannel.request().headers().getAll(name);
   }
 
+  @Override
+  @Nullable
+  public String getFirstHttpRequestHeader(HttpRequestAndChannel requestAndChannel, String name) {
+    return requestAndChannel.request().headers().get(name);
+  }
+
+  @Override
+  public boolean visitHttpRequestHeaders(
+      HttpRequestAndChannel requestAndChannel, HttpHeaderVisitor visitor) {
+    for (Map.Entry<String, String> header : requestAndChannel.request().headers()) {
+      if (visitor.isInterested(header.getKey())) {
+        visitor.visit(header.getKey(), header.getValue());
+      }
+    }
+    return true;
+  }
+
   @Override
   public Integer getHttpResponseStatusCode(
       HttpRequestAndChannel requestAndChannel, HttpResponse response, @Nullable Throwable error) {
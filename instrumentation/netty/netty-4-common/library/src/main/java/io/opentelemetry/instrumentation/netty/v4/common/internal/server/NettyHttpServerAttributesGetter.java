@@ -11,6 +11,7 @@ import static io.opentelemetry.semconv.trace.attributes.SemanticAttributes.NetTr
 import io.netty.channel.socket.DatagramChannel;
 import io.netty.handler.codec.http.HttpResponse;
 import io.netty.handler.codec.http.HttpVersion;
+import io.opentelemetry.instrumentation.api.instrumenter.http.HttpHeaderVisitor;
 import io.opentelemetry.instrumentation.api.instrumenter.http.HttpServerAttributesGetter;
 import io.opentelemetry.instrumentation.netty.v4.common.HttpRequestAndChannel;
 import io.opentelemetry.instrumentation.netty.v4.common.internal.ChannelUtil;
@@ -18,6 +19,7 @@ import io.opentelemetry.instrumentation.netty.v4.common.internal.HttpSchemeUtil;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
 import java.util.List;
+import java.util.Map;
 import javax.annotation.Nullable;
 
 final class NettyHttpServerAttributesGetter
@@ -33,6 +35,23 @@ final class NettyHttpServerAttributesGetter
     return requestAndChannel.request().headers().getAll(name);
   }
 
+  @Override
+  @Nullable
+  public String getFirstHttpRequestHeader(HttpRequestAndChannel requestAndChannel, String name) {
+    return requestAndChannel.request().headers().get(name);
+  }
+
+  @Override
+  public boolean visitHttpRequestHeaders(
+      HttpRequestAndChannel requestAndChannel, HttpHeaderVisitor visitor) {
+    for (Map.Entry<String, String> header : requestAndChannel.request().headers()) {
+      if (visitor.isInterested(header.getKey())) {
+        visitor.visit(header.getKey(), header.getValue());
+      }
+    }
+    return true;
+  }
+
   @Override
   public Integer getHttpResponseStatusCode(
       HttpRequestAndChannel requestAndChannel, HttpResponse response, @Nullable Throwable error) {
@@ -15,6 +15,7 @@ import application.io.opentelemetry.context.Scope;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
 import java.util.function.Function;
 import java.util.logging.Logger;
 
@@ -41,10 +42,21 @@ public class AgentContextStorage implements ContextStorage, AutoCloseable {
   // MethodHandle for ContextStorage.root() that was added in 1.5
   private static final MethodHandle CONTEXT_STORAGE_ROOT_HANDLE = getContextStorageRootHandle();
 
+  // must be a power of two
+  private static final int WRAPPER_CACHE_SIZE = 256;
+
   // unwrapped application root context
   private final Context applicationRoot;
   // wrapped application root context
   private final Context root;
+  // identity cache from the current agent context to the wrapper returned by current(), so that
+  // repeated calls to Context.current() and re-attaching a context don't allocate new wrappers;
+  // entries are overwritten without synchronization, a lost update only causes a cache miss. The
+  // wrappers are weakly referenced, so that the cache does not keep contexts and the application
+  // values they carry reachable after their scopes are closed
+  @SuppressWarnings("unchecked")
+  private final WeakReference<AgentContextWrapper>[] wrapperCache =
+      new WeakReference[WRAPPER_CACHE_SIZE];
 
   private AgentContextStorage(ContextStorage delegate) {
     applicationRoot = getRootContext(delegate);
@@ -151,11 +163,13 @@ public class AgentContextStorage implements ContextStorage, AutoCloseable {
     io.opentelemetry.context.Context newAgentContext;
     if (toAttach instanceof AgentContextWrapper) {
       AgentContextWrapper wrapper = (AgentContextWrapper) toAttach;
-      if (currentApplicationContext == wrapper.applicationContext
-          && currentAgentContext == wrapper.agentContext) {
+      if ((currentApplicationContext == wrapper.applicationContext
+              && currentAgentContext == wrapper.agentContext)
+          || wrapper.isAttachedAs(currentAgentContext)) {
         return Scope.noop();
       }
       newAgentContext = wrapper.toAgentContext();
+      cacheWrapper(cacheIndex(newAgentContext), wrapper);
     } else {
       newAgentContext = currentAgentContext.with(APPLICATION_CONTEXT, toAttach);
     }
@@ -174,7 +188,29 @@ public class AgentContextStorage implements ContextStorage, AutoCloseable {
         && agentContext == io.opentelemetry.context.Context.root()) {
       return root;
     }
-    return new AgentContextWrapper(agentContext, applicationContext);
+    int index = cacheIndex(agentContext);
+    WeakReference<AgentContextWrapper> cachedReference = wrapperCache[index];
+    AgentContextWrapper cached = cachedReference != null ? cachedReference.get() : null;
+    if (cached != null
+        && ((cached.agentContext == agentContext && cached.applicationContext == applicationContext)
+            || cached.isAttachedAs(agentContext))) {
+      return cached;
+    }
+    AgentContextWrapper wrapper = new AgentContextWrapper(agentContext, applicationContext);
+    wrapperCache[index] = new WeakReference<>(wrapper);
+    return wrapper;
+  }
+
+  private void cacheWrapper(int index, AgentContextWrapper wrapper) {
+    WeakReference<AgentContextWrapper> cachedReference = wrapperCache[index];
+    // re-attaching the wrapper that is already cached doesn't allocate a new reference
+    if (cachedReference == null || cachedReference.get() != wrapper) {
+      wrapperCache[index] = new WeakReference<>(wrapper);
+    }
+  }
+
+  private static int cacheIndex(io.opentelemetry.context.Context agentContext) {
+    return System.identityHashCode(agentContext) & (WRAPPER_CACHE_SIZE - 1);
   }
 
   @Override
@@ -11,12 +11,14 @@ import application.io.opentelemetry.context.ContextKey;
 import io.opentelemetry.javaagent.instrumentation.opentelemetryapi.baggage.BaggageBridging;
 import io.opentelemetry.javaagent.instrumentation.opentelemetryapi.trace.Bridging;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import javax.annotation.Nullable;
 
 final class AgentContextWrapper implements Context {
 
-  static final List<ContextKeyBridge<?, ?>> CONTEXT_KEY_BRIDGES;
+  // scanned on every get() and with() of the application context, so kept as an array that is
+  // searched by the identity of the application context key
+  static final ContextKeyBridge<?, ?>[] CONTEXT_KEY_BRIDGES;
 
   static {
     List<ContextKeyBridge<?, ?>> bridges = new ArrayList<>();
@@ -41,11 +43,14 @@ final class AgentContextWrapper implements Context {
       // reflection error; in practice should never happen, we can ignore it
     }
     bridges.addAll(InstrumentationApiContextBridging.instrumentationApiBridges());
-    CONTEXT_KEY_BRIDGES = Collections.unmodifiableList(bridges);
+    CONTEXT_KEY_BRIDGES = bridges.toArray(new ContextKeyBridge<?, ?>[0]);
   }
 
   final io.opentelemetry.context.Context agentContext;
   final Context applicationContext;
+  // the agent context that carries the application context, computed once per wrapper; racy
+  // initialization is fine because every computed value is equivalent
+  @Nullable private io.opentelemetry.context.Context attachableAgentContext;
 
   AgentContextWrapper(io.opentelemetry.context.Context agentContext) {
     this(agentContext, agentContext.get(AgentContextStorage.APPLICATION_CONTEXT));
@@ -60,10 +65,21 @@ final class AgentContextWrapper implements Context {
   }
 
   io.opentelemetry.context.Context toAgentContext() {
-    if (agentContext.get(AgentContextStorage.APPLICATION_CONTEXT) == applicationContext) {
-      return agentContext;
+    io.opentelemetry.context.Context result = attachableAgentContext;
+    if (result == null) {
+      if (agentContext.get(AgentContextStorage.APPLICATION_CONTEXT) == applicationContext) {
+        result = agentContext;
+      } else {
+        result = agentContext.with(AgentContextStorage.APPLICATION_CONTEXT, applicationContext);
+      }
+      attachableAgentContext = result;
     }
-    return agentContext.with(AgentContextStorage.APPLICATION_CONTEXT, applicationContext);
+    return result;
+  }
+
+  /** Returns whether {@link #toAgentContext()} has already returned the given context. */
+  boolean isAttachedAs(io.opentelemetry.context.Context agentContext) {
+    return attachableAgentContext == agentContext;
   }
 
   public io.opentelemetry.context.Context getAgentContext() {
@@ -72,7 +88,8 @@ final class AgentContextWrapper implements Context {
 
   @Override
   public <V> V get(ContextKey<V> key) {
-    for (ContextKeyBridge<?, ?> bridge : CONTEXT_KEY_BRIDGES) {
+    ContextKeyBridge<?, ?> bridge = findBridge(key);
+    if (bridge != null) {
       V value = bridge.get(this, key);
       if (value != null) {
         return value;
@@ -84,13 +101,21 @@ final class AgentContextWrapper implements Context {
 
   @Override
   public <V> Context with(ContextKey<V> k1, V v1) {
+    ContextKeyBridge<?, ?> bridge = findBridge(k1);
+    if (bridge != null) {
+      return bridge.with(this, k1, v1);
+    }
+    return new AgentContextWrapper(agentContext, applicationContext.with(k1, v1));
+  }
+
+  @Nullable
+  private static ContextKeyBridge<?, ?> findBridge(ContextKey<?> key) {
     for (ContextKeyBridge<?, ?> bridge : CONTEXT_KEY_BRIDGES) {
-      Context context = bridge.with(this, k1, v1);
-      if (context != null) {
-        return context;
+      if (bridge.applicationContextKey == key) {
+        return bridge;
       }
     }
-    return new AgentContextWrapper(agentContext, applicationContext.with(k1, v1));
+    return null;
   }
 
   @Override
@@ -13,7 +13,7 @@ import javax.annotation.Nullable;
 
 final class ContextKeyBridge<APPLICATION, AGENT> {
 
-  private final ContextKey<APPLICATION> applicationContextKey;
+  final ContextKey<APPLICATION> applicationContextKey;
   private final io.opentelemetry.context.ContextKey<AGENT> agentContextKey;
   private final Function<APPLICATION, AGENT> toAgent;
   private final Function<AGENT, APPLICATION> toApplication;
@@ -85,34 +85,30 @@ final class ContextKeyBridge<APPLICATION, AGENT> {
     this.toAgent = toAgent;
   }
 
+  // the requested key of get() and with() is always applicationContextKey, callers look up the
+  // bridge by that key
+
   @Nullable
   <V> V get(AgentContextWrapper contextWrapper, ContextKey<V> requestedKey) {
-    if (requestedKey == applicationContextKey) {
-      AGENT agentValue = contextWrapper.agentContext.get(agentContextKey);
-      if (agentValue == null) {
-        return null;
-      }
-      APPLICATION applicationValue = toApplication.apply(agentValue);
-      @SuppressWarnings("unchecked")
-      V castValue = (V) applicationValue;
-      return castValue;
+    AGENT agentValue = contextWrapper.agentContext.get(agentContextKey);
+    if (agentValue == null) {
+      return null;
     }
-    return null;
+    APPLICATION applicationValue = toApplication.apply(agentValue);
+    @SuppressWarnings("unchecked")
+    V castValue = (V) applicationValue;
+    return castValue;
   }
 
-  @Nullable
   <V> Context with(AgentContextWrapper contextWrapper, ContextKey<V> requestedKey, V value) {
-    if (requestedKey == applicationContextKey) {
-      @SuppressWarnings("unchecked")
-      APPLICATION applicationValue = (APPLICATION) value;
-      AGENT agentValue = toAgent.apply(applicationValue);
-      if (agentValue == null) {
-        return contextWrapper;
-      }
-      return new AgentContextWrapper(
-          contextWrapper.agentContext.with(agentContextKey, agentValue),
-          contextWrapper.applicationContext);
+    @SuppressWarnings("unchecked")
+    APPLICATION applicationValue = (APPLICATION) value;
+    AGENT agentValue = toAgent.apply(applicationValue);
+    if (agentValue == null) {
+      return contextWrapper;
     }
-    return null;
+    return new AgentContextWrapper(
+        contextWrapper.agentContext.with(agentContextKey, agentValue),
+        contextWrapper.applicationContext);
   }
 }
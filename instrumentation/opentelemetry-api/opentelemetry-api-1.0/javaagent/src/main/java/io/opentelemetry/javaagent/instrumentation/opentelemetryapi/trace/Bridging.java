@@ -15,6 +15,8 @@ import application.io.opentelemetry.api.trace.SpanKind;
 import application.io.opentelemetry.api.trace.StatusCode;
 import application.io.opentelemetry.api.trace.TraceState;
 import application.io.opentelemetry.api.trace.TraceStateBuilder;
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import java.lang.ref.WeakReference;
 import java.util.logging.Logger;
 
 /**
@@ -36,13 +38,38 @@ public class Bridging {
 
   private static final Logger logger = Logger.getLogger(Bridging.class.getName());
 
+  // must be a power of two
+  private static final int APPLICATION_SPAN_CACHE_SIZE = 256;
+
+  private static final int AGENT_ATTRIBUTE_KEY_CACHE_SIZE = 1024;
+
+  // agent attribute keys by name, so that keys the application creates for every call hit the
+  // cache too; a key whose type differs from the requested one is replaced
+  @SuppressWarnings("rawtypes")
+  private static final Cache<String, io.opentelemetry.api.common.AttributeKey> agentAttributeKeys =
+      Cache.bounded(AGENT_ATTRIBUTE_KEY_CACHE_SIZE);
+
+  // identity cache from agent spans to their wrappers, so that repeated Span.current() and
+  // Span.fromContext() calls for the same span don't allocate; entries are overwritten without
+  // synchronization, a lost update only causes a cache miss. The wrappers are weakly referenced, so
+  // that the cache does not keep ended spans reachable
+  @SuppressWarnings("unchecked")
+  private static final WeakReference<ApplicationSpan>[] applicationSpans =
+      new WeakReference[APPLICATION_SPAN_CACHE_SIZE];
+
   public static Span toApplication(io.opentelemetry.api.trace.Span agentSpan) {
     if (!agentSpan.getSpanContext().isValid()) {
       // no need to wrap
       return Span.getInvalid();
-    } else {
-      return new ApplicationSpan(agentSpan);
     }
+    int index = System.identityHashCode(agentSpan) & (APPLICATION_SPAN_CACHE_SIZE - 1);
+    WeakReference<ApplicationSpan> cachedReference = applicationSpans[index];
+    ApplicationSpan applicationSpan = cachedReference != null ? cachedReference.get() : null;
+    if (applicationSpan == null || applicationSpan.getAgentSpan() != agentSpan) {
+      applicationSpan = new ApplicationSpan(agentSpan);
+      applicationSpans[index] = new WeakReference<>(applicationSpan);
+    }
+    return applicationSpan;
   }
 
   public static SpanContext toApplication(io.opentelemetry.api.trace.SpanContext agentContext) {
@@ -105,6 +132,9 @@ public class Bridging {
 
   @SuppressWarnings({"unchecked", "rawtypes"})
   public static io.opentelemetry.api.common.Attributes toAgent(Attributes applicationAttributes) {
+    if (applicationAttributes.isEmpty()) {
+      return io.opentelemetry.api.common.Attributes.empty();
+    }
     io.opentelemetry.api.common.AttributesBuilder agentAttributes =
         io.opentelemetry.api.common.Attributes.builder();
     applicationAttributes.forEach(
@@ -117,10 +147,22 @@ public class Bridging {
     return agentAttributes.build();
   }
 
-  // TODO optimize this by storing shaded AttributeKey inside of application AttributeKey instead of
-  // creating every time
   @SuppressWarnings({"rawtypes"})
   public static io.opentelemetry.api.common.AttributeKey toAgent(AttributeKey applicationKey) {
+    io.opentelemetry.api.common.AttributeKey agentKey =
+        agentAttributeKeys.get(applicationKey.getKey());
+    if (agentKey == null || !agentKey.getType().name().equals(applicationKey.getType().name())) {
+      agentKey = createAgentKey(applicationKey);
+      if (agentKey != null) {
+        agentAttributeKeys.put(applicationKey.getKey(), agentKey);
+      }
+    }
+    return agentKey;
+  }
+
+  @SuppressWarnings({"rawtypes"})
+  private static io.opentelemetry.api.common.AttributeKey createAgentKey(
+      AttributeKey applicationKey) {
     switch (applicationKey.getType()) {
       case STRING:
         return io.opentelemetry.api.common.AttributeKey.stringKey(applicationKey.getKey());
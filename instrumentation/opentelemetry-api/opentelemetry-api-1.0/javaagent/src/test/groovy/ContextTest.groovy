@@ -6,6 +6,7 @@
 import io.opentelemetry.api.GlobalOpenTelemetry
 import io.opentelemetry.api.trace.Span
 import io.opentelemetry.context.Context
+import io.opentelemetry.context.ContextKey
 import io.opentelemetry.instrumentation.test.AgentInstrumentationSpecification
 
 class ContextTest extends AgentInstrumentationSpecification {
@@ -69,4 +70,30 @@ class ContextTest extends AgentInstrumentationSpecification {
     then:
     span == testSpan
   }
+
+  def "Context.current() should return attached values"() {
+    when:
+    def key = ContextKey.named("test")
+    def tracer = GlobalOpenTelemetry.getTracer("test")
+    def testSpan = tracer.spanBuilder("test").startSpan()
+    def outerScope = Context.current().with(testSpan).with(key, "outer").makeCurrent()
+    def innerScope = Context.current().with(key, "inner").makeCurrent()
+    def innerValue = Context.current().get(key)
+    def innerSpan = Span.current()
+    innerScope.close()
+    def outerValue = Context.current().get(key)
+    // re-attaching the current context is a no-op
+    def currentScope = Context.current().makeCurrent()
+    def reattachedValue = Context.current().get(key)
+    currentScope.close()
+    outerScope.close()
+    def closedValue = Context.current().get(key)
+
+    then:
+    innerValue == "inner"
+    innerSpan == testSpan
+    outerValue == "outer"
+    reattachedValue == "outer"
+    closedValue == null
+  }
 }
@@ -4,6 +4,7 @@
  */
 
 import io.opentelemetry.api.GlobalOpenTelemetry
+import io.opentelemetry.api.common.AttributeKey
 import io.opentelemetry.api.common.Attributes
 import io.opentelemetry.api.trace.Span
 import io.opentelemetry.context.Context
@@ -319,6 +320,54 @@ class TracerTest extends AgentInstrumentationSpecification {
     }
   }
 
+  def "capture attributes set with attribute keys of the same name and different types"() {
+    when:
+    def tracer = GlobalOpenTelemetry.getTracer("test")
+    def firstSpan = tracer.spanBuilder("first").startSpan()
+    firstSpan.setAttribute(AttributeKey.stringKey("key"), "1")
+    firstSpan.setAttribute(AttributeKey.stringKey("key"), "2")
+    firstSpan.setAllAttributes(Attributes.empty())
+    firstSpan.end()
+    def secondSpan = tracer.spanBuilder("second").startSpan()
+    secondSpan.setAllAttributes(Attributes.of(AttributeKey.longKey("key"), 3L))
+    secondSpan.end()
+
+    then:
+    assertTraces(2) {
+      trace(0, 1) {
+        span(0) {
+          name "first"
+          attributes {
+            "key" "2"
+          }
+        }
+      }
+      trace(1, 1) {
+        span(0) {
+          name "second"
+          attributes {
+            "key" 3
+          }
+        }
+      }
+    }
+  }
+
+  def "reuse application span of the current span"() {
+    when:
+    def tracer = GlobalOpenTelemetry.getTracer("test")
+    def testSpan = tracer.spanBuilder("test").startSpan()
+    def testScope = Context.current().with(testSpan).makeCurrent()
+    def currentSpan = Span.current()
+    def spanFromContext = Span.fromContext(Context.current())
+    testScope.close()
+    testSpan.end()
+
+    then:
+    currentSpan.is(spanFromContext)
+    currentSpan.getSpanContext() == testSpan.getSpanContext()
+  }
+
   def "add wrapped span to context"() {
     when:
     // Lazy way to get a span context
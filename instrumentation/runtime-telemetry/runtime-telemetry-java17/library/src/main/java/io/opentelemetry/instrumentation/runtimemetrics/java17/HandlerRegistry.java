@@ -28,9 +28,13 @@ import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.memory.Ob
 import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.memory.ParallelHeapSummaryHandler;
 import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.network.NetworkReadHandler;
 import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.network.NetworkWriteHandler;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.profiling.ExecutionSampleHandler;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.profiling.MonitorEnterHandler;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.profiling.ObjectAllocationSampleHandler;
 import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.threads.ThreadCountHandler;
 import java.lang.management.GarbageCollectorMXBean;
 import java.lang.management.ManagementFactory;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
@@ -47,7 +51,10 @@ final class HandlerRegistry {
   private HandlerRegistry() {}
 
   static List<RecordedEventHandler> getHandlers(
-      OpenTelemetry openTelemetry, Predicate<JfrFeature> featurePredicate) {
+      OpenTelemetry openTelemetry,
+      Predicate<JfrFeature> featurePredicate,
+      Duration profilingSamplingInterval,
+      Duration profilingWindow) {
 
     MeterBuilder meterBuilder = openTelemetry.meterBuilder(SCOPE_NAME);
     if (SCOPE_VERSION != null) {
@@ -99,7 +106,10 @@ final class HandlerRegistry {
             new ClassesLoadedHandler(meter),
             new MetaspaceSummaryHandler(meter),
             new CodeCacheConfigurationHandler(meter),
-            new DirectBufferStatisticsHandler(meter));
+            new DirectBufferStatisticsHandler(meter),
+            new ExecutionSampleHandler(meter, profilingSamplingInterval, profilingWindow),
+            new ObjectAllocationSampleHandler(meter, profilingSamplingInterval, profilingWindow),
+            new MonitorEnterHandler(meter, profilingSamplingInterval, profilingWindow));
     handlers.addAll(basicHandlers);
 
     // Filter and close disabled handlers
@@ -23,6 +23,7 @@ public enum JfrFeature {
   MEMORY_ALLOCATION_METRICS(/* defaultEnabled= */ true),
   MEMORY_POOL_METRICS(/* defaultEnabled= */ false),
   NETWORK_IO_METRICS(/* defaultEnabled= */ true),
+  PROFILING_METRICS(/* defaultEnabled= */ false),
   THREAD_METRICS(/* defaultEnabled= */ false),
   ;
 
@@ -9,6 +9,7 @@ import io.opentelemetry.api.OpenTelemetry;
 import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.RecordedEventHandler;
 import io.opentelemetry.instrumentation.runtimemetrics.java8.internal.JmxRuntimeMetricsUtil;
 import java.io.Closeable;
+import java.time.Duration;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -89,14 +90,21 @@ public final class RuntimeMetrics implements Closeable {
     private final RecordingStream recordingStream;
     private final CountDownLatch startUpLatch = new CountDownLatch(1);
 
-    private JfrRuntimeMetrics(OpenTelemetry openTelemetry, Predicate<JfrFeature> featurePredicate) {
-      this.recordedEventHandlers = HandlerRegistry.getHandlers(openTelemetry, featurePredicate);
+    private JfrRuntimeMetrics(
+        OpenTelemetry openTelemetry,
+        Predicate<JfrFeature> featurePredicate,
+        Duration profilingSamplingInterval,
+        Duration profilingWindow) {
+      this.recordedEventHandlers =
+          HandlerRegistry.getHandlers(
+              openTelemetry, featurePredicate, profilingSamplingInterval, profilingWindow);
       recordingStream = new RecordingStream();
       recordedEventHandlers.forEach(
           handler -> {
             EventSettings eventSettings = recordingStream.enable(handler.getEventName());
             handler.getPollingDuration().ifPresent(eventSettings::withPeriod);
             handler.getThreshold().ifPresent(eventSettings::withThreshold);
+            handler.getThrottle().ifPresent(throttle -> eventSettings.with("throttle", throttle));
             recordingStream.onEvent(handler.getEventName(), handler);
           });
       recordingStream.onMetadata(event -> startUpLatch.countDown());
@@ -106,11 +114,15 @@ public final class RuntimeMetrics implements Closeable {
     }
 
     static JfrRuntimeMetrics build(
-        OpenTelemetry openTelemetry, Predicate<JfrFeature> featurePredicate) {
+        OpenTelemetry openTelemetry,
+        Predicate<JfrFeature> featurePredicate,
+        Duration profilingSamplingInterval,
+        Duration profilingWindow) {
       if (!hasJfrRecordingStream()) {
         return null;
       }
-      return new JfrRuntimeMetrics(openTelemetry, featurePredicate);
+      return new JfrRuntimeMetrics(
+          openTelemetry, featurePredicate, profilingSamplingInterval, profilingWindow);
     }
 
     @Override
@@ -13,6 +13,7 @@ import io.opentelemetry.instrumentation.runtimemetrics.java8.Cpu;
 import io.opentelemetry.instrumentation.runtimemetrics.java8.GarbageCollector;
 import io.opentelemetry.instrumentation.runtimemetrics.java8.MemoryPools;
 import io.opentelemetry.instrumentation.runtimemetrics.java8.Threads;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -28,6 +29,8 @@ public final class RuntimeMetricsBuilder {
   final EnumMap<JfrFeature, Boolean> enabledFeatureMap;
 
   private boolean disableJmx = false;
+  private Duration profilingSamplingInterval = Duration.ofMillis(20);
+  private Duration profilingWindow = Duration.ofMinutes(1);
 
   RuntimeMetricsBuilder(OpenTelemetry openTelemetry) {
     this.openTelemetry = openTelemetry;
@@ -80,6 +83,34 @@ public final class RuntimeMetricsBuilder {
     return this;
   }
 
+  /**
+   * Sets the sampling interval used by {@link JfrFeature#PROFILING_METRICS}. CPU samples are taken
+   * once per interval, allocations are sampled at most once per interval and only contended monitor
+   * enters that take longer than the interval are recorded. Defaults to 20 milliseconds.
+   */
+  @CanIgnoreReturnValue
+  public RuntimeMetricsBuilder setProfilingSamplingInterval(Duration profilingSamplingInterval) {
+    if (profilingSamplingInterval.isNegative() || profilingSamplingInterval.isZero()) {
+      throw new IllegalArgumentException("profilingSamplingInterval must be positive");
+    }
+    this.profilingSamplingInterval = profilingSamplingInterval;
+    return this;
+  }
+
+  /**
+   * Sets the length of the window over which {@link JfrFeature#PROFILING_METRICS} aggregates
+   * samples per top stack frame. The metrics report the frames with the highest values in the most
+   * recently completed window. Defaults to 1 minute.
+   */
+  @CanIgnoreReturnValue
+  public RuntimeMetricsBuilder setProfilingWindow(Duration profilingWindow) {
+    if (profilingWindow.isNegative() || profilingWindow.isZero()) {
+      throw new IllegalArgumentException("profilingWindow must be positive");
+    }
+    this.profilingWindow = profilingWindow;
+    return this;
+  }
+
   /** Build and start an {@link RuntimeMetrics} with the config from this builder. */
   public RuntimeMetrics build() {
     List<AutoCloseable> observables = buildObservables();
@@ -112,6 +143,7 @@ public final class RuntimeMetricsBuilder {
     if (enabledFeatureMap.values().stream().noneMatch(isEnabled -> isEnabled)) {
       return null;
     }
-    return RuntimeMetrics.JfrRuntimeMetrics.build(openTelemetry, enabledFeatureMap::get);
+    return RuntimeMetrics.JfrRuntimeMetrics.build(
+        openTelemetry, enabledFeatureMap::get, profilingSamplingInterval, profilingWindow);
   }
 }
@@ -5,7 +5,7 @@
 
 package io.opentelemetry.instrumentation.runtimemetrics.java17.internal;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.function.Consumer;
 import jdk.jfr.consumer.RecordedEvent;
@@ -15,8 +15,15 @@ import jdk.jfr.consumer.RecordedEvent;
  * any time.
  */
 public abstract class AbstractThreadDispatchingHandler implements RecordedEventHandler {
-  // Will need pruning code for fast-cycling thread frameworks to prevent memory leaks
-  private final Map<String, Consumer<RecordedEvent>> perThread = new HashMap<>();
+  // visible for testing
+  static final int MAX_THREADS = 1024;
+  private static final int MAX_GROUPS = 128;
+
+  // events are dispatched from a single JFR stream thread, so no synchronization is needed
+  // thread name -> summarizer of its group, so that the per event cost is a single lookup
+  private final Map<String, Consumer<RecordedEvent>> perThread = lruMap(MAX_THREADS);
+  // group name -> summarizer, summarizers hold the pre-built attributes of their group
+  private final Map<String, Consumer<RecordedEvent>> perGroup = lruMap(MAX_GROUPS);
   private final ThreadGrouper grouper;
 
   protected AbstractThreadDispatchingHandler(ThreadGrouper grouper) {
@@ -26,13 +33,38 @@ public abstract class AbstractThreadDispatchingHandler implements RecordedEventH
   @Override
   public abstract String getEventName();
 
+  /**
+   * Creates the summarizer for all threads in the given group, see {@link
+   * ThreadGrouper#groupedName(String)}.
+   */
   public abstract Consumer<RecordedEvent> createPerThreadSummarizer(String threadName);
 
   @Override
   public void accept(RecordedEvent ev) {
-    String groupedName = grouper.groupedName(ev);
-    if (groupedName != null) {
-      perThread.computeIfAbsent(groupedName, this::createPerThreadSummarizer).accept(ev);
+    String threadName = grouper.threadName(ev);
+    if (threadName != null) {
+      perThread.computeIfAbsent(threadName, this::getGroupSummarizer).accept(ev);
     }
   }
+
+  private Consumer<RecordedEvent> getGroupSummarizer(String threadName) {
+    return perGroup.computeIfAbsent(
+        grouper.groupedName(threadName), this::createPerThreadSummarizer);
+  }
+
+  // visible for testing
+  int threadCount() {
+    return perThread.size();
+  }
+
+  private static <K, V> Map<K, V> lruMap(int maxSize) {
+    return new LinkedHashMap<K, V>(16, 0.75f, /* accessOrder= */ true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > maxSize;
+      }
+    };
+  }
 }
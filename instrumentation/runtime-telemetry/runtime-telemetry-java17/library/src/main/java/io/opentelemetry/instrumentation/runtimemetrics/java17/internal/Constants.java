@@ -66,6 +66,10 @@ public final class Constants {
   public static final AttributeKey<String> ATTR_GC = AttributeKey.stringKey("pool");
   public static final AttributeKey<String> ATTR_ACTION = AttributeKey.stringKey("action");
   public static final AttributeKey<Boolean> ATTR_DAEMON = AttributeKey.booleanKey(DAEMON);
+  public static final AttributeKey<String> ATTR_CODE_NAMESPACE =
+      AttributeKey.stringKey("code.namespace");
+  public static final AttributeKey<String> ATTR_CODE_FUNCTION =
+      AttributeKey.stringKey("code.function");
   public static final Attributes ATTR_PS_EDEN_SPACE =
       Attributes.of(ATTR_TYPE, HEAP, ATTR_POOL, "PS Eden Space");
   public static final Attributes ATTR_PS_SURVIVOR_SPACE =
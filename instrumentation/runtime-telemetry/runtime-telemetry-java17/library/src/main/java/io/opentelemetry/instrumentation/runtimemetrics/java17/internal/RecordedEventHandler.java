@@ -63,6 +63,16 @@ public interface RecordedEventHandler
     return Optional.empty();
   }
 
+  /**
+   * Optionally returns a throttle for JFR events, if present (e.g. {@code 100/s})
+   *
+   * @return {@link Optional} of {@link String} representing the throttle; empty {@link Optional} if
+   *     no throttle
+   */
+  default Optional<String> getThrottle() {
+    return Optional.empty();
+  }
+
   static void closeObservables(List<AutoCloseable> observables) {
     observables.forEach(
         observable -> {
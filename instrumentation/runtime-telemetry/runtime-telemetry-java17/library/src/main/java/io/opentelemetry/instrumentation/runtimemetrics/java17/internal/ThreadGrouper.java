@@ -10,14 +10,17 @@ import jdk.jfr.consumer.RecordedEvent;
 import jdk.jfr.consumer.RecordedThread;
 
 /**
- * This class is internal and is hence not for public use. Its APIs are unstable and can change at
- * any time.
+ * Collapses thread names into pool-level groups, so that thread pools with numbered threads (e.g.
+ * {@code http-nio-8080-exec-12} or {@code pool-3-thread-7}) and short-lived threads don't produce
+ * one set of metrics per thread.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
  */
 public final class ThreadGrouper {
 
-  // FIXME doesn't actually do any grouping, but should be safe for now
   @Nullable
-  public String groupedName(RecordedEvent ev) {
+  public String threadName(RecordedEvent ev) {
     Object thisField = ev.getValue("eventThread");
     if (thisField instanceof RecordedThread) {
       RecordedThread thread = (RecordedThread) thisField;
@@ -25,4 +28,42 @@ public final class ThreadGrouper {
     }
     return null;
   }
+
+  /**
+   * Returns the group of the given thread name: the name without the numbers that make up a whole
+   * part of it (e.g. the pool and thread numbers) and the number at its end, together with the
+   * separators preceding them. A name consisting only of numbers is returned as is.
+   */
+  public String groupedName(String threadName) {
+    int length = threadName.length();
+    StringBuilder grouped = new StringBuilder(length);
+    int start = 0;
+    while (start < length) {
+      int partStart = start;
+      while (partStart < length && isSeparator(threadName.charAt(partStart))) {
+        partStart++;
+      }
+      int partEnd = partStart;
+      while (partEnd < length && !isSeparator(threadName.charAt(partEnd))) {
+        partEnd++;
+      }
+      int digitsStart = partEnd;
+      while (digitsStart > partStart && Character.isDigit(threadName.charAt(digitsStart - 1))) {
+        digitsStart--;
+      }
+      // numeric parts are dropped, numbers inside a part like "h2" or "log4j" are kept unless the
+      // part is the last one
+      int keepEnd = digitsStart == partStart || partEnd == length ? digitsStart : partEnd;
+      if (keepEnd > partStart) {
+        // the separators before the first kept part are dropped as well
+        grouped.append(threadName, grouped.length() == 0 ? partStart : start, keepEnd);
+      }
+      start = partEnd;
+    }
+    return grouped.length() == 0 ? threadName : grouped.toString();
+  }
+
+  private static boolean isSeparator(char c) {
+    return c == '-' || c == '_' || c == '.' || c == '#' || c == ':' || c == ' ';
+  }
 }
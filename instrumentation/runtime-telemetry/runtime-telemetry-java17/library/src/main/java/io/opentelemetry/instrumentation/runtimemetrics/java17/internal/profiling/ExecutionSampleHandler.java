@@ -0,0 +1,72 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17.internal.profiling;
+
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.JfrFeature;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.RecordedEventHandler;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import jdk.jfr.consumer.RecordedEvent;
+
+/**
+ * Counts CPU samples taken by JFR per top stack frame.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class ExecutionSampleHandler implements RecordedEventHandler {
+  private static final String METRIC_NAME = "process.runtime.jvm.profiling.execution_samples";
+  private static final String METRIC_DESCRIPTION =
+      "Number of CPU samples per top stack frame in the last aggregation window";
+  private static final String EVENT_NAME = "jdk.ExecutionSample";
+
+  private final List<AutoCloseable> observables = new ArrayList<>();
+  private final TopFrameAggregator aggregator;
+  private final Duration samplingInterval;
+
+  public ExecutionSampleHandler(Meter meter, Duration samplingInterval, Duration window) {
+    this.samplingInterval = samplingInterval;
+    aggregator = new TopFrameAggregator(window);
+    observables.add(
+        meter
+            .gaugeBuilder(METRIC_NAME)
+            .setDescription(METRIC_DESCRIPTION)
+            .setUnit("{samples}")
+            .ofLongs()
+            .buildWithCallback(
+                measurement ->
+                    aggregator.forEach(
+                        (attributes, value) -> measurement.record(value, attributes))));
+  }
+
+  @Override
+  public void accept(RecordedEvent ev) {
+    aggregator.record(ev.getStackTrace(), 1);
+  }
+
+  @Override
+  public String getEventName() {
+    return EVENT_NAME;
+  }
+
+  @Override
+  public JfrFeature getFeature() {
+    return JfrFeature.PROFILING_METRICS;
+  }
+
+  @Override
+  public Optional<Duration> getPollingDuration() {
+    return Optional.of(samplingInterval);
+  }
+
+  @Override
+  public void close() {
+    RecordedEventHandler.closeObservables(observables);
+  }
+}
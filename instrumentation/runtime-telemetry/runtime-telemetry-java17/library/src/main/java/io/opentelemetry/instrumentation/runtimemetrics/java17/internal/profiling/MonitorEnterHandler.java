@@ -0,0 +1,75 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17.internal.profiling;
+
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.JfrFeature;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.Constants;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.RecordedEventHandler;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import jdk.jfr.consumer.RecordedEvent;
+
+/**
+ * Sums up the time spent blocked on contended monitors per top stack frame. Only monitor enters
+ * that take longer than the sampling interval are recorded by JFR.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class MonitorEnterHandler implements RecordedEventHandler {
+  private static final String METRIC_NAME = "process.runtime.jvm.profiling.monitor_enter";
+  private static final String METRIC_DESCRIPTION =
+      "Time blocked on contended monitors per top stack frame in the last aggregation window";
+  private static final String EVENT_NAME = "jdk.JavaMonitorEnter";
+  private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+  private final List<AutoCloseable> observables = new ArrayList<>();
+  private final TopFrameAggregator aggregator;
+  private final Duration threshold;
+
+  public MonitorEnterHandler(Meter meter, Duration samplingInterval, Duration window) {
+    this.threshold = samplingInterval;
+    aggregator = new TopFrameAggregator(window);
+    observables.add(
+        meter
+            .gaugeBuilder(METRIC_NAME)
+            .setDescription(METRIC_DESCRIPTION)
+            .setUnit(Constants.MILLISECONDS)
+            .buildWithCallback(
+                measurement ->
+                    aggregator.forEach(
+                        (attributes, nanos) ->
+                            measurement.record(nanos / NANOS_PER_MILLI, attributes))));
+  }
+
+  @Override
+  public void accept(RecordedEvent ev) {
+    aggregator.record(ev.getStackTrace(), ev.getDuration().toNanos());
+  }
+
+  @Override
+  public String getEventName() {
+    return EVENT_NAME;
+  }
+
+  @Override
+  public JfrFeature getFeature() {
+    return JfrFeature.PROFILING_METRICS;
+  }
+
+  @Override
+  public Optional<Duration> getThreshold() {
+    return Optional.of(threshold);
+  }
+
+  @Override
+  public void close() {
+    RecordedEventHandler.closeObservables(observables);
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17.internal.profiling;
+
+import io.opentelemetry.api.metrics.Meter;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.JfrFeature;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.Constants;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.RecordedEventHandler;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import jdk.jfr.consumer.RecordedEvent;
+
+/**
+ * Sums up the weight of sampled allocations per top stack frame. The weight of an allocation sample
+ * is the number of bytes allocated by the thread since the previous sample, so the reported values
+ * approximate the allocation volume of each frame.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class ObjectAllocationSampleHandler implements RecordedEventHandler {
+  private static final String METRIC_NAME = "process.runtime.jvm.profiling.allocation";
+  private static final String METRIC_DESCRIPTION =
+      "Sampled allocation weight per top stack frame in the last aggregation window";
+  private static final String EVENT_NAME = "jdk.ObjectAllocationSample";
+  private static final String WEIGHT = "weight";
+
+  private final List<AutoCloseable> observables = new ArrayList<>();
+  private final TopFrameAggregator aggregator;
+  private final String throttle;
+
+  public ObjectAllocationSampleHandler(Meter meter, Duration samplingInterval, Duration window) {
+    // emit at most one sample per sampling interval, but at least one per second
+    long samplesPerSecond =
+        Math.max(1, Duration.ofSeconds(1).toNanos() / Math.max(1, samplingInterval.toNanos()));
+    throttle = samplesPerSecond + "/s";
+    aggregator = new TopFrameAggregator(window);
+    observables.add(
+        meter
+            .gaugeBuilder(METRIC_NAME)
+            .setDescription(METRIC_DESCRIPTION)
+            .setUnit(Constants.BYTES)
+            .ofLongs()
+            .buildWithCallback(
+                measurement ->
+                    aggregator.forEach(
+                        (attributes, value) -> measurement.record(value, attributes))));
+  }
+
+  @Override
+  public void accept(RecordedEvent ev) {
+    aggregator.record(ev.getStackTrace(), ev.getLong(WEIGHT));
+  }
+
+  @Override
+  public String getEventName() {
+    return EVENT_NAME;
+  }
+
+  @Override
+  public JfrFeature getFeature() {
+    return JfrFeature.PROFILING_METRICS;
+  }
+
+  @Override
+  public Optional<String> getThrottle() {
+    return Optional.of(throttle);
+  }
+
+  @Override
+  public void close() {
+    RecordedEventHandler.closeObservables(observables);
+  }
+}
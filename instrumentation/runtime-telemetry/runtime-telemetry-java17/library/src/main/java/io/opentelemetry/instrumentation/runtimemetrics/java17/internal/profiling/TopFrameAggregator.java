@@ -0,0 +1,182 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17.internal.profiling;
+
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.instrumentation.runtimemetrics.java17.internal.Constants;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+import java.util.function.ObjLongConsumer;
+import javax.annotation.Nullable;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedMethod;
+import jdk.jfr.consumer.RecordedStackTrace;
+
+/**
+ * Sums up sampled values per top stack frame. Values are accumulated in fixed length windows and
+ * only the most recently completed window is reported, limited to the {@code topN} frames with the
+ * highest values plus a single {@code other} entry for the rest. Both the memory used while
+ * aggregating and the cardinality of the reported metrics are therefore bounded, no matter how many
+ * distinct frames are sampled.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class TopFrameAggregator {
+  // upper bound on distinct frames tracked within a single window, samples of any further frames
+  // are accounted to the other frame
+  private static final int MAX_TRACKED_FRAMES = 1024;
+  private static final int DEFAULT_TOP_N = 20;
+  private static final Frame OTHER = new Frame("other", "other");
+
+  private final int topN;
+  private final long windowNanos;
+  private final LongSupplier nanoClock;
+
+  // guarded by this
+  private Map<Frame, long[]> current = new HashMap<>();
+  private List<Entry> lastWindow = Collections.emptyList();
+  private long windowStart;
+
+  public TopFrameAggregator(Duration window) {
+    this(DEFAULT_TOP_N, window, System::nanoTime);
+  }
+
+  // Visible for testing
+  TopFrameAggregator(int topN, Duration window, LongSupplier nanoClock) {
+    this.topN = topN;
+    this.windowNanos = window.toNanos();
+    this.nanoClock = nanoClock;
+    this.windowStart = nanoClock.getAsLong();
+  }
+
+  /** Adds {@code value} to the top frame of the given stack trace. */
+  public void record(@Nullable RecordedStackTrace stackTrace, long value) {
+    if (stackTrace == null) {
+      return;
+    }
+    List<RecordedFrame> frames = stackTrace.getFrames();
+    if (frames.isEmpty()) {
+      return;
+    }
+    RecordedMethod method = frames.get(0).getMethod();
+    if (method == null) {
+      return;
+    }
+    record(method.getType().getName(), method.getName(), value);
+  }
+
+  // Visible for testing
+  synchronized void record(String className, String methodName, long value) {
+    rotateIfNeeded();
+    Frame frame = new Frame(className, methodName);
+    long[] total = current.get(frame);
+    if (total == null) {
+      if (current.size() >= MAX_TRACKED_FRAMES) {
+        frame = OTHER;
+        total = current.get(OTHER);
+      }
+      if (total == null) {
+        total = new long[1];
+        current.put(frame, total);
+      }
+    }
+    total[0] += value;
+  }
+
+  /** Reports the top frames of the last completed window. */
+  public synchronized void forEach(ObjLongConsumer<Attributes> consumer) {
+    rotateIfNeeded();
+    for (Entry entry : lastWindow) {
+      consumer.accept(entry.attributes, entry.value);
+    }
+  }
+
+  private void rotateIfNeeded() {
+    long elapsed = nanoClock.getAsLong() - windowStart;
+    if (elapsed < windowNanos) {
+      return;
+    }
+    if (elapsed < 2 * windowNanos) {
+      lastWindow = summarize(current);
+      windowStart += windowNanos;
+    } else {
+      // nothing was recorded in the window that just completed
+      lastWindow = Collections.emptyList();
+      windowStart += elapsed - elapsed % windowNanos;
+    }
+    current = new HashMap<>();
+  }
+
+  private List<Entry> summarize(Map<Frame, long[]> totals) {
+    List<Map.Entry<Frame, long[]>> sorted = new ArrayList<>(totals.entrySet());
+    sorted.sort((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]));
+
+    List<Entry> result = new ArrayList<>(Math.min(sorted.size(), topN + 1));
+    long other = 0;
+    for (Map.Entry<Frame, long[]> entry : sorted) {
+      Frame frame = entry.getKey();
+      long value = entry.getValue()[0];
+      if (result.size() < topN && frame != OTHER) {
+        result.add(new Entry(frame.toAttributes(), value));
+      } else {
+        other += value;
+      }
+    }
+    if (other > 0) {
+      result.add(new Entry(OTHER.toAttributes(), other));
+    }
+    return result;
+  }
+
+  private static final class Frame {
+    private final String className;
+    private final String methodName;
+
+    Frame(String className, String methodName) {
+      this.className = className;
+      this.methodName = methodName;
+    }
+
+    Attributes toAttributes() {
+      return Attributes.of(
+          Constants.ATTR_CODE_NAMESPACE, className, Constants.ATTR_CODE_FUNCTION, methodName);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Frame)) {
+        return false;
+      }
+      Frame other = (Frame) obj;
+      return className.equals(other.className) && methodName.equals(other.methodName);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(className, methodName);
+    }
+  }
+
+  private static final class Entry {
+    private final Attributes attributes;
+    private final long value;
+
+    Entry(Attributes attributes, long value) {
+      this.attributes = attributes;
+      this.value = value;
+    }
+  }
+}
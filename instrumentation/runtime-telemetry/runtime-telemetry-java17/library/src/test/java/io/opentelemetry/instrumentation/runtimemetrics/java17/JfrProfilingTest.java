@@ -0,0 +1,62 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17;
+
+import static io.opentelemetry.instrumentation.runtimemetrics.java17.internal.Constants.BYTES;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+class JfrProfilingTest {
+
+  @RegisterExtension
+  JfrExtension jfrExtension =
+      new JfrExtension(
+          builder ->
+              builder
+                  .disableAllFeatures()
+                  .enableFeature(JfrFeature.PROFILING_METRICS)
+                  .setProfilingSamplingInterval(Duration.ofMillis(10))
+                  .setProfilingWindow(Duration.ofSeconds(1)));
+
+  @Test
+  void shouldHaveProfilingEvents() throws InterruptedException {
+    AtomicBoolean done = new AtomicBoolean(false);
+    Thread worker =
+        new Thread(
+            () -> {
+              List<byte[]> garbage = new ArrayList<>();
+              while (!done.get()) {
+                garbage.add(new byte[1024]);
+                if (garbage.size() > 1000) {
+                  garbage.clear();
+                }
+              }
+            });
+    worker.start();
+
+    try {
+      jfrExtension.waitAndAssertMetrics(
+          metric ->
+              metric
+                  .hasName("process.runtime.jvm.profiling.execution_samples")
+                  .hasUnit("{samples}")
+                  .hasLongGaugeSatisfying(gauge -> {}),
+          metric ->
+              metric
+                  .hasName("process.runtime.jvm.profiling.allocation")
+                  .hasUnit(BYTES)
+                  .hasLongGaugeSatisfying(gauge -> {}));
+    } finally {
+      done.set(true);
+      worker.join();
+    }
+  }
+}
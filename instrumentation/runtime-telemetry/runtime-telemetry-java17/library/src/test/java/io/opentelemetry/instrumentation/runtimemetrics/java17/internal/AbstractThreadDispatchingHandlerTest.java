@@ -0,0 +1,59 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+
+import io.opentelemetry.instrumentation.runtimemetrics.java17.JfrFeature;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.Test;
+
+class AbstractThreadDispatchingHandlerTest {
+
+  @Test
+  void perThreadSummarizersAreBounded() {
+    ThreadGrouper grouper = spy(new ThreadGrouper());
+    RecordedEvent event = mock(RecordedEvent.class);
+    List<String> groups = new ArrayList<>();
+    AtomicInteger handledEvents = new AtomicInteger();
+    AbstractThreadDispatchingHandler handler =
+        new AbstractThreadDispatchingHandler(grouper) {
+          @Override
+          public String getEventName() {
+            return "test";
+          }
+
+          @Override
+          public JfrFeature getFeature() {
+            return JfrFeature.NETWORK_IO_METRICS;
+          }
+
+          @Override
+          public Consumer<RecordedEvent> createPerThreadSummarizer(String threadName) {
+            groups.add(threadName);
+            return ev -> handledEvents.incrementAndGet();
+          }
+        };
+
+    int threads = AbstractThreadDispatchingHandler.MAX_THREADS * 2;
+    for (int i = 0; i < threads; i++) {
+      doReturn("worker-" + i).when(grouper).threadName(event);
+      handler.accept(event);
+    }
+
+    assertThat(handler.threadCount()).isEqualTo(AbstractThreadDispatchingHandler.MAX_THREADS);
+    // all the threads share the summarizer of their group
+    assertThat(groups).containsExactly("worker");
+    assertThat(handledEvents).hasValue(threads);
+  }
+}
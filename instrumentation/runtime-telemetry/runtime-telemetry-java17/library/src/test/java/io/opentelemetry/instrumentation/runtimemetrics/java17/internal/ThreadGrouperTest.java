@@ -0,0 +1,33 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17.internal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+class ThreadGrouperTest {
+
+  @ParameterizedTest
+  @CsvSource({
+    "main, main",
+    "http-nio-8080-exec-12, http-nio-exec",
+    "pool-3-thread-7, pool-thread",
+    "http-nio-8081-exec-3, http-nio-exec",
+    "ForkJoinPool.commonPool-worker-3, ForkJoinPool.commonPool-worker",
+    "Thread-123, Thread",
+    "worker#42, worker",
+    "Thread123, Thread",
+    "1-worker-2, worker",
+    "h2-worker-7, h2-worker",
+    "grpc-default-executor, grpc-default-executor",
+    "12345, 12345",
+  })
+  void groupedName(String threadName, String expected) {
+    assertThat(new ThreadGrouper().groupedName(threadName)).isEqualTo(expected);
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.runtimemetrics.java17.internal.profiling;
+
+import static io.opentelemetry.instrumentation.runtimemetrics.java17.internal.Constants.ATTR_CODE_FUNCTION;
+import static io.opentelemetry.instrumentation.runtimemetrics.java17.internal.Constants.ATTR_CODE_NAMESPACE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.Attributes;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class TopFrameAggregatorTest {
+
+  private final AtomicLong nanoTime = new AtomicLong();
+  private final TopFrameAggregator aggregator =
+      new TopFrameAggregator(2, Duration.ofNanos(100), nanoTime::get);
+
+  @Test
+  void reportsTopFramesOfLastCompletedWindow() {
+    aggregator.record("com.example.A", "a", 5);
+    aggregator.record("com.example.B", "b", 3);
+    aggregator.record("com.example.C", "c", 1);
+    aggregator.record("com.example.D", "d", 1);
+    aggregator.record("com.example.A", "a", 5);
+
+    // window has not completed yet
+    assertThat(collect()).isEmpty();
+
+    nanoTime.set(100);
+    aggregator.record("com.example.B", "b", 42);
+
+    assertThat(collect())
+        .containsExactly(
+            Map.entry(frame("com.example.A", "a"), 10L),
+            Map.entry(frame("com.example.B", "b"), 3L),
+            Map.entry(frame("other", "other"), 2L));
+
+    nanoTime.set(200);
+    assertThat(collect()).containsExactly(Map.entry(frame("com.example.B", "b"), 42L));
+  }
+
+  @Test
+  void resetsAfterIdleWindows() {
+    aggregator.record("com.example.A", "a", 1);
+
+    nanoTime.set(250);
+    assertThat(collect()).isEmpty();
+
+    aggregator.record("com.example.B", "b", 1);
+    nanoTime.set(300);
+    assertThat(collect()).containsExactly(Map.entry(frame("com.example.B", "b"), 1L));
+  }
+
+  private Map<Attributes, Long> collect() {
+    Map<Attributes, Long> result = new LinkedHashMap<>();
+    aggregator.forEach(result::put);
+    return result;
+  }
+
+  private static Attributes frame(String className, String methodName) {
+    return Attributes.of(ATTR_CODE_NAMESPACE, className, ATTR_CODE_FUNCTION, methodName);
+  }
+}
@@ -7,6 +7,7 @@ package io.opentelemetry.javaagent.bootstrap.servlet;
 
 import io.opentelemetry.context.Context;
 import io.opentelemetry.context.ContextKey;
+import io.opentelemetry.instrumentation.api.internal.HttpRouteCache;
 import java.util.function.Function;
 
 /**
@@ -26,6 +27,11 @@ public final class ServletContextPath {
   private static final ContextKey<ServletContextPath> CONTEXT_KEY =
       ContextKey.named("opentelemetry-servlet-context-path-key");
 
+  private static final HttpRouteCache<String, String> routes =
+      HttpRouteCache.create(
+          (contextPath, spanName) ->
+              contextPath + (spanName.startsWith("/") ? spanName : ("/" + spanName)));
+
   public static <REQUEST> Context init(
       Context context, Function<REQUEST, String> contextPathExtractor, REQUEST request) {
     ServletContextPath servletContextPath = context.get(CONTEXT_KEY);
@@ -63,7 +69,7 @@ public final class ServletContextPath {
         if (spanName == null || spanName.isEmpty()) {
           return value;
         } else {
-          return value + (spanName.startsWith("/") ? spanName : ("/" + spanName));
+          return routes.get(value, spanName);
         }
       }
     }
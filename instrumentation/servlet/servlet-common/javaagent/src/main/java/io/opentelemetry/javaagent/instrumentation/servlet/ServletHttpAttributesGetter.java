@@ -49,6 +49,13 @@ public class ServletHttpAttributesGetter<REQUEST, RESPONSE>
     return accessor.getRequestHeaderValues(requestContext.request(), name);
   }
 
+  @Override
+  @Nullable
+  public String getFirstHttpRequestHeader(
+      ServletRequestContext<REQUEST> requestContext, String name) {
+    return accessor.getRequestHeader(requestContext.request(), name);
+  }
+
   @Override
   @Nullable
   public Integer getHttpResponseStatusCode(
@@ -1,5 +1,8 @@
+import net.ltgt.gradle.errorprone.errorprone
+
 plugins {
   id("otel.library-instrumentation")
+  id("otel.jmh-conventions")
 }
 
 // Name the Spring Boot modules in accordance with https://docs.spring.io/spring-boot/docs/current/reference/html/features.html#features.developing-auto-configuration.custom-starter
@@ -70,6 +73,10 @@ dependencies {
   testImplementation("io.opentelemetry:opentelemetry-exporter-otlp")
   testImplementation("io.opentelemetry:opentelemetry-exporter-zipkin")
   testImplementation(project(":instrumentation-annotations"))
+
+  jmhImplementation("org.springframework.boot:spring-boot-starter-web:$springBootVersion")
+  jmhImplementation("org.springframework.boot:spring-boot-starter-test:$springBootVersion")
+  jmhImplementation("io.opentelemetry:opentelemetry-sdk")
 }
 
 val latestDepTest = findProperty("testLatestDeps") as Boolean
@@ -109,6 +116,12 @@ testing {
 }
 
 tasks {
+  named<JavaCompile>("jmhCompileGeneratedClasses") {
+    options.errorprone {
+      isEnabled.set(false)
+    }
+  }
+
   check {
     dependsOn(testing.suites)
   }
@@ -0,0 +1,108 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.spring.autoconfigure;
+
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.instrumentation.spring.webmvc.v5_3.SpringWebMvcTelemetry;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import javax.servlet.Filter;
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Compares the overhead of the Spring Web MVC server instrumentation with the default
+ * configuration of the starter and with the performance profile enabled. Spans are exported to an
+ * exporter that discards them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class PerformanceProfileBenchmark {
+
+  @Param({"false", "true"})
+  public boolean performanceProfile;
+
+  private AnnotationConfigApplicationContext context;
+  private Filter filter;
+  private final FilterChain filterChain = (request, response) -> {};
+  private final MockHttpServletRequest apiRequest = new MockHttpServletRequest("GET", "/orders");
+  private final MockHttpServletRequest actuatorRequest =
+      new MockHttpServletRequest("GET", "/actuator/health");
+  private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+  @Setup
+  public void setUp() {
+    context = new AnnotationConfigApplicationContext();
+    context
+        .getEnvironment()
+        .getPropertySources()
+        .addFirst(
+            new MapPropertySource(
+                "benchmark",
+                Collections.singletonMap(
+                    "otel.springboot.performance-profile.enabled", performanceProfile)));
+    context.registerBean(SpanExporter.class, DiscardingSpanExporter::new);
+    context.register(OpenTelemetryAutoConfiguration.class);
+    context.refresh();
+
+    filter =
+        SpringWebMvcTelemetry.create(context.getBean(OpenTelemetry.class)).createServletFilter();
+  }
+
+  @TearDown
+  public void tearDown() {
+    context.close();
+  }
+
+  @Benchmark
+  public MockHttpServletResponse apiRequest() throws ServletException, IOException {
+    filter.doFilter(apiRequest, response, filterChain);
+    return response;
+  }
+
+  @Benchmark
+  public MockHttpServletResponse actuatorRequest() throws ServletException, IOException {
+    filter.doFilter(actuatorRequest, response, filterChain);
+    return response;
+  }
+
+  private static class DiscardingSpanExporter implements SpanExporter {
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+      return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+      return CompletableResultCode.ofSuccess();
+    }
+  }
+}
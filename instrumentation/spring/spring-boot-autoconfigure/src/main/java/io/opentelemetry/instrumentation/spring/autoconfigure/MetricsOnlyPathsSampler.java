@@ -0,0 +1,93 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.spring.autoconfigure;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import java.util.List;
+
+/**
+ * Drops the server spans of requests whose path is under one of the configured paths, together with
+ * all spans created locally below them. The HTTP server metrics don't depend on sampling, so these
+ * requests are still counted. All other spans are sampled by the parent based version of the
+ * delegate, so that the children of sampled spans are not turned into separate traces.
+ */
+final class MetricsOnlyPathsSampler implements Sampler {
+
+  private static final AttributeKey<String> URL_PATH = AttributeKey.stringKey("url.path");
+
+  private final Sampler delegate;
+  private final String[] pathPrefixes;
+
+  MetricsOnlyPathsSampler(Sampler root, List<String> pathPrefixes) {
+    this.delegate = Sampler.parentBased(root);
+    this.pathPrefixes = pathPrefixes.toArray(new String[0]);
+  }
+
+  @Override
+  public SamplingResult shouldSample(
+      Context parentContext,
+      String traceId,
+      String name,
+      SpanKind spanKind,
+      Attributes attributes,
+      List<LinkData> parentLinks) {
+    SpanContext parentSpanContext = Span.fromContext(parentContext).getSpanContext();
+    if (parentSpanContext.isValid()
+        && !parentSpanContext.isRemote()
+        && !parentSpanContext.isSampled()) {
+      // the local parent was dropped, e.g. the server span of a metrics only path
+      return SamplingResult.drop();
+    }
+    if (spanKind == SpanKind.SERVER && isMetricsOnly(attributes)) {
+      return SamplingResult.drop();
+    }
+    return delegate.shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks);
+  }
+
+  private boolean isMetricsOnly(Attributes attributes) {
+    String path = attributes.get(URL_PATH);
+    if (path == null) {
+      // the old semantic conventions only have the target, which also contains the query
+      path = attributes.get(SemanticAttributes.HTTP_TARGET);
+    }
+    if (path == null) {
+      return false;
+    }
+    for (String prefix : pathPrefixes) {
+      if (isUnder(path, prefix)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  // matches on a path segment boundary, so that /actuator matches /actuator/health but not
+  // /actuatorfoo
+  private static boolean isUnder(String path, String prefix) {
+    if (!path.startsWith(prefix)) {
+      return false;
+    }
+    if (path.length() == prefix.length() || prefix.endsWith("/")) {
+      return true;
+    }
+    char next = path.charAt(prefix.length());
+    return next == '/' || next == '?';
+  }
+
+  @Override
+  public String getDescription() {
+    return "MetricsOnlyPathsSampler{delegate=" + delegate.getDescription() + "}";
+  }
+}
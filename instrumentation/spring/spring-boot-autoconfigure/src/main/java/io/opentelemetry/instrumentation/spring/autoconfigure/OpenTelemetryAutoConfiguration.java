@@ -15,6 +15,7 @@ import io.opentelemetry.sdk.autoconfigure.spi.ResourceProvider;
 import io.opentelemetry.sdk.logs.SdkLoggerProvider;
 import io.opentelemetry.sdk.logs.SdkLoggerProviderBuilder;
 import io.opentelemetry.sdk.logs.export.BatchLogRecordProcessor;
+import io.opentelemetry.sdk.logs.export.BatchLogRecordProcessorBuilder;
 import io.opentelemetry.sdk.logs.export.LogRecordExporter;
 import io.opentelemetry.sdk.metrics.SdkMeterProvider;
 import io.opentelemetry.sdk.metrics.SdkMeterProviderBuilder;
@@ -25,6 +26,7 @@ import io.opentelemetry.sdk.resources.Resource;
 import io.opentelemetry.sdk.trace.SdkTracerProvider;
 import io.opentelemetry.sdk.trace.SdkTracerProviderBuilder;
 import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessorBuilder;
 import io.opentelemetry.sdk.trace.export.SpanExporter;
 import io.opentelemetry.sdk.trace.samplers.Sampler;
 import java.util.Collections;
@@ -44,11 +46,22 @@ import org.springframework.expression.spel.standard.SpelExpressionParser;
  * <p>Adds span exporter beans to the active tracer provider.
  *
  * <p>Updates the sampler probability for the configured {@link TracerProvider}.
+ *
+ * <p>Sizes the batch processors for high throughput when the performance profile is enabled.
  */
 @Configuration
-@EnableConfigurationProperties({MetricExportProperties.class, SamplerProperties.class})
+@EnableConfigurationProperties({
+  MetricExportProperties.class,
+  SamplerProperties.class,
+  PerformanceProfileProperties.class
+})
 public class OpenTelemetryAutoConfiguration {
 
+  // larger than the sdk defaults of 2048 and 512, so that bursts of concurrent requests don't fill
+  // up the queue and drop spans
+  private static final int PERFORMANCE_MAX_QUEUE_SIZE = 8192;
+  private static final int PERFORMANCE_MAX_EXPORT_BATCH_SIZE = 2048;
+
   public OpenTelemetryAutoConfiguration() {}
 
   @Configuration
@@ -60,38 +73,70 @@ public class OpenTelemetryAutoConfiguration {
     @ConditionalOnMissingBean
     public SdkTracerProvider sdkTracerProvider(
         SamplerProperties samplerProperties,
+        PerformanceProfileProperties performanceProfileProperties,
         ObjectProvider<List<SpanExporter>> spanExportersProvider,
         Resource otelResource) {
       SdkTracerProviderBuilder tracerProviderBuilder = SdkTracerProvider.builder();
+      boolean highThroughput = performanceProfileProperties.isEnabled();
 
       spanExportersProvider.getIfAvailable(Collections::emptyList).stream()
-          .map(spanExporter -> BatchSpanProcessor.builder(spanExporter).build())
+          .map(spanExporter -> createBatchSpanProcessor(spanExporter, highThroughput))
           .forEach(tracerProviderBuilder::addSpanProcessor);
 
-      return tracerProviderBuilder
-          .setResource(otelResource)
-          .setSampler(Sampler.traceIdRatioBased(samplerProperties.getProbability()))
-          .build();
+      Sampler sampler = Sampler.traceIdRatioBased(samplerProperties.getProbability());
+      if (performanceProfileProperties.isEnabled()
+          && !performanceProfileProperties.getMetricsOnlyPaths().isEmpty()) {
+        sampler =
+            new MetricsOnlyPathsSampler(
+                sampler, performanceProfileProperties.getMetricsOnlyPaths());
+      }
+
+      return tracerProviderBuilder.setResource(otelResource).setSampler(sampler).build();
+    }
+
+    private static BatchSpanProcessor createBatchSpanProcessor(
+        SpanExporter spanExporter, boolean highThroughput) {
+      BatchSpanProcessorBuilder builder = BatchSpanProcessor.builder(spanExporter);
+      if (highThroughput) {
+        builder
+            .setMaxQueueSize(PERFORMANCE_MAX_QUEUE_SIZE)
+            .setMaxExportBatchSize(PERFORMANCE_MAX_EXPORT_BATCH_SIZE);
+      }
+      return builder.build();
     }
 
     @Bean
     @ConditionalOnMissingBean
     public SdkLoggerProvider sdkLoggerProvider(
-        ObjectProvider<List<LogRecordExporter>> loggerExportersProvider, Resource otelResource) {
+        PerformanceProfileProperties performanceProfileProperties,
+        ObjectProvider<List<LogRecordExporter>> loggerExportersProvider,
+        Resource otelResource) {
 
       SdkLoggerProviderBuilder loggerProviderBuilder = SdkLoggerProvider.builder();
       loggerProviderBuilder.setResource(otelResource);
+      boolean highThroughput = performanceProfileProperties.isEnabled();
 
       loggerExportersProvider
           .getIfAvailable(Collections::emptyList)
           .forEach(
               loggerExporter ->
                   loggerProviderBuilder.addLogRecordProcessor(
-                      BatchLogRecordProcessor.builder(loggerExporter).build()));
+                      createBatchLogRecordProcessor(loggerExporter, highThroughput)));
 
       return loggerProviderBuilder.build();
     }
 
+    private static BatchLogRecordProcessor createBatchLogRecordProcessor(
+        LogRecordExporter loggerExporter, boolean highThroughput) {
+      BatchLogRecordProcessorBuilder builder = BatchLogRecordProcessor.builder(loggerExporter);
+      if (highThroughput) {
+        builder
+            .setMaxQueueSize(PERFORMANCE_MAX_QUEUE_SIZE)
+            .setMaxExportBatchSize(PERFORMANCE_MAX_EXPORT_BATCH_SIZE);
+      }
+      return builder.build();
+    }
+
     @Bean
     @ConditionalOnMissingBean
     public SdkMeterProvider sdkMeterProvider(
@@ -0,0 +1,39 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.spring.autoconfigure;
+
+import java.util.Collections;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration for the performance profile, which trades some telemetry for lower overhead in
+ * high throughput applications.
+ */
+@ConfigurationProperties(prefix = "otel.springboot.performance-profile")
+public final class PerformanceProfileProperties {
+
+  private boolean enabled = false;
+
+  // server requests with these path prefixes are only counted in metrics
+  private List<String> metricsOnlyPaths = Collections.singletonList("/actuator");
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  public void setEnabled(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public List<String> getMetricsOnlyPaths() {
+    return metricsOnlyPaths;
+  }
+
+  public void setMetricsOnlyPaths(List<String> metricsOnlyPaths) {
+    this.metricsOnlyPaths = metricsOnlyPaths;
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.instrumentation.spring.autoconfigure;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.semconv.trace.attributes.SemanticAttributes;
+import java.util.Arrays;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+
+class MetricsOnlyPathsSamplerTest {
+
+  private static final String TRACE_ID = "0af7651916cd43dd8448eb211c80319c";
+  private static final String SPAN_ID = "b7ad6b7169203331";
+
+  private final Sampler sampler =
+      new MetricsOnlyPathsSampler(Sampler.alwaysOn(), Arrays.asList("/actuator", "/health"));
+
+  @Test
+  void shouldDropServerSpansOfMetricsOnlyPaths() {
+    assertThat(decision(SpanKind.SERVER, urlPath("/actuator/prometheus")))
+        .isEqualTo(SamplingDecision.DROP);
+    assertThat(decision(SpanKind.SERVER, Attributes.of(SemanticAttributes.HTTP_TARGET, "/health")))
+        .isEqualTo(SamplingDecision.DROP);
+    assertThat(
+            decision(
+                SpanKind.SERVER, Attributes.of(SemanticAttributes.HTTP_TARGET, "/health?full=1")))
+        .isEqualTo(SamplingDecision.DROP);
+  }
+
+  @Test
+  void shouldMatchOnPathSegmentBoundary() {
+    assertThat(decision(SpanKind.SERVER, urlPath("/actuatorfoo")))
+        .isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(decision(SpanKind.SERVER, urlPath("/healthy")))
+        .isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(decision(SpanKind.SERVER, urlPath("/actuator")))
+        .isEqualTo(SamplingDecision.DROP);
+  }
+
+  @Test
+  void shouldDropChildrenOfDroppedSpans() {
+    Context parentContext =
+        Context.root()
+            .with(
+                Span.wrap(
+                    SpanContext.create(
+                        TRACE_ID, SPAN_ID, TraceFlags.getDefault(), TraceState.getDefault())));
+
+    assertThat(decision(parentContext, SpanKind.INTERNAL, Attributes.empty()))
+        .isEqualTo(SamplingDecision.DROP);
+    assertThat(decision(parentContext, SpanKind.CLIENT, urlPath("/orders")))
+        .isEqualTo(SamplingDecision.DROP);
+  }
+
+  @Test
+  void shouldSampleChildrenOfSampledSpans() {
+    Sampler sampler =
+        new MetricsOnlyPathsSampler(Sampler.alwaysOff(), Collections.singletonList("/actuator"));
+    Context parentContext =
+        Context.root()
+            .with(
+                Span.wrap(
+                    SpanContext.create(
+                        TRACE_ID, SPAN_ID, TraceFlags.getSampled(), TraceState.getDefault())));
+
+    assertThat(
+            sampler
+                .shouldSample(
+                    parentContext,
+                    TRACE_ID,
+                    "child",
+                    SpanKind.INTERNAL,
+                    Attributes.empty(),
+                    Collections.emptyList())
+                .getDecision())
+        .isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+  }
+
+  @Test
+  void shouldDelegateOtherSpans() {
+    assertThat(decision(SpanKind.SERVER, urlPath("/orders")))
+        .isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(decision(SpanKind.CLIENT, urlPath("/actuator/health")))
+        .isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+    assertThat(decision(SpanKind.SERVER, Attributes.empty()))
+        .isEqualTo(SamplingDecision.RECORD_AND_SAMPLE);
+  }
+
+  private static Attributes urlPath(String path) {
+    return Attributes.of(AttributeKey.stringKey("url.path"), path);
+  }
+
+  private SamplingDecision decision(SpanKind spanKind, Attributes attributes) {
+    return decision(Context.root(), spanKind, attributes);
+  }
+
+  private SamplingDecision decision(
+      Context parentContext, SpanKind spanKind, Attributes attributes) {
+    return sampler
+        .shouldSample(
+            parentContext, TRACE_ID, "GET", spanKind, attributes, Collections.emptyList())
+        .getDecision();
+  }
+}
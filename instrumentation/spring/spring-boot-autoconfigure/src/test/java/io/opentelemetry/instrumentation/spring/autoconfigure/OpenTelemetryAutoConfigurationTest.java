@@ -195,4 +195,34 @@ class OpenTelemetryAutoConfigurationTest {
                   .doesNotHaveBean("sdkMeterProvider");
             });
   }
+
+  @Test
+  void shouldDropSpansOfMetricsOnlyPathsWhenPerformanceProfileIsEnabled() {
+    this.contextRunner
+        .withConfiguration(AutoConfigurations.of(OpenTelemetryAutoConfiguration.class))
+        .withPropertyValues(
+            "otel.springboot.performance-profile.enabled=true",
+            "otel.springboot.performance-profile.metrics-only-paths=/health,/metrics")
+        .run(
+            context -> {
+              SdkTracerProvider tracerProvider =
+                  context.getBean("sdkTracerProvider", SdkTracerProvider.class);
+
+              assertThat(tracerProvider.getSampler()).isInstanceOf(MetricsOnlyPathsSampler.class);
+            });
+  }
+
+  @Test
+  void shouldNotWrapSamplerWhenPerformanceProfileIsDisabled() {
+    this.contextRunner
+        .withConfiguration(AutoConfigurations.of(OpenTelemetryAutoConfiguration.class))
+        .run(
+            context -> {
+              SdkTracerProvider tracerProvider =
+                  context.getBean("sdkTracerProvider", SdkTracerProvider.class);
+
+              assertThat(tracerProvider.getSampler())
+                  .isNotInstanceOf(MetricsOnlyPathsSampler.class);
+            });
+  }
 }
@@ -7,6 +7,7 @@ package io.opentelemetry.javaagent.instrumentation.tomcat.common;
 
 import static io.opentelemetry.javaagent.instrumentation.tomcat.common.TomcatHelper.messageBytesToString;
 
+import io.opentelemetry.instrumentation.api.instrumenter.http.HttpHeaderVisitor;
 import io.opentelemetry.instrumentation.api.instrumenter.http.HttpServerAttributesGetter;
 import java.util.Collections;
 import java.util.List;
@@ -15,6 +16,7 @@ import org.apache.coyote.ActionCode;
 import org.apache.coyote.Request;
 import org.apache.coyote.Response;
 import org.apache.tomcat.util.buf.MessageBytes;
+import org.apache.tomcat.util.http.MimeHeaders;
 
 public class TomcatHttpAttributesGetter implements HttpServerAttributesGetter<Request, Response> {
 
@@ -47,6 +49,30 @@ public class TomcatHttpAttributesGetter implements HttpServerAttributesGetter<Re
     return Collections.list(request.getMimeHeaders().values(name));
   }
 
+  @Override
+  @Nullable
+  public String getFirstHttpRequestHeader(Request request, String name) {
+    return request.getHeader(name);
+  }
+
+  @Override
+  public boolean visitHttpRequestHeaders(Request request, HttpHeaderVisitor visitor) {
+    List<String> names = visitor.headerNames();
+    MimeHeaders headers = request.getMimeHeaders();
+    for (int i = 0; i < headers.size(); i++) {
+      // compare the raw header name first, most headers are not captured and converting
+      // MessageBytes to a string allocates
+      MessageBytes headerName = headers.getName(i);
+      for (String name : names) {
+        if (headerName.equalsIgnoreCase(name)) {
+          visitor.visit(name, headers.getValue(i).toString());
+          break;
+        }
+      }
+    }
+    return true;
+  }
+
   @Override
   @Nullable
   public Integer getHttpResponseStatusCode(
@@ -5,6 +5,7 @@
 
 package io.opentelemetry.javaagent.instrumentation.undertow;
 
+import io.opentelemetry.instrumentation.api.instrumenter.http.HttpHeaderVisitor;
 import io.opentelemetry.instrumentation.api.instrumenter.http.HttpServerAttributesGetter;
 import io.undertow.server.HttpServerExchange;
 import io.undertow.util.HeaderValues;
@@ -27,6 +28,25 @@ public class UndertowHttpAttributesGetter
     return values == null ? Collections.emptyList() : values;
   }
 
+  @Override
+  @Nullable
+  public String getFirstHttpRequestHeader(HttpServerExchange exchange, String name) {
+    return exchange.getRequestHeaders().getFirst(name);
+  }
+
+  @Override
+  public boolean visitHttpRequestHeaders(HttpServerExchange exchange, HttpHeaderVisitor visitor) {
+    for (HeaderValues values : exchange.getRequestHeaders()) {
+      String name = values.getHeaderName().toString();
+      if (visitor.isInterested(name)) {
+        for (String value : values) {
+          visitor.visit(name, value);
+        }
+      }
+    }
+    return true;
+  }
+
   @Override
   public Integer getHttpResponseStatusCode(
       HttpServerExchange exchange, HttpServerExchange unused, @Nullable Throwable error) {
@@ -23,6 +23,8 @@ import java.security.PermissionCollection;
 import java.security.Permissions;
 import java.security.cert.Certificate;
 import java.util.Enumeration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.Manifest;
@@ -63,11 +65,14 @@ public class AgentClassLoader extends URLClassLoader {
   private final BootstrapClassLoaderProxy bootstrapProxy;
 
   private final JarFile jarFile;
+  // index of the internal jar, null when the agent jar could not be indexed
+  @Nullable private final AgentJarIndex jarIndex;
   private final URL jarBase;
   private final String jarEntryPrefix;
   private final CodeSource codeSource;
   private final boolean isSecurityManagerSupportEnabled;
   private final Manifest manifest;
+  private final Set<String> definedPackages = ConcurrentHashMap.newKeySet();
 
   // Used by tests
   public AgentClassLoader(File javaagentFile) {
@@ -110,6 +115,9 @@ public class AgentClassLoader extends URLClassLoader {
     } catch (IOException e) {
       throw new IllegalStateException("Unable to open agent jar", e);
     }
+    jarIndex =
+        AgentJarIndex.create(
+            javaagentFile, jarEntryPrefix, MULTI_RELEASE_JAR_ENABLE ? JAVA_VERSION : 0);
 
     if (!AGENT_INITIALIZER_JAR.isEmpty()) {
       URL url;
@@ -169,6 +177,22 @@ public class AgentClassLoader extends URLClassLoader {
   }
 
   private Class<?> findAgentClass(String name) throws ClassNotFoundException {
+    if (jarIndex != null) {
+      int entry = jarIndex.find(name.replace('.', '/') + ".class" + getClassSuffix());
+      if (entry == -1) {
+        return null;
+      }
+      byte[] bytes;
+      try {
+        bytes = jarIndex.getBytes(entry);
+      } catch (IOException exception) {
+        throw new ClassNotFoundException(name, exception);
+      }
+
+      definePackageIfNeeded(name);
+      return defineClass(name, bytes);
+    }
+
     JarEntry jarEntry = findJarEntry(name.replace('.', '/') + ".class");
     if (jarEntry != null) {
       byte[] bytes;
@@ -217,7 +241,7 @@ public class AgentClassLoader extends URLClassLoader {
 
   private void definePackageIfNeeded(String className) {
     String packageName = getPackageName(className);
-    if (packageName == null) {
+    if (packageName == null || definedPackages.contains(packageName)) {
       return;
     }
     if (getPackage(packageName) == null) {
@@ -229,6 +253,7 @@ public class AgentClassLoader extends URLClassLoader {
         }
       }
     }
+    definedPackages.add(packageName);
   }
 
   private static String getPackageName(String className) {
@@ -296,23 +321,34 @@ public class AgentClassLoader extends URLClassLoader {
   }
 
   private URL findJarResource(String name) {
+    if (jarIndex != null) {
+      if (name.endsWith(".class")) {
+        name += getClassSuffix();
+      }
+      int entry = jarIndex.find(name);
+      return entry == -1 ? null : getJarEntryUrl(jarIndex.getEntryName(entry));
+    }
+
     JarEntry jarEntry = findJarEntry(name);
     return getJarEntryUrl(jarEntry);
   }
 
   private URL getJarEntryUrl(JarEntry jarEntry) {
     if (jarEntry != null) {
-      try {
-        return new URL(jarBase, jarEntry.getName());
-      } catch (MalformedURLException e) {
-        throw new IllegalStateException(
-            "Failed to construct url for jar entry " + jarEntry.getName(), e);
-      }
+      return getJarEntryUrl(jarEntry.getName());
     }
 
     return null;
   }
 
+  private URL getJarEntryUrl(String entryName) {
+    try {
+      return new URL(jarBase, entryName);
+    } catch (MalformedURLException e) {
+      throw new IllegalStateException("Failed to construct url for jar entry " + entryName, e);
+    }
+  }
+
   @Override
   public Enumeration<URL> findResources(String name) throws IOException {
     // find resources from agent initializer jar
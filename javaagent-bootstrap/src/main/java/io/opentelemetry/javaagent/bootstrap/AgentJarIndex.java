@@ -0,0 +1,380 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.bootstrap;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+import javax.annotation.Nullable;
+
+/**
+ * An index of the agent jar entries loaded by {@link AgentClassLoader}. The central directory of
+ * the jar is read once into an open addressing hash table keyed by entry name (relative to the
+ * internal jar prefix, with multi release versions already resolved), and entry contents are read
+ * from a memory mapped view of the jar instead of going through {@link java.util.jar.JarFile}.
+ *
+ * <p>Only jars without zip64 extensions and with ASCII entry names are indexed; {@link
+ * #create(File, String, int)} returns {@code null} for anything else and the caller is expected to
+ * fall back to {@link java.util.jar.JarFile}.
+ *
+ * <p>This class is thread safe.
+ */
+final class AgentJarIndex {
+
+  private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+  private static final int LOCAL_HEADER_SIZE = 30;
+  private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+  private static final int CENTRAL_HEADER_SIZE = 46;
+  private static final int END_HEADER_SIGNATURE = 0x06054b50;
+  private static final int END_HEADER_SIZE = 22;
+  private static final int MAX_COMMENT_SIZE = 0xFFFF;
+
+  private static final int STORED = 0;
+  private static final int DEFLATED = 8;
+
+  private static final byte[] META_INF = "META-INF/".getBytes(US_ASCII);
+  private static final byte[] META_INF_VERSIONS = "META-INF/versions/".getBytes(US_ASCII);
+  private static final int MIN_MULTI_RELEASE_VERSION = 9;
+
+  private final ByteBuffer buffer;
+  // entry index + 1, 0 marks an empty slot
+  private int[] table;
+  private int[] hashes;
+  // offset of the (prefix and version stripped) entry name in the central directory
+  private int[] keyOffsets;
+  private int[] centralOffsets;
+  private int[] versions;
+  private int size;
+
+  private final Queue<Inflater> inflaters = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Indexes the entries of the given jar that start with {@code entryPrefix}. Entries under {@code
+   * META-INF/versions/<n>/} are additionally indexed under their unversioned name, preferring the
+   * highest version that is not greater than {@code maxVersion}.
+   */
+  @Nullable
+  static AgentJarIndex create(File jarFile, String entryPrefix, int maxVersion) {
+    try (FileChannel channel = FileChannel.open(jarFile.toPath(), StandardOpenOption.READ)) {
+      long fileSize = channel.size();
+      if (fileSize > Integer.MAX_VALUE) {
+        return null;
+      }
+      // the mapping stays valid after the channel is closed
+      ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+      return create(buffer.order(ByteOrder.LITTLE_ENDIAN), entryPrefix, maxVersion);
+    } catch (IOException | RuntimeException exception) {
+      return null;
+    }
+  }
+
+  @Nullable
+  private static AgentJarIndex create(ByteBuffer buffer, String entryPrefix, int maxVersion) {
+    byte[] prefix = entryPrefix.getBytes(US_ASCII);
+    int end = findEndHeader(buffer);
+    if (end < 0) {
+      return null;
+    }
+    int count = u16(buffer, end + 10);
+    long centralSize = u32(buffer, end + 12);
+    long centralOffset = u32(buffer, end + 16);
+    if (count == 0xFFFF || centralOffset + centralSize > end) {
+      return null;
+    }
+
+    AgentJarIndex index = new AgentJarIndex(buffer, count);
+    int position = (int) centralOffset;
+    for (int i = 0; i < count; i++) {
+      if (position + CENTRAL_HEADER_SIZE > end
+          || buffer.getInt(position) != CENTRAL_HEADER_SIGNATURE) {
+        return null;
+      }
+      int nameLength = u16(buffer, position + 28);
+      int nameOffset = position + CENTRAL_HEADER_SIZE;
+      int nameEnd = nameOffset + nameLength;
+      if (isZip64(buffer, position) || !isAscii(buffer, nameOffset, nameEnd)) {
+        return null;
+      }
+
+      if (startsWith(buffer, nameOffset, nameEnd, prefix)) {
+        int keyOffset = nameOffset + prefix.length;
+        index.add(keyOffset, position, 0);
+        if (maxVersion >= MIN_MULTI_RELEASE_VERSION
+            && startsWith(buffer, keyOffset, nameEnd, META_INF_VERSIONS)) {
+          index.addVersioned(keyOffset + META_INF_VERSIONS.length, nameEnd, position, maxVersion);
+        }
+      }
+      position = nameEnd + u16(buffer, position + 30) + u16(buffer, position + 32);
+    }
+    return index;
+  }
+
+  private static int findEndHeader(ByteBuffer buffer) {
+    int limit = buffer.limit();
+    int min = Math.max(0, limit - END_HEADER_SIZE - MAX_COMMENT_SIZE);
+    for (int i = limit - END_HEADER_SIZE; i >= min; i--) {
+      if (buffer.getInt(i) == END_HEADER_SIGNATURE
+          && i + END_HEADER_SIZE + u16(buffer, i + 20) == limit) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean isZip64(ByteBuffer buffer, int central) {
+    return buffer.getInt(central + 20) == -1
+        || u32(buffer, central + 24) > Integer.MAX_VALUE
+        || buffer.getInt(central + 42) == -1;
+  }
+
+  private AgentJarIndex(ByteBuffer buffer, int count) {
+    this.buffer = buffer;
+    int capacity = 16;
+    while (capacity < count * 2) {
+      capacity <<= 1;
+    }
+    table = new int[capacity];
+    hashes = new int[count];
+    keyOffsets = new int[count];
+    centralOffsets = new int[count];
+    versions = new int[count];
+  }
+
+  // the key of a versioned entry starts after "META-INF/versions/<n>/"
+  private void addVersioned(int versionOffset, int nameEnd, int central, int maxVersion) {
+    int version = 0;
+    int position = versionOffset;
+    while (position < nameEnd && position - versionOffset < 4) {
+      byte b = buffer.get(position);
+      if (b < '0' || b > '9') {
+        break;
+      }
+      version = version * 10 + (b - '0');
+      position++;
+    }
+    if (position == versionOffset
+        || position + 1 >= nameEnd
+        || buffer.get(position) != '/'
+        || version < MIN_MULTI_RELEASE_VERSION
+        || version > maxVersion
+        // same as JarFile, versioned META-INF entries are not resolved
+        || startsWith(buffer, position + 1, nameEnd, META_INF)) {
+      return;
+    }
+    add(position + 1, central, version);
+  }
+
+  private void add(int keyOffset, int central, int version) {
+    int keyLength = keyEnd(central) - keyOffset;
+    if (keyLength == 0) {
+      return;
+    }
+    int hash = 0;
+    for (int i = 0; i < keyLength; i++) {
+      hash = 31 * hash + buffer.get(keyOffset + i);
+    }
+
+    int mask = table.length - 1;
+    int slot = spread(hash) & mask;
+    while (table[slot] != 0) {
+      int entry = table[slot] - 1;
+      if (hashes[entry] == hash && keyEquals(entry, keyOffset, keyLength)) {
+        // keep the highest version, and the first entry when a name is duplicated
+        if (version > versions[entry]) {
+          keyOffsets[entry] = keyOffset;
+          centralOffsets[entry] = central;
+          versions[entry] = version;
+        }
+        return;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    if (size == hashes.length) {
+      // versioned entries are indexed twice, so there can be more entries than in the jar
+      grow();
+      add(keyOffset, central, version);
+      return;
+    }
+    int entry = size++;
+    hashes[entry] = hash;
+    keyOffsets[entry] = keyOffset;
+    centralOffsets[entry] = central;
+    versions[entry] = version;
+    table[slot] = entry + 1;
+  }
+
+  private void grow() {
+    int capacity = hashes.length * 2;
+    hashes = Arrays.copyOf(hashes, capacity);
+    keyOffsets = Arrays.copyOf(keyOffsets, capacity);
+    centralOffsets = Arrays.copyOf(centralOffsets, capacity);
+    versions = Arrays.copyOf(versions, capacity);
+
+    table = new int[table.length * 2];
+    int mask = table.length - 1;
+    for (int entry = 0; entry < size; entry++) {
+      int slot = spread(hashes[entry]) & mask;
+      while (table[slot] != 0) {
+        slot = (slot + 1) & mask;
+      }
+      table[slot] = entry + 1;
+    }
+  }
+
+  /** Returns the entry with the given name, or {@code -1} when there is no such entry. */
+  int find(String name) {
+    int hash = name.hashCode();
+    int mask = table.length - 1;
+    for (int slot = spread(hash) & mask; table[slot] != 0; slot = (slot + 1) & mask) {
+      int entry = table[slot] - 1;
+      if (hashes[entry] == hash && keyEquals(entry, name)) {
+        return entry;
+      }
+    }
+    return -1;
+  }
+
+  /** Returns the full name of the given entry in the jar. */
+  String getEntryName(int entry) {
+    int nameOffset = centralOffsets[entry] + CENTRAL_HEADER_SIZE;
+    byte[] name = new byte[keyEnd(centralOffsets[entry]) - nameOffset];
+    ByteBuffer source = buffer.duplicate();
+    source.position(nameOffset);
+    source.get(name);
+    return new String(name, US_ASCII);
+  }
+
+  /** Returns the uncompressed content of the given entry. */
+  byte[] getBytes(int entry) throws IOException {
+    int central = centralOffsets[entry];
+    int method = u16(buffer, central + 10);
+    int compressedSize = buffer.getInt(central + 20);
+    int uncompressedSize = buffer.getInt(central + 24);
+    int local = buffer.getInt(central + 42);
+    if (buffer.getInt(local) != LOCAL_HEADER_SIGNATURE) {
+      throw new ZipException("Invalid local header for " + getEntryName(entry));
+    }
+    ByteBuffer source = buffer.duplicate();
+    source.position(
+        local + LOCAL_HEADER_SIZE + u16(buffer, local + 26) + u16(buffer, local + 28));
+
+    if (method == STORED) {
+      byte[] bytes = new byte[uncompressedSize];
+      source.get(bytes);
+      return bytes;
+    }
+    if (method != DEFLATED) {
+      throw new ZipException(
+          "Unsupported compression method " + method + " for " + getEntryName(entry));
+    }
+    // nowrap inflater may need an extra dummy byte, see Inflater(boolean)
+    byte[] compressed = new byte[compressedSize + 1];
+    source.get(compressed, 0, compressedSize);
+    return inflate(entry, compressed, uncompressedSize);
+  }
+
+  private byte[] inflate(int entry, byte[] compressed, int uncompressedSize) throws IOException {
+    Inflater inflater = inflaters.poll();
+    if (inflater == null) {
+      inflater = new Inflater(true);
+    }
+    try {
+      inflater.setInput(compressed);
+      byte[] bytes = new byte[uncompressedSize];
+      int offset = 0;
+      while (offset < uncompressedSize) {
+        int read = inflater.inflate(bytes, offset, uncompressedSize - offset);
+        if (read == 0 && (inflater.finished() || inflater.needsInput())) {
+          throw new ZipException("Truncated entry " + getEntryName(entry));
+        }
+        offset += read;
+      }
+      return bytes;
+    } catch (DataFormatException exception) {
+      throw new IOException("Failed to inflate " + getEntryName(entry), exception);
+    } finally {
+      inflater.reset();
+      inflaters.offer(inflater);
+    }
+  }
+
+  private int keyEnd(int central) {
+    return central + CENTRAL_HEADER_SIZE + u16(buffer, central + 28);
+  }
+
+  private boolean keyEquals(int entry, String name) {
+    int keyOffset = keyOffsets[entry];
+    int length = name.length();
+    if (keyEnd(centralOffsets[entry]) - keyOffset != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      // names are ascii, so a non ascii char never matches
+      if (buffer.get(keyOffset + i) != name.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private boolean keyEquals(int entry, int keyOffset, int keyLength) {
+    int otherOffset = keyOffsets[entry];
+    if (keyEnd(centralOffsets[entry]) - otherOffset != keyLength) {
+      return false;
+    }
+    for (int i = 0; i < keyLength; i++) {
+      if (buffer.get(keyOffset + i) != buffer.get(otherOffset + i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean startsWith(ByteBuffer buffer, int offset, int end, byte[] prefix) {
+    if (end - offset < prefix.length) {
+      return false;
+    }
+    for (int i = 0; i < prefix.length; i++) {
+      if (buffer.get(offset + i) != prefix[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean isAscii(ByteBuffer buffer, int offset, int end) {
+    for (int i = offset; i < end; i++) {
+      if (buffer.get(i) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  private static int u16(ByteBuffer buffer, int offset) {
+    return buffer.getShort(offset) & 0xFFFF;
+  }
+
+  private static long u32(ByteBuffer buffer, int offset) {
+    return buffer.getInt(offset) & 0xFFFFFFFFL;
+  }
+}
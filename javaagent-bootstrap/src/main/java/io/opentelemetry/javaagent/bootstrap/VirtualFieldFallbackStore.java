@@ -0,0 +1,98 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.bootstrap;
+
+import static java.util.logging.Level.FINE;
+
+import io.opentelemetry.instrumentation.api.internal.SupportabilityMetrics;
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+
+/**
+ * Map-backed storage used by virtual field implementations for instances of classes that could
+ * not get the virtual field injected, e.g. because the class was loaded before the agent was
+ * installed. The storage is split into stripes selected by the identity hash code of the owner
+ * instance to reduce contention on hot types, and every access is counted through {@link
+ * SupportabilityMetrics} so that types that end up on this slow path can be identified.
+ */
+public final class VirtualFieldFallbackStore {
+
+  private static final Logger logger = Logger.getLogger(VirtualFieldFallbackStore.class.getName());
+
+  private static final int STRIPES =
+      Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2);
+  // bounds the number of owner classes logged per virtual field
+  private static final int MAX_REPORTED_CLASSES = 32;
+
+  private final String typeName;
+  private final String fieldTypeName;
+  private final String counterName;
+  private final Cache<Object, Object>[] stripes;
+  private final int mask;
+  private final Set<String> reportedClasses = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Creates the fallback storage for the virtual field of type {@code fieldTypeName} on {@code
+   * typeName}. This method is called from the generated virtual field implementations.
+   */
+  public static VirtualFieldFallbackStore create(String typeName, String fieldTypeName) {
+    return new VirtualFieldFallbackStore(typeName, fieldTypeName, STRIPES);
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private VirtualFieldFallbackStore(String typeName, String fieldTypeName, int stripeCount) {
+    this.typeName = typeName;
+    this.fieldTypeName = fieldTypeName;
+    this.counterName = "VirtualField fallback " + typeName + "#" + fieldTypeName;
+    this.stripes = new Cache[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = Cache.weak();
+    }
+    this.mask = stripeCount - 1;
+  }
+
+  @Nullable
+  public Object get(Object owner) {
+    recordFallback(owner);
+    return stripe(owner).get(owner);
+  }
+
+  public void put(Object owner, @Nullable Object value) {
+    recordFallback(owner);
+    if (value == null) {
+      stripe(owner).remove(owner);
+    } else {
+      stripe(owner).put(owner, value);
+    }
+  }
+
+  private Cache<Object, Object> stripe(Object owner) {
+    return stripes[spread(System.identityHashCode(owner)) & mask];
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+
+  private void recordFallback(Object owner) {
+    SupportabilityMetrics.instance().incrementCounter(counterName);
+
+    if (!logger.isLoggable(FINE)) {
+      return;
+    }
+    String ownerClassName = owner.getClass().getName();
+    if (reportedClasses.size() < MAX_REPORTED_CLASSES && reportedClasses.add(ownerClassName)) {
+      logger.log(
+          FINE,
+          "Virtual field {0} on {1} falls back to map-backed storage for instances of {2}, the"
+              + " field could not be injected into that class",
+          new Object[] {fieldTypeName, typeName, ownerClassName});
+    }
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.bootstrap;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AgentJarIndexTest {
+
+  @TempDir File tempDir;
+  private File jar;
+
+  @BeforeEach
+  void createJar() throws IOException {
+    jar = new File(tempDir, "agent.jar");
+    try (ZipOutputStream out = new ZipOutputStream(new FileOutputStream(jar))) {
+      addEntry(out, "Bootstrap.class", "bootstrap", false);
+      addEntry(out, "inst/", "", false);
+      addEntry(out, "inst/a/Deflated.classdata", "deflated deflated deflated", false);
+      addEntry(out, "inst/a/Stored.classdata", "stored", true);
+      addEntry(out, "inst/META-INF/versions/9/a/Deflated.classdata", "java 9", false);
+      addEntry(out, "inst/META-INF/versions/11/a/Deflated.classdata", "java 11", true);
+      addEntry(out, "inst/META-INF/versions/11/META-INF/resource", "versioned", false);
+    }
+  }
+
+  @Test
+  void readsEntriesUnderPrefix() throws IOException {
+    AgentJarIndex index = AgentJarIndex.create(jar, "inst/", 0);
+
+    assertThat(index).isNotNull();
+    assertThat(read(index, "a/Deflated.classdata")).isEqualTo("deflated deflated deflated");
+    assertThat(read(index, "a/Stored.classdata")).isEqualTo("stored");
+    assertThat(index.getEntryName(index.find("a/Stored.classdata")))
+        .isEqualTo("inst/a/Stored.classdata");
+    assertThat(index.find("Bootstrap.class")).isEqualTo(-1);
+    assertThat(index.find("a/Missing.classdata")).isEqualTo(-1);
+    assertThat(index.find("a/Stored.classdat\u00e4")).isEqualTo(-1);
+  }
+
+  @Test
+  void resolvesMultiReleaseEntries() throws IOException {
+    assertThat(read(AgentJarIndex.create(jar, "inst/", 10), "a/Deflated.classdata"))
+        .isEqualTo("java 9");
+
+    AgentJarIndex index = AgentJarIndex.create(jar, "inst/", 17);
+    assertThat(read(index, "a/Deflated.classdata")).isEqualTo("java 11");
+    assertThat(index.getEntryName(index.find("a/Deflated.classdata")))
+        .isEqualTo("inst/META-INF/versions/11/a/Deflated.classdata");
+    // versioned entries are still reachable by their full name, META-INF is never versioned
+    assertThat(read(index, "META-INF/versions/9/a/Deflated.classdata")).isEqualTo("java 9");
+    assertThat(index.find("META-INF/resource")).isEqualTo(-1);
+  }
+
+  @Test
+  void doesNotIndexInvalidJar() throws IOException {
+    File notAJar = new File(tempDir, "invalid.jar");
+    try (FileOutputStream out = new FileOutputStream(notAJar)) {
+      out.write("not a jar".getBytes(UTF_8));
+    }
+
+    assertThat(AgentJarIndex.create(notAJar, "inst/", 0)).isNull();
+  }
+
+  private static String read(AgentJarIndex index, String name) throws IOException {
+    int entry = index.find(name);
+    assertThat(entry).isNotEqualTo(-1);
+    return new String(index.getBytes(entry), UTF_8);
+  }
+
+  private static void addEntry(ZipOutputStream out, String name, String content, boolean stored)
+      throws IOException {
+    byte[] bytes = content.getBytes(UTF_8);
+    ZipEntry entry = new ZipEntry(name);
+    if (stored) {
+      CRC32 crc = new CRC32();
+      crc.update(bytes);
+      entry.setMethod(ZipEntry.STORED);
+      entry.setSize(bytes.length);
+      entry.setCrc(crc.getValue());
+    }
+    out.putNextEntry(entry);
+    out.write(bytes);
+    out.closeEntry();
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.bootstrap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class VirtualFieldFallbackStoreTest {
+
+  @Test
+  void storesValuesPerInstance() {
+    VirtualFieldFallbackStore store =
+        VirtualFieldFallbackStore.create(Runnable.class.getName(), String.class.getName());
+
+    List<Object> owners = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      Object owner = new Object();
+      owners.add(owner);
+      store.put(owner, "value" + i);
+    }
+
+    for (int i = 0; i < owners.size(); i++) {
+      assertThat(store.get(owners.get(i))).isEqualTo("value" + i);
+    }
+    assertThat(store.get(new Object())).isNull();
+
+    store.put(owners.get(0), null);
+    assertThat(store.get(owners.get(0))).isNull();
+    assertThat(store.get(owners.get(1))).isEqualTo("value1");
+  }
+}
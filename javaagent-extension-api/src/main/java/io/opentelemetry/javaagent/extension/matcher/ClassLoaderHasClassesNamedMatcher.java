@@ -8,12 +8,27 @@ package io.opentelemetry.javaagent.extension.matcher;
 import io.opentelemetry.instrumentation.api.internal.cache.Cache;
 import io.opentelemetry.javaagent.bootstrap.internal.ClassLoaderMatcherCacheHolder;
 import io.opentelemetry.javaagent.bootstrap.internal.InClassLoaderMatcher;
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
 import java.util.BitSet;
+import java.util.Enumeration;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import javax.annotation.Nullable;
 import net.bytebuddy.matcher.ElementMatcher;
 
 class ClassLoaderHasClassesNamedMatcher extends ElementMatcher.Junction.AbstractBase<ClassLoader> {
@@ -63,12 +78,29 @@ class ClassLoaderHasClassesNamedMatcher extends ElementMatcher.Junction.Abstract
     return true;
   }
 
+  private static boolean hasCachedResources(ClassLoader cl, String... resources) {
+    boolean priorValue = InClassLoaderMatcher.getAndSet(true);
+    try {
+      for (String resource : resources) {
+        if (!Manager.INSTANCE.hasResource(cl, resource)) {
+          return false;
+        }
+      }
+    } finally {
+      InClassLoaderMatcher.set(priorValue);
+    }
+    return true;
+  }
+
   private static class Manager {
     static final Manager INSTANCE = new Manager();
     private final List<ClassLoaderHasClassesNamedMatcher> matchers = new CopyOnWriteArrayList<>();
     // each matcher gets a two bits in BitSet, that first bit indicates whether current matcher has
     // been run for given class loader and the second whether it matched or not
     private final Cache<ClassLoader, BitSet> enabled = Cache.weak();
+    // results of individual resource lookups, shared by all matchers because many modules check
+    // for the same classes
+    private final Cache<ClassLoader, ResourceProbe> probes = Cache.weak();
     private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
     private final Lock readLock = lock.readLock();
     private final Lock writeLock = lock.writeLock();
@@ -76,6 +108,7 @@ class ClassLoaderHasClassesNamedMatcher extends ElementMatcher.Junction.Abstract
 
     Manager() {
       ClassLoaderMatcherCacheHolder.addCache(enabled);
+      ClassLoaderMatcherCacheHolder.addCache(probes);
     }
 
     void add(ClassLoaderHasClassesNamedMatcher matcher) {
@@ -97,7 +130,7 @@ class ClassLoaderHasClassesNamedMatcher extends ElementMatcher.Junction.Abstract
           readLock.unlock();
           // we do the resource presence check outside the lock to keep the time we need to hold
           // the write lock minimal
-          boolean matches = hasResources(cl, matcher.resources);
+          boolean matches = hasCachedResources(cl, matcher.resources);
           writeLock.lock();
           try {
             if (!set.get(matcherRunBit)) {
@@ -118,5 +151,110 @@ class ClassLoaderHasClassesNamedMatcher extends ElementMatcher.Junction.Abstract
         readLock.unlock();
       }
     }
+
+    boolean hasResource(ClassLoader cl, String resource) {
+      return probes.computeIfAbsent(cl, ResourceProbe::create).hasResource(cl, resource);
+    }
+  }
+
+  private static final class ResourceProbe {
+    private static final String VERSIONS_PREFIX = "META-INF/versions/";
+
+    private final ConcurrentHashMap<String, Boolean> results = new ConcurrentHashMap<>();
+    // index of the class loader's own jars and directories, null when the class loader can't be
+    // introspected
+    @Nullable private final Set<String> jarPackages;
+    @Nullable private final List<File> directories;
+
+    private ResourceProbe(@Nullable Set<String> jarPackages, @Nullable List<File> directories) {
+      this.jarPackages = jarPackages;
+      this.directories = directories;
+    }
+
+    static ResourceProbe create(ClassLoader cl) {
+      // only plain URLClassLoaders are indexed, subclasses may change how resources are looked up
+      if (cl.getClass() != URLClassLoader.class || cl.getParent() == null) {
+        return new ResourceProbe(null, null);
+      }
+      Set<String> jarPackages = new HashSet<>();
+      List<File> directories = new ArrayList<>();
+      for (URL url : ((URLClassLoader) cl).getURLs()) {
+        if (!"file".equals(url.getProtocol())) {
+          return new ResourceProbe(null, null);
+        }
+        File file;
+        try {
+          file = new File(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+          return new ResourceProbe(null, null);
+        }
+        if (file.isDirectory()) {
+          directories.add(file);
+        } else if (file.isFile() && !indexJar(file, jarPackages)) {
+          return new ResourceProbe(null, null);
+        }
+      }
+      return new ResourceProbe(jarPackages, directories);
+    }
+
+    private static boolean indexJar(File file, Set<String> packages) {
+      try (JarFile jarFile = new JarFile(file, false)) {
+        Manifest manifest = jarFile.getManifest();
+        if (manifest != null
+            && manifest.getMainAttributes().getValue(Attributes.Name.CLASS_PATH) != null) {
+          // jars referenced from the manifest are also searched by the class loader
+          return false;
+        }
+        Enumeration<JarEntry> entries = jarFile.entries();
+        while (entries.hasMoreElements()) {
+          packages.add(packageOf(stripVersion(entries.nextElement().getName())));
+        }
+        return true;
+      } catch (IOException | SecurityException e) {
+        return false;
+      }
+    }
+
+    private static String stripVersion(String name) {
+      if (name.startsWith(VERSIONS_PREFIX)) {
+        int index = name.indexOf('/', VERSIONS_PREFIX.length());
+        if (index != -1) {
+          return name.substring(index + 1);
+        }
+      }
+      return name;
+    }
+
+    private static String packageOf(String name) {
+      int index = name.lastIndexOf('/');
+      return index == -1 ? "" : name.substring(0, index);
+    }
+
+    boolean hasResource(ClassLoader cl, String resource) {
+      Boolean result = results.get(resource);
+      if (result == null) {
+        result = lookup(cl, resource);
+        results.put(resource, result);
+      }
+      return result;
+    }
+
+    private boolean lookup(ClassLoader cl, String resource) {
+      if (jarPackages == null || directories == null) {
+        return cl.getResource(resource) != null;
+      }
+      // URLClassLoader delegates to the parent first, results for the parent are cached too
+      if (Manager.INSTANCE.hasResource(cl.getParent(), resource)) {
+        return true;
+      }
+      for (File directory : directories) {
+        if (new File(directory, resource).isFile()) {
+          return true;
+        }
+      }
+      // the resource can only be in one of the jars when its package is there
+      return jarPackages.contains(packageOf(resource))
+          && ((URLClassLoader) cl).findResource(resource) != null;
+    }
   }
 }
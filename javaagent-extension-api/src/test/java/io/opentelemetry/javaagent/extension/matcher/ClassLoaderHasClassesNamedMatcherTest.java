@@ -0,0 +1,150 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.extension.matcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ClassLoaderHasClassesNamedMatcherTest {
+
+  // all matchers have to be created before the first match
+  private static final ClassLoaderHasClassesNamedMatcher jarClass =
+      new ClassLoaderHasClassesNamedMatcher("com.example.jar.Present");
+  private static final ClassLoaderHasClassesNamedMatcher missingInIndexedPackage =
+      new ClassLoaderHasClassesNamedMatcher("com.example.jar.Missing");
+  private static final ClassLoaderHasClassesNamedMatcher missingPackage =
+      new ClassLoaderHasClassesNamedMatcher("com.example.other.Missing");
+  private static final ClassLoaderHasClassesNamedMatcher directoryClass =
+      new ClassLoaderHasClassesNamedMatcher("com.example.dir.Present");
+  private static final ClassLoaderHasClassesNamedMatcher bothClasses =
+      new ClassLoaderHasClassesNamedMatcher("com.example.jar.Present", "com.example.dir.Present");
+  private static final ClassLoaderHasClassesNamedMatcher manifestClassPathClass =
+      new ClassLoaderHasClassesNamedMatcher("com.example.referenced.Present");
+  private static final ClassLoaderHasClassesNamedMatcher countedClass =
+      new ClassLoaderHasClassesNamedMatcher("com.example.counted.Present");
+  private static final ClassLoaderHasClassesNamedMatcher otherCountedClass =
+      new ClassLoaderHasClassesNamedMatcher("com.example.counted.Present");
+  private static final ClassLoaderHasClassesNamedMatcher countedMissingClass =
+      new ClassLoaderHasClassesNamedMatcher("com.example.counted.Missing");
+  private static final ClassLoaderHasClassesNamedMatcher otherCountedMissingClass =
+      new ClassLoaderHasClassesNamedMatcher("com.example.counted.Missing");
+
+  @TempDir Path tempDir;
+
+  @Test
+  void matchesIndexedJarsAndDirectories() throws IOException {
+    File jar = createJar("lib.jar", "", "com/example/jar/Present.class");
+    Path directory = Files.createDirectories(tempDir.resolve("classes/com/example/dir"));
+    Files.createFile(directory.resolve("Present.class"));
+
+    URLClassLoader classLoader =
+        newUrlClassLoader(jar.toURI().toURL(), tempDir.resolve("classes").toUri().toURL());
+
+    assertThat(jarClass.matches(classLoader)).isTrue();
+    assertThat(directoryClass.matches(classLoader)).isTrue();
+    assertThat(bothClasses.matches(classLoader)).isTrue();
+    assertThat(missingInIndexedPackage.matches(classLoader)).isFalse();
+    assertThat(missingPackage.matches(classLoader)).isFalse();
+  }
+
+  @Test
+  void followsManifestClassPath() throws IOException {
+    createJar("referenced.jar", "", "com/example/referenced/Present.class");
+    File jar = createJar("main.jar", "referenced.jar", "com/example/main/Main.class");
+
+    URLClassLoader classLoader = newUrlClassLoader(jar.toURI().toURL());
+
+    assertThat(manifestClassPathClass.matches(classLoader)).isTrue();
+  }
+
+  @Test
+  void sharesLookupsBetweenMatchers() {
+    CountingClassLoader classLoader = new CountingClassLoader("com/example/counted/Present.class");
+
+    assertThat(countedClass.matches(classLoader)).isTrue();
+    assertThat(otherCountedClass.matches(classLoader)).isTrue();
+    assertThat(countedMissingClass.matches(classLoader)).isFalse();
+    assertThat(otherCountedMissingClass.matches(classLoader)).isFalse();
+
+    // one lookup per resource, negative results are cached too
+    assertThat(classLoader.lookups.get()).isEqualTo(2);
+  }
+
+  @Test
+  void sharesParentLookupsBetweenChildren() throws IOException {
+    CountingClassLoader parent = new CountingClassLoader("com/example/counted/Present.class");
+    File jar = createJar("child.jar", "", "com/example/child/Child.class");
+
+    URLClassLoader first = new URLClassLoader(new URL[] {jar.toURI().toURL()}, parent);
+    URLClassLoader second = new URLClassLoader(new URL[] {jar.toURI().toURL()}, parent);
+
+    assertThat(countedClass.matches(first)).isTrue();
+    assertThat(countedClass.matches(second)).isTrue();
+    assertThat(countedMissingClass.matches(first)).isFalse();
+    assertThat(countedMissingClass.matches(second)).isFalse();
+
+    assertThat(parent.lookups.get()).isEqualTo(2);
+  }
+
+  private static URLClassLoader newUrlClassLoader(URL... urls) {
+    return new URLClassLoader(urls, ClassLoaderHasClassesNamedMatcherTest.class.getClassLoader());
+  }
+
+  private File createJar(String name, String classPath, String... entries) throws IOException {
+    Manifest manifest = new Manifest();
+    manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+    if (!classPath.isEmpty()) {
+      manifest.getMainAttributes().put(Attributes.Name.CLASS_PATH, classPath);
+    }
+    File file = tempDir.resolve(name).toFile();
+    try (OutputStream out = Files.newOutputStream(file.toPath());
+        JarOutputStream jar = new JarOutputStream(out, manifest)) {
+      for (String entry : entries) {
+        jar.putNextEntry(new JarEntry(entry));
+        jar.closeEntry();
+      }
+    }
+    return file;
+  }
+
+  private static class CountingClassLoader extends ClassLoader {
+    private final String resource;
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    CountingClassLoader(String resource) {
+      super(null);
+      this.resource = resource;
+    }
+
+    @Override
+    public URL getResource(String name) {
+      lookups.incrementAndGet();
+      if (!resource.equals(name)) {
+        return null;
+      }
+      try {
+        return new URL("file:/" + name);
+      } catch (MalformedURLException e) {
+        throw new IllegalStateException(e);
+      }
+    }
+  }
+}
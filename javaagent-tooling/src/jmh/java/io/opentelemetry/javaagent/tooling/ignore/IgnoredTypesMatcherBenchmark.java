@@ -6,6 +6,10 @@
 package io.opentelemetry.javaagent.tooling.ignore;
 
 import io.opentelemetry.javaagent.tooling.EmptyConfigProperties;
+import io.opentelemetry.javaagent.tooling.util.Trie;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.matcher.ElementMatcher;
@@ -14,7 +18,11 @@ import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Measurement;
 import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 
 @Fork(1)
@@ -24,18 +32,30 @@ import org.openjdk.jmh.annotations.Warmup;
 @BenchmarkMode(Mode.AverageTime)
 public class IgnoredTypesMatcherBenchmark {
 
+  private static final int CORPUS_SIZE = 100_000;
+
   private static final TypeDescription springType =
       new TypeDescription.Latent("org.springframework.test.SomeClass", 0, null);
   private static final TypeDescription testAppType =
       new TypeDescription.Latent("com.example.myapp.Main", 0, null);
 
   private static final ElementMatcher<TypeDescription> ignoredTypesMatcher;
+  private static final ElementMatcher<ClassLoader> ignoredClassLoadersMatcher;
+  private static final ClassLoader appClassLoader = new URLClassLoader(new URL[0], null);
 
   static {
+    IgnoredTypesBuilderImpl builder = createBuilder();
+    ignoredTypesMatcher = new IgnoredTypesMatcher(builder.buildIgnoredTypesTrie());
+    ignoredClassLoadersMatcher =
+        new IgnoredClassLoadersMatcher(builder.buildIgnoredClassLoadersTrie());
+  }
+
+  private static IgnoredTypesBuilderImpl createBuilder() {
     IgnoredTypesBuilderImpl builder = new IgnoredTypesBuilderImpl();
+    new GlobalIgnoredTypesConfigurer().configure(builder, EmptyConfigProperties.INSTANCE);
     new AdditionalLibraryIgnoredTypesConfigurer()
         .configure(builder, EmptyConfigProperties.INSTANCE);
-    ignoredTypesMatcher = new IgnoredTypesMatcher(builder.buildIgnoredTypesTrie());
+    return builder;
   }
 
   @Benchmark
@@ -47,4 +67,126 @@ public class IgnoredTypesMatcherBenchmark {
   public boolean appType() {
     return ignoredTypesMatcher.matches(testAppType);
   }
+
+  @Benchmark
+  public boolean appClassLoader() {
+    return ignoredClassLoadersMatcher.matches(appClassLoader);
+  }
+
+  /** Matches every class name of the corpus, the score is the average time of a single lookup. */
+  @Benchmark
+  @OperationsPerInvocation(CORPUS_SIZE)
+  @OutputTimeUnit(TimeUnit.NANOSECONDS)
+  public int corpus(Corpus corpus) {
+    int ignored = 0;
+    for (TypeDescription type : corpus.types) {
+      if (ignoredTypesMatcher.matches(type)) {
+        ignored++;
+      }
+    }
+    return ignored;
+  }
+
+  /**
+   * Class names as seen when starting a typical application: JDK classes, Spring (including
+   * generated proxies), Netty, Kotlin (including generated lambda and companion classes), libraries
+   * shaded into other libraries and the application's own classes.
+   */
+  @State(Scope.Benchmark)
+  public static class Corpus {
+
+    private static final String[][] PACKAGES = {
+      // JDK
+      {
+        "java.lang", "java.lang.invoke", "java.util", "java.util.concurrent", "java.io", "java.nio",
+        "javax.management", "javax.xml.parsers", "sun.reflect", "sun.nio.ch", "jdk.internal.misc",
+        "com.sun.proxy", "com.sun.org.apache.xerces.internal.jaxp"
+      },
+      // Spring
+      {
+        "org.springframework.beans.factory.support", "org.springframework.context.annotation",
+        "org.springframework.core.io", "org.springframework.web.servlet.mvc.method.annotation",
+        "org.springframework.boot.autoconfigure.web.servlet", "org.springframework.aop.framework",
+        "org.springframework.data.jpa.repository.support"
+      },
+      // Netty
+      {
+        "io.netty.channel", "io.netty.channel.nio", "io.netty.buffer", "io.netty.util.concurrent",
+        "io.netty.handler.codec.http", "io.netty.handler.ssl", "io.netty.util.internal"
+      },
+      // Kotlin
+      {
+        "kotlin", "kotlin.collections", "kotlin.jvm.internal", "kotlin.coroutines",
+        "kotlinx.coroutines", "kotlinx.coroutines.internal", "kotlin.reflect.jvm.internal"
+      },
+      // shaded libraries
+      {
+        "io.grpc.netty.shaded.io.netty.channel", "org.apache.hadoop.shaded.com.google.common.base",
+        "com.amazonaws.thirdparty.apache.http.impl", "org.elasticsearch.shaded.jackson.core",
+        "io.opentelemetry.javaagent.shaded.io.opentelemetry.api", "com.example.shaded.okhttp3"
+      },
+      // application
+      {
+        "com.example.app", "com.example.app.web", "com.example.app.service",
+        "com.example.app.repository", "org.acme.orders.domain", "net.company.billing.api"
+      },
+    };
+
+    private static final String[] SIMPLE_NAMES = {
+      "AbstractHandler", "DefaultFactory", "Utils", "Support", "Configuration", "Context",
+      "Registry", "Builder", "Impl", "Adapter", "Listener", "Decoder", "Encoder", "Pool",
+      "Executor", "Controller", "Service", "Repository", "Entity", "Exception"
+    };
+
+    private static final String[] SUFFIXES = {
+      "", "", "", "", "$1", "$Inner", "$Companion", "Kt", "$$Lambda$12/0x0000000800c4b040",
+      "$$SpringCGLIB$$0", "$$EnhancerBySpringCGLIB$$5b1d2c3a", "$$anon$2",
+      "$$FastClassBySpringCGLIB"
+    };
+
+    TypeDescription[] types;
+
+    @Setup
+    public void setUp() {
+      // fixed seed, the corpus is the same in every run
+      Random random = new Random(42);
+      types = new TypeDescription[CORPUS_SIZE];
+      for (int i = 0; i < CORPUS_SIZE; i++) {
+        String[] packages = PACKAGES[random.nextInt(PACKAGES.length)];
+        String name =
+            packages[random.nextInt(packages.length)]
+                + "."
+                + SIMPLE_NAMES[random.nextInt(SIMPLE_NAMES.length)]
+                + (i % 100)
+                + SUFFIXES[random.nextInt(SUFFIXES.length)];
+        types[i] = new TypeDescription.Latent(name, 0, null);
+      }
+      printFootprint();
+    }
+
+    /**
+     * Prints the approximate heap footprint of the ignored types trie, measured as the heap growth
+     * when retaining many copies of it.
+     */
+    @SuppressWarnings("SystemOut")
+    private static void printFootprint() {
+      int copies = 100;
+      Trie<?>[] tries = new Trie<?>[copies];
+      long before = usedHeap();
+      for (int i = 0; i < copies; i++) {
+        tries[i] = createBuilder().buildIgnoredTypesTrie();
+      }
+      long after = usedHeap();
+      System.out.println(
+          "Ignored types trie footprint: ~" + (after - before) / tries.length + " bytes");
+    }
+
+    private static long usedHeap() {
+      Runtime runtime = Runtime.getRuntime();
+      for (int i = 0; i < 3; i++) {
+        System.gc();
+      }
+      return runtime.totalMemory() - runtime.freeMemory();
+    }
+  }
 }
@@ -35,6 +35,7 @@ import io.opentelemetry.javaagent.tooling.bootstrap.BootstrapPackagesConfigurer;
 import io.opentelemetry.javaagent.tooling.config.AgentConfig;
 import io.opentelemetry.javaagent.tooling.config.ConfigPropertiesBridge;
 import io.opentelemetry.javaagent.tooling.config.EarlyInitAgentConfig;
+import io.opentelemetry.javaagent.tooling.field.VirtualFieldImplementationInstallerFactory;
 import io.opentelemetry.javaagent.tooling.ignore.IgnoredClassLoadersMatcher;
 import io.opentelemetry.javaagent.tooling.ignore.IgnoredTypesBuilderImpl;
 import io.opentelemetry.javaagent.tooling.ignore.IgnoredTypesMatcher;
@@ -117,8 +118,10 @@ public class AgentInstaller {
 
     // If noop OpenTelemetry is enabled, autoConfiguredSdk will be null and AgentListeners are not
     // called
+    long sdkInstallStartNanos = PhaseTimings.start();
     AutoConfiguredOpenTelemetrySdk autoConfiguredSdk =
         installOpenTelemetrySdk(extensionClassLoader);
+    PhaseTimings.record(PhaseTimings.SDK_INSTALL, sdkInstallStartNanos);
 
     ConfigProperties sdkConfig = AutoConfigureUtil.getConfig(autoConfiguredSdk);
     InstrumentationConfig.internalInitializeConfig(new ConfigPropertiesBridge(sdkConfig));
@@ -154,7 +157,8 @@ public class AgentInstaller {
 
     agentBuilder = configureIgnoredTypes(sdkConfig, extensionClassLoader, agentBuilder);
 
-    if (AgentConfig.isDebugModeEnabled(sdkConfig)) {
+    boolean debugMode = AgentConfig.isDebugModeEnabled(sdkConfig);
+    if (debugMode) {
       agentBuilder =
           agentBuilder
               .with(AgentBuilder.RedefinitionStrategy.RETRANSFORMATION)
@@ -163,6 +167,23 @@ public class AgentInstaller {
               .with(new TransformLoggingListener());
     }
 
+    RetransformationScheduler retransformationScheduler =
+        RetransformationScheduler.create(sdkConfig);
+    if (retransformationScheduler != null) {
+      // setting the redefinition strategy resets the batch allocator and the redefinition
+      // listeners, so the logging listener is registered again
+      AgentBuilder.RedefinitionListenable redefinitionListenable =
+          agentBuilder
+              .with(AgentBuilder.RedefinitionStrategy.RETRANSFORMATION)
+              .with(retransformationScheduler)
+              .with(new RedefinitionDiscoveryStrategy())
+              .with(retransformationScheduler.listener());
+      if (debugMode) {
+        redefinitionListenable = redefinitionListenable.with(new RedefinitionLoggingListener());
+      }
+      agentBuilder = redefinitionListenable;
+    }
+
     int numberOfLoadedExtensions = 0;
     for (AgentExtension agentExtension : loadOrdered(AgentExtension.class, extensionClassLoader)) {
       if (logger.isLoggable(FINE)) {
@@ -188,8 +209,11 @@ public class AgentInstaller {
     logger.log(FINE, "Installed {0} extension(s)", numberOfLoadedExtensions);
 
     agentBuilder = AgentBuilderUtil.optimize(agentBuilder);
+    long transformerInstallStartNanos = PhaseTimings.start();
     ResettableClassFileTransformer resettableClassFileTransformer = agentBuilder.installOn(inst);
+    PhaseTimings.record(PhaseTimings.TRANSFORMER_INSTALL, transformerInstallStartNanos);
     ClassFileTransformerHolder.setClassFileTransformer(resettableClassFileTransformer);
+    VirtualFieldImplementationInstallerFactory.logFallbackClasses();
 
     addHttpServerResponseCustomizers(extensionClassLoader);
 
@@ -199,8 +223,16 @@ public class AgentInstaller {
   private static void copyNecessaryConfigToSystemProperties(ConfigProperties config) {
     for (String property :
         asList(
+            "otel.instrumentation.common.exception.max-cause-depth",
+            "otel.instrumentation.common.exception.max-stack-frames",
+            "otel.instrumentation.common.exception.stacktrace-cache-size",
             "otel.instrumentation.experimental.span-suppression-strategy",
+            "otel.instrumentation.http.client.experimental.redact-query-parameters",
             "otel.instrumentation.http.prefer-forwarded-url-scheme",
+            "otel.instrumentation.http.server.experimental.excluded-paths",
+            "otel.instrumentation.http.server.experimental.excluded-methods",
+            "otel.instrumentation.http.server.experimental.excluded-requests-metrics.enabled",
+            "otel.instrumentation.http.server.experimental.route-cardinality-limit",
             "otel.semconv-stability.opt-in")) {
       String value = config.getString(property);
       if (value != null) {
@@ -67,6 +67,7 @@ public class AgentStarterImpl implements AgentStarter {
 
   @Override
   public void start() {
+    long startNanos = PhaseTimings.start();
     EarlyInitAgentConfig earlyConfig = EarlyInitAgentConfig.create();
     extensionClassLoader = createExtensionClassLoader(getClass().getClassLoader(), earlyConfig);
 
@@ -107,6 +108,7 @@ public class AgentStarterImpl implements AgentStarter {
       // this is logged below and not rethrown to avoid logging it twice
       startupError = t;
     }
+    PhaseTimings.record(PhaseTimings.AGENT_START, startNanos);
     if (startupError == null) {
       loggingCustomizer.onStartupSuccess();
     } else {
@@ -0,0 +1,206 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling;
+
+import static java.util.logging.Level.FINE;
+
+import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import javax.annotation.Nullable;
+import net.bytebuddy.agent.builder.AgentBuilder;
+
+/**
+ * Splits the retransformation of already loaded classes into small batches. By default byte buddy
+ * retransforms all matching classes with a single {@link
+ * java.lang.instrument.Instrumentation#retransformClasses(Class[])} call, which redefines all of
+ * them in one safepoint. When the agent is attached to a running application that has loaded many
+ * classes this stops all application threads for a long time.
+ *
+ * <p>The batch size is adjusted after every batch so that retransforming a batch takes about the
+ * configured batch duration, and the scheduler pauses between batches to let application threads
+ * run. Classes loaded by the bootstrap class loader (e.g. executors, which context propagation
+ * depends on) are retransformed first, the remaining classes are grouped by their class loader so
+ * that helper classes and muzzle checks are resolved for one class loader at a time.
+ */
+final class RetransformationScheduler implements AgentBuilder.RedefinitionStrategy.BatchAllocator {
+
+  private static final Logger logger = Logger.getLogger(RetransformationScheduler.class.getName());
+
+  private static final String ENABLED_CONFIG =
+      "otel.javaagent.experimental.retransformation-scheduler.enabled";
+  private static final String BATCH_DURATION_CONFIG =
+      "otel.javaagent.experimental.retransformation-scheduler.batch-duration";
+  private static final String PAUSE_CONFIG =
+      "otel.javaagent.experimental.retransformation-scheduler.pause";
+
+  static final int INITIAL_BATCH_SIZE = 16;
+  static final int MAX_BATCH_SIZE = 1024;
+
+  private final long batchNanos;
+  private final long pauseMillis;
+  private final BatchListener listener = new BatchListener();
+
+  @Nullable
+  static RetransformationScheduler create(ConfigProperties config) {
+    if (!config.getBoolean(ENABLED_CONFIG, false)) {
+      return null;
+    }
+    Duration batchDuration = config.getDuration(BATCH_DURATION_CONFIG, Duration.ofMillis(10));
+    Duration pause = config.getDuration(PAUSE_CONFIG, Duration.ofMillis(10));
+    return new RetransformationScheduler(batchDuration.toNanos(), pause.toMillis());
+  }
+
+  RetransformationScheduler(long batchNanos, long pauseMillis) {
+    this.batchNanos = batchNanos;
+    this.pauseMillis = pauseMillis;
+  }
+
+  /** Returns the listener that measures the batches, it must be registered with the agent. */
+  AgentBuilder.RedefinitionStrategy.Listener listener() {
+    return listener;
+  }
+
+  @Override
+  public Iterable<? extends List<Class<?>>> batch(List<Class<?>> types) {
+    List<Class<?>> ordered = order(types);
+    return () -> new BatchIterator(ordered);
+  }
+
+  static List<Class<?>> order(List<Class<?>> types) {
+    // bootstrap classes first, then the classes of every class loader in the order in which the
+    // class loaders were first seen
+    Map<ClassLoader, List<Class<?>>> byClassLoader = new LinkedHashMap<>();
+    byClassLoader.put(null, new ArrayList<>());
+    for (Class<?> type : types) {
+      byClassLoader.computeIfAbsent(type.getClassLoader(), k -> new ArrayList<>()).add(type);
+    }
+    List<Class<?>> ordered = new ArrayList<>(types.size());
+    for (List<Class<?>> classes : byClassLoader.values()) {
+      ordered.addAll(classes);
+    }
+    return ordered;
+  }
+
+  /** Returns the size of the next batch, given the duration of the previous batch. */
+  static int nextBatchSize(int batchSize, long elapsedNanos, long batchNanos) {
+    if (elapsedNanos <= 0) {
+      return Math.min(batchSize * 2, MAX_BATCH_SIZE);
+    }
+    // grow at most by a factor of 2 so that a single fast batch doesn't cause a long pause
+    double size = Math.min((double) batchSize * batchNanos / elapsedNanos, batchSize * 2.0);
+    return (int) Math.max(1, Math.min(size, MAX_BATCH_SIZE));
+  }
+
+  private final class BatchIterator implements Iterator<List<Class<?>>> {
+
+    private final List<Class<?>> types;
+    private int position;
+    private int batchSize = INITIAL_BATCH_SIZE;
+
+    private BatchIterator(List<Class<?>> types) {
+      this.types = types;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return position < types.size();
+    }
+
+    @Override
+    public List<Class<?>> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      // byte buddy retransforms the previous batch before asking for the next one
+      long elapsedNanos = listener.lastBatchNanos();
+      if (elapsedNanos >= 0) {
+        batchSize = nextBatchSize(batchSize, elapsedNanos, batchNanos);
+        pause();
+      }
+      int end = Math.min(position + batchSize, types.size());
+      List<Class<?>> batch = types.subList(position, end);
+      position = end;
+      return batch;
+    }
+
+    private void pause() {
+      if (pauseMillis <= 0) {
+        return;
+      }
+      try {
+        TimeUnit.MILLISECONDS.sleep(pauseMillis);
+      } catch (InterruptedException exception) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  // byte buddy calls the listener and the batch iterator from the thread that installs the agent
+  private static final class BatchListener implements AgentBuilder.RedefinitionStrategy.Listener {
+
+    private boolean inBatch;
+    private long batchStartNanos;
+    private long maxBatchNanos;
+    private int batches;
+
+    /** Returns the duration of the batch that has just been retransformed, or -1 if none was. */
+    private long lastBatchNanos() {
+      if (!inBatch) {
+        return -1;
+      }
+      inBatch = false;
+      long elapsedNanos = System.nanoTime() - batchStartNanos;
+      PhaseTimings.record(PhaseTimings.RETRANSFORMATION, batchStartNanos);
+      maxBatchNanos = Math.max(maxBatchNanos, elapsedNanos);
+      if (logger.isLoggable(FINE)) {
+        logger.log(
+            FINE,
+            "Retransformed batch {0} in {1} us",
+            new Object[] {batches, TimeUnit.NANOSECONDS.toMicros(elapsedNanos)});
+      }
+      return elapsedNanos;
+    }
+
+    @Override
+    public void onBatch(int index, List<Class<?>> batch, List<Class<?>> types) {
+      batches++;
+      inBatch = true;
+      batchStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public Iterable<? extends List<Class<?>>> onError(
+        int index, List<Class<?>> batch, Throwable throwable, List<Class<?>> types) {
+      return Collections.emptyList();
+    }
+
+    @Override
+    public void onComplete(
+        int amount, List<Class<?>> types, Map<List<Class<?>>, Throwable> failures) {
+      // the last batch is not followed by a call to the batch iterator
+      lastBatchNanos();
+      if (logger.isLoggable(FINE)) {
+        logger.log(
+            FINE,
+            "Retransformed {0} classes in {1} batches ({2} failed), the longest took {3} ms",
+            new Object[] {
+              types.size(), batches, failures.size(), TimeUnit.NANOSECONDS.toMillis(maxBatchNanos)
+            });
+      }
+      batches = 0;
+      maxBatchNanos = 0;
+    }
+  }
+}
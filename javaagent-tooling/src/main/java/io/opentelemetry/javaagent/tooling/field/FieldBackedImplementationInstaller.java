@@ -6,6 +6,7 @@
 package io.opentelemetry.javaagent.tooling.field;
 
 import static io.opentelemetry.javaagent.extension.matcher.AgentElementMatchers.hasSuperType;
+import static java.util.logging.Level.FINE;
 import static java.util.logging.Level.FINEST;
 import static net.bytebuddy.matcher.ElementMatchers.isAbstract;
 import static net.bytebuddy.matcher.ElementMatchers.named;
@@ -23,10 +24,14 @@ import io.opentelemetry.javaagent.tooling.util.IgnoreFailedTypeMatcher;
 import io.opentelemetry.javaagent.tooling.util.NamedMatcher;
 import java.lang.instrument.Instrumentation;
 import java.security.ProtectionDomain;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 import net.bytebuddy.ByteBuddy;
 import net.bytebuddy.agent.builder.AgentBuilder;
 import net.bytebuddy.asm.AsmVisitorWrapper;
@@ -71,10 +76,8 @@ final class FieldBackedImplementationInstaller implements VirtualFieldImplementa
   private final VirtualFieldMappings virtualFieldMappings;
 
   private final FieldAccessorInterfaces fieldAccessorInterfaces;
-  private final AgentBuilder.Transformer fieldAccessorInterfacesInjector;
-
   private final VirtualFieldImplementations virtualFieldImplementations;
-  private final AgentBuilder.Transformer virtualFieldImplementationsInjector;
+  private final AgentBuilder.Transformer bootstrapHelpersInjector;
 
   private final Instrumentation instrumentation;
 
@@ -89,13 +92,14 @@ final class FieldBackedImplementationInstaller implements VirtualFieldImplementa
     fieldAccessorInterfaces =
         new FieldAccessorInterfacesGenerator(byteBuddy)
             .generateFieldAccessorInterfaces(virtualFieldMappings);
-    fieldAccessorInterfacesInjector =
-        bootstrapHelperInjector(fieldAccessorInterfaces.getAllInterfaces());
     virtualFieldImplementations =
         new VirtualFieldImplementationsGenerator(byteBuddy)
             .generateClasses(virtualFieldMappings, fieldAccessorInterfaces);
-    virtualFieldImplementationsInjector =
-        bootstrapHelperInjector(virtualFieldImplementations.getAllClasses());
+    // field accessor interfaces go first, they are needed to define the implementations
+    List<DynamicType.Unloaded<?>> bootstrapHelpers =
+        new ArrayList<>(fieldAccessorInterfaces.getAllInterfaces());
+    bootstrapHelpers.addAll(virtualFieldImplementations.getAllClasses());
+    bootstrapHelpersInjector = bootstrapHelperInjector(bootstrapHelpers);
   }
 
   @Override
@@ -122,16 +126,14 @@ final class FieldBackedImplementationInstaller implements VirtualFieldImplementa
      * We inject into the bootstrap class loader because field accessor interfaces are needed by
      * virtual field implementations. Unfortunately this forces us to remove stored type checking
      * because actual classes may not be available at this point.
-     */
-    builder = builder.transform(fieldAccessorInterfacesInjector);
-
-    /*
+     *
      * We inject virtual field implementations into the bootstrap class loader because same
      * implementation may be used by different instrumentations and it has to use same static map in
      * case of fallback to map-backed storage.
+     *
+     * Both are injected in a single batch, so that only one bootstrap injection happens per module.
      */
-    builder = builder.transform(virtualFieldImplementationsInjector);
-    return builder;
+    return builder.transform(bootstrapHelpersInjector);
   }
 
   /** Get transformer that forces helper injection onto bootstrap class loader. */
@@ -168,6 +170,9 @@ final class FieldBackedImplementationInstaller implements VirtualFieldImplementa
   private static final Set<Map.Entry<String, String>> INSTALLED_VIRTUAL_FIELD_MATCHERS =
       new HashSet<>();
 
+  // virtual field (type name#field type name) -> classes that could not get the field injected
+  private static final Map<String, Set<String>> FALLBACK_CLASSES = new ConcurrentHashMap<>();
+
   @Override
   public AgentBuilder.Identified.Extendable injectFields(
       AgentBuilder.Identified.Extendable builder) {
@@ -213,7 +218,7 @@ final class FieldBackedImplementationInstaller implements VirtualFieldImplementa
           builder =
               builder
                   .type(typeMatcher)
-                  .and(safeToInjectFieldsMatcher())
+                  .and(safeToInjectFieldsMatcher(entry.getKey(), entry.getValue()))
                   .and(InstrumentationModuleInstaller.NOT_DECORATOR_MATCHER)
                   .transform(NoOpTransformer.INSTANCE);
 
@@ -235,18 +240,42 @@ final class FieldBackedImplementationInstaller implements VirtualFieldImplementa
     return builder;
   }
 
-  private static AgentBuilder.RawMatcher safeToInjectFieldsMatcher() {
+  private static AgentBuilder.RawMatcher safeToInjectFieldsMatcher(
+      String typeName, String fieldTypeName) {
     return (typeDescription, classLoader, module, classBeingRedefined, protectionDomain) -> {
       /*
        * The idea here is that we can add fields if class is just being loaded
        * (classBeingRedefined == null) and we have to add same fields again if class we added
        * fields before is being transformed again.
        */
-      return classBeingRedefined == null
-          || VirtualFieldDetector.hasVirtualFields(classBeingRedefined);
+      if (classBeingRedefined == null
+          || VirtualFieldDetector.hasVirtualFields(classBeingRedefined)) {
+        return true;
+      }
+      // instances of this class will use the map-backed fallback storage
+      FALLBACK_CLASSES
+          .computeIfAbsent(typeName + "#" + fieldTypeName, k -> ConcurrentHashMap.newKeySet())
+          .add(typeDescription.getName());
+      return false;
     };
   }
 
+  /**
+   * Logs the classes that could not get a virtual field injected, because they were already loaded
+   * when the agent was installed, and use map-backed storage instead.
+   */
+  static void logFallbackClasses() {
+    if (!logger.isLoggable(FINE)) {
+      return;
+    }
+    FALLBACK_CLASSES.forEach(
+        (virtualField, classNames) ->
+            logger.log(
+                FINE,
+                "Virtual field {0} uses map-backed storage for already loaded classes {1}",
+                new Object[] {virtualField, new TreeSet<>(classNames)}));
+  }
+
   private static AgentBuilder.Transformer getTransformerForAsmVisitor(AsmVisitorWrapper visitor) {
     return (builder, typeDescription, classLoader, javaModule, protectionDomain) ->
         builder.visit(visitor);
@@ -39,4 +39,12 @@ public final class VirtualFieldImplementationInstallerFactory {
         ? NoopVirtualFieldImplementationInstaller.INSTANCE
         : new FieldBackedImplementationInstaller(instrumentationModule.getClass(), mappings);
   }
+
+  /**
+   * Logs the classes whose instances use map-backed storage for virtual fields. Should be called
+   * after the agent has been installed and the already loaded classes have been retransformed.
+   */
+  public static void logFallbackClasses() {
+    FieldBackedImplementationInstaller.logFallbackClasses();
+  }
 }
@@ -10,8 +10,8 @@ import static io.opentelemetry.javaagent.tooling.field.GeneratedVirtualFieldName
 import static io.opentelemetry.javaagent.tooling.field.GeneratedVirtualFieldNames.getVirtualFieldImplementationClassName;
 
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
-import io.opentelemetry.instrumentation.api.internal.cache.Cache;
 import io.opentelemetry.instrumentation.api.util.VirtualField;
+import io.opentelemetry.javaagent.bootstrap.VirtualFieldFallbackStore;
 import io.opentelemetry.javaagent.tooling.Utils;
 import io.opentelemetry.javaagent.tooling.muzzle.VirtualFieldMappings;
 import java.util.HashMap;
@@ -37,6 +37,10 @@ import org.objectweb.asm.Opcodes;
 
 final class VirtualFieldImplementationsGenerator {
 
+  // replaced with the actual type names in the generated classes
+  private static final String TYPE_NAME_PLACEHOLDER = "$typeName$";
+  private static final String FIELD_TYPE_NAME_PLACEHOLDER = "$fieldTypeName$";
+
   private final ByteBuddy byteBuddy;
 
   VirtualFieldImplementationsGenerator(ByteBuddy byteBuddy) {
@@ -128,7 +132,19 @@ final class VirtualFieldImplementationsGenerator {
               generateRealPutMethod(name);
               return null;
             } else {
-              return super.visitMethod(access, name, descriptor, signature, exceptions);
+              return new MethodVisitor(
+                  Opcodes.ASM7,
+                  super.visitMethod(access, name, descriptor, signature, exceptions)) {
+                @Override
+                public void visitLdcInsn(Object value) {
+                  if (TYPE_NAME_PLACEHOLDER.equals(value)) {
+                    value = typeName;
+                  } else if (FIELD_TYPE_NAME_PLACEHOLDER.equals(value)) {
+                    value = fieldTypeName;
+                  }
+                  super.visitLdcInsn(value);
+                }
+              };
             }
           }
 
@@ -266,11 +282,12 @@ final class VirtualFieldImplementationsGenerator {
   @SuppressWarnings({"UnusedMethod", "UnusedVariable", "MethodCanBeStatic"})
   static final class VirtualFieldImplementationTemplate extends VirtualField<Object, Object> {
     private static final VirtualFieldImplementationTemplate INSTANCE =
-        new VirtualFieldImplementationTemplate(Cache.weak());
+        new VirtualFieldImplementationTemplate(
+            VirtualFieldFallbackStore.create(TYPE_NAME_PLACEHOLDER, FIELD_TYPE_NAME_PLACEHOLDER));
 
-    private final Cache<Object, Object> map;
+    private final VirtualFieldFallbackStore map;
 
-    private VirtualFieldImplementationTemplate(Cache<Object, Object> map) {
+    private VirtualFieldImplementationTemplate(VirtualFieldFallbackStore map) {
       this.map = map;
     }
 
@@ -298,11 +315,7 @@ final class VirtualFieldImplementationsGenerator {
     }
 
     private void mapPut(Object key, Object value) {
-      if (value == null) {
-        map.remove(key);
-      } else {
-        map.put(key, value);
-      }
+      map.put(key, value);
     }
 
     public static VirtualField<?, ?> getVirtualField(Class<?> keyClass, Class<?> contextClass) {
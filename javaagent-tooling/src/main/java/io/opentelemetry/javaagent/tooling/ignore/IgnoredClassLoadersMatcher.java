@@ -18,7 +18,7 @@ public class IgnoredClassLoadersMatcher extends ElementMatcher.Junction.Abstract
   private static final Logger logger = Logger.getLogger(IgnoredClassLoadersMatcher.class.getName());
 
   /* Cache of class loader instance -> (true|false). True = skip instrumentation. False = safe to instrument. */
-  private static final Cache<ClassLoader, Boolean> skipCache = Cache.weak();
+  private final Cache<ClassLoader, Boolean> skipCache = Cache.weak();
 
   private final Trie<IgnoreAllow> ignoredClassLoaders;
 
@@ -33,6 +33,17 @@ public class IgnoredClassLoadersMatcher extends ElementMatcher.Junction.Abstract
       return false;
     }
 
+    // the decision only depends on the class loader instance, caching it avoids looking up the
+    // class loader class name in the trie for every class that is loaded
+    Boolean skip = skipCache.get(cl);
+    if (skip == null) {
+      skip = shouldSkip(cl);
+      skipCache.put(cl, skip);
+    }
+    return skip;
+  }
+
+  private boolean shouldSkip(ClassLoader cl) {
     String name = cl.getClass().getName();
 
     IgnoreAllow ignored = ignoredClassLoaders.getOrNull(name);
@@ -42,20 +53,15 @@ public class IgnoredClassLoadersMatcher extends ElementMatcher.Junction.Abstract
       return true;
     }
 
-    return skipCache.computeIfAbsent(
-        cl,
-        c -> {
-          // when ClassloadingInstrumentation is active, checking delegatesToBootstrap() below is
-          // not required, because ClassloadingInstrumentation forces all class loaders to load all
-          // the classes in Constants.BOOTSTRAP_PACKAGE_PREFIXES directly from the bootstrap class
-          // loader
-          //
-          // however, at this time we don't want to introduce the concept of a required
-          // instrumentation, and we don't want to introduce the concept of the tooling code
-          // depending on whether a particular instrumentation is active (mainly because this
-          // particular use case doesn't seem to justify introducing either of these new concepts)
-          return !delegatesToBootstrap(cl);
-        });
+    // when ClassloadingInstrumentation is active, checking delegatesToBootstrap() below is not
+    // required, because ClassloadingInstrumentation forces all class loaders to load all the
+    // classes in Constants.BOOTSTRAP_PACKAGE_PREFIXES directly from the bootstrap class loader
+    //
+    // however, at this time we don't want to introduce the concept of a required instrumentation,
+    // and we don't want to introduce the concept of the tooling code depending on whether a
+    // particular instrumentation is active (mainly because this particular use case doesn't seem
+    // to justify introducing either of these new concepts)
+    return !delegatesToBootstrap(cl);
   }
 
   /**
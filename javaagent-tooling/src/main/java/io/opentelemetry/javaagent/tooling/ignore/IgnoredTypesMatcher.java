@@ -5,6 +5,7 @@
 
 package io.opentelemetry.javaagent.tooling.ignore;
 
+import io.opentelemetry.javaagent.tooling.PhaseTimings;
 import io.opentelemetry.javaagent.tooling.util.Trie;
 import net.bytebuddy.description.type.TypeDescription;
 import net.bytebuddy.matcher.ElementMatcher;
@@ -19,6 +20,15 @@ public class IgnoredTypesMatcher extends ElementMatcher.Junction.AbstractBase<Ty
 
   @Override
   public boolean matches(TypeDescription target) {
+    long startNanos = PhaseTimings.start();
+    try {
+      return isIgnored(target);
+    } finally {
+      PhaseTimings.record(PhaseTimings.IGNORED_TYPES_MATCHING, startNanos);
+    }
+  }
+
+  private boolean isIgnored(TypeDescription target) {
     String name = target.getActualName();
 
     IgnoreAllow ignored = ignoredTypes.getOrNull(name);
@@ -13,6 +13,7 @@ import com.google.auto.service.AutoService;
 import io.opentelemetry.javaagent.bootstrap.InstrumentationHolder;
 import io.opentelemetry.javaagent.extension.instrumentation.InstrumentationModule;
 import io.opentelemetry.javaagent.tooling.AgentExtension;
+import io.opentelemetry.javaagent.tooling.PhaseTimings;
 import io.opentelemetry.javaagent.tooling.Utils;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
 import java.util.logging.Logger;
@@ -27,6 +28,7 @@ public class InstrumentationLoader implements AgentExtension {
 
   @Override
   public AgentBuilder extend(AgentBuilder agentBuilder, ConfigProperties config) {
+    long startNanos = PhaseTimings.start();
     int numberOfLoadedModules = 0;
     for (InstrumentationModule instrumentationModule :
         loadOrdered(InstrumentationModule.class, Utils.getExtensionsClassLoader())) {
@@ -56,6 +58,8 @@ public class InstrumentationLoader implements AgentExtension {
     }
     logger.log(FINE, "Installed {0} instrumenter(s)", numberOfLoadedModules);
 
+    PhaseTimings.record(PhaseTimings.INSTRUMENTATION_LOADER, startNanos);
+
     return agentBuilder;
   }
 
@@ -24,9 +24,11 @@ import io.opentelemetry.javaagent.tooling.muzzle.HelperResourceBuilderImpl;
 import io.opentelemetry.javaagent.tooling.muzzle.InstrumentationModuleMuzzle;
 import io.opentelemetry.javaagent.tooling.util.IgnoreFailedTypeMatcher;
 import io.opentelemetry.javaagent.tooling.util.NamedMatcher;
+import io.opentelemetry.javaagent.tooling.util.TimedMatcher;
 import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
 import java.lang.instrument.Instrumentation;
 import java.util.List;
+import javax.annotation.Nullable;
 import net.bytebuddy.agent.builder.AgentBuilder;
 import net.bytebuddy.description.annotation.AnnotationSource;
 import net.bytebuddy.description.type.TypeDescription;
@@ -42,9 +44,15 @@ public final class InstrumentationModuleInstaller {
   public static final ElementMatcher.Junction<AnnotationSource> NOT_DECORATOR_MATCHER =
       not(isAnnotatedWith(named("javax.decorator.Decorator")));
 
+  private static final String SHARED_HELPER_CLASS_LOADER_ENABLED =
+      "otel.javaagent.experimental.shared-helper-class-loader.enabled";
+  private static final String LAZY_MODULE_ACTIVATION_ENABLED =
+      "otel.javaagent.experimental.lazy-module-activation.enabled";
+
   private final Instrumentation instrumentation;
   private final VirtualFieldImplementationInstallerFactory virtualFieldInstallerFactory =
       new VirtualFieldImplementationInstallerFactory();
+  @Nullable private LazyModuleActivator moduleActivator;
 
   public InstrumentationModuleInstaller(Instrumentation instrumentation) {
     this.instrumentation = instrumentation;
@@ -80,14 +88,34 @@ public final class InstrumentationModuleInstaller {
 
     ElementMatcher.Junction<ClassLoader> moduleClassLoaderMatcher =
         instrumentationModule.classLoaderMatcher();
+    if (AgentConfig.isDebugModeEnabled(config)) {
+      // reported through SupportabilityMetrics, which is only active in debug mode
+      moduleClassLoaderMatcher =
+          new TimedMatcher<>(
+              "ClassLoader matching time " + instrumentationModule.instrumentationName(),
+              moduleClassLoaderMatcher);
+    }
+    if (config.getBoolean(LAZY_MODULE_ACTIVATION_ENABLED, false)) {
+      if (moduleActivator == null) {
+        moduleActivator = new LazyModuleActivator();
+      }
+      moduleClassLoaderMatcher =
+          moduleActivator
+              .register(instrumentationModule.instrumentationName(), moduleClassLoaderMatcher)
+              .and(moduleClassLoaderMatcher);
+    }
     MuzzleMatcher muzzleMatcher = new MuzzleMatcher(logger, instrumentationModule, config);
+    // helpers can be shared between application class loaders with the same parent when all the
+    // library classes they reference are resolved from that parent
+    boolean shareHelpers = config.getBoolean(SHARED_HELPER_CLASS_LOADER_ENABLED, false);
     AgentBuilder.Transformer helperInjector =
         new HelperInjector(
             instrumentationModule.instrumentationName(),
             helperClassNames,
             helperResourceBuilder.getResources(),
             Utils.getExtensionsClassLoader(),
-            instrumentation);
+            instrumentation,
+            shareHelpers ? muzzleMatcher::canShareHelpers : null);
     VirtualFieldImplementationInstaller contextProvider =
         virtualFieldInstallerFactory.create(instrumentationModule);
 
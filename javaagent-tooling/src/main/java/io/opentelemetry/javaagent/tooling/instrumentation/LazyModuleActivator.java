@@ -0,0 +1,126 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.instrumentation;
+
+import static java.util.logging.Level.FINE;
+
+import io.opentelemetry.instrumentation.api.internal.cache.Cache;
+import io.opentelemetry.javaagent.bootstrap.internal.ClassLoaderMatcherCacheHolder;
+import io.opentelemetry.javaagent.tooling.TransformSafeLogger;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.annotation.Nullable;
+import net.bytebuddy.matcher.ElementMatcher;
+
+/**
+ * Keeps instrumentation modules inactive until a class loader that they apply to is seen. The class
+ * loader matcher returned by {@link #register(String, ElementMatcher)} rejects every class loader
+ * with a single volatile read once the class loader has been observed while the module is
+ * inactive, so classes loaded by applications that don't use the instrumented library don't pay for
+ * running the module's matchers.
+ *
+ * <p>Modules that apply to the bootstrap class loader, which includes modules that apply to any
+ * class loader, are active from the start so that already loaded classes are transformed when the
+ * agent is installed. The first time an inactive module's matcher is asked about a class loader,
+ * the module class loader matchers of all inactive modules are evaluated against it, and matching
+ * modules are activated before the class is matched. Byte buddy only consults class loader matchers
+ * for class loaders that are not ignored, so ignored class loaders never trigger this evaluation.
+ */
+final class LazyModuleActivator {
+
+  private static final TransformSafeLogger logger =
+      TransformSafeLogger.getLogger(LazyModuleActivator.class);
+
+  private final List<ModuleActivation> inactiveModules = new CopyOnWriteArrayList<>();
+  private final Cache<ClassLoader, Boolean> observedClassLoaders = Cache.weak();
+  private volatile boolean bootstrapObserved;
+
+  LazyModuleActivator() {
+    // class loaders are observed again when URLs are added to them
+    ClassLoaderMatcherCacheHolder.addCache(observedClassLoaders);
+  }
+
+  /**
+   * Registers a module and returns a class loader matcher that matches any class loader once a
+   * class loader matching {@code classLoaderMatcher} has been seen. Modules whose class loader
+   * matcher matches the bootstrap class loader are activated immediately.
+   */
+  ElementMatcher.Junction<ClassLoader> register(
+      String instrumentationName, ElementMatcher<ClassLoader> classLoaderMatcher) {
+    ModuleActivation activation = new ModuleActivation(instrumentationName, classLoaderMatcher);
+    if (activation.triggerMatches(null)) {
+      activation.active = true;
+    } else {
+      inactiveModules.add(activation);
+    }
+    return activation;
+  }
+
+  private void observe(@Nullable ClassLoader classLoader) {
+    if (inactiveModules.isEmpty()) {
+      return;
+    }
+    if (classLoader == null) {
+      if (!bootstrapObserved) {
+        activateMatching(null);
+        bootstrapObserved = true;
+      }
+    } else if (observedClassLoaders.get(classLoader) == null) {
+      // mark as observed only after activating, concurrent threads loading classes from the same
+      // class loader evaluate the matchers too instead of matching against inactive modules
+      activateMatching(classLoader);
+      observedClassLoaders.put(classLoader, Boolean.TRUE);
+    }
+  }
+
+  private void activateMatching(@Nullable ClassLoader classLoader) {
+    for (ModuleActivation activation : inactiveModules) {
+      if (activation.triggerMatches(classLoader)) {
+        activation.active = true;
+        inactiveModules.remove(activation);
+        logger.log(
+            FINE,
+            "Activating instrumentation {0} on class loader {1}",
+            new Object[] {activation.instrumentationName, classLoader});
+      }
+    }
+  }
+
+  private final class ModuleActivation extends ElementMatcher.Junction.AbstractBase<ClassLoader> {
+
+    private final String instrumentationName;
+    private final ElementMatcher<ClassLoader> trigger;
+    private volatile boolean active;
+
+    private ModuleActivation(String instrumentationName, ElementMatcher<ClassLoader> trigger) {
+      this.instrumentationName = instrumentationName;
+      this.trigger = trigger;
+    }
+
+    private boolean triggerMatches(@Nullable ClassLoader classLoader) {
+      try {
+        return trigger.matches(classLoader);
+      } catch (Exception exception) {
+        // activate, so that the failure is reported by the regular class loader matcher
+        return true;
+      }
+    }
+
+    @Override
+    public boolean matches(@Nullable ClassLoader classLoader) {
+      if (active) {
+        return true;
+      }
+      observe(classLoader);
+      return active;
+    }
+
+    @Override
+    public String toString() {
+      return "activated(" + instrumentationName + ")";
+    }
+  }
+}
@@ -11,6 +11,7 @@ import static net.bytebuddy.dynamic.loading.ClassLoadingStrategy.BOOTSTRAP_LOADE
 
 import io.opentelemetry.instrumentation.api.internal.cache.Cache;
 import io.opentelemetry.javaagent.extension.instrumentation.InstrumentationModule;
+import io.opentelemetry.javaagent.tooling.PhaseTimings;
 import io.opentelemetry.javaagent.tooling.TransformSafeLogger;
 import io.opentelemetry.javaagent.tooling.Utils;
 import io.opentelemetry.javaagent.tooling.config.AgentConfig;
@@ -40,6 +41,7 @@ class MuzzleMatcher implements AgentBuilder.RawMatcher {
   private final Level muzzleLogLevel;
   private final AtomicBoolean initialized = new AtomicBoolean(false);
   private final Cache<ClassLoader, Boolean> matchCache = Cache.weak();
+  private final Cache<ClassLoader, Boolean> quietMatchCache = Cache.weak();
   private volatile ReferenceMatcher referenceMatcher;
 
   MuzzleMatcher(
@@ -65,8 +67,10 @@ class MuzzleMatcher implements AgentBuilder.RawMatcher {
   }
 
   private boolean doesMatch(ClassLoader classLoader) {
+    long startNanos = PhaseTimings.start();
     ReferenceMatcher muzzle = getReferenceMatcher();
     boolean isMatch = muzzle.matches(classLoader);
+    PhaseTimings.record(PhaseTimings.MUZZLE, startNanos);
 
     if (!isMatch) {
       MuzzleFailureCounter.inc();
@@ -100,6 +104,23 @@ class MuzzleMatcher implements AgentBuilder.RawMatcher {
     return isMatch;
   }
 
+  /**
+   * Returns whether the helper classes of the instrumentation module can be shared between the
+   * given class loader and the other class loaders with the same parent: all references must be
+   * resolvable from the parent, and the given class loader must resolve them to the same classes as
+   * the parent (i.e. it must not bundle its own copy of the library, as child-first class loaders
+   * may). Unlike {@link #matches}, mismatches are neither logged nor counted as muzzle failures.
+   */
+  boolean canShareHelpers(ClassLoader classLoader) {
+    ClassLoader parent = classLoader.getParent();
+    if (parent == null) {
+      return false;
+    }
+    ReferenceMatcher muzzle = getReferenceMatcher();
+    return quietMatchCache.computeIfAbsent(parent, muzzle::matches)
+        && muzzle.resolvesSameClassesAsParent(classLoader);
+  }
+
   // ReferenceMatcher is lazily created to avoid unnecessarily loading the muzzle references from
   // the module during the agent setup
   private ReferenceMatcher getReferenceMatcher() {
@@ -0,0 +1,45 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.util;
+
+import io.opentelemetry.instrumentation.api.internal.SupportabilityMetrics;
+import io.opentelemetry.javaagent.extension.matcher.internal.DelegatingMatcher;
+import net.bytebuddy.matcher.ElementMatcher;
+
+/**
+ * A matcher wrapper that adds the time spent in the delegate matcher to the given {@link
+ * SupportabilityMetrics} duration.
+ */
+public class TimedMatcher<T> extends ElementMatcher.Junction.AbstractBase<T>
+    implements DelegatingMatcher {
+  private final String durationName;
+  private final ElementMatcher<T> delegate;
+
+  public TimedMatcher(String durationName, ElementMatcher<T> delegate) {
+    this.durationName = durationName;
+    this.delegate = delegate;
+  }
+
+  @Override
+  public boolean matches(T target) {
+    long startNanos = System.nanoTime();
+    try {
+      return delegate.matches(target);
+    } finally {
+      SupportabilityMetrics.instance().recordDuration(durationName, System.nanoTime() - startNanos);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return delegate.toString();
+  }
+
+  @Override
+  public ElementMatcher<?> getDelegate() {
+    return delegate;
+  }
+}
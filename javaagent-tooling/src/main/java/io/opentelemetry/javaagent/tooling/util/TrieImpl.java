@@ -6,107 +6,139 @@
 package io.opentelemetry.javaagent.tooling.util;
 
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Iterator;
+import java.util.ArrayDeque;
 import java.util.Map;
-import javax.annotation.Nullable;
-
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * The trie is frozen into flat arrays when it is built: nodes are numbered in breadth first order,
+ * so the children of every node are consecutive nodes. The labels of the children of node {@code n}
+ * are stored, sorted, in {@code labels[childStart[n]]} to {@code labels[childStart[n + 1] - 1]},
+ * and the child reached through {@code labels[i]} is node {@code i + 1} (the root has no label).
+ * Lookups only read from three arrays instead of following a reference per character.
+ */
 final class TrieImpl<V> implements Trie<V> {
 
-  private final Node<V> root;
+  // below this number of children a linear scan is faster than a binary search
+  private static final int LINEAR_SCAN_THRESHOLD = 8;
 
-  private TrieImpl(Node<V> root) {
-    this.root = root;
+  private final char[] labels;
+  private final int[] childStart;
+  private final Object[] values;
+
+  private TrieImpl(char[] labels, int[] childStart, Object[] values) {
+    this.labels = labels;
+    this.childStart = childStart;
+    this.values = values;
   }
 
   @Override
+  @SuppressWarnings("unchecked")
   public V getOrDefault(CharSequence str, V defaultValue) {
-    Node<V> node = root;
-    V lastMatchedValue = defaultValue;
+    int node = 0;
+    Object lastMatchedValue = defaultValue;
 
     for (int i = 0; i < str.length(); ++i) {
-      char c = str.charAt(i);
-      Node<V> next = node.getNext(c);
-      if (next == null) {
-        return lastMatchedValue;
+      int next = findChild(node, str.charAt(i));
+      if (next < 0) {
+        break;
       }
       node = next;
       // next node matched, use its value if it's defined
-      lastMatchedValue = next.value != null ? next.value : lastMatchedValue;
+      Object value = values[next];
+      if (value != null) {
+        lastMatchedValue = value;
+      }
     }
 
-    return lastMatchedValue;
+    return (V) lastMatchedValue;
   }
 
-  static final class Node<V> {
-    final char[] chars;
-    final Node<V>[] children;
-    final V value;
-
-    Node(char[] chars, Node<V>[] children, V value) {
-      this.chars = chars;
-      this.children = children;
-      this.value = value;
+  private int findChild(int node, char c) {
+    int from = childStart[node];
+    int to = childStart[node + 1];
+    if (to - from < LINEAR_SCAN_THRESHOLD) {
+      for (int i = from; i < to; i++) {
+        char label = labels[i];
+        if (label == c) {
+          return i + 1;
+        }
+        if (label > c) {
+          return -1;
+        }
+      }
+      return -1;
     }
 
-    @Nullable
-    Node<V> getNext(char c) {
-      int index = Arrays.binarySearch(chars, c);
-      if (index < 0) {
-        return null;
+    int low = from;
+    int high = to - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      char label = labels[mid];
+      if (label < c) {
+        low = mid + 1;
+      } else if (label > c) {
+        high = mid - 1;
+      } else {
+        return mid + 1;
       }
-      return children[index];
     }
+    return -1;
   }
 
   static final class BuilderImpl<V> implements Builder<V> {
 
     private final NodeBuilder<V> root = new NodeBuilder<>();
+    private int nodeCount = 1;
 
     @Override
     @CanIgnoreReturnValue
     public Builder<V> put(CharSequence str, V value) {
-      put(root, str, 0, value);
-      return this;
-    }
-
-    private void put(NodeBuilder<V> node, CharSequence str, int i, V value) {
-      if (str.length() == i) {
-        node.value = value;
-        return;
+      NodeBuilder<V> node = root;
+      for (int i = 0; i < str.length(); i++) {
+        NodeBuilder<V> next = node.children.get(str.charAt(i));
+        if (next == null) {
+          next = new NodeBuilder<>();
+          node.children.put(str.charAt(i), next);
+          nodeCount++;
+        }
+        node = next;
       }
-      char c = str.charAt(i);
-      NodeBuilder<V> next = node.children.computeIfAbsent(c, k -> new NodeBuilder<>());
-      put(next, str, i + 1, value);
+      node.value = value;
+      return this;
     }
 
     @Override
     public Trie<V> build() {
-      return new TrieImpl<>(root.build());
+      char[] labels = new char[nodeCount - 1];
+      int[] childStart = new int[nodeCount + 1];
+      Object[] values = new Object[nodeCount];
+
+      Queue<NodeBuilder<V>> queue = new ArrayDeque<>();
+      queue.add(root);
+      int index = 0;
+      int nextIndex = 1;
+      while (!queue.isEmpty()) {
+        NodeBuilder<V> node = queue.remove();
+        values[index] = node.value;
+        childStart[index] = nextIndex - 1;
+        for (Map.Entry<Character, NodeBuilder<V>> e : node.children.entrySet()) {
+          labels[nextIndex - 1] = e.getKey();
+          nextIndex++;
+          queue.add(e.getValue());
+        }
+        index++;
+      }
+      childStart[nodeCount] = nodeCount - 1;
+
+      return new TrieImpl<>(labels, childStart, values);
     }
   }
 
   static final class NodeBuilder<V> {
-    final Map<Character, NodeBuilder<V>> children = new HashMap<>();
+    // sorted, so that the frozen labels of every node are sorted
+    final Map<Character, NodeBuilder<V>> children = new TreeMap<>();
     V value;
-
-    Node<V> build() {
-      int size = children.size();
-      char[] chars = new char[size];
-      @SuppressWarnings({"unchecked", "rawtypes"})
-      Node<V>[] nodes = new Node[size];
-
-      int i = 0;
-      Iterator<Map.Entry<Character, NodeBuilder<V>>> it =
-          this.children.entrySet().stream().sorted(Map.Entry.comparingByKey()).iterator();
-      while (it.hasNext()) {
-        Map.Entry<Character, NodeBuilder<V>> e = it.next();
-        chars[i] = e.getKey();
-        nodes[i++] = e.getValue().build();
-      }
-
-      return new Node<>(chars, nodes, value);
-    }
   }
 }
@@ -0,0 +1,62 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.bytebuddy.agent.builder.AgentBuilder;
+import org.junit.jupiter.api.Test;
+
+class RetransformationSchedulerTest {
+
+  @Test
+  void ordersBootstrapClassesFirst() {
+    List<Class<?>> types =
+        Arrays.asList(RetransformationSchedulerTest.class, String.class, Test.class, List.class);
+
+    assertThat(RetransformationScheduler.order(types))
+        .containsExactly(String.class, List.class, RetransformationSchedulerTest.class, Test.class);
+  }
+
+  @Test
+  void adjustsBatchSizeToBatchDuration() {
+    long batchNanos = TimeUnit.MILLISECONDS.toNanos(10);
+
+    // twice as long as the target
+    assertThat(RetransformationScheduler.nextBatchSize(16, 2 * batchNanos, batchNanos))
+        .isEqualTo(8);
+    // much faster than the target, grows by a factor of 2 at most
+    assertThat(RetransformationScheduler.nextBatchSize(16, batchNanos / 100, batchNanos))
+        .isEqualTo(32);
+    assertThat(RetransformationScheduler.nextBatchSize(1000, 1, batchNanos))
+        .isEqualTo(RetransformationScheduler.MAX_BATCH_SIZE);
+    // a single class taking longer than the target
+    assertThat(RetransformationScheduler.nextBatchSize(1, 5 * batchNanos, batchNanos)).isEqualTo(1);
+  }
+
+  @Test
+  void splitsClassesIntoBatches() {
+    RetransformationScheduler scheduler = new RetransformationScheduler(Long.MAX_VALUE, 0);
+    AgentBuilder.RedefinitionStrategy.Listener listener = scheduler.listener();
+    List<Class<?>> types = Collections.nCopies(100, String.class);
+
+    List<Integer> batchSizes = new ArrayList<>();
+    int index = 0;
+    for (List<Class<?>> batch : scheduler.batch(types)) {
+      listener.onBatch(index++, batch, types);
+      batchSizes.add(batch.size());
+    }
+    listener.onComplete(index, types, Collections.emptyMap());
+
+    // the batches grow while retransformation is faster than the target batch duration
+    assertThat(batchSizes).containsExactly(16, 32, 52);
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.instrumentation;
+
+import static net.bytebuddy.matcher.ElementMatchers.any;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.opentelemetry.javaagent.bootstrap.internal.ClassLoaderMatcherCacheHolder;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.bytebuddy.matcher.ElementMatcher;
+import org.junit.jupiter.api.Test;
+
+class LazyModuleActivatorTest {
+
+  @Test
+  void activatesModuleWhenMatchingClassLoaderIsSeen() {
+    ClassLoader libraryClassLoader = new URLClassLoader(new URL[0], null);
+    ClassLoader otherClassLoader = new URLClassLoader(new URL[0], null);
+    LazyModuleActivator activator = new LazyModuleActivator();
+    ElementMatcher<ClassLoader> matcher =
+        activator.register("library", classLoader -> classLoader == libraryClassLoader);
+    ElementMatcher<ClassLoader> otherMatcher =
+        activator.register("other", classLoader -> classLoader == otherClassLoader);
+
+    assertThat(matcher.matches(otherClassLoader)).isFalse();
+    // evaluating the first matcher activated every module matching the observed class loader
+    assertThat(otherMatcher.matches(libraryClassLoader)).isTrue();
+
+    assertThat(matcher.matches(libraryClassLoader)).isTrue();
+    // once active the module applies to any class loader, the regular matcher filters them
+    assertThat(matcher.matches(otherClassLoader)).isTrue();
+  }
+
+  @Test
+  void activatesBootstrapModulesOnRegistration() {
+    ClassLoader classLoader = new URLClassLoader(new URL[0], null);
+    AtomicInteger evaluations = new AtomicInteger();
+    LazyModuleActivator activator = new LazyModuleActivator();
+    ElementMatcher<ClassLoader> anyMatcher = activator.register("any", any());
+    ElementMatcher<ClassLoader> bootstrapMatcher =
+        activator.register(
+            "bootstrap",
+            cl -> {
+              evaluations.incrementAndGet();
+              return cl == null;
+            });
+
+    // active before any class is matched, so that already loaded classes are retransformed
+    assertThat(anyMatcher.matches(classLoader)).isTrue();
+    assertThat(bootstrapMatcher.matches(classLoader)).isTrue();
+    assertThat(evaluations).hasValue(1);
+  }
+
+  @Test
+  void evaluatesClassLoaderOnceUntilInvalidated() {
+    ClassLoader classLoader = new URLClassLoader(new URL[0], null);
+    AtomicInteger evaluations = new AtomicInteger();
+    LazyModuleActivator activator = new LazyModuleActivator();
+    ElementMatcher<ClassLoader> matcher =
+        activator.register(
+            "library",
+            cl -> {
+              evaluations.incrementAndGet();
+              return false;
+            });
+
+    // evaluated once on registration against the bootstrap class loader
+    assertThat(evaluations).hasValue(1);
+
+    assertThat(matcher.matches(classLoader)).isFalse();
+    assertThat(matcher.matches(classLoader)).isFalse();
+    assertThat(evaluations).hasValue(2);
+
+    ClassLoaderMatcherCacheHolder.invalidateAllCachesForClassLoader(classLoader);
+    assertThat(matcher.matches(classLoader)).isFalse();
+    assertThat(evaluations).hasValue(3);
+  }
+}
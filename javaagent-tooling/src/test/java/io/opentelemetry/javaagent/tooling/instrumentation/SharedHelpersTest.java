@@ -0,0 +1,166 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling.instrumentation;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.opentelemetry.instrumentation.test.utils.ClasspathUtils;
+import io.opentelemetry.javaagent.extension.instrumentation.InstrumentationModule;
+import io.opentelemetry.javaagent.extension.instrumentation.TypeInstrumentation;
+import io.opentelemetry.javaagent.tooling.HelperInjector;
+import io.opentelemetry.javaagent.tooling.TransformSafeLogger;
+import io.opentelemetry.javaagent.tooling.muzzle.InstrumentationModuleMuzzle;
+import io.opentelemetry.javaagent.tooling.muzzle.VirtualFieldMappingsBuilder;
+import io.opentelemetry.javaagent.tooling.muzzle.references.ClassRef;
+import io.opentelemetry.sdk.autoconfigure.spi.ConfigProperties;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SharedHelpersTest {
+
+  private static final String HELPER_CLASS_NAME = SharedHelper.class.getName();
+
+  private URL libraryJar;
+  private ClassLoader parent;
+  private MuzzleMatcher muzzleMatcher;
+  private HelperInjector helperInjector;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    libraryJar = ClasspathUtils.createJarWithClasses(LibraryClass.class);
+    parent = new URLClassLoader(new URL[] {libraryJar}, null);
+    muzzleMatcher =
+        new MuzzleMatcher(
+            TransformSafeLogger.getLogger(SharedHelpersTest.class),
+            new TestInstrumentationModule(),
+            mock(ConfigProperties.class));
+    helperInjector =
+        new HelperInjector(
+            "test",
+            singletonList(HELPER_CLASS_NAME),
+            emptyList(),
+            SharedHelpersTest.class.getClassLoader(),
+            null,
+            muzzleMatcher::canShareHelpers);
+  }
+
+  @Test
+  void loadersResolvingLibraryFromParentShareHelpers() {
+    ClassLoader parentFirst = new URLClassLoader(new URL[0], parent);
+    ClassLoader childFirst = new ChildFirstClassLoader(new URL[0], parent);
+
+    assertThat(muzzleMatcher.canShareHelpers(parentFirst)).isTrue();
+    assertThat(muzzleMatcher.canShareHelpers(childFirst)).isTrue();
+
+    Class<?> fromParentFirst = injectHelper(parentFirst);
+    Class<?> fromChildFirst = injectHelper(childFirst);
+
+    assertThat(fromParentFirst).isSameAs(fromChildFirst);
+    // defined once by the shared helper class loader, whose parent is the common parent
+    assertThat(fromParentFirst.getClassLoader()).isNotIn(parentFirst, childFirst);
+    assertThat(fromParentFirst.getClassLoader().getParent()).isSameAs(parent);
+  }
+
+  @Test
+  void loaderBundlingLibraryGetsOwnHelpers() {
+    ClassLoader parentFirst = new URLClassLoader(new URL[0], parent);
+    ClassLoader bundling = new ChildFirstClassLoader(new URL[] {libraryJar}, parent);
+
+    assertThat(muzzleMatcher.canShareHelpers(parentFirst)).isTrue();
+    assertThat(muzzleMatcher.canShareHelpers(bundling)).isFalse();
+
+    Class<?> shared = injectHelper(parentFirst);
+    Class<?> own = injectHelper(bundling);
+
+    assertThat(own).isNotSameAs(shared);
+    assertThat(own.getClassLoader()).isSameAs(bundling);
+  }
+
+  @Test
+  void loaderWithoutParentDoesNotShareHelpers() {
+    assertThat(muzzleMatcher.canShareHelpers(new URLClassLoader(new URL[0], null))).isFalse();
+  }
+
+  private Class<?> injectHelper(ClassLoader classLoader) {
+    helperInjector.transform(null, null, classLoader, null, null);
+    return HelperInjector.loadHelperClass(classLoader, HELPER_CLASS_NAME);
+  }
+
+  /** Used as the instrumented library class. */
+  public static class LibraryClass {}
+
+  /** Used as the helper class of {@link TestInstrumentationModule}. */
+  public static class SharedHelper {}
+
+  private static class TestInstrumentationModule extends InstrumentationModule
+      implements InstrumentationModuleMuzzle {
+
+    TestInstrumentationModule() {
+      super("test");
+    }
+
+    @Override
+    public List<TypeInstrumentation> typeInstrumentations() {
+      return emptyList();
+    }
+
+    @Override
+    public Map<String, ClassRef> getMuzzleReferences() {
+      String className = LibraryClass.class.getName();
+      return singletonMap(className, ClassRef.builder(className).build());
+    }
+
+    @Override
+    public void registerMuzzleVirtualFields(VirtualFieldMappingsBuilder builder) {}
+
+    @Override
+    public List<String> getMuzzleHelperClassNames() {
+      return singletonList(HELPER_CLASS_NAME);
+    }
+  }
+
+  // finds resources in its own class path before delegating to the parent, as web application
+  // class loaders do
+  private static class ChildFirstClassLoader extends URLClassLoader {
+
+    ChildFirstClassLoader(URL[] urls, ClassLoader parent) {
+      super(urls, parent);
+    }
+
+    @Override
+    public URL getResource(String name) {
+      URL url = findResource(name);
+      return url != null ? url : super.getResource(name);
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      synchronized (getClassLoadingLock(name)) {
+        Class<?> clazz = findLoadedClass(name);
+        if (clazz == null) {
+          try {
+            clazz = findClass(name);
+          } catch (ClassNotFoundException e) {
+            clazz = super.loadClass(name, false);
+          }
+        }
+        if (resolve) {
+          resolveClass(clazz);
+        }
+        return clazz;
+      }
+    }
+  }
+}
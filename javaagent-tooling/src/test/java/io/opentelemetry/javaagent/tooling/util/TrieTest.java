@@ -50,4 +50,20 @@ class TrieTest {
 
     assertEquals(-1, trie.getOrDefault("acdc", -1));
   }
+
+  @Test
+  void shouldMatchNodesWithManyChildren() {
+    Trie.Builder<Integer> builder = Trie.builder();
+    for (char c = 'a'; c <= 'z'; c++) {
+      builder.put("x." + c, (int) c);
+    }
+    Trie<Integer> trie = builder.put("x.m.n", 0).build();
+
+    for (char c = 'a'; c <= 'z'; c++) {
+      assertEquals((int) c, trie.getOrNull("x." + c + ".Suffix"));
+    }
+    assertEquals(0, trie.getOrNull("x.m.n"));
+    assertNull(trie.getOrNull("x.A"));
+    assertNull(trie.getOrNull("x.{"));
+  }
 }
@@ -16,6 +16,7 @@ import io.opentelemetry.javaagent.tooling.muzzle.HelperResource;
 import java.io.File;
 import java.io.IOException;
 import java.lang.instrument.Instrumentation;
+import java.lang.ref.WeakReference;
 import java.net.URL;
 import java.nio.file.Files;
 import java.security.PrivilegedAction;
@@ -23,13 +24,13 @@ import java.security.ProtectionDomain;
 import java.security.SecureClassLoader;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
 import net.bytebuddy.agent.builder.AgentBuilder.Transformer;
@@ -85,15 +86,37 @@ public class HelperInjector implements Transformer {
         }
       };
 
+  private static final HelperClassInjector SHARED_LOADER_CLASS_INJECTOR =
+      new HelperClassInjector(null) {
+        @Override
+        @Nullable
+        Class<?> inject(ClassLoader classLoader, String className) {
+          return null;
+        }
+      };
+
   private static final Cache<ClassLoader, Map<String, HelperClassInjector>> helperInjectors =
       Cache.weak();
 
+  // parent class loader -> shared helper class loader; there is a single shared loader per parent
+  // so that a helper used by several modules is defined only once. The loader is only weakly
+  // referenced because it strongly references its parent, it is kept alive by the application
+  // class loaders that resolve helpers from it
+  private static final Cache<ClassLoader, WeakReference<SharedHelperClassLoader>>
+      sharedHelperClassLoaders = Cache.weak();
+
+  // guarded by HelperInjector.class
+  @Nullable private static File tempDir;
+
   private final String requestingName;
 
   private final Set<String> helperClassNames;
   private final List<HelperResource> helperResources;
   @Nullable private final ClassLoader helpersSource;
   @Nullable private final Instrumentation instrumentation;
+  @Nullable private final Predicate<ClassLoader> sharedHelpersMatcher;
+  // lazily computed, whether none of the helper classes declares mutable static state
+  @Nullable private volatile Boolean helpersStateless;
   private final Map<String, Supplier<byte[]>> dynamicTypeMap = new LinkedHashMap<>();
 
   private final Cache<ClassLoader, Boolean> injectedClassLoaders = Cache.weak();
@@ -116,12 +139,39 @@ public class HelperInjector implements Transformer {
       List<HelperResource> helperResources,
       ClassLoader helpersSource,
       Instrumentation instrumentation) {
+    this(requestingName, helperClassNames, helperResources, helpersSource, instrumentation, null);
+  }
+
+  /**
+   * Construct HelperInjector that may share helper classes between application class loaders.
+   *
+   * @param sharedHelpersMatcher tests whether the library classes referenced by the helper classes
+   *     resolve to the same classes from the given application class loader as from its parent.
+   *     When it does, the helper classes are defined only once in a class loader shared by all
+   *     application class loaders with that parent, instead of being injected into each of them.
+   *     Only helpers in {@code io.opentelemetry} packages that declare no mutable static state are
+   *     shared, helpers in library packages need to be defined in the same runtime package as the
+   *     library.
+   * @see #HelperInjector(String, List, List, ClassLoader, Instrumentation)
+   */
+  public HelperInjector(
+      String requestingName,
+      List<String> helperClassNames,
+      List<HelperResource> helperResources,
+      ClassLoader helpersSource,
+      Instrumentation instrumentation,
+      @Nullable Predicate<ClassLoader> sharedHelpersMatcher) {
     this.requestingName = requestingName;
 
     this.helperClassNames = new LinkedHashSet<>(helperClassNames);
     this.helperResources = helperResources;
     this.helpersSource = helpersSource;
     this.instrumentation = instrumentation;
+    this.sharedHelpersMatcher =
+        sharedHelpersMatcher != null
+                && helperClassNames.stream().allMatch(name -> name.startsWith("io.opentelemetry."))
+            ? sharedHelpersMatcher
+            : null;
   }
 
   private HelperInjector(
@@ -136,13 +186,15 @@ public class HelperInjector implements Transformer {
     this.helperResources = Collections.emptyList();
     this.helpersSource = null;
     this.instrumentation = instrumentation;
+    this.sharedHelpersMatcher = null;
   }
 
   public static HelperInjector forDynamicTypes(
       String requestingName,
       Collection<DynamicType.Unloaded<?>> helpers,
       Instrumentation instrumentation) {
-    Map<String, Supplier<byte[]>> bytes = new HashMap<>(helpers.size());
+    // preserve the order of the helpers, classes are defined in that order
+    Map<String, Supplier<byte[]>> bytes = new LinkedHashMap<>();
     for (DynamicType.Unloaded<?> helper : helpers) {
       bytes.put(helper.getTypeDescription().getName(), helper::getBytes);
     }
@@ -187,6 +239,7 @@ public class HelperInjector implements Transformer {
       ClassLoader classLoader,
       JavaModule javaModule,
       ProtectionDomain protectionDomain) {
+    long startNanos = PhaseTimings.start();
     if (!helperClassNames.isEmpty()) {
       injectHelperClasses(typeDescription, classLoader);
     }
@@ -194,6 +247,7 @@ public class HelperInjector implements Transformer {
     if (classLoader != null && helpersSource != null && !helperResources.isEmpty()) {
       injectHelperResources(classLoader);
     }
+    PhaseTimings.record(PhaseTimings.HELPER_INJECTION, startNanos);
 
     return builder;
   }
@@ -266,6 +320,13 @@ public class HelperInjector implements Transformer {
             }
 
             Map<String, Supplier<byte[]>> classnameToBytes = getHelperMap();
+            SharedHelperClassLoader sharedHelperClassLoader =
+                getSharedHelperClassLoader(cl, classnameToBytes);
+            if (sharedHelperClassLoader != null) {
+              registerSharedHelpers(cl, sharedHelperClassLoader, classnameToBytes.keySet());
+              return true;
+            }
+
             Map<String, HelperClassInjector> map =
                 helperInjectors.computeIfAbsent(cl, (unused) -> new ConcurrentHashMap<>());
             for (Map.Entry<String, Supplier<byte[]>> entry : classnameToBytes.entrySet()) {
@@ -275,7 +336,9 @@ public class HelperInjector implements Transformer {
                   isBootClassLoader(cl)
                       ? BOOT_CLASS_INJECTOR
                       : new HelperClassInjector(entry.getValue());
-              map.put(entry.getKey(), injector);
+              // a helper that is already registered, possibly resolved from a shared helper class
+              // loader, is not replaced with a second copy
+              map.putIfAbsent(entry.getKey(), injector);
             }
 
             // For boot loader we define the classes immediately. For other loaders we load them
@@ -297,6 +360,92 @@ public class HelperInjector implements Transformer {
         });
   }
 
+  @Nullable
+  private SharedHelperClassLoader getSharedHelperClassLoader(
+      ClassLoader classLoader, Map<String, Supplier<byte[]>> classnameToBytes) {
+    if (sharedHelpersMatcher == null || isBootClassLoader(classLoader)) {
+      return null;
+    }
+    ClassLoader parent = classLoader.getParent();
+    if (parent == null
+        || conflictsWithInjectedHelpers(classLoader, classnameToBytes.keySet())
+        || !areHelpersStateless(classnameToBytes)
+        || !sharedHelpersMatcher.test(classLoader)) {
+      return null;
+    }
+
+    synchronized (sharedHelperClassLoaders) {
+      WeakReference<SharedHelperClassLoader> reference = sharedHelperClassLoaders.get(parent);
+      SharedHelperClassLoader loader = reference != null ? reference.get() : null;
+      if (loader == null) {
+        loader = execute(() -> new SharedHelperClassLoader(parent, PROTECTION_DOMAIN));
+        sharedHelperClassLoaders.put(parent, new WeakReference<>(loader));
+        if (logger.isLoggable(FINE)) {
+          logger.log(FINE, "Created {0}", loader);
+        }
+      }
+      // helpers already defined by another module are kept, so that each helper exists only once
+      // per parent
+      loader.addHelpers(classnameToBytes);
+      // also register the helpers for the shared loader itself, so that they are recognized as
+      // injected classes; the shared loader defines them on its own
+      Map<String, HelperClassInjector> map =
+          helperInjectors.computeIfAbsent(loader, (unused) -> new ConcurrentHashMap<>());
+      for (String className : classnameToBytes.keySet()) {
+        map.putIfAbsent(className, SHARED_LOADER_CLASS_INJECTOR);
+      }
+      return loader;
+    }
+  }
+
+  // helpers that another module already injected directly into the application class loader must
+  // not get a second, shared copy
+  private static boolean conflictsWithInjectedHelpers(
+      ClassLoader classLoader, Set<String> classNames) {
+    Map<String, HelperClassInjector> map = helperInjectors.get(classLoader);
+    if (map == null) {
+      return false;
+    }
+    for (String className : classNames) {
+      HelperClassInjector injector = map.get(className);
+      if (injector != null && !(injector instanceof SharedHelperClassInjector)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private boolean areHelpersStateless(Map<String, Supplier<byte[]>> classnameToBytes) {
+    Boolean stateless = helpersStateless;
+    if (stateless == null) {
+      stateless = true;
+      for (Map.Entry<String, Supplier<byte[]>> entry : classnameToBytes.entrySet()) {
+        if (!StatelessClassChecker.isStateless(entry.getValue().get())) {
+          if (logger.isLoggable(FINE)) {
+            logger.log(
+                FINE,
+                "Not sharing helpers of {0}, {1} declares mutable static state",
+                new Object[] {requestingName, entry.getKey()});
+          }
+          stateless = false;
+          break;
+        }
+      }
+      helpersStateless = stateless;
+    }
+    return stateless;
+  }
+
+  private static void registerSharedHelpers(
+      ClassLoader classLoader, SharedHelperClassLoader sharedLoader, Set<String> classNames) {
+    Map<String, HelperClassInjector> map =
+        helperInjectors.computeIfAbsent(classLoader, (unused) -> new ConcurrentHashMap<>());
+    HelperClassInjector injector = new SharedHelperClassInjector(sharedLoader);
+    for (String className : classNames) {
+      map.putIfAbsent(className, injector);
+    }
+  }
+
   private static Map<String, byte[]> resolve(Map<String, Supplier<byte[]>> classes) {
     Map<String, byte[]> result = new LinkedHashMap<>();
     for (Map.Entry<String, Supplier<byte[]>> entry : classes.entrySet()) {
@@ -317,33 +466,24 @@ public class HelperInjector implements Transformer {
       return ClassInjector.UsingUnsafe.ofBootLoader().injectRaw(classnameToBytes);
     }
 
-    // Mar 2020: Since we're proactively cleaning up tempDirs, we cannot share dirs per thread.
-    // If this proves expensive, we could do a per-process tempDir with
-    // a reference count -- but for now, starting simple.
-
-    // Failures to create a tempDir are propagated as IOException and handled by transform
-    File tempDir = createTempDir();
-    try {
-      return ClassInjector.UsingInstrumentation.of(
-              tempDir, ClassInjector.UsingInstrumentation.Target.BOOTSTRAP, instrumentation)
-          .injectRaw(classnameToBytes);
-    } finally {
-      // Delete fails silently
-      deleteTempDir(tempDir);
-    }
+    // Failures to create the tempDir are propagated as IOException and handled by transform
+    return ClassInjector.UsingInstrumentation.of(
+            getTempDir(), ClassInjector.UsingInstrumentation.Target.BOOTSTRAP, instrumentation)
+        .injectRaw(classnameToBytes);
   }
 
-  private static File createTempDir() throws IOException {
-    return Files.createTempDirectory("opentelemetry-temp-jars").toFile();
-  }
-
-  private static void deleteTempDir(File file) {
-    // Not using Files.delete for deleting the directory because failures
-    // create Exceptions which may prove expensive.  Instead using the
-    // older File API which simply returns a boolean.
-    boolean deleted = file.delete();
-    if (!deleted) {
-      file.deleteOnExit();
+  // Byte Buddy writes each batch of classes to a uniquely named jar in this directory and removes
+  // the jar once it has been appended to the bootstrap class path, so a single directory can be
+  // shared by all injections for the lifetime of the process. Creating and deleting a directory for
+  // every injection is noticeably slow on containers with a slow or overlay backed temp dir.
+  private static File getTempDir() throws IOException {
+    synchronized (HelperInjector.class) {
+      if (tempDir == null || !tempDir.isDirectory()) {
+        tempDir = Files.createTempDirectory("opentelemetry-temp-jars").toFile();
+        // the directory is empty by then, the jars in it are deleted by Byte Buddy
+        tempDir.deleteOnExit();
+      }
+      return tempDir;
     }
   }
 
@@ -403,6 +543,24 @@ public class HelperInjector implements Transformer {
     }
   }
 
+  private static class SharedHelperClassInjector extends HelperClassInjector {
+    private final SharedHelperClassLoader sharedLoader;
+
+    SharedHelperClassInjector(SharedHelperClassLoader sharedLoader) {
+      super(null);
+      this.sharedLoader = sharedLoader;
+    }
+
+    @Override
+    Class<?> inject(ClassLoader classLoader, String className) {
+      try {
+        return sharedLoader.loadClass(className);
+      } catch (ClassNotFoundException e) {
+        throw new IllegalStateException("Failed to load shared helper " + className, e);
+      }
+    }
+  }
+
   @SuppressWarnings({"deprecation", "removal"}) // AccessController is deprecated
   private static <T> T execute(PrivilegedAction<T> action) {
     if (System.getSecurityManager() != null) {
@@ -0,0 +1,103 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.annotation.Nullable;
+
+/**
+ * Records the time spent in the phases of agent startup, and the cumulative time spent in work the
+ * agent does while the application is loading classes (e.g. ignored types matching, muzzle checks,
+ * helper injection). Recording is disabled unless the {@code
+ * otel.javaagent.testing.phase-timings-file} system property is set, in which case the timings are
+ * written to that file as CSV when the JVM exits. This is used by the startup benchmark.
+ *
+ * <p>This class is internal and is hence not for public use. Its APIs are unstable and can change
+ * at any time.
+ */
+public final class PhaseTimings {
+
+  public static final String AGENT_START = "agent_start";
+  public static final String SDK_INSTALL = "sdk_install";
+  public static final String INSTRUMENTATION_LOADER = "instrumentation_loader";
+  public static final String TRANSFORMER_INSTALL = "transformer_install";
+  public static final String IGNORED_TYPES_MATCHING = "ignored_types_matching";
+  public static final String MUZZLE = "muzzle";
+  public static final String HELPER_INJECTION = "helper_injection";
+  public static final String RETRANSFORMATION = "retransformation";
+
+  @Nullable
+  private static final String timingsFile =
+      System.getProperty("otel.javaagent.testing.phase-timings-file");
+
+  private static final ConcurrentMap<String, Timing> timings = new ConcurrentHashMap<>();
+
+  static {
+    if (timingsFile != null) {
+      Thread writer = new Thread(PhaseTimings::write, "otel-phase-timings-writer");
+      Runtime.getRuntime().addShutdownHook(writer);
+    }
+  }
+
+  /** Returns the start time to pass to {@link #record(String, long)}. */
+  public static long start() {
+    return timingsFile == null ? 0 : System.nanoTime();
+  }
+
+  /** Records the time elapsed since {@code startNanos} for the given phase. */
+  public static void record(String phase, long startNanos) {
+    if (timingsFile == null) {
+      return;
+    }
+    long elapsed = System.nanoTime() - startNanos;
+    Timing timing = timings.get(phase);
+    if (timing == null) {
+      timing = timings.computeIfAbsent(phase, k -> new Timing());
+    }
+    timing.count.increment();
+    timing.totalNanos.add(elapsed);
+  }
+
+  @SuppressWarnings("SystemOut")
+  private static void write() {
+    List<String> lines = new ArrayList<>();
+    lines.add("phase,count,total_micros");
+    for (Map.Entry<String, Timing> entry : new TreeMap<>(timings).entrySet()) {
+      Timing timing = entry.getValue();
+      lines.add(
+          entry.getKey()
+              + ","
+              + timing.count.sum()
+              + ","
+              + TimeUnit.NANOSECONDS.toMicros(timing.totalNanos.sum()));
+    }
+    try {
+      Files.write(Paths.get(timingsFile), lines, UTF_8);
+    } catch (IOException exception) {
+      // logging may not work anymore in a shutdown hook
+      System.err.println("Failed to write phase timings to " + timingsFile + ": " + exception);
+    }
+  }
+
+  private static final class Timing {
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+  }
+
+  private PhaseTimings() {}
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling;
+
+import java.security.ProtectionDomain;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A class loader that defines helper classes once for all application class loaders that share the
+ * same parent. Application class loaders resolve the helper classes from this loader instead of
+ * defining their own copies. There is a single such loader per parent, shared by all
+ * instrumentation modules, so a helper used by several modules is still defined only once.
+ */
+final class SharedHelperClassLoader extends ClassLoader {
+
+  static {
+    registerAsParallelCapable();
+  }
+
+  private final Map<String, Supplier<byte[]>> helpers = new ConcurrentHashMap<>();
+  private final ProtectionDomain protectionDomain;
+
+  SharedHelperClassLoader(ClassLoader parent, ProtectionDomain protectionDomain) {
+    super(parent);
+    this.protectionDomain = protectionDomain;
+  }
+
+  /** Adds helper classes, keeping the ones with the same name that were already added. */
+  void addHelpers(Map<String, Supplier<byte[]>> classnameToBytes) {
+    for (Map.Entry<String, Supplier<byte[]>> entry : classnameToBytes.entrySet()) {
+      helpers.putIfAbsent(entry.getKey(), entry.getValue());
+    }
+  }
+
+  @Override
+  protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+    // helpers are defined here even when a class with the same name is visible from the parent,
+    // same as helpers injected into the application class loader take precedence
+    if (!helpers.containsKey(name)) {
+      return super.loadClass(name, resolve);
+    }
+    synchronized (getClassLoadingLock(name)) {
+      Class<?> clazz = findLoadedClass(name);
+      if (clazz == null) {
+        clazz = findClass(name);
+      }
+      if (resolve) {
+        resolveClass(clazz);
+      }
+      return clazz;
+    }
+  }
+
+  @Override
+  protected Class<?> findClass(String name) throws ClassNotFoundException {
+    Supplier<byte[]> bytes = helpers.get(name);
+    if (bytes == null) {
+      throw new ClassNotFoundException(name);
+    }
+    byte[] classBytes = bytes.get();
+    return defineClass(name, classBytes, 0, classBytes.length, protectionDomain);
+  }
+
+  @Override
+  public String toString() {
+    return "SharedHelperClassLoader{parent=" + getParent() + "}";
+  }
+}
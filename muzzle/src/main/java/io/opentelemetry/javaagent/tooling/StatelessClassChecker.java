@@ -0,0 +1,119 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+/**
+ * Checks whether a helper class declares mutable static state, which must not be shared between
+ * application class loaders. A class is stateless when all its static fields are final and none of
+ * them holds a mutable object, i.e. an array (other than the {@code $VALUES} array of an enum), a
+ * collection, an atomic, a {@link ThreadLocal} or a cache. Static final loggers, virtual fields,
+ * instrumenters, enum constants and other helpers are allowed, but a class that keeps a singleton
+ * instance of itself must not have mutable instance fields either.
+ */
+final class StatelessClassChecker extends ClassVisitor {
+
+  private static final Set<String> MUTABLE_TYPES =
+      new HashSet<>(
+          Arrays.asList(
+              "java/lang/ThreadLocal",
+              "java/lang/InheritableThreadLocal",
+              "java/lang/StringBuilder",
+              "java/lang/StringBuffer",
+              "java/util/BitSet",
+              "java/util/Hashtable",
+              "java/util/Properties",
+              "java/util/Stack",
+              "java/util/Vector",
+              "io/opentelemetry/instrumentation/api/internal/cache/Cache",
+              "io/opentelemetry/javaagent/shaded/instrumentation/api/internal/cache/Cache"));
+
+  static boolean isStateless(byte[] classBytes) {
+    StatelessClassChecker checker = new StatelessClassChecker();
+    new ClassReader(classBytes)
+        .accept(checker, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+    return !checker.mutableStaticField && !(checker.singleton && checker.mutableInstanceField);
+  }
+
+  private String classDescriptor = "";
+  private boolean mutableStaticField;
+  private boolean singleton;
+  private boolean mutableInstanceField;
+
+  private StatelessClassChecker() {
+    super(Opcodes.ASM7);
+  }
+
+  @Override
+  public void visit(
+      int version,
+      int access,
+      String name,
+      String signature,
+      String superName,
+      String[] interfaces) {
+    classDescriptor = Type.getObjectType(name).getDescriptor();
+  }
+
+  @Override
+  public FieldVisitor visitField(
+      int access, String name, String descriptor, String signature, Object value) {
+    boolean isFinal = (access & Opcodes.ACC_FINAL) != 0;
+    if ((access & Opcodes.ACC_STATIC) != 0) {
+      if (!isFinal || isMutableType(descriptor)) {
+        mutableStaticField = true;
+      } else if (descriptor.equals(classDescriptor)) {
+        // INSTANCE constant or enum constant, the instance fields are shared too
+        singleton = true;
+      }
+    } else if (!isFinal || isMutableType(descriptor)) {
+      mutableInstanceField = true;
+    }
+    return null;
+  }
+
+  private boolean isMutableType(String descriptor) {
+    Type type = Type.getType(descriptor);
+    if (type.getSort() == Type.ARRAY) {
+      // the $VALUES array of an enum is never modified
+      return type.getDimensions() != 1
+          || !type.getElementType().getDescriptor().equals(classDescriptor);
+    }
+    if (type.getSort() != Type.OBJECT) {
+      return false;
+    }
+    String internalName = type.getInternalName();
+    return MUTABLE_TYPES.contains(internalName)
+        || internalName.startsWith("java/util/concurrent/atomic/")
+        || isCollectionType(internalName);
+  }
+
+  private static boolean isCollectionType(String internalName) {
+    if (!internalName.startsWith("java/util/")) {
+      return false;
+    }
+    // collection types in java.util and java.util.concurrent, e.g. List, HashMap or
+    // ConcurrentLinkedQueue
+    String packageName = internalName.substring(0, internalName.lastIndexOf('/'));
+    if (!packageName.equals("java/util") && !packageName.equals("java/util/concurrent")) {
+      return false;
+    }
+    return internalName.endsWith("Collection")
+        || internalName.endsWith("List")
+        || internalName.endsWith("Map")
+        || internalName.endsWith("Set")
+        || internalName.endsWith("Queue")
+        || internalName.endsWith("Deque");
+  }
+}
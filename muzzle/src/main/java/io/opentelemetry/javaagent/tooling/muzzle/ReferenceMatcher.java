@@ -13,6 +13,7 @@ import io.opentelemetry.javaagent.tooling.muzzle.references.ClassRef;
 import io.opentelemetry.javaagent.tooling.muzzle.references.FieldRef;
 import io.opentelemetry.javaagent.tooling.muzzle.references.Flag;
 import io.opentelemetry.javaagent.tooling.muzzle.references.MethodRef;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
@@ -87,6 +88,39 @@ public final class ReferenceMatcher {
     return mismatches;
   }
 
+  /**
+   * Returns whether {@code loader} finds all referenced library classes at the same location as its
+   * parent does, which is not the case for a child-first class loader that bundles its own copy of
+   * the library. Class files are compared instead of loaded classes, because this is called while
+   * classes of {@code loader} are being transformed.
+   *
+   * @param loader Classloader to validate against, must have a parent
+   * @return true if the referenced classes resolve to the same class files from loader and its
+   *     parent
+   */
+  public boolean resolvesSameClassesAsParent(ClassLoader loader) {
+    ClassLoader parent = loader.getParent();
+    if (parent == null) {
+      return false;
+    }
+    for (ClassRef reference : references.values()) {
+      String className = reference.getClassName();
+      if (helperClassPredicate.isHelperClass(className)) {
+        continue;
+      }
+      String resourceName = className.replace('.', '/') + ".class";
+      URL fromLoader = loader.getResource(resourceName);
+      URL fromParent = parent.getResource(resourceName);
+      // compare the string forms, URL.equals() may resolve host names
+      if (fromLoader == null
+          || fromParent == null
+          || !fromLoader.toString().equals(fromParent.toString())) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   // loader cannot be null, must pass "bootstrap proxy" instead of bootstrap class loader
   private static TypePool createTypePool(ClassLoader loader) {
     // ok to use locationStrategy() without fallback bootstrap proxy here since loader is non-null
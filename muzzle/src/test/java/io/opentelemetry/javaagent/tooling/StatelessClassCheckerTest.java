@@ -0,0 +1,120 @@
+/*
+ * Copyright The OpenTelemetry Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package io.opentelemetry.javaagent.tooling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+import org.junit.jupiter.api.Test;
+
+class StatelessClassCheckerTest {
+
+  @Test
+  void constantsAndEnumsAreStateless() throws IOException {
+    assertThat(StatelessClassChecker.isStateless(bytes(Constants.class))).isTrue();
+    assertThat(StatelessClassChecker.isStateless(bytes(Color.class))).isTrue();
+  }
+
+  @Test
+  void immutableStaticObjectsAreStateless() throws IOException {
+    assertThat(StatelessClassChecker.isStateless(bytes(WithLogger.class))).isTrue();
+    assertThat(StatelessClassChecker.isStateless(bytes(Singleton.class))).isTrue();
+    assertThat(StatelessClassChecker.isStateless(bytes(WithHelperSingleton.class))).isTrue();
+  }
+
+  @Test
+  void mutableStaticFieldsAreState() throws IOException {
+    assertThat(StatelessClassChecker.isStateless(bytes(NonFinalField.class))).isFalse();
+    assertThat(StatelessClassChecker.isStateless(bytes(MutableObject.class))).isFalse();
+    assertThat(StatelessClassChecker.isStateless(bytes(ConcurrentMapField.class))).isFalse();
+    assertThat(StatelessClassChecker.isStateless(bytes(AtomicField.class))).isFalse();
+    assertThat(StatelessClassChecker.isStateless(bytes(ArrayField.class))).isFalse();
+    assertThat(StatelessClassChecker.isStateless(bytes(MutableSingleton.class))).isFalse();
+  }
+
+  private static byte[] bytes(Class<?> clazz) throws IOException {
+    String resource = "/" + clazz.getName().replace('.', '/') + ".class";
+    try (InputStream in = clazz.getResourceAsStream(resource)) {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      byte[] buffer = new byte[4096];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        out.write(buffer, 0, read);
+      }
+      return out.toByteArray();
+    }
+  }
+
+  @SuppressWarnings("unused")
+  static class Constants {
+    private static final int SIZE = 10;
+    private static final String NAME = "name";
+    private final List<String> instanceState = new ArrayList<>();
+  }
+
+  enum Color {
+    RED,
+    GREEN
+  }
+
+  @SuppressWarnings("unused")
+  static class NonFinalField {
+    private static int counter;
+  }
+
+  @SuppressWarnings("unused")
+  static class MutableObject {
+    private static final List<String> values = new ArrayList<>();
+  }
+
+  @SuppressWarnings("unused")
+  static class WithLogger {
+    private static final Logger logger = Logger.getLogger(WithLogger.class.getName());
+    private static final Color DEFAULT_COLOR = Color.RED;
+  }
+
+  @SuppressWarnings("unused")
+  static class Singleton {
+    static final Singleton INSTANCE = new Singleton();
+
+    private final String name = "singleton";
+  }
+
+  @SuppressWarnings("unused")
+  static class WithHelperSingleton {
+    private static final Singleton helper = Singleton.INSTANCE;
+  }
+
+  @SuppressWarnings("unused")
+  static class ConcurrentMapField {
+    private static final Map<String, String> cache = new ConcurrentHashMap<>();
+  }
+
+  @SuppressWarnings("unused")
+  static class AtomicField {
+    private static final AtomicLong counter = new AtomicLong();
+  }
+
+  @SuppressWarnings("unused")
+  static class ArrayField {
+    private static final String[] names = new String[1];
+  }
+
+  @SuppressWarnings("unused")
+  static class MutableSingleton {
+    static final MutableSingleton INSTANCE = new MutableSingleton();
+
+    private int counter;
+  }
+}